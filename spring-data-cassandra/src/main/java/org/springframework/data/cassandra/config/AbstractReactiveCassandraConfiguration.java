@@ -27,6 +27,7 @@ import org.springframework.data.cassandra.core.cql.ReactiveCqlOperations;
 import org.springframework.data.cassandra.core.cql.ReactiveCqlTemplate;
 import org.springframework.data.cassandra.core.cql.session.DefaultBridgedReactiveSession;
 import org.springframework.data.cassandra.core.cql.session.DefaultReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.session.PagePrefetchPolicy;
 import org.springframework.lang.Nullable;
 
 /**
@@ -47,10 +48,22 @@ public abstract class AbstractReactiveCassandraConfiguration extends AbstractCas
 	 * @return the {@link ReactiveSession}.
 	 * @see #cassandraSession()
 	 * @see DefaultBridgedReactiveSession
+	 * @see #getPagePrefetchPolicy()
 	 */
 	@Bean
 	public ReactiveSession reactiveCassandraSession() {
-		return new DefaultBridgedReactiveSession(getRequiredSession());
+		return new DefaultBridgedReactiveSession(getRequiredSession(), getPagePrefetchPolicy());
+	}
+
+	/**
+	 * Returns the {@link PagePrefetchPolicy} used by the {@link ReactiveSession} to fetch subsequent result pages.
+	 * Defaults to {@link PagePrefetchPolicy#none()}.
+	 *
+	 * @return the {@link PagePrefetchPolicy}.
+	 * @since 3.3
+	 */
+	protected PagePrefetchPolicy getPagePrefetchPolicy() {
+		return PagePrefetchPolicy.none();
 	}
 
 	/**
@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.core;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.springframework.dao.DataAccessException;
@@ -173,6 +174,23 @@ public interface AsyncCassandraOperations {
 	 */
 	<T> ListenableFuture<List<T>> select(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query with an {@code IN} restriction on a partition key column as multi-get. The query is
+	 * split into one query per {@code IN} value that is routed to a replica of its partition. Per-partition queries are
+	 * executed concurrently. Queries without an {@code IN} restriction on a partition key column are executed as
+	 * {@link #select(Query, Class)}. A {@link Query#limit(long) limit} applies to the merged result. Sorted queries are
+	 * executed as a single query to retain their order across partitions.
+	 *
+	 * @param query the query to execute, must not be {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param options the {@link MultiGetOptions} to control concurrency and result order, must not be {@literal null}.
+	 * @return the converted results.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> ListenableFuture<List<T>> multiGet(Query query, Class<T> entityClass, MultiGetOptions options)
+			throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query with paging and convert the result set to a {@link Slice} of entities.
 	 *
@@ -207,6 +225,69 @@ public interface AsyncCassandraOperations {
 	 */
 	<T> ListenableFuture<T> selectOne(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Compile a {@code SELECT} {@link Query} into a {@link PreparedQuery} that can be executed repeatedly with different
+	 * criteria values. The query is mapped, rendered and prepared once. Criteria values of {@code query} serve as
+	 * placeholders and are replaced by the values bound on execution.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the {@link PreparedQuery}.
+	 * @throws DataAccessException if there is any problem preparing the query.
+	 * @since 3.3
+	 * @see PreparedQuery
+	 */
+	<T> ListenableFuture<PreparedQuery<T>> prepare(Query query, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by parameter name and convert the resulting items to a
+	 * list of entities.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values keyed by {@link PreparedQuery#getParameterNames() parameter name}, must not be
+	 *          {@literal null}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> ListenableFuture<List<T>> select(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by index and convert the resulting items to a list of
+	 * entities.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values in the order of {@link PreparedQuery#getParameterNames()}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> ListenableFuture<List<T>> select(PreparedQuery<T> query, Object... values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by parameter name and convert the resulting item to an
+	 * entity.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values keyed by {@link PreparedQuery#getParameterNames() parameter name}, must not be
+	 *          {@literal null}.
+	 * @return the converted object or {@literal null}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> ListenableFuture<T> selectOne(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by index and convert the resulting item to an entity.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values in the order of {@link PreparedQuery#getParameterNames()}.
+	 * @return the converted object or {@literal null}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> ListenableFuture<T> selectOne(PreparedQuery<T> query, Object... values) throws DataAccessException;
+
 	/**
 	 * Update the queried entities and return {@literal true} if the update was applied.
 	 *
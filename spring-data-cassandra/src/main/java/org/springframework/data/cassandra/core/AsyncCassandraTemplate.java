@@ -17,8 +17,11 @@ package org.springframework.data.cassandra.core;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -39,6 +42,7 @@ import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.*;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
 import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
@@ -52,6 +56,7 @@ import org.springframework.data.cassandra.core.mapping.event.BeforeDeleteEvent;
 import org.springframework.data.cassandra.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.cassandra.core.mapping.event.BeforeSaveEvent;
 import org.springframework.data.cassandra.core.mapping.event.CassandraMappingEvent;
+import org.springframework.data.cassandra.core.query.Columns;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -61,7 +66,9 @@ import org.springframework.data.util.Streamable;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.CompletableToListenableFutureAdapter;
 import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -97,6 +104,8 @@ import com.datastax.oss.driver.api.querybuilder.update.Update;
  * statements. Also, statements accepted by methods (such as {@link #select(String, Class)} or
  * {@link #select(Statement, Class) and others}) will be prepared prior to execution. Note that {@link Statement}
  * objects passed to methods must be {@link SimpleStatement} so that these can be prepared.
+ * Prepared statements are cached through {@link #setPreparedStatementCache(BoundedPreparedStatementCache)} so that
+ * concurrent executions of the same statement share a single preparation.
  * <p>
  * Note: The {@link CqlSession} should always be configured as a bean in the application context, in the first case
  * given to the service directly, in the second case to the prepared template.
@@ -129,6 +138,18 @@ public class AsyncCassandraTemplate
 
 	private boolean usePreparedStatements = true;
 
+	private boolean unsetNulls;
+
+	private @Nullable EntityChangeTracker changeTracker;
+
+	private @Nullable MappingMetrics mappingMetrics;
+
+	private @Nullable ReadCoalescer readCoalescer;
+
+	private @Nullable CacheInvalidator cacheInvalidator;
+
+	private @Nullable BoundedPreparedStatementCache preparedStatementCache = BoundedPreparedStatementCache.create();
+
 	/**
 	 * Creates an instance of {@link AsyncCassandraTemplate} initialized with the given {@link CqlSession} and a default
 	 * {@link MappingCassandraConverter}.
@@ -265,6 +286,150 @@ public class AsyncCassandraTemplate
 		this.usePreparedStatements = usePreparedStatements;
 	}
 
+	/**
+	 * Returns whether this instance leaves {@literal null} properties of entities unset when inserting or updating
+	 * entities instead of writing {@literal null}s. Disabled by default.
+	 *
+	 * @return {@literal true} if {@literal null} properties are left unset; {@literal false} otherwise.
+	 * @since 3.3
+	 * @see InsertOptions#isUnsetNulls()
+	 * @see UpdateOptions#isUnsetNulls()
+	 * @see org.springframework.data.cassandra.core.mapping.UnsetNulls
+	 */
+	public boolean isUnsetNulls() {
+		return unsetNulls;
+	}
+
+	/**
+	 * Enable/disable leaving {@literal null} properties of entities unset when inserting or updating entities. Unset
+	 * values do not create tombstones and leave existing column values untouched. With
+	 * {@link #setUsePreparedStatements(boolean) prepared statements} enabled, statements render all columns and leave
+	 * {@literal null} values unset on the bound statement so that each entity uses a single prepared statement.
+	 * Otherwise, statements omit columns with {@literal null} values.
+	 *
+	 * @param unsetNulls whether to leave {@literal null} properties unset.
+	 * @since 3.3
+	 */
+	public void setUnsetNulls(boolean unsetNulls) {
+		this.unsetNulls = unsetNulls;
+	}
+
+	/**
+	 * Returns whether this instance tracks changes of entities read through this template. Disabled by default.
+	 *
+	 * @return {@literal true} if change tracking is enabled; {@literal false} otherwise.
+	 * @since 3.3
+	 */
+	public boolean isChangeTracking() {
+		return changeTracker != null;
+	}
+
+	/**
+	 * Enable/disable change tracking. If enabled, entities read or updated through this template keep a snapshot of
+	 * their column values and {@link #update(Object, UpdateOptions) updating} such an entity writes only the columns
+	 * that changed since. Updating an entity without changes does not issue a statement. Entities without a snapshot or
+	 * with a changed primary key are updated entirely.
+	 * <p>
+	 * Changes are detected after invoking {@code BeforeConvertCallback}s so that changes applied by callbacks, such as
+	 * auditing, are written. Skipped updates neither invoke {@code BeforeSaveCallback}s nor publish
+	 * {@code BeforeSaveEvent}s and {@code AfterSaveEvent}s as these refer to the statement to execute.
+	 *
+	 * @param changeTracking whether to track changes of entities.
+	 * @since 3.3
+	 */
+	public void setChangeTracking(boolean changeTracking) {
+		this.changeTracker = changeTracking ? (this.changeTracker != null ? this.changeTracker : new EntityChangeTracker())
+				: null;
+	}
+
+	/**
+	 * Returns the {@link MappingMetrics} recording the time spent mapping rows and entities.
+	 *
+	 * @return the {@link MappingMetrics} or {@literal null} if mapping is not measured.
+	 * @since 3.3
+	 */
+	@Nullable
+	public MappingMetrics getMappingMetrics() {
+		return this.mappingMetrics;
+	}
+
+	/**
+	 * Set the {@link MappingMetrics} to record the time spent converting rows into entities or projections and
+	 * converting entities into column values per entity type.
+	 *
+	 * @param mappingMetrics the mapping metrics, can be {@literal null} to disable recording.
+	 * @since 3.3
+	 */
+	public void setMappingMetrics(@Nullable MappingMetrics mappingMetrics) {
+		this.mappingMetrics = mappingMetrics;
+	}
+
+	/**
+	 * Returns whether identical reads that are in flight at the same time are coalesced into a single query.
+	 *
+	 * @return {@literal true} if reads are coalesced; {@literal false} otherwise.
+	 * @since 3.3
+	 */
+	public boolean isCoalesceReads() {
+		return this.readCoalescer != null;
+	}
+
+	/**
+	 * Enable/disable coalescing of identical reads. If enabled, {@link #selectOneById(Object, Class)} and
+	 * {@link #select(Query, Class)} calls issued while an identical query is in flight complete with the rows of that
+	 * query, mapped to new objects, instead of sending another request. Disabled by default.
+	 *
+	 * @param coalesceReads whether to coalesce identical reads.
+	 * @since 3.3
+	 */
+	public void setCoalesceReads(boolean coalesceReads) {
+		this.readCoalescer = coalesceReads ? (this.readCoalescer != null ? this.readCoalescer : new ReadCoalescer()) : null;
+	}
+
+	/**
+	 * Share the {@link EntityChangeTracker} of another template.
+	 *
+	 * @param changeTracker the tracker to use, can be {@literal null} to disable change tracking.
+	 */
+	void setChangeTracker(@Nullable EntityChangeTracker changeTracker) {
+		this.changeTracker = changeTracker;
+	}
+
+	/**
+	 * Set the {@link CacheInvalidator} to invalidate cached rows and query results of another template once a write
+	 * completed.
+	 *
+	 * @param cacheInvalidator the invalidator to use, can be {@literal null} if there are no caches to invalidate.
+	 */
+	void setCacheInvalidator(@Nullable CacheInvalidator cacheInvalidator) {
+		this.cacheInvalidator = cacheInvalidator;
+	}
+
+	/**
+	 * Returns the {@link BoundedPreparedStatementCache} used to cache {@link PreparedStatement prepared statements} if
+	 * {@link #isUsePreparedStatements() prepared statements} are enabled.
+	 *
+	 * @return the {@link BoundedPreparedStatementCache} or {@literal null} if prepared statements are not cached.
+	 * @since 3.3
+	 */
+	@Nullable
+	public BoundedPreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
+	/**
+	 * Set the {@link BoundedPreparedStatementCache} to cache {@link PreparedStatement prepared statements}. Concurrent
+	 * requests for the same statement share a single in-flight preparation. Cached statements are used only if
+	 * {@link #isUsePreparedStatements() prepared statements} are enabled. Setting the cache to {@literal null} prepares
+	 * each statement through the driver.
+	 *
+	 * @param preparedStatementCache the cache to use, can be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setPreparedStatementCache(@Nullable BoundedPreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
 	/**
 	 * Returns the {@link EntityOperations} used to perform data access operations on an entity inside a Cassandra data
 	 * source.
@@ -435,7 +600,36 @@ public class AsyncCassandraTemplate
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return select(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(), entityClass);
+		SimpleStatement statement = getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build();
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement));
+
+		return doCoalescedQuery(statement, (row, rowNum) -> mapper.apply(row));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#multiGet(org.springframework.data.cassandra.core.query.Query, java.lang.Class, org.springframework.data.cassandra.core.MultiGetOptions)
+	 */
+	@Override
+	public <T> ListenableFuture<List<T>> multiGet(Query query, Class<T> entityClass, MultiGetOptions options)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "MultiGetOptions must not be null");
+
+		List<Query> queries = MultiGet.split(query, getRequiredPersistentEntity(entityClass),
+				getConverter().getMappingContext());
+
+		if (queries.size() == 1) {
+			return select(queries.get(0), entityClass);
+		}
+
+		CompletableFuture<List<T>> result = MultiGet
+				.execute(queries, it -> select(it, entityClass).completable(), options)
+				.thenApply(it -> query.getLimit() > 0 && it.size() > query.getLimit() ? it.subList(0, (int) query.getLimit())
+						: it);
+
+		return new CassandraFutureAdapter<>(result, exceptionTranslator);
 	}
 
 	/* (non-Javadoc)
@@ -466,6 +660,80 @@ public class AsyncCassandraTemplate
 				entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#prepare(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> ListenableFuture<PreparedQuery<T>> prepare(Query query, Class<T> entityClass)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = getTableName(entityClass);
+
+		Columns columns = getStatementFactory().computeColumnsForProjection(query.getColumns(), entity, entityClass);
+		Query queryToUse = query.columns(columns);
+
+		SimpleStatement statement = getStatementFactory().select(queryToUse, entity, tableName).build();
+
+		ListenableFuture<PreparedStatement> preparedStatement = getAsyncCqlOperations()
+				.execute((AsyncSessionCallback<PreparedStatement>) session -> new CassandraFutureAdapter<>(
+						session.prepareAsync(statement), exceptionTranslator));
+
+		return new MappingListenableFutureAdapter<>(preparedStatement,
+				it -> new PreparedQuery<>(queryToUse, entityClass, entity, statement, it,
+						getStatementFactory().getQueryMapper(), getMapper(entityClass, entityClass, tableName)));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#select(org.springframework.data.cassandra.core.PreparedQuery, java.util.Map)
+	 */
+	@Override
+	public <T> ListenableFuture<List<T>> select(PreparedQuery<T> query, Map<String, ?> values)
+			throws DataAccessException {
+
+		Assert.notNull(query, "PreparedQuery must not be null");
+
+		return doSelect(query, query.bind(values));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#select(org.springframework.data.cassandra.core.PreparedQuery, java.lang.Object[])
+	 */
+	@Override
+	public <T> ListenableFuture<List<T>> select(PreparedQuery<T> query, Object... values) throws DataAccessException {
+
+		Assert.notNull(query, "PreparedQuery must not be null");
+
+		return doSelect(query, query.bind(values));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#selectOne(org.springframework.data.cassandra.core.PreparedQuery, java.util.Map)
+	 */
+	@Override
+	public <T> ListenableFuture<T> selectOne(PreparedQuery<T> query, Map<String, ?> values)
+			throws DataAccessException {
+		return new MappingListenableFutureAdapter<>(select(query, values), list -> list.isEmpty() ? null : list.get(0));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#selectOne(org.springframework.data.cassandra.core.PreparedQuery, java.lang.Object[])
+	 */
+	@Override
+	public <T> ListenableFuture<T> selectOne(PreparedQuery<T> query, Object... values) throws DataAccessException {
+		return new MappingListenableFutureAdapter<>(select(query, values), list -> list.isEmpty() ? null : list.get(0));
+	}
+
+	private <T> ListenableFuture<List<T>> doSelect(PreparedQuery<T> query, BoundStatement statement) {
+
+		Function<Row, T> mapper = query.getRowMapper();
+
+		return getAsyncCqlOperations().query(statement, (row, rowNum) -> mapper.apply(row));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#slice(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
 	 */
@@ -489,8 +757,11 @@ public class AsyncCassandraTemplate
 		Assert.notNull(update, "Update must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return doExecute(getStatementFactory().update(query, update, getRequiredPersistentEntity(entityClass)).build(),
-				AsyncResultSet::wasApplied);
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+
+		return invalidateOnCompletion(
+				doExecute(getStatementFactory().update(query, update, entity).build(), AsyncResultSet::wasApplied),
+				it -> it.invalidateAll(entityClass, entity.getTableName()));
 	}
 
 	/* (non-Javadoc)
@@ -513,7 +784,8 @@ public class AsyncCassandraTemplate
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName));
 
-		ListenableFuture<Boolean> future = doExecute(delete, AsyncResultSet::wasApplied);
+		ListenableFuture<Boolean> future = invalidateOnCompletion(doExecute(delete, AsyncResultSet::wasApplied),
+				it -> it.invalidateAll(entityClass, tableName));
 
 		future.addCallback(success -> maybeEmitEvent(new AfterDeleteEvent<>(delete, entityClass, tableName)), e -> {});
 
@@ -611,7 +883,7 @@ public class AsyncCassandraTemplate
 		StatementBuilder<Select> select = getStatementFactory().selectOneById(id, entity, tableName);
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
 
-		return new MappingListenableFutureAdapter<>(doQuery(select.build(), (row, rowNum) -> mapper.apply(row)),
+		return new MappingListenableFutureAdapter<>(doCoalescedQuery(select.build(), (row, rowNum) -> mapper.apply(row)),
 				it -> it.isEmpty() ? null : it.get(0));
 	}
 
@@ -642,23 +914,42 @@ public class AsyncCassandraTemplate
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
 
 		T entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : entity;
+		boolean unsetNulls = isUnsetNulls(options, persistentEntity);
 
-		StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options, persistentEntity,
-				tableName);
+		StatementBuilder<RegularInsert> builder = encode(persistentEntity.getType(), () -> getStatementFactory()
+				.insert(entityToUse, options, persistentEntity, tableName, isInsertNulls(options, unsetNulls)));
 
 		if (source.isVersionedEntity()) {
 
 			builder.apply(Insert::ifNotExists);
-			return doInsertVersioned(builder.build(), entityToUse, source, tableName);
+			return doInsertVersioned(builder.build(), entityToUse, source, tableName, unsetNulls);
 		}
 
-		return doInsert(builder.build(), entityToUse, source, tableName);
+		return doInsert(builder.build(), entityToUse, source, tableName, unsetNulls);
+	}
+
+	private boolean isUnsetNulls(WriteOptions options, CassandraPersistentEntity<?> persistentEntity) {
+		return this.unsetNulls || StatementFactory.isUnsetNulls(options, persistentEntity);
+	}
+
+	/**
+	 * Determine whether to render columns with {@literal null} values. Leaving {@literal null}s unset renders all
+	 * columns when using prepared statements to bind {@literal null}s as unset values and omits {@literal null} columns
+	 * otherwise.
+	 */
+	private boolean isInsertNulls(WriteOptions options, boolean unsetNulls) {
+
+		if (unsetNulls) {
+			return isUsePreparedStatements();
+		}
+
+		return options instanceof InsertOptions && ((InsertOptions) options).isInsertNulls();
 	}
 
 	private <T> ListenableFuture<EntityWriteResult<T>> doInsertVersioned(SimpleStatement insert, T entity,
-			AdaptibleEntity<T> source, CqlIdentifier tableName) {
+			AdaptibleEntity<T> source, CqlIdentifier tableName, boolean unsetNulls) {
 
-		return executeSave(entity, tableName, insert, result -> {
+		return executeSave(entity, tableName, insert, unsetNulls, result -> {
 
 			if (!result.wasApplied()) {
 				throw new OptimisticLockingFailureException(
@@ -670,9 +961,9 @@ public class AsyncCassandraTemplate
 
 	@SuppressWarnings("unused")
 	private <T> ListenableFuture<EntityWriteResult<T>> doInsert(SimpleStatement insert, T entity,
-			AdaptibleEntity<T> source, CqlIdentifier tableName) {
+			AdaptibleEntity<T> source, CqlIdentifier tableName, boolean unsetNulls) {
 
-		return executeSave(entity, tableName, insert);
+		return executeSave(entity, tableName, insert, unsetNulls, ignore -> {});
 	}
 
 	/* (non-Javadoc)
@@ -709,25 +1000,74 @@ public class AsyncCassandraTemplate
 		Number previousVersion = source.getVersion();
 		T toSave = source.incrementVersion();
 
-		StatementBuilder<Update> update = getStatementFactory().update(toSave, options, persistentEntity, tableName);
+		boolean unsetNulls = isUnsetNulls(options, persistentEntity);
+		EntityChangeTracker.Changes changes = getChanges(entity, toSave, persistentEntity);
+		StatementBuilder<Update> update = encode(persistentEntity.getType(), () -> getStatementFactory().update(toSave, options,
+				persistentEntity, tableName, !unsetNulls || isUsePreparedStatements(), changes));
 		source.appendVersionCondition(update, previousVersion);
 
-		return executeSave(toSave, tableName, update.build(), result -> {
+		return maybeTrack(executeSave(toSave, tableName, update.build(), unsetNulls, result -> {
 
 			if (!result.wasApplied()) {
 				throw new OptimisticLockingFailureException(
 						String.format("Cannot save entity %s with version %s to table %s. Has it been modified meanwhile?", toSave,
 								source.getVersion(), tableName));
 			}
-		});
+		}), changes, persistentEntity);
 	}
 
 	private <T> ListenableFuture<EntityWriteResult<T>> doUpdate(T entity, UpdateOptions options, CqlIdentifier tableName,
 			CassandraPersistentEntity<?> persistentEntity) {
 
-		StatementBuilder<Update> update = getStatementFactory().update(entity, options, persistentEntity, tableName);
+		EntityChangeTracker.Changes trackedChanges = getChanges(entity, entity, persistentEntity);
+
+		// skipped updates execute no statement and therefore invoke no save callbacks and publish no save events
+		if (EntityChangeTracker.isUnchanged(trackedChanges, options)) {
+			return new AsyncResult<>(EntityWriteResult.unchanged(entity));
+		}
+
+		// an unchanged entity is updated in full to apply conditions, TTL or timestamp
+		EntityChangeTracker.Changes changes = trackedChanges != null && trackedChanges.isEmpty() ? null
+				: trackedChanges;
+
+		boolean unsetNulls = isUnsetNulls(options, persistentEntity);
+		StatementBuilder<Update> update = encode(persistentEntity.getType(), () -> getStatementFactory().update(entity, options,
+				persistentEntity, tableName, !unsetNulls || isUsePreparedStatements(), changes));
+
+		return maybeTrack(executeSave(entity, tableName, update.build(), unsetNulls, ignore -> {}), changes,
+				persistentEntity);
+	}
+
+	@Nullable
+	private EntityChangeTracker.Changes getChanges(Object trackedEntity, Object entityToWrite,
+			CassandraPersistentEntity<?> persistentEntity) {
+		return changeTracker != null
+				? changeTracker.getChanges(trackedEntity, entityToWrite, getConverter(), persistentEntity)
+				: null;
+	}
+
+	private <T> ListenableFuture<EntityWriteResult<T>> maybeTrack(ListenableFuture<EntityWriteResult<T>> result,
+			@Nullable EntityChangeTracker.Changes changes, CassandraPersistentEntity<?> persistentEntity) {
+
+		EntityChangeTracker changeTracker = this.changeTracker;
+
+		if (changeTracker == null) {
+			return result;
+		}
+
+		return new MappingListenableFutureAdapter<>(result, writeResult -> {
+
+			if (writeResult.wasApplied()) {
 
-		return executeSave(entity, tableName, update.build());
+				if (changes != null) {
+					changeTracker.track(writeResult.getEntity(), changes.getColumns());
+				} else {
+					changeTracker.track(writeResult.getEntity(), getConverter(), persistentEntity);
+				}
+			}
+
+			return writeResult;
+		});
 	}
 
 	/* (non-Javadoc)
@@ -758,8 +1098,8 @@ public class AsyncCassandraTemplate
 	private ListenableFuture<WriteResult> doDeleteVersioned(Object entity, QueryOptions options,
 			AdaptibleEntity<Object> source, CqlIdentifier tableName) {
 
-		StatementBuilder<Delete> delete = getStatementFactory().delete(entity, options, getConverter(), tableName);
-		;
+		StatementBuilder<Delete> delete = encode(source.getPersistentEntity().getType(),
+				() -> getStatementFactory().delete(entity, options, getConverter(), tableName));
 
 		return executeDelete(entity, tableName, source.appendVersionCondition(delete).build(), result -> {
 
@@ -773,7 +1113,8 @@ public class AsyncCassandraTemplate
 
 	private ListenableFuture<WriteResult> doDelete(Object entity, QueryOptions options, CqlIdentifier tableName) {
 
-		StatementBuilder<Delete> delete = getStatementFactory().delete(entity, options, getConverter(), tableName);
+		StatementBuilder<Delete> delete = encode(entity.getClass(),
+				() -> getStatementFactory().delete(entity, options, getConverter(), tableName));
 
 		return executeDelete(entity, tableName, delete.build(), result -> {});
 	}
@@ -795,7 +1136,8 @@ public class AsyncCassandraTemplate
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName));
 
-		ListenableFuture<Boolean> future = doExecute(delete, AsyncResultSet::wasApplied);
+		ListenableFuture<Boolean> future = invalidateOnCompletion(doExecute(delete, AsyncResultSet::wasApplied),
+				it -> it.invalidateById(id, entityClass, tableName));
 		future.addCallback(success -> maybeEmitEvent(new AfterDeleteEvent<>(delete, entityClass, tableName)), e -> {});
 
 		return future;
@@ -815,7 +1157,8 @@ public class AsyncCassandraTemplate
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		ListenableFuture<Boolean> future = doExecute(statement, AsyncResultSet::wasApplied);
+		ListenableFuture<Boolean> future = invalidateOnCompletion(doExecute(statement, AsyncResultSet::wasApplied),
+				it -> it.invalidateAll(entityClass, tableName));
 		future.addCallback(success -> maybeEmitEvent(new AfterDeleteEvent<>(statement, entityClass, tableName)), e -> {});
 
 		return new MappingListenableFutureAdapter<>(future, aBoolean -> null);
@@ -826,18 +1169,13 @@ public class AsyncCassandraTemplate
 	// -------------------------------------------------------------------------
 
 	private <T> ListenableFuture<EntityWriteResult<T>> executeSave(T entity, CqlIdentifier tableName,
-			SimpleStatement statement) {
-
-		return executeSave(entity, tableName, statement, ignore -> {});
-	}
-
-	private <T> ListenableFuture<EntityWriteResult<T>> executeSave(T entity, CqlIdentifier tableName,
-			SimpleStatement statement, Consumer<WriteResult> beforeAfterSaveEvent) {
+			SimpleStatement statement, boolean unsetNulls, Consumer<WriteResult> beforeAfterSaveEvent) {
 
 		maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement));
 		T entityToSave = maybeCallBeforeSave(entity, tableName, statement);
 
-		ListenableFuture<AsyncResultSet> result = doQueryForResultSet(statement);
+		ListenableFuture<AsyncResultSet> result = invalidateOnCompletion(
+				doExecute(statement, Function.identity(), unsetNulls), it -> it.invalidate(entity, tableName));
 
 		return new MappingListenableFutureAdapter<>(result, resultSet -> {
 
@@ -858,7 +1196,8 @@ public class AsyncCassandraTemplate
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entity.getClass(), tableName));
 
-		ListenableFuture<AsyncResultSet> result = doQueryForResultSet(statement);
+		ListenableFuture<AsyncResultSet> result = invalidateOnCompletion(doQueryForResultSet(statement),
+				it -> it.invalidate(entity, tableName));
 
 		return new MappingListenableFutureAdapter<>(result, resultSet -> {
 
@@ -873,22 +1212,70 @@ public class AsyncCassandraTemplate
 		});
 	}
 
+	/**
+	 * Complete the returned future once {@code future} completed and {@code invalidation} ran so that reads issued after
+	 * the write completed do not return rows cached before the write.
+	 */
+	private <T> ListenableFuture<T> invalidateOnCompletion(ListenableFuture<T> future,
+			Consumer<CacheInvalidator> invalidation) {
+
+		CacheInvalidator cacheInvalidator = this.cacheInvalidator;
+
+		if (cacheInvalidator == null) {
+			return future;
+		}
+
+		SettableListenableFuture<T> result = new SettableListenableFuture<>();
+
+		future.addCallback(value -> {
+			try {
+				invalidation.accept(cacheInvalidator);
+			} finally {
+				result.set(value);
+			}
+		}, error -> {
+			try {
+				invalidation.accept(cacheInvalidator);
+			} finally {
+				result.setException(error);
+			}
+		});
+
+		return result;
+	}
+
 	private <T> ListenableFuture<List<T>> doQuery(Statement<?> statement, RowMapper<T> rowMapper) {
 
 		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
 
-			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement);
+			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement, preparedStatementCache);
 			return getAsyncCqlOperations().query(statementHandler, statementHandler, rowMapper);
 		}
 
 		return getAsyncCqlOperations().query(statement, rowMapper);
 	}
 
+	private <T> ListenableFuture<List<T>> doCoalescedQuery(Statement<?> statement, RowMapper<T> rowMapper) {
+
+		ReadCoalescer readCoalescer = this.readCoalescer;
+		Object key = readCoalescer != null ? StatementKey.of(statement) : null;
+
+		if (key == null) {
+			return doQuery(statement, rowMapper);
+		}
+
+		CompletableFuture<List<Row>> rows = readCoalescer.executeAsync(key,
+				() -> doQuery(statement, (row, rowNum) -> row).completable());
+
+		return new MappingListenableFutureAdapter<>(new CompletableToListenableFutureAdapter<>(rows),
+				it -> ReadCoalescer.map(it, rowMapper));
+	}
+
 	private ListenableFuture<Void> doQuery(Statement<?> statement, RowCallbackHandler callbackHandler) {
 
 		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
 
-			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement);
+			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement, preparedStatementCache);
 			return getAsyncCqlOperations().query(statementHandler, statementHandler, callbackHandler);
 		}
 
@@ -900,10 +1287,16 @@ public class AsyncCassandraTemplate
 	}
 
 	private <T> ListenableFuture<T> doExecute(Statement<?> statement, Function<AsyncResultSet, T> mappingFunction) {
+		return doExecute(statement, mappingFunction, false);
+	}
+
+	private <T> ListenableFuture<T> doExecute(Statement<?> statement, Function<AsyncResultSet, T> mappingFunction,
+			boolean unsetNulls) {
 
 		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
 
-			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement);
+			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement, preparedStatementCache,
+					unsetNulls);
 			return getAsyncCqlOperations().query(statementHandler, statementHandler,
 					(AsyncResultSetExtractor<T>) resultSet -> new AsyncResult<>(mappingFunction.apply(resultSet)));
 		}
@@ -939,7 +1332,6 @@ public class AsyncCassandraTemplate
 				.completable().join();
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> Function<Row, T> getMapper(Class<?> entityType, Class<T> targetType, CqlIdentifier tableName) {
 
 		Class<?> typeToRead = resolveTypeToRead(entityType, targetType);
@@ -948,18 +1340,38 @@ public class AsyncCassandraTemplate
 
 			maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
 
-			Object source = getConverter().read(typeToRead, row);
-
-			T result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+			MappingMetrics mappingMetrics = this.mappingMetrics;
+			T result = mappingMetrics != null ? mappingMetrics.decode(entityType, () -> read(typeToRead, targetType, row))
+					: read(typeToRead, targetType, row);
 
 			if (result != null) {
 				maybeEmitEvent(new AfterConvertEvent<>(row, result, tableName));
 			}
 
+			if (changeTracker != null && result != null && !targetType.isInterface() && typeToRead == entityType) {
+				changeTracker.track(result, getConverter(), getRequiredPersistentEntity(entityType));
+			}
+
 			return result;
 		};
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T read(Class<?> typeToRead, Class<T> targetType, Row row) {
+
+		Object source = getConverter().read(typeToRead, row);
+
+		return (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+	}
+
+	private <T> T encode(Class<?> entityType, Supplier<T> encoder) {
+
+		MappingMetrics mappingMetrics = this.mappingMetrics;
+
+		return mappingMetrics != null ? mappingMetrics.encode(entityType, encoder) : encoder.get();
+	}
+
 	private Class<?> resolveTypeToRead(Class<?> entityType, Class<?> targetType) {
 		return targetType.isInterface() || targetType.isAssignableFrom(entityType) ? entityType : targetType;
 	}
@@ -1030,8 +1442,19 @@ public class AsyncCassandraTemplate
 
 		private final SimpleStatement statement;
 
-		public PreparedStatementHandler(Statement<?> statement) {
+		private final @Nullable BoundedPreparedStatementCache cache;
+
+		private final boolean unsetNulls;
+
+		public PreparedStatementHandler(Statement<?> statement, @Nullable BoundedPreparedStatementCache cache) {
+			this(statement, cache, false);
+		}
+
+		PreparedStatementHandler(Statement<?> statement, @Nullable BoundedPreparedStatementCache cache,
+				boolean unsetNulls) {
 			this.statement = PreparedStatementDelegate.getStatementForPrepare(statement);
+			this.cache = cache;
+			this.unsetNulls = unsetNulls;
 		}
 
 		/*
@@ -1040,7 +1463,12 @@ public class AsyncCassandraTemplate
 		 */
 		@Override
 		public ListenableFuture<PreparedStatement> createPreparedStatement(CqlSession session) throws DriverException {
-			return new CassandraFutureAdapter<>(session.prepareAsync(statement), exceptionTranslator);
+
+			if (cache == null) {
+				return new CassandraFutureAdapter<>(session.prepareAsync(statement), exceptionTranslator);
+			}
+
+			return new CassandraFutureAdapter<>(cache.getPreparedStatementAsync(session, statement), exceptionTranslator);
 		}
 
 		/*
@@ -1049,7 +1477,10 @@ public class AsyncCassandraTemplate
 		 */
 		@Override
 		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
-			return PreparedStatementDelegate.bind(statement, ps);
+
+			BoundStatement bound = PreparedStatementDelegate.bind(statement, ps, unsetNulls);
+
+			return cache != null ? PreparedStatementDelegate.applyStatementSettings(statement, bound) : bound;
 		}
 
 		/*
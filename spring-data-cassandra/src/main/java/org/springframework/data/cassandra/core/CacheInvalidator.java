@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Invalidates the {@link EntityCache cached rows} and {@link QueryResultCache cached query results} of a
+ * {@link CassandraTemplate} once a write through another template sharing its session completed.
+ *
+ * @since 3.3
+ * @see CassandraTemplate#createAsyncTemplate()
+ */
+interface CacheInvalidator {
+
+	/**
+	 * Invalidate the cached row of a written {@code entity} and the cached query results of {@code tableName}.
+	 *
+	 * @param entity the written entity.
+	 * @param tableName the table the entity was written to.
+	 */
+	void invalidate(Object entity, CqlIdentifier tableName);
+
+	/**
+	 * Invalidate the cached row of the entity identified by {@code id} and the cached query results of
+	 * {@code tableName}.
+	 *
+	 * @param id the id of the written entity.
+	 * @param entityClass the entity type.
+	 * @param tableName the table the entity was written to.
+	 */
+	void invalidateById(Object id, Class<?> entityClass, CqlIdentifier tableName);
+
+	/**
+	 * Invalidate all cached rows of {@code entityClass} and the cached query results of {@code tableName} after a write
+	 * that may affect any row of the table.
+	 *
+	 * @param entityClass the entity type.
+	 * @param tableName the written table.
+	 */
+	void invalidateAll(Class<?> entityClass, CqlIdentifier tableName);
+}
@@ -15,23 +15,33 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.cql.AsyncCqlTemplate;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 
 /**
  * Default implementation for {@link CassandraBatchOperations}.
@@ -55,12 +65,33 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 	private final StatementFactory statementFactory;
 
+	private final @Nullable PartitionedBatches partitionedBatches;
+
+	private final List<BatchableStatement<?>> partitionedStatements = new ArrayList<>();
+
+	private final List<Object> entities = new ArrayList<>();
+
+	private long timestamp = Statement.NO_DEFAULT_TIMESTAMP;
+
 	/**
 	 * Create a new {@link CassandraBatchTemplate} given {@link CassandraOperations}.
 	 *
 	 * @param operations must not be {@literal null}.
 	 */
 	CassandraBatchTemplate(CassandraOperations operations) {
+		this(operations, null);
+	}
+
+	/**
+	 * Create a new {@link CassandraBatchTemplate} given {@link CassandraOperations} and {@link PartitionedBatchOptions}.
+	 * Statements are grouped into partitioned {@link BatchType#UNLOGGED} batches if {@link PartitionedBatchOptions} are
+	 * given, otherwise all statements are executed as single {@link BatchType#LOGGED} batch.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param options the {@link PartitionedBatchOptions}, may be {@literal null}.
+	 * @since 3.3
+	 */
+	CassandraBatchTemplate(CassandraOperations operations, @Nullable PartitionedBatchOptions options) {
 
 		Assert.notNull(operations, "CassandraOperations must not be null");
 
@@ -68,6 +99,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		this.converter = operations.getConverter();
 		this.mappingContext = this.converter.getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(converter));
+		this.partitionedBatches = options != null ? new PartitionedBatches(options, this.converter) : null;
 	}
 
 	/**
@@ -110,7 +142,20 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 	public WriteResult execute() {
 
 		if (this.executed.compareAndSet(false, true)) {
-			return WriteResult.of(this.operations.getCqlOperations().queryForResultSet(batch.build()));
+
+			try {
+
+				if (this.partitionedBatches != null) {
+					return executePartitioned(this.partitionedBatches);
+				}
+
+				return WriteResult.of(this.operations.getCqlOperations().queryForResultSet(batch.build()));
+			} finally {
+
+				if (this.operations instanceof CassandraTemplate) {
+					((CassandraTemplate) this.operations).invalidateCache(this.entities);
+				}
+			}
 		}
 
 		throw new IllegalStateException("This Cassandra Batch was already executed");
@@ -125,6 +170,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 		assertNotExecuted();
 
 		this.batch.setQueryTimestamp(timestamp);
+		this.timestamp = timestamp;
 
 		return this;
 	}
@@ -171,7 +217,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 			SimpleStatement insertQuery = getStatementFactory()
 					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build();
 
-			this.batch.addStatement(insertQuery);
+			addStatement(insertQuery, entity, persistentEntity, options);
 		}
 
 		return this;
@@ -216,7 +262,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 			SimpleStatement update = getStatementFactory()
 					.update(entity, options, persistentEntity, persistentEntity.getTableName()).build();
 
-			this.batch.addStatement(update);
+			addStatement(update, entity, persistentEntity, options);
 		}
 
 		return this;
@@ -261,12 +307,42 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 			SimpleStatement delete = getStatementFactory()
 					.delete(entity, options, this.getConverter(), persistentEntity.getTableName()).build();
 
-			this.batch.addStatement(delete);
+			addStatement(delete, entity, persistentEntity, options);
 		}
 
 		return this;
 	}
 
+	private WriteResult executePartitioned(PartitionedBatches partitionedBatches) {
+
+		AsyncCqlTemplate asyncCqlTemplate = CassandraTemplate.createAsyncCqlTemplate(this.operations.getCqlOperations());
+
+		return this.operations.getCqlOperations().execute((SessionCallback<WriteResult>) session -> {
+
+			List<Statement<?>> statements = partitionedBatches.group(this.partitionedStatements, this.timestamp,
+					session.getContext());
+
+			// execute through the CQL template to apply statement settings and notify its execution listener
+			Function<Statement<?>, CompletionStage<AsyncResultSet>> executor = asyncCqlTemplate != null
+					? statement -> asyncCqlTemplate.queryForResultSet(statement).completable()
+					: session::executeAsync;
+
+			return PartitionedBatches.execute(executor, statements, partitionedBatches.getOptions().getConcurrency());
+		});
+	}
+
+	private void addStatement(SimpleStatement statement, Object entity, CassandraPersistentEntity<?> persistentEntity,
+			WriteOptions options) {
+
+		this.entities.add(entity);
+
+		if (this.partitionedBatches != null) {
+			this.partitionedStatements.add(this.partitionedBatches.route(statement, entity, persistentEntity, options));
+		} else {
+			this.batch.addStatement(statement);
+		}
+	}
+
 	private void assertNotQueryOptions(Iterable<?> entities) {
 
 		for (Object entity : entities) {
@@ -17,6 +17,7 @@ package org.springframework.data.cassandra.core;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.springframework.dao.DataAccessException;
@@ -58,6 +59,20 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	CassandraBatchOperations batchOps();
 
+	/**
+	 * Returns a new partition-aware {@link CassandraBatchOperations}. Statements added to the batch are grouped by their
+	 * partition and executed as one {@link com.datastax.oss.driver.api.core.cql.BatchType#UNLOGGED UNLOGGED} batch per
+	 * partition. Batches are split by the limits and executed concurrently as configured by
+	 * {@link PartitionedBatchOptions}. Each {@link CassandraBatchOperations} instance can be executed only once.
+	 * <p>
+	 * Partitioned batches are not atomic across partitions. Use {@link #batchOps()} for atomic multi-partition batches.
+	 *
+	 * @param options must not be {@literal null}.
+	 * @return a new partition-aware {@link CassandraBatchOperations}.
+	 * @since 3.3
+	 */
+	CassandraBatchOperations batchOps(PartitionedBatchOptions options);
+
 	/**
 	 * Expose the underlying {@link CqlOperations} to allow CQL operations.
 	 *
@@ -145,6 +160,20 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	<T> List<T> select(Statement<?> statement, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query applying {@link QueryOptions} and convert the resulting items to a {@link List} of
+	 * entities. Results are served from and stored in the {@link QueryResultCache} of the template if the options
+	 * {@link QueryOptions#getResultCacheTtl() enable result caching}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> List<T> select(Statement<?> statement, Class<T> entityClass, QueryOptions options) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query with paging and convert the result set to a {@link Slice} of entities. A sliced
 	 * query translates the effective {@link Statement#getFetchSize() fetch size} to the page size.
@@ -223,6 +252,38 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	<T> Stream<T> stream(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Scan the table of {@code entityClass} by splitting the token ring into token ranges and querying ranges
+	 * concurrently. Each range query is routed to a replica of its token range. Rows of the individual ranges are merged
+	 * into a single {@link Stream} without a particular order. The returned {@link Stream} should be closed to stop
+	 * querying remaining ranges if it is not fully consumed.
+	 *
+	 * @param <T> element return type.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param options the {@link ScanOptions} to control concurrency and range splitting, must not be {@literal null}.
+	 * @return a {@link Stream} over all entities of the table.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> Stream<T> scan(Class<T> entityClass, ScanOptions options) throws DataAccessException;
+
+	/**
+	 * Execute a {@code SELECT} query with an {@code IN} restriction on a partition key column as multi-get. The query is
+	 * split into one query per {@code IN} value that is routed to a replica of its partition. Per-partition queries are
+	 * executed concurrently. Queries without an {@code IN} restriction on a partition key column are executed as
+	 * {@link #select(Query, Class)}. A {@link Query#limit(long) limit} applies to the merged result. Sorted queries are
+	 * executed as a single query to retain their order across partitions.
+	 *
+	 * @param <T> element return type.
+	 * @param query the query to execute, must not be {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param options the {@link MultiGetOptions} to control concurrency and result order, must not be {@literal null}.
+	 * @return the converted results.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> List<T> multiGet(Query query, Class<T> entityClass, MultiGetOptions options) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity.
 	 *
@@ -235,6 +296,71 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	@Nullable
 	<T> T selectOne(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Compile a {@code SELECT} {@link Query} into a {@link PreparedQuery} that can be executed repeatedly with different
+	 * criteria values. The query is mapped, rendered and prepared once. Criteria values of {@code query} serve as
+	 * placeholders and are replaced by the values bound on execution.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the {@link PreparedQuery}.
+	 * @throws DataAccessException if there is any problem preparing the query.
+	 * @since 3.3
+	 * @see PreparedQuery
+	 */
+	<T> PreparedQuery<T> prepare(Query query, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by parameter name and convert the resulting items to a
+	 * list of entities.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values keyed by {@link PreparedQuery#getParameterNames() parameter name}, must not be
+	 *          {@literal null}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> List<T> select(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by index and convert the resulting items to a list of
+	 * entities.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values in the order of {@link PreparedQuery#getParameterNames()}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> List<T> select(PreparedQuery<T> query, Object... values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by parameter name and convert the resulting item to an
+	 * entity.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values keyed by {@link PreparedQuery#getParameterNames() parameter name}, must not be
+	 *          {@literal null}.
+	 * @return the converted object or {@literal null}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	@Nullable
+	<T> T selectOne(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by index and convert the resulting item to an entity.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values in the order of {@link PreparedQuery#getParameterNames()}.
+	 * @return the converted object or {@literal null}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	@Nullable
+	<T> T selectOne(PreparedQuery<T> query, Object... values) throws DataAccessException;
+
 	/**
 	 * Update the queried entities and return {@literal true} if the update was applied.
 	 *
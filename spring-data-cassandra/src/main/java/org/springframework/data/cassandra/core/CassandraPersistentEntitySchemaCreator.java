@@ -16,15 +16,25 @@
 package org.springframework.data.cassandra.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import org.springframework.data.cassandra.core.cql.CqlOperations;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.cql.generator.CreateIndexCqlGenerator;
 import org.springframework.data.cassandra.core.cql.generator.CreateTableCqlGenerator;
 import org.springframework.data.cassandra.core.cql.generator.CreateUserTypeCqlGenerator;
@@ -36,13 +46,22 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.util.Streamable;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
 
 /**
  * Schema creation support for Cassandra based on {@link CassandraMappingContext} and {@link CassandraPersistentEntity}.
  * This class generates CQL to create user types (UDT) and tables.
+ * <p>
+ * Schema objects are created in levels: user types in the order of their dependencies, then tables, then indexes.
+ * Statements of the same level do not depend on each other and are executed concurrently using up to
+ * {@link #setParallelism(int) parallelism} threads. Schema agreement is checked once after each level. When creating
+ * objects using {@code IF NOT EXISTS}, objects already present in the driver metadata of the keyspace are skipped.
  *
  * @author Mark Paluch
  * @author Jens Schauder
@@ -53,10 +72,27 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
  */
 public class CassandraPersistentEntitySchemaCreator {
 
+	/**
+	 * Default number of schema statements executed concurrently.
+	 *
+	 * @since 3.3
+	 */
+	public static final int DEFAULT_PARALLELISM = 4;
+
+	private static final Logger LOG = LoggerFactory.getLogger(CassandraPersistentEntitySchemaCreator.class);
+
+	private static final CustomizableThreadFactory THREAD_FACTORY = new CustomizableThreadFactory("cassandra-schema-");
+
+	static {
+		THREAD_FACTORY.setDaemon(true);
+	}
+
 	private final CassandraAdminOperations cassandraAdminOperations;
 
 	private final CassandraMappingContext mappingContext;
 
+	private int parallelism = DEFAULT_PARALLELISM;
+
 	/**
 	 * Create a new {@link CassandraPersistentEntitySchemaCreator} for the given {@link CassandraMappingContext} and
 	 * {@link CassandraAdminOperations}.
@@ -90,6 +126,28 @@ public class CassandraPersistentEntitySchemaCreator {
 		this.mappingContext = mappingContext;
 	}
 
+	/**
+	 * Set the maximum number of schema statements to execute concurrently. Set to {@literal 1} to execute statements one
+	 * after another. Defaults to {@link #DEFAULT_PARALLELISM}.
+	 *
+	 * @param parallelism must be greater than zero.
+	 * @since 3.3
+	 */
+	public void setParallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * @return the maximum number of schema statements to execute concurrently.
+	 * @since 3.3
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
 	/**
 	 * Create tables from types known to {@link CassandraMappingContext}.
 	 *
@@ -97,9 +155,12 @@ public class CassandraPersistentEntitySchemaCreator {
 	 */
 	public void createTables(boolean ifNotExists) {
 
-		createTableSpecifications(ifNotExists).stream() //
+		KeyspaceMetadata keyspace = getExistingKeyspace(ifNotExists);
+
+		execute(Collections.singletonList(createTableSpecifications(ifNotExists).stream() //
+				.filter(it -> keyspace == null || !keyspace.getTable(it.getName()).isPresent()) //
 				.map(CreateTableCqlGenerator::toCql) //
-				.forEach(cql -> this.cassandraAdminOperations.getCqlOperations().execute(cql));
+				.collect(Collectors.toList())));
 	}
 
 	/**
@@ -124,9 +185,12 @@ public class CassandraPersistentEntitySchemaCreator {
 	 */
 	public void createIndexes(boolean ifNotExists) {
 
-		createIndexSpecifications(ifNotExists).stream() //
+		KeyspaceMetadata keyspace = getExistingKeyspace(ifNotExists);
+
+		execute(Collections.singletonList(createIndexSpecifications(ifNotExists).stream() //
+				.filter(it -> keyspace == null || !exists(keyspace, it)) //
 				.map(CreateIndexCqlGenerator::toCql) //
-				.forEach(cql -> this.cassandraAdminOperations.getCqlOperations().execute(cql));
+				.collect(Collectors.toList())));
 	}
 
 	/**
@@ -151,9 +215,14 @@ public class CassandraPersistentEntitySchemaCreator {
 	 */
 	public void createUserTypes(boolean ifNotExists) {
 
-		createUserTypeSpecifications(ifNotExists).stream() //
-				.map(CreateUserTypeCqlGenerator::toCql) //
-				.forEach(cql -> this.cassandraAdminOperations.getCqlOperations().execute(cql));
+		KeyspaceMetadata keyspace = getExistingKeyspace(ifNotExists);
+
+		execute(createUserTypeSpecificationLevels(ifNotExists).stream() //
+				.map(level -> level.stream() //
+						.filter(it -> keyspace == null || !keyspace.getUserDefinedType(it.getName()).isPresent()) //
+						.map(CreateUserTypeCqlGenerator::toCql) //
+						.collect(Collectors.toList())) //
+				.collect(Collectors.toList()));
 	}
 
 	/**
@@ -171,6 +240,43 @@ public class CassandraPersistentEntitySchemaCreator {
 				.collect(Collectors.toMap(CassandraPersistentEntity::getTableName, entity -> entity));
 
 		List<CreateUserTypeSpecification> specifications = new ArrayList<>();
+
+		specifications.addAll(getUserDefinedTypes(entities).stream()
+				.map(identifier -> cassandraAdminOperations.getSchemaFactory()
+						.getCreateUserTypeSpecificationFor(byTableName.get(identifier)).ifNotExists(ifNotExists))
+				.collect(Collectors.toList()));
+
+		return specifications;
+	}
+
+	/**
+	 * Group {@link #createUserTypeSpecifications(boolean) user type specifications} by their
+	 * {@link UserDefinedTypeSet#getLevels() creation level}.
+	 */
+	private List<List<CreateUserTypeSpecification>> createUserTypeSpecificationLevels(boolean ifNotExists) {
+
+		List<CreateUserTypeSpecification> specifications = createUserTypeSpecifications(ifNotExists);
+		Map<CqlIdentifier, Integer> levels = getUserDefinedTypes(
+				new ArrayList<>(this.mappingContext.getUserDefinedTypeEntities())).getLevels();
+
+		List<List<CreateUserTypeSpecification>> result = new ArrayList<>();
+
+		for (CreateUserTypeSpecification specification : specifications) {
+
+			int level = levels.getOrDefault(specification.getName(), 0);
+
+			while (result.size() <= level) {
+				result.add(new ArrayList<>());
+			}
+
+			result.get(level).add(specification);
+		}
+
+		return result;
+	}
+
+	private UserDefinedTypeSet getUserDefinedTypes(List<? extends CassandraPersistentEntity<?>> entities) {
+
 		UserDefinedTypeSet udts = new UserDefinedTypeSet();
 
 		entities.forEach(entity -> {
@@ -178,12 +284,7 @@ public class CassandraPersistentEntitySchemaCreator {
 			visitUserTypes(entity, udts);
 		});
 
-		specifications.addAll(udts.stream()
-				.map(identifier -> cassandraAdminOperations.getSchemaFactory()
-						.getCreateUserTypeSpecificationFor(byTableName.get(identifier)).ifNotExists(ifNotExists))
-				.collect(Collectors.toList()));
-
-		return specifications;
+		return udts;
 	}
 
 	private void visitUserTypes(CassandraPersistentEntity<?> entity, UserDefinedTypeSet udts) {
@@ -205,6 +306,105 @@ public class CassandraPersistentEntitySchemaCreator {
 		}
 	}
 
+	/**
+	 * Return the keyspace metadata to skip existing objects if {@code ifNotExists} is {@literal true}.
+	 */
+	@Nullable
+	private KeyspaceMetadata getExistingKeyspace(boolean ifNotExists) {
+
+		if (!ifNotExists) {
+			return null;
+		}
+
+		try {
+			return this.cassandraAdminOperations.getKeyspaceMetadata();
+		} catch (IllegalStateException e) {
+			return null;
+		}
+	}
+
+	private static boolean exists(KeyspaceMetadata keyspace, CreateIndexSpecification specification) {
+
+		CqlIdentifier name = specification.getName();
+
+		return name != null
+				&& keyspace.getTable(specification.getTableName()).flatMap(it -> it.getIndex(name)).isPresent();
+	}
+
+	/**
+	 * Execute the statements of each level concurrently and check for schema agreement before proceeding to the next
+	 * level.
+	 */
+	private void execute(List<List<String>> levels) {
+
+		CqlOperations cqlOperations = this.cassandraAdminOperations.getCqlOperations();
+
+		for (List<String> level : levels) {
+
+			if (level.isEmpty()) {
+				continue;
+			}
+
+			execute(cqlOperations, level);
+
+			Boolean agreement = cqlOperations.execute((SessionCallback<Boolean>) CqlSession::checkSchemaAgreement);
+
+			if (Boolean.FALSE.equals(agreement) && LOG.isWarnEnabled()) {
+				LOG.warn("Schema not in agreement after executing {} statement(s)", level.size());
+			}
+		}
+	}
+
+	private void execute(CqlOperations cqlOperations, List<String> statements) {
+
+		int threads = Math.min(this.parallelism, statements.size());
+
+		if (threads == 1) {
+			statements.forEach(cql -> cqlOperations.execute(cql));
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads, THREAD_FACTORY);
+
+		try {
+
+			List<Future<Boolean>> futures = new ArrayList<>(statements.size());
+
+			for (String cql : statements) {
+				futures.add(executor.submit(() -> cqlOperations.execute(cql)));
+			}
+
+			for (Future<Boolean> future : futures) {
+				await(future);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void await(Future<?> future) {
+
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+
+			throw new IllegalStateException("Interrupted while creating schema", e);
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
 	/**
 	 * Object to record dependencies and report them in the order of creation.
 	 */
@@ -245,6 +445,49 @@ public class CassandraPersistentEntitySchemaCreator {
 					.iterator();
 		}
 
+		/**
+		 * Compute the creation level of each type. Types depend only on types of lower levels so that types of the same
+		 * level can be created concurrently.
+		 *
+		 * @return the creation level by type.
+		 */
+		Map<CqlIdentifier, Integer> getLevels() {
+
+			Map<CqlIdentifier, Integer> levels = new HashMap<>();
+
+			for (DependencyNode node : creationOrder) {
+				getLevel(node, levels, new HashSet<>());
+			}
+
+			return levels;
+		}
+
+		private int getLevel(DependencyNode node, Map<CqlIdentifier, Integer> levels, Set<CqlIdentifier> visiting) {
+
+			Integer level = levels.get(node.getIdentifier());
+
+			if (level != null) {
+				return level;
+			}
+
+			// guard against cyclic dependencies
+			if (!visiting.add(node.getIdentifier())) {
+				return 0;
+			}
+
+			int result = 0;
+
+			for (DependencyNode candidate : creationOrder) {
+				if (node.dependsOn(candidate.getIdentifier())) {
+					result = Math.max(result, getLevel(candidate, levels, visiting) + 1);
+				}
+			}
+
+			levels.put(node.getIdentifier(), result);
+
+			return result;
+		}
+
 		/**
 		 * Updates the dependency order.
 		 *
@@ -15,10 +15,20 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,23 +43,36 @@ import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.EntityOperations.AdaptibleEntity;
+import org.springframework.data.cassandra.core.StatementShapeCache.ColumnValues;
+import org.springframework.data.cassandra.core.StatementShapeCache.StatementShape;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.CompiledEntityWriter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.cql.AsyncCqlTemplate;
+import org.springframework.data.cassandra.core.cql.AsyncPreparedStatementCreator;
 import org.springframework.data.cassandra.core.cql.CassandraAccessor;
+import org.springframework.data.cassandra.core.cql.CassandraExceptionTranslator;
+import org.springframework.data.cassandra.core.cql.CqlExceptionTranslator;
 import org.springframework.data.cassandra.core.cql.CqlOperations;
 import org.springframework.data.cassandra.core.cql.CqlProvider;
 import org.springframework.data.cassandra.core.cql.CqlTemplate;
 import org.springframework.data.cassandra.core.cql.PreparedStatementBinder;
 import org.springframework.data.cassandra.core.cql.PreparedStatementCreator;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
 import org.springframework.data.cassandra.core.cql.RowMapper;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.cql.SingleColumnRowMapper;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
+import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.mapping.SimpleUserTypeResolver;
 import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
 import org.springframework.data.cassandra.core.mapping.event.AfterDeleteEvent;
@@ -68,11 +91,13 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
@@ -103,6 +128,12 @@ import com.datastax.oss.driver.api.querybuilder.update.Update;
  * {@link #select(Statement, Class) and others}) will be prepared prior to execution. Note that {@link Statement}
  * objects passed to methods must be {@link SimpleStatement} so that these can be prepared.
  * <p>
+ * Entity inserts and updates are cached by their statement shape (entity type, table, written columns and
+ * {@link WriteOptions}) so that subsequent writes of the same shape reuse the rendered CQL and the
+ * {@link PreparedStatement}. Entity values are written through a
+ * {@link org.springframework.data.cassandra.core.convert.CompiledEntityWriter} if the converter is configured to use
+ * compiled entity writers.
+ * <p>
  * Note: The {@link CqlSession} should always be configured as a bean in the application context, in the first case
  * given to the service directly, in the second case to the prepared template.
  *
@@ -126,12 +157,34 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 	private final StatementFactory statementFactory;
 
+	private final StatementShapeCache insertShapeCache = new StatementShapeCache(StatementShapeCache.DEFAULT_CACHE_LIMIT);
+
+	private final StatementShapeCache updateShapeCache = new StatementShapeCache(StatementShapeCache.DEFAULT_CACHE_LIMIT);
+
+	// prepared statements of concurrently executed multi-get lookups
+	private final BoundedPreparedStatementCache preparedStatementCache = BoundedPreparedStatementCache.create();
+
 	private @Nullable ApplicationEventPublisher eventPublisher;
 
 	private @Nullable EntityCallbacks entityCallbacks;
 
 	private boolean usePreparedStatements = true;
 
+	private boolean unsetNulls;
+
+	private @Nullable EntityChangeTracker changeTracker;
+
+	private @Nullable MappingMetrics mappingMetrics;
+
+	private @Nullable EntityCache entityCache;
+
+	private @Nullable QueryResultCache queryResultCache;
+
+	private @Nullable ReadCoalescer readCoalescer;
+
+	// shared asynchronous template, discarded once a setting it was derived from changes
+	private volatile @Nullable AsyncCassandraTemplate asyncTemplate;
+
 	/**
 	 * Creates an instance of {@link CassandraTemplate} initialized with the given {@link CqlSession} and a default
 	 * {@link MappingCassandraConverter}.
@@ -202,12 +255,24 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return new CassandraBatchTemplate(this);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#batchOps(org.springframework.data.cassandra.core.PartitionedBatchOptions)
+	 */
+	@Override
+	public CassandraBatchOperations batchOps(PartitionedBatchOptions options) {
+
+		Assert.notNull(options, "PartitionedBatchOptions must not be null");
+
+		return new CassandraBatchTemplate(this, options);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.context.ApplicationEventPublisherAware#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
 	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
 		this.eventPublisher = applicationEventPublisher;
+		this.asyncTemplate = null;
 	}
 
 	/* (non-Javadoc)
@@ -231,6 +296,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 	 */
 	public void setEntityCallbacks(@Nullable EntityCallbacks entityCallbacks) {
 		this.entityCallbacks = entityCallbacks;
+		this.asyncTemplate = null;
 	}
 
 	/* (non-Javadoc)
@@ -273,6 +339,261 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 	 */
 	public void setUsePreparedStatements(boolean usePreparedStatements) {
 		this.usePreparedStatements = usePreparedStatements;
+		this.asyncTemplate = null;
+	}
+
+	/**
+	 * Returns whether this instance leaves {@literal null} properties of entities unset when inserting or updating
+	 * entities instead of writing {@literal null}s. Disabled by default.
+	 *
+	 * @return {@literal true} if {@literal null} properties are left unset; {@literal false} otherwise.
+	 * @since 3.3
+	 * @see InsertOptions#isUnsetNulls()
+	 * @see UpdateOptions#isUnsetNulls()
+	 * @see org.springframework.data.cassandra.core.mapping.UnsetNulls
+	 */
+	public boolean isUnsetNulls() {
+		return unsetNulls;
+	}
+
+	/**
+	 * Enable/disable leaving {@literal null} properties of entities unset when inserting or updating entities. Unset
+	 * values do not create tombstones and leave existing column values untouched. With
+	 * {@link #setUsePreparedStatements(boolean) prepared statements} enabled, statements render all columns and leave
+	 * {@literal null} values unset on the bound statement so that each entity uses a single prepared statement.
+	 * Otherwise, statements omit columns with {@literal null} values.
+	 *
+	 * @param unsetNulls whether to leave {@literal null} properties unset.
+	 * @since 3.3
+	 */
+	public void setUnsetNulls(boolean unsetNulls) {
+		this.unsetNulls = unsetNulls;
+		this.asyncTemplate = null;
+	}
+
+	/**
+	 * Returns whether this instance tracks changes of entities read through this template. Disabled by default.
+	 *
+	 * @return {@literal true} if change tracking is enabled; {@literal false} otherwise.
+	 * @since 3.3
+	 */
+	public boolean isChangeTracking() {
+		return changeTracker != null;
+	}
+
+	/**
+	 * Enable/disable change tracking. If enabled, entities read or updated through this template keep a snapshot of
+	 * their column values and {@link #update(Object, UpdateOptions) updating} such an entity writes only the columns
+	 * that changed since. Updating an entity without changes does not issue a statement. Entities without a snapshot or
+	 * with a changed primary key are updated entirely.
+	 * <p>
+	 * Changes are detected after invoking {@code BeforeConvertCallback}s so that changes applied by callbacks, such as
+	 * auditing, are written. Skipped updates neither invoke {@code BeforeSaveCallback}s nor publish
+	 * {@code BeforeSaveEvent}s and {@code AfterSaveEvent}s as these refer to the statement to execute.
+	 *
+	 * @param changeTracking whether to track changes of entities.
+	 * @since 3.3
+	 */
+	public void setChangeTracking(boolean changeTracking) {
+		this.changeTracker = changeTracking ? (this.changeTracker != null ? this.changeTracker : new EntityChangeTracker())
+				: null;
+		this.asyncTemplate = null;
+	}
+
+	/**
+	 * Returns the {@link MappingMetrics} recording the time spent mapping rows and entities.
+	 *
+	 * @return the {@link MappingMetrics} or {@literal null} if mapping is not measured.
+	 * @since 3.3
+	 */
+	@Nullable
+	public MappingMetrics getMappingMetrics() {
+		return this.mappingMetrics;
+	}
+
+	/**
+	 * Set the {@link MappingMetrics} to record the time spent converting rows into entities or projections and
+	 * converting entities into column values per entity type.
+	 *
+	 * @param mappingMetrics the mapping metrics, can be {@literal null} to disable recording.
+	 * @since 3.3
+	 */
+	public void setMappingMetrics(@Nullable MappingMetrics mappingMetrics) {
+		this.mappingMetrics = mappingMetrics;
+		this.asyncTemplate = null;
+	}
+
+	/**
+	 * Returns the {@link EntityCache} caching rows of entities read by primary key.
+	 *
+	 * @return the {@link EntityCache} or {@literal null} if entities are not cached.
+	 * @since 3.3
+	 */
+	@Nullable
+	public EntityCache getEntityCache() {
+		return this.entityCache;
+	}
+
+	/**
+	 * Set the {@link EntityCache} to cache rows of entities read through {@link #selectOneById(Object, Class)}. Only
+	 * entities annotated with {@link org.springframework.data.cassandra.core.mapping.CachedEntity} or enabled on the
+	 * {@link EntityCache} are cached. Writing entities through this template or through its
+	 * {@link #createAsyncTemplate() asynchronous template} invalidates their cached rows.
+	 *
+	 * @param entityCache the entity cache, can be {@literal null} to disable caching.
+	 * @since 3.3
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * Returns the {@link QueryResultCache} caching results of queries that enable result caching.
+	 *
+	 * @return the {@link QueryResultCache} or {@literal null} if query results are not cached.
+	 * @since 3.3
+	 */
+	@Nullable
+	public QueryResultCache getQueryResultCache() {
+		return this.queryResultCache;
+	}
+
+	/**
+	 * Set the {@link QueryResultCache} to cache results of {@link #select(Query, Class)} and
+	 * {@link #select(Statement, Class, QueryOptions)} for queries whose {@link QueryOptions} enable result caching.
+	 * Writing to a table through this template or through its {@link #createAsyncTemplate() asynchronous template}
+	 * invalidates the cached results of that table.
+	 *
+	 * @param queryResultCache the query result cache, can be {@literal null} to disable caching.
+	 * @since 3.3
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * Returns whether identical reads that are in flight at the same time are coalesced into a single query.
+	 *
+	 * @return {@literal true} if reads are coalesced; {@literal false} otherwise.
+	 * @since 3.3
+	 */
+	public boolean isCoalesceReads() {
+		return this.readCoalescer != null;
+	}
+
+	/**
+	 * Enable/disable coalescing of identical reads. If enabled, {@link #selectOneById(Object, Class)} and
+	 * {@link #select(Query, Class)} calls issued while an identical query (same CQL, bound values and options) is in
+	 * flight wait for that query and map its rows instead of sending another request. Rows are not retained once the
+	 * query completes. Reads filling the {@link #getEntityCache() entity cache} or the
+	 * {@link #getQueryResultCache() query result cache} join only reads started since the last write invalidating that
+	 * cache. Disabled by default.
+	 *
+	 * @param coalesceReads whether to coalesce identical reads.
+	 * @since 3.3
+	 */
+	public void setCoalesceReads(boolean coalesceReads) {
+		this.readCoalescer = coalesceReads ? (this.readCoalescer != null ? this.readCoalescer : new ReadCoalescer()) : null;
+		this.asyncTemplate = null;
+	}
+
+	/**
+	 * Returns an {@link AsyncCassandraTemplate} {@link #createAsyncTemplate() sharing the settings} of this template.
+	 * The asynchronous template is created once and reused until a setting of this template it was derived from
+	 * changes. Statement settings of the {@link CqlOperations} are captured when the asynchronous template is created.
+	 *
+	 * @return the {@link AsyncCassandraTemplate} or {@literal null} if the {@link CqlOperations} of this template do not
+	 *         expose a {@link SessionFactory}.
+	 * @since 3.3
+	 * @see #createAsyncTemplate()
+	 */
+	@Nullable
+	public AsyncCassandraTemplate getAsyncTemplate() {
+
+		AsyncCassandraTemplate asyncTemplate = this.asyncTemplate;
+
+		if (asyncTemplate == null) {
+
+			asyncTemplate = createAsyncTemplate();
+			this.asyncTemplate = asyncTemplate;
+		}
+
+		return asyncTemplate;
+	}
+
+	/**
+	 * Create a new {@link AsyncCassandraTemplate} sharing the {@link SessionFactory}, statement settings,
+	 * {@link org.springframework.data.cassandra.core.cql.CqlExecutionListener}, {@link CassandraConverter}, exception
+	 * translation, prepared statement usage, read coalescing, {@link MappingMetrics}, {@link EntityCallbacks}
+	 * and {@link ApplicationEventPublisher} of this template. The asynchronous template allows executing entity operations
+	 * of this template concurrently. Writes through the asynchronous template invalidate the
+	 * {@link #getEntityCache() cached rows} and {@link #getQueryResultCache() cached query results} of this template.
+	 *
+	 * @return the {@link AsyncCassandraTemplate} or {@literal null} if the {@link CqlOperations} of this template do not
+	 *         expose a {@link SessionFactory}.
+	 * @since 3.3
+	 */
+	@Nullable
+	public AsyncCassandraTemplate createAsyncTemplate() {
+
+		AsyncCqlTemplate asyncCqlTemplate = createAsyncCqlTemplate(this.cqlOperations);
+
+		if (asyncCqlTemplate == null) {
+			return null;
+		}
+
+		AsyncCassandraTemplate asyncTemplate = new AsyncCassandraTemplate(asyncCqlTemplate, this.converter);
+		asyncTemplate.setUsePreparedStatements(this.usePreparedStatements);
+		asyncTemplate.setUnsetNulls(this.unsetNulls);
+		asyncTemplate.setChangeTracker(this.changeTracker);
+		asyncTemplate.setCacheInvalidator(new TemplateCacheInvalidator());
+		asyncTemplate.setMappingMetrics(this.mappingMetrics);
+		asyncTemplate.setCoalesceReads(isCoalesceReads());
+		asyncTemplate.setEntityCallbacks(this.entityCallbacks);
+
+		if (this.eventPublisher != null) {
+			asyncTemplate.setApplicationEventPublisher(this.eventPublisher);
+		}
+
+		return asyncTemplate;
+	}
+
+	/**
+	 * Create an {@link AsyncCqlTemplate} sharing the {@link SessionFactory}, statement settings, exception translation
+	 * and {@link org.springframework.data.cassandra.core.cql.CqlExecutionListener} of {@code cqlOperations} to execute
+	 * statements concurrently.
+	 *
+	 * @param cqlOperations the {@link CqlOperations} to derive the settings from.
+	 * @return the {@link AsyncCqlTemplate} or {@literal null} if {@code cqlOperations} do not expose a
+	 *         {@link SessionFactory}.
+	 */
+	@Nullable
+	static AsyncCqlTemplate createAsyncCqlTemplate(CqlOperations cqlOperations) {
+
+		if (!(cqlOperations instanceof CassandraAccessor)) {
+			return null;
+		}
+
+		CassandraAccessor accessor = (CassandraAccessor) cqlOperations;
+		SessionFactory sessionFactory = accessor.getSessionFactory();
+
+		if (sessionFactory == null) {
+			return null;
+		}
+
+		AsyncCqlTemplate asyncCqlTemplate = new AsyncCqlTemplate(sessionFactory);
+		asyncCqlTemplate.setExceptionTranslator(accessor.getExceptionTranslator());
+		asyncCqlTemplate.setConsistencyLevel(accessor.getConsistencyLevel());
+		asyncCqlTemplate.setSerialConsistencyLevel(accessor.getSerialConsistencyLevel());
+		asyncCqlTemplate.setExecutionProfileResolver(accessor.getExecutionProfileResolver());
+		asyncCqlTemplate.setFetchSize(accessor.getFetchSize());
+		asyncCqlTemplate.setExecutionListener(accessor.getExecutionListener());
+
+		if (accessor.getKeyspace() != null) {
+			asyncCqlTemplate.setKeyspace(accessor.getKeyspace());
+		}
+
+		return asyncCqlTemplate;
 	}
 
 	/**
@@ -390,6 +711,23 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return doQuery(statement, (row, rowNum) -> mapper.apply(row));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#select(com.datastax.oss.driver.api.core.cql.Statement, java.lang.Class, org.springframework.data.cassandra.core.cql.QueryOptions)
+	 */
+	@Override
+	public <T> List<T> select(Statement<?> statement, Class<T> entityClass, QueryOptions options) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "QueryOptions must not be null");
+
+		Statement<?> statementToUse = QueryOptionsUtil.addQueryOptions(statement, options);
+		CqlIdentifier tableName = EntityQueryUtils.getTableName(statementToUse);
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		return doQuery(statementToUse, tableName, options, (row, rowNum) -> mapper.apply(row));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectOne(com.datastax.oss.driver.api.core.cql.Statement, java.lang.Class)
 	 */
@@ -458,7 +796,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		Function<Row, T> mapper = getMapper(entityClass, returnType, tableName);
 
-		return doQuery(select.build(), (row, rowNum) -> mapper.apply(row));
+		return doQuery(select.build(), tableName, query.getQueryOptions().orElse(null),
+				(row, rowNum) -> mapper.apply(row));
 	}
 
 	/* (non-Javadoc)
@@ -472,6 +811,81 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return result.isEmpty() ? null : result.get(0);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#prepare(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> PreparedQuery<T> prepare(Query query, Class<T> entityClass) throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = getTableName(entityClass);
+
+		Columns columns = getStatementFactory().computeColumnsForProjection(query.getColumns(), entity, entityClass);
+		Query queryToUse = query.columns(columns);
+
+		SimpleStatement statement = getStatementFactory().select(queryToUse, entity, tableName).build();
+
+		PreparedStatement preparedStatement = getCqlOperations()
+				.execute((SessionCallback<PreparedStatement>) session -> session.prepare(statement));
+
+		return new PreparedQuery<>(queryToUse, entityClass, entity, statement, preparedStatement,
+				getStatementFactory().getQueryMapper(), getMapper(entityClass, entityClass, tableName));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#select(org.springframework.data.cassandra.core.PreparedQuery, java.util.Map)
+	 */
+	@Override
+	public <T> List<T> select(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException {
+
+		Assert.notNull(query, "PreparedQuery must not be null");
+
+		return doSelect(query, query.bind(values));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#select(org.springframework.data.cassandra.core.PreparedQuery, java.lang.Object[])
+	 */
+	@Override
+	public <T> List<T> select(PreparedQuery<T> query, Object... values) throws DataAccessException {
+
+		Assert.notNull(query, "PreparedQuery must not be null");
+
+		return doSelect(query, query.bind(values));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectOne(org.springframework.data.cassandra.core.PreparedQuery, java.util.Map)
+	 */
+	@Override
+	public <T> T selectOne(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException {
+
+		List<T> result = select(query, values);
+
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectOne(org.springframework.data.cassandra.core.PreparedQuery, java.lang.Object[])
+	 */
+	@Override
+	public <T> T selectOne(PreparedQuery<T> query, Object... values) throws DataAccessException {
+
+		List<T> result = select(query, values);
+
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	private <T> List<T> doSelect(PreparedQuery<T> query, BoundStatement statement) {
+
+		Function<Row, T> mapper = query.getRowMapper();
+
+		return getCqlOperations().query(statement, (row, rowNum) -> mapper.apply(row));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#slice(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
 	 */
@@ -498,6 +912,121 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return doStream(query, entityClass, getTableName(entityClass), entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#scan(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> Stream<T> scan(Class<T> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = persistentEntity.getTableName();
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+		CqlExceptionTranslator exceptionTranslator = getCqlOperations() instanceof CassandraAccessor
+				? ((CassandraAccessor) getCqlOperations()).getExceptionTranslator()
+				: new CassandraExceptionTranslator();
+
+		AsyncCqlTemplate asyncCqlTemplate = createAsyncCqlTemplate(getCqlOperations());
+
+		return getCqlOperations().execute((SessionCallback<Stream<T>>) session -> {
+
+			List<Statement<?>> statements = TokenRangeScan.createStatements(getStatementFactory(), session.getMetadata(),
+					asyncCqlTemplate != null ? asyncCqlTemplate.getKeyspace() : null, session.getKeyspace(), persistentEntity,
+					tableName, options);
+
+			// execute through the CQL template to apply statement settings and notify its execution listener
+			Function<Statement<?>, CompletionStage<AsyncResultSet>> executor = asyncCqlTemplate != null
+					? statement -> asyncCqlTemplate.queryForResultSet(statement).completable()
+					: session::executeAsync;
+
+			TokenRangeScan.RowIterator rows = new TokenRangeScan.RowIterator(executor, ex -> {
+
+				DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(ex);
+				return translated != null ? translated : ex;
+			}, statements, options.getConcurrency());
+
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.NONNULL), false)
+					.onClose(rows::close).map(mapper);
+		});
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#multiGet(org.springframework.data.cassandra.core.query.Query, java.lang.Class, org.springframework.data.cassandra.core.MultiGetOptions)
+	 */
+	@Override
+	public <T> List<T> multiGet(Query query, Class<T> entityClass, MultiGetOptions options) throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "MultiGetOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = persistentEntity.getTableName();
+		List<Query> queries = MultiGet.split(query, persistentEntity, getConverter().getMappingContext());
+
+		if (queries.size() == 1) {
+			return select(queries.get(0), entityClass);
+		}
+
+		Columns columns = getStatementFactory().computeColumnsForProjection(query.getColumns(), persistentEntity,
+				entityClass);
+		List<Statement<?>> statements = new ArrayList<>(queries.size());
+
+		for (Query partitionQuery : queries) {
+			statements.add(getStatementFactory().select(partitionQuery.columns(columns), persistentEntity, tableName).build());
+		}
+
+		AsyncCqlTemplate asyncCqlTemplate = createAsyncCqlTemplate(getCqlOperations());
+
+		// execute through the CQL template to apply statement settings, exception translation and its execution listener
+		List<Row> rows = asyncCqlTemplate != null
+				? MultiGet.await(MultiGet.execute(statements, statement -> executeAsync(asyncCqlTemplate, statement), options))
+				: getCqlOperations().execute((SessionCallback<List<Row>>) session -> MultiGet.await(MultiGet
+						.execute(statements, statement -> MultiGet.fetchAll(executeAsync(session, statement)), options)));
+
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+		List<T> result = new ArrayList<>(rows.size());
+
+		for (Row row : rows) {
+
+			if (query.getLimit() > 0 && result.size() >= query.getLimit()) {
+				break;
+			}
+
+			result.add(mapper.apply(row));
+		}
+
+		return result;
+	}
+
+	private CompletionStage<List<Row>> executeAsync(AsyncCqlTemplate asyncCqlTemplate, Statement<?> statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
+
+			AsyncPreparedStatementHandler statementHandler = new AsyncPreparedStatementHandler(statement,
+					this.preparedStatementCache, asyncCqlTemplate.getExceptionTranslator());
+
+			return asyncCqlTemplate.query(statementHandler, statementHandler, (row, rowNum) -> row).completable();
+		}
+
+		return asyncCqlTemplate.query(statement, (row, rowNum) -> row).completable();
+	}
+
+	private CompletionStage<AsyncResultSet> executeAsync(CqlSession session, Statement<?> statement) {
+
+		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
+
+			SimpleStatement statementToPrepare = PreparedStatementDelegate.getStatementForPrepare(statement);
+
+			return session.prepareAsync(statementToPrepare)
+					.thenCompose(it -> session.executeAsync(PreparedStatementDelegate.bind(statementToPrepare, it)));
+		}
+
+		return session.executeAsync(statement);
+	}
+
 	<T> Stream<T> doStream(Query query, Class<?> entityClass, CqlIdentifier tableName, Class<T> returnType) {
 
 		StatementBuilder<Select> select = getStatementFactory().select(query, getRequiredPersistentEntity(entityClass),
@@ -518,20 +1047,28 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(update, "Update must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update,
-				getRequiredPersistentEntity(entityClass));
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update, entity);
 
-		return doExecute(updateStatement.build()).wasApplied();
+		try {
+			return doExecute(updateStatement.build()).wasApplied();
+		} finally {
+			invalidateCache(entity, entity.getTableName());
+		}
 	}
 
 	@Nullable
 	WriteResult doUpdate(Query query, org.springframework.data.cassandra.core.query.Update update, Class<?> entityClass,
 			CqlIdentifier tableName) {
 
-		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update,
-				getRequiredPersistentEntity(entityClass), tableName);
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update, entity, tableName);
 
-		return doExecute(updateStatement.build());
+		try {
+			return doExecute(updateStatement.build());
+		} finally {
+			invalidateCache(entity, tableName);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -551,13 +1088,19 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 	@Nullable
 	WriteResult doDelete(Query query, Class<?> entityClass, CqlIdentifier tableName) {
 
-		StatementBuilder<Delete> delete = getStatementFactory().delete(query, getRequiredPersistentEntity(entityClass),
-				tableName);
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		StatementBuilder<Delete> delete = getStatementFactory().delete(query, entity, tableName);
 		SimpleStatement statement = delete.build();
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		WriteResult writeResult = doExecute(statement);
+		WriteResult writeResult;
+
+		try {
+			writeResult = doExecute(statement);
+		} finally {
+			invalidateCache(entity, tableName);
+		}
 
 		maybeEmitEvent(new AfterDeleteEvent<>(statement, entityClass, tableName));
 
@@ -647,13 +1190,43 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		CqlIdentifier tableName = entity.getTableName();
 		StatementBuilder<Select> select = getStatementFactory().selectOneById(id, entity, tableName);
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
-		List<T> result = doQuery(select.build(), (row, rowNum) -> mapper.apply(row));
+		EntityCache.Region region = getCacheRegion(entity);
 
-		return result.isEmpty() ? null : result.get(0);
-	}
+		if (region != null) {
 
-	/* (non-Javadoc)
-	 * @see org.springframework.data.cassandra.core.CassandraOperations#insert(java.lang.Object)
+			Row row = selectCachedRow(region, EntityCache.Region.key(tableName, getPrimaryKey(id, entity)), select);
+
+			return row != null ? mapper.apply(row) : null;
+		}
+
+		List<T> result = doCoalescedQuery(select.build(), (row, rowNum) -> mapper.apply(row));
+
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	@Nullable
+	private Row selectCachedRow(EntityCache.Region region, Object key, StatementBuilder<Select> select) {
+
+		Row row = region.get(key);
+
+		if (row != null) {
+			return row;
+		}
+
+		long generation = region.getGeneration();
+		List<Row> result = doCoalescedQuery(select.build(), Arrays.asList(region, generation), (it, rowNum) -> it);
+
+		if (result.isEmpty()) {
+			return null;
+		}
+
+		region.put(key, result.get(0), generation);
+
+		return result.get(0);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#insert(java.lang.Object)
 	 */
 	@Override
 	public <T> T insert(T entity) {
@@ -678,23 +1251,114 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 				getConverter().getConversionService());
 
 		T entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : entity;
+		boolean unsetNulls = isUnsetNulls(options, source.getPersistentEntity());
+
+		if (StatementShapeCache.isCacheable(options)) {
+			return doInsertCached(entityToUse, options, source, tableName, unsetNulls);
+		}
 
-		StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options,
-				source.getPersistentEntity(), tableName);
+		StatementBuilder<RegularInsert> builder = encode(source.getPersistentEntity().getType(),
+				() -> getStatementFactory().insert(entityToUse, options, source.getPersistentEntity(), tableName,
+						isInsertNulls(options, unsetNulls)));
 
 		if (source.isVersionedEntity()) {
 
 			builder.apply(Insert::ifNotExists);
-			return doInsertVersioned(builder.build(), entityToUse, source, tableName);
+			return doInsertVersioned(builder.build(), null, entityToUse, source, tableName, unsetNulls);
 		}
 
-		return doInsert(builder.build(), entityToUse, tableName);
+		return doInsert(builder.build(), null, entityToUse, tableName, unsetNulls);
 	}
 
-	private <T> EntityWriteResult<T> doInsertVersioned(SimpleStatement insert, T entity, AdaptibleEntity<T> source,
-			CqlIdentifier tableName) {
+	private <T> EntityWriteResult<T> doInsertCached(T entity, WriteOptions options, AdaptibleEntity<T> source,
+			CqlIdentifier tableName, boolean unsetNulls) {
+
+		CassandraPersistentEntity<?> persistentEntity = source.getPersistentEntity();
+		boolean insertNulls = isInsertNulls(options, unsetNulls);
+
+		ColumnValues columnValues = getColumnValues(entity, persistentEntity, insertNulls);
+		Class<?> entityType = persistentEntity.getType();
+		boolean versioned = source.isVersionedEntity();
+
+		StatementShape shape = insertShapeCache.getShape(entityType, tableName, columnValues.getColumns(), options,
+				versioned);
+		SimpleStatement insert;
+
+		if (shape != null) {
+			insert = shape.bind(columnValues.getValues(), options, getStatementFactory()
+					.getRoutingKey(columnValues.getColumns(), columnValues.getValues(), persistentEntity));
+		} else {
+
+			StatementBuilder<RegularInsert> builder = getStatementFactory().insertColumns(columnValues.toMap(), options,
+					persistentEntity, tableName, insertNulls);
+
+			if (versioned) {
+				builder.apply(Insert::ifNotExists);
+			}
+
+			insert = builder.build();
+			shape = insertShapeCache.register(entityType, tableName, columnValues.getColumns(), options, versioned,
+					insert);
+		}
+
+		return versioned ? doInsertVersioned(insert, shape, entity, source, tableName, unsetNulls)
+				: doInsert(insert, shape, entity, tableName, unsetNulls);
+	}
+
+	private boolean isUnsetNulls(WriteOptions options, CassandraPersistentEntity<?> persistentEntity) {
+		return this.unsetNulls || StatementFactory.isUnsetNulls(options, persistentEntity);
+	}
+
+	/**
+	 * Determine whether to render columns with {@literal null} values. Leaving {@literal null}s unset renders all
+	 * columns when using prepared statements to bind {@literal null}s as unset values and omits {@literal null} columns
+	 * otherwise.
+	 */
+	private boolean isInsertNulls(WriteOptions options, boolean unsetNulls) {
+
+		if (unsetNulls) {
+			return isUsePreparedStatements();
+		}
+
+		return options instanceof InsertOptions && ((InsertOptions) options).isInsertNulls();
+	}
+
+	private ColumnValues getColumnValues(Object entity, CassandraPersistentEntity<?> persistentEntity,
+			boolean includeNulls) {
+
+		MappingMetrics mappingMetrics = this.mappingMetrics;
+
+		return mappingMetrics != null
+				? mappingMetrics.encode(persistentEntity.getType(),
+						() -> doGetColumnValues(entity, persistentEntity, includeNulls))
+				: doGetColumnValues(entity, persistentEntity, includeNulls);
+	}
+
+	private ColumnValues doGetColumnValues(Object entity, CassandraPersistentEntity<?> persistentEntity,
+			boolean includeNulls) {
+
+		CassandraConverter converter = getConverter();
+
+		if (converter instanceof MappingCassandraConverter) {
+
+			CompiledEntityWriter writer = ((MappingCassandraConverter) converter).getCompiledEntityWriter(persistentEntity);
+			Object[] values = writer != null ? writer.write(entity) : null;
+
+			if (values != null) {
+				return StatementShapeCache.getColumnValues(writer.getColumns(), values, includeNulls);
+			}
+		}
+
+		Map<CqlIdentifier, Object> object = new LinkedHashMap<>();
+		converter.write(entity, object, persistentEntity);
+
+		return StatementShapeCache.getColumnValues(object, includeNulls);
+	}
 
-		return executeSave(entity, tableName, insert, result -> {
+	private <T> EntityWriteResult<T> doInsertVersioned(SimpleStatement insert, @Nullable StatementShape shape, T entity,
+			AdaptibleEntity<T> source, CqlIdentifier tableName, boolean unsetNulls) {
+
+		return executeSave(entity, tableName, insert, shape, unsetNulls, result -> {
 
 			if (!result.wasApplied()) {
 				throw new OptimisticLockingFailureException(
@@ -704,8 +1368,9 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		});
 	}
 
-	private <T> EntityWriteResult<T> doInsert(SimpleStatement insert, T entity, CqlIdentifier tableName) {
-		return executeSave(entity, tableName, insert);
+	private <T> EntityWriteResult<T> doInsert(SimpleStatement insert, @Nullable StatementShape shape, T entity,
+			CqlIdentifier tableName, boolean unsetNulls) {
+		return executeSave(entity, tableName, insert, shape, unsetNulls, ignore -> {});
 	}
 
 	/* (non-Javadoc)
@@ -743,25 +1408,170 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Number previousVersion = source.getVersion();
 		T toSave = source.incrementVersion();
 
-		StatementBuilder<Update> builder = getStatementFactory().update(toSave, options, persistentEntity, tableName);
+		boolean unsetNulls = isUnsetNulls(options, persistentEntity);
+		EntityChangeTracker.Changes changes = getChanges(entity, toSave, persistentEntity);
+		StatementBuilder<Update> builder = encode(persistentEntity.getType(), () -> getStatementFactory().update(toSave, options,
+				persistentEntity, tableName, !unsetNulls || isUsePreparedStatements(), changes));
 		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build();
 
-		return executeSave(toSave, tableName, update, result -> {
+		EntityWriteResult<T> result = executeSave(toSave, tableName, update, null, unsetNulls, writeResult -> {
 
-			if (!result.wasApplied()) {
+			if (!writeResult.wasApplied()) {
 				throw new OptimisticLockingFailureException(
 						String.format("Cannot save entity %s with version %s to table %s. Has it been modified meanwhile?", toSave,
 								source.getVersion(), tableName));
 			}
 		});
+
+		return maybeTrack(result, changes, persistentEntity);
 	}
 
 	private <T> EntityWriteResult<T> doUpdate(T entity, UpdateOptions options, CqlIdentifier tableName,
 			CassandraPersistentEntity<?> persistentEntity) {
 
-		StatementBuilder<Update> builder = getStatementFactory().update(entity, options, persistentEntity, tableName);
+		boolean unsetNulls = isUnsetNulls(options, persistentEntity);
+		boolean includeNulls = !unsetNulls || isUsePreparedStatements();
+		EntityChangeTracker.Changes trackedChanges = getChanges(entity, entity, persistentEntity);
+
+		// skipped updates execute no statement and therefore invoke no save callbacks and publish no save events
+		if (EntityChangeTracker.isUnchanged(trackedChanges, options)) {
+			return EntityWriteResult.unchanged(entity);
+		}
+
+		// an unchanged entity is updated in full to apply conditions, TTL or timestamp
+		EntityChangeTracker.Changes changes = trackedChanges != null && trackedChanges.isEmpty() ? null
+				: trackedChanges;
+
+		// cached shapes cover all columns so omitting null columns requires an individually rendered statement
+		if (changes == null && StatementShapeCache.isCacheable(options) && options.getIfCondition() == null
+				&& includeNulls) {
+			return maybeTrack(doUpdateCached(entity, options, tableName, persistentEntity, unsetNulls), null,
+					persistentEntity);
+		}
 
-		return executeSave(entity, tableName, builder.build());
+		StatementBuilder<Update> builder = encode(persistentEntity.getType(), () -> getStatementFactory().update(entity, options,
+				persistentEntity, tableName, includeNulls, changes));
+
+		return maybeTrack(executeSave(entity, tableName, builder.build(), null, unsetNulls, ignore -> {}), changes,
+				persistentEntity);
+	}
+
+	@Nullable
+	private EntityChangeTracker.Changes getChanges(Object trackedEntity, Object entityToWrite,
+			CassandraPersistentEntity<?> persistentEntity) {
+		return changeTracker != null
+				? changeTracker.getChanges(trackedEntity, entityToWrite, getConverter(), persistentEntity)
+				: null;
+	}
+
+	private <T> EntityWriteResult<T> maybeTrack(EntityWriteResult<T> result,
+			@Nullable EntityChangeTracker.Changes changes, CassandraPersistentEntity<?> persistentEntity) {
+
+		if (changeTracker != null && result.wasApplied()) {
+
+			if (changes != null) {
+				changeTracker.track(result.getEntity(), changes.getColumns());
+			} else {
+				changeTracker.track(result.getEntity(), getConverter(), persistentEntity);
+			}
+		}
+
+		return result;
+	}
+
+	private <T> EntityWriteResult<T> doUpdateCached(T entity, UpdateOptions options, CqlIdentifier tableName,
+			CassandraPersistentEntity<?> persistentEntity, boolean unsetNulls) {
+
+		ColumnValues columnValues = getColumnValues(entity, persistentEntity, true);
+		Where where = getPrimaryKey(columnValues, persistentEntity);
+
+		if (where == null) {
+			where = new Where();
+			getConverter().write(entity, where, persistentEntity);
+		}
+
+		// UPDATE binds assignments first and the primary key relations last
+		List<CqlIdentifier> columns = new ArrayList<>(columnValues.getColumns().size());
+		List<Object> values = new ArrayList<>(columnValues.getValues().size());
+
+		for (int i = 0; i < columnValues.getColumns().size(); i++) {
+
+			CqlIdentifier column = columnValues.getColumns().get(i);
+
+			if (!where.containsKey(column)) {
+				columns.add(column);
+				values.add(columnValues.getValues().get(i));
+			}
+		}
+
+		int assignmentCount = columns.size();
+
+		where.forEach((column, value) -> {
+			columns.add(column);
+			values.add(value);
+		});
+
+		Class<?> entityType = persistentEntity.getType();
+		StatementShape shape = updateShapeCache.getShape(entityType, tableName, columns, options, false);
+		SimpleStatement update;
+
+		if (shape != null) {
+			update = shape.bind(values, options, getStatementFactory().getRoutingKey(columns, values, persistentEntity));
+		} else {
+
+			Map<CqlIdentifier, Object> assignments = new ColumnValues(columns.subList(0, assignmentCount),
+					values.subList(0, assignmentCount)).toMap();
+
+			update = getStatementFactory().updateColumns(assignments, where, options, persistentEntity, tableName).build();
+			shape = updateShapeCache.register(entityType, tableName, columns, options, false, update);
+		}
+
+		return executeSave(entity, tableName, update, shape, unsetNulls, ignore -> {});
+	}
+
+	/**
+	 * Obtain the primary key columns from already converted {@link ColumnValues} to avoid converting the entity again.
+	 *
+	 * @return the primary key or {@literal null} if not all primary key columns have a value.
+	 */
+	@Nullable
+	private Where getPrimaryKey(ColumnValues columnValues, CassandraPersistentEntity<?> persistentEntity) {
+
+		Where where = new Where();
+
+		for (CassandraPersistentProperty property : persistentEntity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				for (CassandraPersistentProperty keyProperty : getConverter().getMappingContext()
+						.getRequiredPersistentEntity(property)) {
+
+					if (!addPrimaryKeyColumn(columnValues, keyProperty, where)) {
+						return null;
+					}
+				}
+			} else if ((property.isIdProperty() || property.isPrimaryKeyColumn())
+					&& !addPrimaryKeyColumn(columnValues, property, where)) {
+				return null;
+			}
+		}
+
+		return where.isEmpty() ? null : where;
+	}
+
+	private static boolean addPrimaryKeyColumn(ColumnValues columnValues, CassandraPersistentProperty property,
+			Where where) {
+
+		int index = columnValues.getColumns().indexOf(property.getRequiredColumnName());
+		Object value = index != -1 ? columnValues.getValues().get(index) : null;
+
+		if (value == null) {
+			return false;
+		}
+
+		where.put(property.getRequiredColumnName(), value);
+
+		return true;
 	}
 
 	/* (non-Javadoc)
@@ -785,7 +1595,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
 		CqlIdentifier tableName = persistentEntity.getTableName();
 
-		StatementBuilder<Delete> builder = getStatementFactory().delete(entity, options, getConverter(), tableName);
+		StatementBuilder<Delete> builder = encode(persistentEntity.getType(),
+				() -> getStatementFactory().delete(entity, options, getConverter(), tableName));
 
 		return source.isVersionedEntity()
 				? doDeleteVersioned(source.appendVersionCondition(builder).build(), entity, source, tableName)
@@ -827,7 +1638,13 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		boolean result = doExecute(statement).wasApplied();
+		boolean result;
+
+		try {
+			result = doExecute(statement).wasApplied();
+		} finally {
+			invalidateCache(entity, tableName, () -> getPrimaryKey(id, entity));
+		}
 
 		maybeEmitEvent(new AfterDeleteEvent<>(statement, entityClass, tableName));
 
@@ -848,7 +1665,11 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
-		doExecute(statement);
+		try {
+			doExecute(statement);
+		} finally {
+			invalidateCache(getRequiredPersistentEntity(entityClass), tableName);
+		}
 
 		maybeEmitEvent(new AfterDeleteEvent<>(statement, entityClass, tableName));
 	}
@@ -893,17 +1714,20 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 	// Implementation hooks and utility methods
 	// -------------------------------------------------------------------------
 
-	private <T> EntityWriteResult<T> executeSave(T entity, CqlIdentifier tableName, SimpleStatement statement) {
-		return executeSave(entity, tableName, statement, ignore -> {});
-	}
-
 	private <T> EntityWriteResult<T> executeSave(T entity, CqlIdentifier tableName, SimpleStatement statement,
-			Consumer<WriteResult> resultConsumer) {
+			@Nullable StatementShape shape, boolean unsetNulls, Consumer<WriteResult> resultConsumer) {
 
 		maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement));
 		T entityToSave = maybeCallBeforeSave(entity, tableName, statement);
 
-		WriteResult result = doExecute(statement);
+		WriteResult result;
+
+		try {
+			result = shape != null ? doExecute(statement, shape, unsetNulls) : doExecute(statement, unsetNulls);
+		} finally {
+			invalidateCache(entity, tableName);
+		}
+
 		resultConsumer.accept(result);
 
 		maybeEmitEvent(new AfterSaveEvent<>(entityToSave, tableName));
@@ -916,7 +1740,13 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entity.getClass(), tableName));
 
-		WriteResult result = doExecute(statement);
+		WriteResult result;
+
+		try {
+			result = doExecute(statement);
+		} finally {
+			invalidateCache(entity, tableName);
+		}
 
 		resultConsumer.accept(result);
 
@@ -925,6 +1755,125 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return result;
 	}
 
+	@Nullable
+	private EntityCache.Region getCacheRegion(CassandraPersistentEntity<?> entity) {
+
+		EntityCache entityCache = this.entityCache;
+
+		return entityCache != null ? entityCache.getRegion(entity) : null;
+	}
+
+	private Where getPrimaryKey(Object idOrEntity, CassandraPersistentEntity<?> entity) {
+
+		Where where = new Where();
+		getConverter().write(idOrEntity, where, entity);
+
+		return where;
+	}
+
+	/**
+	 * Invalidate the cached rows and query results of {@code entities} written through a batch.
+	 *
+	 * @param entities the written entities.
+	 */
+	void invalidateCache(Iterable<?> entities) {
+
+		if (this.entityCache != null || this.queryResultCache != null) {
+			for (Object entity : entities) {
+				invalidateCache(entity, getTableName(entity.getClass()));
+			}
+		}
+	}
+
+	private void invalidateCache(Object entity, CqlIdentifier tableName) {
+
+		if (this.entityCache != null || this.queryResultCache != null) {
+
+			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
+
+			invalidateCache(persistentEntity, tableName, () -> getPrimaryKey(entity, persistentEntity));
+		}
+	}
+
+	private void invalidateCache(CassandraPersistentEntity<?> entity, CqlIdentifier tableName,
+			Supplier<Where> primaryKey) {
+
+		EntityCache.Region region = getCacheRegion(entity);
+
+		if (region != null) {
+			region.invalidate(EntityCache.Region.key(tableName, primaryKey.get()));
+		}
+
+		invalidateCachedResults(tableName);
+	}
+
+	private void invalidateCache(CassandraPersistentEntity<?> entity, CqlIdentifier tableName) {
+
+		EntityCache.Region region = getCacheRegion(entity);
+
+		if (region != null) {
+			region.invalidateAll();
+		}
+
+		invalidateCachedResults(tableName);
+	}
+
+	private void invalidateCachedResults(CqlIdentifier tableName) {
+
+		QueryResultCache queryResultCache = this.queryResultCache;
+
+		if (queryResultCache != null) {
+			queryResultCache.invalidate(tableName);
+		}
+	}
+
+	private <T> List<T> doQuery(Statement<?> statement, CqlIdentifier tableName, @Nullable QueryOptions options,
+			RowMapper<T> rowMapper) {
+
+		QueryResultCache queryResultCache = this.queryResultCache;
+		Duration ttl = options != null ? options.getResultCacheTtl() : null;
+		Object key = queryResultCache != null && ttl != null ? StatementKey.of(statement) : null;
+
+		if (key == null) {
+			return doCoalescedQuery(statement, rowMapper);
+		}
+
+		List<Row> rows = queryResultCache.get(key);
+
+		if (rows == null) {
+
+			long generation = queryResultCache.getGeneration(tableName);
+			rows = doCoalescedQuery(statement, Arrays.asList(tableName, generation), (row, rowNum) -> row);
+			queryResultCache.put(key, tableName, rows, ttl, generation);
+		}
+
+		return ReadCoalescer.map(rows, rowMapper);
+	}
+
+	private <T> List<T> doCoalescedQuery(Statement<?> statement, RowMapper<T> rowMapper) {
+		return doCoalescedQuery(statement, null, rowMapper);
+	}
+
+	/**
+	 * Execute {@code statement}, joining an identical read in flight. Reads filling a cache pass the cache generation
+	 * they observed before querying so that they join only reads of the same generation. Joining a read that started
+	 * before a write would otherwise cache rows preceding the write under the generation following it.
+	 */
+	private <T> List<T> doCoalescedQuery(Statement<?> statement, @Nullable List<Object> cacheGeneration,
+			RowMapper<T> rowMapper) {
+
+		ReadCoalescer readCoalescer = this.readCoalescer;
+		Object statementKey = readCoalescer != null ? StatementKey.of(statement) : null;
+
+		if (statementKey == null) {
+			return doQuery(statement, rowMapper);
+		}
+
+		Object key = cacheGeneration != null ? Arrays.asList(statementKey, cacheGeneration) : statementKey;
+
+		return ReadCoalescer.map(readCoalescer.execute(key, () -> doQuery(statement, (row, rowNum) -> row)), rowMapper);
+	}
+
 	private <T> List<T> doQuery(Statement<?> statement, RowMapper<T> rowMapper) {
 
 		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
@@ -955,6 +1904,28 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return doExecute(statement, WriteResult::of);
 	}
 
+	private WriteResult doExecute(SimpleStatement statement, boolean unsetNulls) {
+
+		if (unsetNulls && isUsePreparedStatements()) {
+
+			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement, true);
+			return getCqlOperations().query(statementHandler, statementHandler, WriteResult::of);
+		}
+
+		return doExecute(statement);
+	}
+
+	private WriteResult doExecute(SimpleStatement statement, StatementShape shape, boolean unsetNulls) {
+
+		if (isUsePreparedStatements()) {
+
+			PreparedStatementHandler statementHandler = new ShapedPreparedStatementHandler(statement, shape, unsetNulls);
+			return getCqlOperations().query(statementHandler, statementHandler, WriteResult::of);
+		}
+
+		return WriteResult.of(getCqlOperations().queryForResultSet(statement));
+	}
+
 	private ResultSet doQueryForResultSet(Statement<?> statement) {
 		return doExecute(statement, Function.identity());
 	}
@@ -993,7 +1964,6 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return getCqlOperations().execute(this::getConfiguredPageSize);
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> Function<Row, T> getMapper(Class<?> entityType, Class<T> targetType, CqlIdentifier tableName) {
 
 		Class<?> typeToRead = resolveTypeToRead(entityType, targetType);
@@ -1002,18 +1972,38 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 			maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
 
-			Object source = getConverter().read(typeToRead, row);
-
-			T result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+			MappingMetrics mappingMetrics = this.mappingMetrics;
+			T result = mappingMetrics != null ? mappingMetrics.decode(entityType, () -> read(typeToRead, targetType, row))
+					: read(typeToRead, targetType, row);
 
 			if (result != null) {
 				maybeEmitEvent(new AfterConvertEvent<>(row, result, tableName));
 			}
 
+			if (changeTracker != null && result != null && !targetType.isInterface() && typeToRead == entityType) {
+				changeTracker.track(result, getConverter(), getRequiredPersistentEntity(entityType));
+			}
+
 			return result;
 		};
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T read(Class<?> typeToRead, Class<T> targetType, Row row) {
+
+		Object source = getConverter().read(typeToRead, row);
+
+		return (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+	}
+
+	private <T> T encode(Class<?> entityType, Supplier<T> encoder) {
+
+		MappingMetrics mappingMetrics = this.mappingMetrics;
+
+		return mappingMetrics != null ? mappingMetrics.encode(entityType, encoder) : encoder.get();
+	}
+
 	private Class<?> resolveTypeToRead(Class<?> entityType, Class<?> targetType) {
 		return targetType.isInterface() || targetType.isAssignableFrom(entityType) ? entityType : targetType;
 	}
@@ -1054,6 +2044,76 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return object;
 	}
 
+	/**
+	 * {@link CacheInvalidator} invalidating the caches of this template for writes through templates created by
+	 * {@link #createAsyncTemplate()}.
+	 */
+	private class TemplateCacheInvalidator implements CacheInvalidator {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.CacheInvalidator#invalidate(java.lang.Object, com.datastax.oss.driver.api.core.CqlIdentifier)
+		 */
+		@Override
+		public void invalidate(Object entity, CqlIdentifier tableName) {
+			invalidateCache(entity, tableName);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.CacheInvalidator#invalidateById(java.lang.Object, java.lang.Class, com.datastax.oss.driver.api.core.CqlIdentifier)
+		 */
+		@Override
+		public void invalidateById(Object id, Class<?> entityClass, CqlIdentifier tableName) {
+
+			if (entityCache != null || queryResultCache != null) {
+
+				CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+
+				invalidateCache(entity, tableName, () -> getPrimaryKey(id, entity));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.CacheInvalidator#invalidateAll(java.lang.Class, com.datastax.oss.driver.api.core.CqlIdentifier)
+		 */
+		@Override
+		public void invalidateAll(Class<?> entityClass, CqlIdentifier tableName) {
+
+			if (entityCache != null || queryResultCache != null) {
+				invalidateCache(getRequiredPersistentEntity(entityClass), tableName);
+			}
+		}
+	}
+
+	/**
+	 * {@link PreparedStatementHandler} reusing the {@link PreparedStatement} of a cached {@link StatementShape}.
+	 */
+	private static class ShapedPreparedStatementHandler extends PreparedStatementHandler {
+
+		private final SimpleStatement statement;
+
+		private final StatementShape shape;
+
+		ShapedPreparedStatementHandler(SimpleStatement statement, StatementShape shape, boolean unsetNulls) {
+
+			super(statement, unsetNulls);
+
+			this.statement = statement;
+			this.shape = shape;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.CassandraTemplate.PreparedStatementHandler#createPreparedStatement(com.datastax.oss.driver.api.core.CqlSession)
+		 */
+		@Override
+		public PreparedStatement createPreparedStatement(CqlSession session) throws DriverException {
+			return shape.prepare(session, statement);
+		}
+	}
+
 	/**
 	 * Utility class to prepare a {@link SimpleStatement} and bind values associated with the statement to a
 	 * {@link BoundStatement}.
@@ -1065,8 +2125,15 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		private final SimpleStatement statement;
 
+		private final boolean unsetNulls;
+
 		public PreparedStatementHandler(Statement<?> statement) {
+			this(statement, false);
+		}
+
+		PreparedStatementHandler(Statement<?> statement, boolean unsetNulls) {
 			this.statement = PreparedStatementDelegate.getStatementForPrepare(statement);
+			this.unsetNulls = unsetNulls;
 		}
 
 		/*
@@ -1084,7 +2151,56 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		 */
 		@Override
 		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
-			return PreparedStatementDelegate.bind(statement, ps);
+			return PreparedStatementDelegate.bind(statement, ps, unsetNulls);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.CqlProvider#getCql()
+		 */
+		@Override
+		public String getCql() {
+			return statement.getQuery();
+		}
+	}
+
+	/**
+	 * Asynchronous counterpart of {@link PreparedStatementHandler} obtaining {@link PreparedStatement prepared
+	 * statements} from a {@link BoundedPreparedStatementCache}.
+	 */
+	private static class AsyncPreparedStatementHandler
+			implements AsyncPreparedStatementCreator, PreparedStatementBinder, CqlProvider {
+
+		private final SimpleStatement statement;
+
+		private final BoundedPreparedStatementCache cache;
+
+		private final CqlExceptionTranslator exceptionTranslator;
+
+		AsyncPreparedStatementHandler(Statement<?> statement, BoundedPreparedStatementCache cache,
+				CqlExceptionTranslator exceptionTranslator) {
+
+			this.statement = PreparedStatementDelegate.getStatementForPrepare(statement);
+			this.cache = cache;
+			this.exceptionTranslator = exceptionTranslator;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.AsyncPreparedStatementCreator#createPreparedStatement(com.datastax.oss.driver.api.core.CqlSession)
+		 */
+		@Override
+		public ListenableFuture<PreparedStatement> createPreparedStatement(CqlSession session) throws DriverException {
+			return new CassandraFutureAdapter<>(cache.getPreparedStatementAsync(session, statement), exceptionTranslator);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.PreparedStatementBinder#bindValues(com.datastax.oss.driver.api.core.cql.PreparedStatement)
+		 */
+		@Override
+		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
+			return PreparedStatementDelegate.applyStatementSettings(statement, PreparedStatementDelegate.bind(statement, ps));
 		}
 
 		/*
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.mapping.CachedEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Client-side read-through cache for rows of entities read by primary key through
+ * {@link CassandraTemplate#selectOneById(Object, Class)}. Entities opt in by being annotated with {@link CachedEntity}
+ * or by {@link #enable(Class, int, Duration) enabling} caching for their type.
+ * <p>
+ * The cache holds rows instead of entity instances so that each read returns a new entity. Each entity type has a
+ * bounded region evicting least recently used rows and expiring rows after their time to live. Writing an entity
+ * through the template invalidates its cached row; updates and deletes by query and truncation invalidate the entire
+ * region. Statements executed through {@link org.springframework.data.cassandra.core.cql.CqlOperations} and writes of
+ * other clients are not observed and become visible once cached rows expire.
+ *
+ * @since 3.3
+ * @see CassandraTemplate#setEntityCache(EntityCache)
+ * @see CachedEntity
+ */
+public class EntityCache {
+
+	private final Map<Class<?>, Region> regions = new ConcurrentHashMap<>();
+
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Create a new {@link EntityCache}.
+	 */
+	public EntityCache() {
+		this(System::nanoTime);
+	}
+
+	EntityCache(LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Enable caching for {@code entityType} regardless of a {@link CachedEntity} annotation. Settings of a previously
+	 * enabled region are replaced and its rows discarded.
+	 *
+	 * @param entityType the entity type, must not be {@literal null}.
+	 * @param maxSize the maximum number of cached rows, must be greater than zero.
+	 * @param ttl the time to live of cached rows, must be positive.
+	 * @return {@literal this} {@link EntityCache}.
+	 */
+	public EntityCache enable(Class<?> entityType, int maxSize, Duration ttl) {
+
+		Assert.notNull(entityType, "Entity type must not be null");
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+		Assert.notNull(ttl, "TTL must not be null");
+		Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "TTL must be positive");
+
+		this.regions.put(entityType, new Region(maxSize, ttl.toNanos(), nanoClock));
+
+		return this;
+	}
+
+	/**
+	 * Return the statistics of the cache region of {@code entityType}.
+	 *
+	 * @param entityType the entity type.
+	 * @return the {@link Statistics} or {@literal null} if caching of {@code entityType} was neither enabled nor used.
+	 */
+	@Nullable
+	public Statistics getStatistics(Class<?> entityType) {
+
+		Region region = this.regions.get(entityType);
+
+		return region != null ? region.getStatistics() : null;
+	}
+
+	/**
+	 * Discard all cached rows of {@code entityType}.
+	 *
+	 * @param entityType the entity type.
+	 */
+	public void evict(Class<?> entityType) {
+
+		Region region = this.regions.get(entityType);
+
+		if (region != null) {
+			region.invalidateAll();
+		}
+	}
+
+	/**
+	 * Discard all cached rows.
+	 */
+	public void clear() {
+		this.regions.values().forEach(Region::invalidateAll);
+	}
+
+	/**
+	 * Return the cache region of {@code entity}.
+	 *
+	 * @param entity the persistent entity.
+	 * @return the {@link Region} or {@literal null} if {@code entity} is not cached.
+	 */
+	@Nullable
+	Region getRegion(CassandraPersistentEntity<?> entity) {
+
+		Region region = this.regions.get(entity.getType());
+
+		if (region != null) {
+			return region;
+		}
+
+		CachedEntity cachedEntity = entity.findAnnotation(CachedEntity.class);
+
+		if (cachedEntity == null) {
+			return null;
+		}
+
+		return this.regions.computeIfAbsent(entity.getType(), it -> new Region(cachedEntity.maxSize(),
+				cachedEntity.ttlUnit().toNanos(cachedEntity.ttl()), nanoClock));
+	}
+
+	/**
+	 * Cache region of an entity type. Rows are keyed by table name and primary key column values.
+	 */
+	static class Region {
+
+		private final int maxSize;
+
+		private final long ttlNanos;
+
+		private final LongSupplier nanoClock;
+
+		private final LongAdder hits = new LongAdder();
+
+		private final LongAdder misses = new LongAdder();
+
+		private final Map<Object, CachedRow> rows;
+
+		private long evictions;
+
+		private long generation;
+
+		Region(int maxSize, long ttlNanos, LongSupplier nanoClock) {
+
+			Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero");
+			Assert.isTrue(ttlNanos > 0, "TTL must be positive");
+
+			this.maxSize = maxSize;
+			this.ttlNanos = ttlNanos;
+			this.nanoClock = nanoClock;
+			this.rows = new LinkedHashMap<Object, CachedRow>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, CachedRow> eldest) {
+
+					if (size() > Region.this.maxSize) {
+						evictions++;
+						return true;
+					}
+
+					return false;
+				}
+			};
+		}
+
+		/**
+		 * Create the cache key for a row.
+		 *
+		 * @param tableName the table name.
+		 * @param primaryKey the primary key column values.
+		 * @return the cache key.
+		 */
+		static Object key(CqlIdentifier tableName, Where primaryKey) {
+			return Arrays.asList(tableName, primaryKey);
+		}
+
+		/**
+		 * Return the cached row for {@code key}.
+		 *
+		 * @param key the cache key.
+		 * @return the row or {@literal null} if no row is cached or the cached row expired.
+		 */
+		@Nullable
+		synchronized Row get(Object key) {
+
+			CachedRow cachedRow = this.rows.get(key);
+
+			if (cachedRow != null && cachedRow.expiresAt - this.nanoClock.getAsLong() <= 0) {
+				this.rows.remove(key);
+				cachedRow = null;
+			}
+
+			if (cachedRow == null) {
+				this.misses.increment();
+				return null;
+			}
+
+			this.hits.increment();
+
+			return cachedRow.row;
+		}
+
+		/**
+		 * Return the invalidation generation to obtain before reading a row that is to be {@link #put(Object, Row, long)
+		 * cached}.
+		 *
+		 * @return the invalidation generation.
+		 */
+		synchronized long getGeneration() {
+			return this.generation;
+		}
+
+		/**
+		 * Cache {@code row} unless the region was invalidated since {@code generation} was obtained, which prevents caching
+		 * rows that were read before a concurrent write completed.
+		 *
+		 * @param key the cache key.
+		 * @param row the row to cache.
+		 * @param generation the invalidation generation obtained before reading the row.
+		 */
+		synchronized void put(Object key, Row row, long generation) {
+
+			if (this.generation == generation) {
+				this.rows.put(key, new CachedRow(row, this.nanoClock.getAsLong() + this.ttlNanos));
+			}
+		}
+
+		/**
+		 * Discard the cached row for {@code key}.
+		 *
+		 * @param key the cache key.
+		 */
+		synchronized void invalidate(Object key) {
+
+			this.generation++;
+			this.rows.remove(key);
+		}
+
+		/**
+		 * Discard all cached rows.
+		 */
+		synchronized void invalidateAll() {
+
+			this.generation++;
+			this.rows.clear();
+		}
+
+		synchronized Statistics getStatistics() {
+			return new Statistics(this.hits.sum(), this.misses.sum(), this.evictions, this.rows.size());
+		}
+	}
+
+	private static class CachedRow {
+
+		private final Row row;
+
+		private final long expiresAt;
+
+		CachedRow(Row row, long expiresAt) {
+			this.row = row;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Statistics of the cache region of an entity type.
+	 */
+	public static class Statistics {
+
+		private final long hitCount;
+
+		private final long missCount;
+
+		private final long evictionCount;
+
+		private final int size;
+
+		Statistics(long hitCount, long missCount, long evictionCount, int size) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+		}
+
+		/**
+		 * @return the number of reads served from the cache.
+		 */
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		/**
+		 * @return the number of reads that were not served from the cache.
+		 */
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * @return the ratio of reads served from the cache or {@literal 0} if nothing was read.
+		 */
+		public double getHitRate() {
+
+			long requests = hitCount + missCount;
+
+			return requests == 0 ? 0 : (double) hitCount / requests;
+		}
+
+		/**
+		 * @return the number of rows evicted because the region reached its maximum size.
+		 */
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		/**
+		 * @return the number of cached rows including rows that expired but were not yet read.
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("hits=%d, misses=%d, hitRate=%.2f, evictions=%d, size=%d", hitCount, missCount,
+					getHitRate(), evictionCount, size);
+		}
+	}
+}
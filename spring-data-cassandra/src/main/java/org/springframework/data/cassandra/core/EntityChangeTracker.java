@@ -0,0 +1,255 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Change tracker for entities read through a template. The tracker keeps a snapshot of the converted column values of
+ * each tracked entity so that updating the entity writes only the columns that changed since the snapshot was taken.
+ * <p>
+ * Entities are tracked by identity and referenced weakly so that discarded entities do not retain their snapshots.
+ * Snapshots hold the converted column values rather than hashes so that a change is never missed due to a hash
+ * collision.
+ *
+ * @since 3.3
+ */
+class EntityChangeTracker {
+
+	private final Map<EntityReference, Map<CqlIdentifier, Object>> snapshots = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+	/**
+	 * Take a snapshot of {@code entity}. Replaces a previous snapshot of the same entity instance.
+	 *
+	 * @param entity the entity to track.
+	 * @param converter the converter to compute the column values.
+	 * @param persistentEntity the entity metadata.
+	 */
+	void track(Object entity, CassandraConverter converter, CassandraPersistentEntity<?> persistentEntity) {
+		track(entity, getColumns(entity, converter, persistentEntity));
+	}
+
+	/**
+	 * Register {@code columns} as snapshot of {@code entity}. Replaces a previous snapshot of the same entity instance.
+	 *
+	 * @param entity the entity to track.
+	 * @param columns the converted column values of {@code entity}.
+	 */
+	void track(Object entity, Map<CqlIdentifier, Object> columns) {
+
+		expungeStaleEntries();
+
+		snapshots.put(new EntityReference(entity, queue), Collections.unmodifiableMap(columns));
+	}
+
+	/**
+	 * Compute the changes of {@code entityToWrite} against the snapshot of {@code trackedEntity}. Both arguments are
+	 * typically the same instance but differ for immutable entities whose version is incremented through a copy.
+	 *
+	 * @param trackedEntity the entity to look up the snapshot for.
+	 * @param entityToWrite the entity to write.
+	 * @param converter the converter to compute the column values.
+	 * @param persistentEntity the entity metadata.
+	 * @return the {@link Changes} or {@literal null} if {@code trackedEntity} is not tracked or its primary key changed.
+	 */
+	@Nullable
+	Changes getChanges(Object trackedEntity, Object entityToWrite, CassandraConverter converter,
+			CassandraPersistentEntity<?> persistentEntity) {
+
+		expungeStaleEntries();
+
+		Map<CqlIdentifier, Object> snapshot = snapshots.get(new EntityReference(trackedEntity, null));
+
+		if (snapshot == null) {
+			return null;
+		}
+
+		Where where = new Where();
+		converter.write(entityToWrite, where, persistentEntity);
+
+		for (Map.Entry<CqlIdentifier, Object> entry : where.entrySet()) {
+			if (snapshot.containsKey(entry.getKey())
+					&& !ObjectUtils.nullSafeEquals(snapshot.get(entry.getKey()), entry.getValue())) {
+				return null;
+			}
+		}
+
+		Map<CqlIdentifier, Object> columns = getColumns(entityToWrite, converter, persistentEntity);
+		Set<CqlIdentifier> changed = new LinkedHashSet<>();
+
+		columns.forEach((column, value) -> {
+			if (!where.containsKey(column)
+					&& (!snapshot.containsKey(column) || !ObjectUtils.nullSafeEquals(snapshot.get(column), value))) {
+				changed.add(column);
+			}
+		});
+
+		return new Changes(snapshot, columns, changed);
+	}
+
+	/**
+	 * Determine whether updating an entity with {@code changes} can be skipped. Updates with an {@code IF} condition,
+	 * {@code IF EXISTS}, a TTL or a timestamp have effects beyond assigning column values and are never skipped.
+	 *
+	 * @param changes the changes of the entity to update, can be {@literal null}.
+	 * @param options the update options.
+	 * @return {@literal true} if no column changed and {@code options} do not require the update to be executed.
+	 */
+	static boolean isUnchanged(@Nullable Changes changes, UpdateOptions options) {
+		return changes != null && changes.isEmpty() && options.getIfCondition() == null && !options.isIfExists()
+				&& (options.getTtl().isZero() || options.getTtl().isNegative()) && options.getTimestamp() == null;
+	}
+
+	/**
+	 * @return the number of tracked entities.
+	 */
+	int size() {
+
+		expungeStaleEntries();
+
+		return snapshots.size();
+	}
+
+	private static Map<CqlIdentifier, Object> getColumns(Object entity, CassandraConverter converter,
+			CassandraPersistentEntity<?> persistentEntity) {
+
+		Map<CqlIdentifier, Object> columns = new LinkedHashMap<>();
+		converter.write(entity, columns, persistentEntity);
+
+		return columns;
+	}
+
+	private void expungeStaleEntries() {
+
+		Reference<?> reference;
+
+		while ((reference = queue.poll()) != null) {
+			snapshots.remove(reference);
+		}
+	}
+
+	/**
+	 * Changed columns of an entity along with its converted column values and the snapshot the changes were computed
+	 * against.
+	 */
+	static class Changes {
+
+		private final Map<CqlIdentifier, Object> snapshot;
+
+		private final Map<CqlIdentifier, Object> columns;
+
+		private final Set<CqlIdentifier> changed;
+
+		Changes(Map<CqlIdentifier, Object> snapshot, Map<CqlIdentifier, Object> columns, Set<CqlIdentifier> changed) {
+			this.snapshot = snapshot;
+			this.columns = columns;
+			this.changed = changed;
+		}
+
+		/**
+		 * @param column the column to look up.
+		 * @return the value of {@code column} when the snapshot was taken, can be {@literal null}.
+		 */
+		@Nullable
+		Object getPreviousValue(CqlIdentifier column) {
+			return snapshot.get(column);
+		}
+
+		/**
+		 * @return the converted column values of the entity to write.
+		 */
+		Map<CqlIdentifier, Object> getColumns() {
+			return columns;
+		}
+
+		/**
+		 * @param column the column to inspect.
+		 * @return {@literal true} if {@code column} changed since the snapshot was taken.
+		 */
+		boolean isChanged(CqlIdentifier column) {
+			return changed.contains(column);
+		}
+
+		/**
+		 * @return {@literal true} if no column changed since the snapshot was taken.
+		 */
+		boolean isEmpty() {
+			return changed.isEmpty();
+		}
+	}
+
+	/**
+	 * Weak reference to an entity comparing referents by identity.
+	 */
+	private static class EntityReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		EntityReference(Object referent, @Nullable ReferenceQueue<Object> queue) {
+
+			super(referent, queue);
+
+			this.hashCode = System.identityHashCode(referent);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof EntityReference)) {
+				return false;
+			}
+
+			Object referent = get();
+
+			return referent != null && referent == ((EntityReference) o).get();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -33,6 +33,7 @@ import org.springframework.lang.Nullable;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -122,7 +123,9 @@ class EntityQueryUtils {
 	 */
 	static CqlIdentifier getTableName(Statement<?> statement) {
 
-		String cql = statement instanceof SimpleStatement ? ((SimpleStatement) statement).getQuery() : statement.toString();
+		String cql = statement instanceof SimpleStatement ? ((SimpleStatement) statement).getQuery()
+				: statement instanceof BoundStatement ? ((BoundStatement) statement).getPreparedStatement().getQuery()
+						: statement.toString();
 		Matcher matcher = FROM_REGEX.matcher(cql);
 
 		if (matcher.find()) {
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.Collections;
 import java.util.List;
 
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
@@ -64,6 +65,17 @@ public class EntityWriteResult<T> extends WriteResult {
 		return new EntityWriteResult<>(resultSet, entity);
 	}
 
+	/**
+	 * Create an applied {@link EntityWriteResult} for an entity that was not written because it did not change.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link EntityWriteResult} for the unchanged entity.
+	 * @since 3.3
+	 */
+	static <T> EntityWriteResult<T> unchanged(T entity) {
+		return new EntityWriteResult<>(Collections.emptyList(), true, Collections.emptyList(), entity);
+	}
+
 	/**
 	 * @return the entity associated with this write operation result.
 	 */
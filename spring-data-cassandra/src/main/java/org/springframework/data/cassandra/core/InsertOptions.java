@@ -42,16 +42,19 @@ public class InsertOptions extends WriteOptions {
 
 	private final boolean insertNulls;
 
+	private final boolean unsetNulls;
+
 	private InsertOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
-			@Nullable CqlIdentifier keyspace, @Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel,
-			Duration timeout, Duration ttl, @Nullable Long timestamp, @Nullable Boolean tracing, boolean ifNotExists,
-			boolean insertNulls) {
+			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
+			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, Duration ttl, @Nullable Long timestamp,
+			@Nullable Boolean tracing, boolean ifNotExists, boolean insertNulls, boolean unsetNulls) {
 
-		super(consistencyLevel, executionProfileResolver, keyspace, pageSize, serialConsistencyLevel, timeout, ttl,
-				timestamp, tracing);
+		super(consistencyLevel, executionProfileResolver, idempotent, keyspace, pageSize, serialConsistencyLevel, timeout,
+				ttl, timestamp, tracing);
 
 		this.ifNotExists = ifNotExists;
 		this.insertNulls = insertNulls;
+		this.unsetNulls = unsetNulls;
 	}
 
 	/**
@@ -98,6 +101,14 @@ public class InsertOptions extends WriteOptions {
 		return this.insertNulls;
 	}
 
+	/**
+	 * @return {@literal true} to leave {@literal null} values from an entity unset instead of writing {@literal null}s.
+	 * @since 3.3
+	 */
+	public boolean isUnsetNulls() {
+		return this.unsetNulls;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
@@ -123,7 +134,11 @@ public class InsertOptions extends WriteOptions {
 			return false;
 		}
 
-		return insertNulls == that.insertNulls;
+		if (insertNulls != that.insertNulls) {
+			return false;
+		}
+
+		return unsetNulls == that.unsetNulls;
 	}
 
 	/*
@@ -135,6 +150,7 @@ public class InsertOptions extends WriteOptions {
 		int result = super.hashCode();
 		result = 31 * result + (ifNotExists ? 1 : 0);
 		result = 31 * result + (insertNulls ? 1 : 0);
+		result = 31 * result + (unsetNulls ? 1 : 0);
 		return result;
 	}
 
@@ -151,6 +167,8 @@ public class InsertOptions extends WriteOptions {
 
 		private boolean insertNulls;
 
+		private boolean unsetNulls;
+
 		private InsertOptionsBuilder() {}
 
 		private InsertOptionsBuilder(InsertOptions insertOptions) {
@@ -159,6 +177,7 @@ public class InsertOptions extends WriteOptions {
 
 			this.ifNotExists = insertOptions.ifNotExists;
 			this.insertNulls = insertOptions.insertNulls;
+			this.unsetNulls = insertOptions.unsetNulls;
 		}
 
 		/* (non-Javadoc)
@@ -198,6 +217,16 @@ public class InsertOptions extends WriteOptions {
 			return (InsertOptionsBuilder) super.fetchSize(fetchSize);
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.WriteOptions.WriteOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public InsertOptionsBuilder idempotent(boolean idempotent) {
+
+			super.idempotent(idempotent);
+			return this;
+		}
+
 		/* (non-Javadoc)
 		 * @see org.springframework.data.cassandra.core.cql.WriteOptions.WriteOptionsBuilder#keyspace()
 		 */
@@ -367,15 +396,41 @@ public class InsertOptions extends WriteOptions {
 			return this;
 		}
 
+		/**
+		 * Leave {@literal null} values from an entity unset instead of writing {@literal null}s. Unset values do not create
+		 * tombstones and leave existing column values untouched. Takes precedence over {@link #withInsertNulls()}.
+		 *
+		 * @return {@code this} {@link InsertOptionsBuilder}
+		 * @since 3.3
+		 */
+		public InsertOptionsBuilder withUnsetNulls() {
+			return withUnsetNulls(true);
+		}
+
+		/**
+		 * Leave {@literal null} values from an entity unset instead of writing {@literal null}s. Unset values do not create
+		 * tombstones and leave existing column values untouched. Takes precedence over {@link #withInsertNulls(boolean)}.
+		 *
+		 * @param unsetNulls {@literal true} to leave {@literal null} values unset.
+		 * @return {@code this} {@link InsertOptionsBuilder}
+		 * @since 3.3
+		 */
+		public InsertOptionsBuilder withUnsetNulls(boolean unsetNulls) {
+
+			this.unsetNulls = unsetNulls;
+
+			return this;
+		}
+
 		/**
 		 * Builds a new {@link InsertOptions} with the configured values.
 		 *
 		 * @return a new {@link InsertOptions} with the configured values
 		 */
 		public InsertOptions build() {
-			return new InsertOptions(this.consistencyLevel, this.executionProfileResolver, this.keyspace, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.ifNotExists,
-					this.insertNulls);
+			return new InsertOptions(this.consistencyLevel, this.executionProfileResolver, this.idempotent, this.keyspace,
+					this.pageSize, this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing,
+					this.ifNotExists, this.insertNulls, this.unsetNulls);
 		}
 	}
 }
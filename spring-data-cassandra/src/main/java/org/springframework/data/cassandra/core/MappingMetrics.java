@@ -0,0 +1,301 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registry of object mapping metrics per entity type. Templates configured with {@link MappingMetrics} record the time
+ * spent converting rows into entities or projections (decode) and converting entities into column values (encode),
+ * separately from the time spent executing statements. Comparing decode and encode times with the statement latencies
+ * reported by {@link org.springframework.data.cassandra.core.cql.CqlExecutionMetrics} shows whether an operation is
+ * bound by Cassandra or by object mapping.
+ * <p>
+ * If supported by the JVM, the bytes allocated by the mapping thread are recorded as an estimate of mapping
+ * allocations. Recording is lock-free. Templates without {@link MappingMetrics} do not measure mapping.
+ *
+ * @since 3.3
+ * @see CassandraTemplate#setMappingMetrics(MappingMetrics)
+ * @see AsyncCassandraTemplate#setMappingMetrics(MappingMetrics)
+ * @see ReactiveCassandraTemplate#setMappingMetrics(MappingMetrics)
+ */
+public class MappingMetrics {
+
+	private static final @Nullable com.sun.management.ThreadMXBean ALLOCATIONS = getAllocationBean();
+
+	private final Map<Class<?>, EntityMetrics> metrics = new ConcurrentHashMap<>();
+
+	private final boolean measureAllocations;
+
+	/**
+	 * Create a new {@link MappingMetrics} measuring allocations if supported by the JVM.
+	 */
+	public MappingMetrics() {
+		this(true);
+	}
+
+	/**
+	 * Create a new {@link MappingMetrics}.
+	 *
+	 * @param measureAllocations whether to measure allocated bytes if supported by the JVM.
+	 */
+	public MappingMetrics(boolean measureAllocations) {
+		this.measureAllocations = measureAllocations && ALLOCATIONS != null;
+	}
+
+	/**
+	 * @return {@literal true} if allocated bytes are measured.
+	 */
+	public boolean isMeasureAllocations() {
+		return measureAllocations;
+	}
+
+	/**
+	 * Return the metrics for {@code entityType}.
+	 *
+	 * @param entityType the entity type.
+	 * @return the {@link EntityMetrics} or {@literal null} if no mapping of {@code entityType} was recorded.
+	 */
+	@Nullable
+	public EntityMetrics getEntityMetrics(Class<?> entityType) {
+		return metrics.get(entityType);
+	}
+
+	/**
+	 * @return the metrics of all recorded entity types ordered by descending total mapping time.
+	 */
+	public List<EntityMetrics> getEntityMetrics() {
+
+		List<EntityMetrics> result = new ArrayList<>(metrics.values());
+		result.sort((left, right) -> Long.compare(right.getTotalNanos(), left.getTotalNanos()));
+
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Discard all recorded metrics.
+	 */
+	public void reset() {
+		metrics.clear();
+	}
+
+	/**
+	 * Decode a row of {@code entityType} by calling {@code decoder} and record its duration.
+	 *
+	 * @param entityType the entity type.
+	 * @param decoder the function decoding the row.
+	 * @return the decoded object.
+	 */
+	@Nullable
+	<T> T decode(Class<?> entityType, Supplier<T> decoder) {
+
+		long allocated = allocatedBytes();
+		long start = System.nanoTime();
+
+		T result = decoder.get();
+
+		long nanos = System.nanoTime() - start;
+
+		getOrCreate(entityType).decoding.record(nanos, allocatedBytes() - allocated);
+
+		return result;
+	}
+
+	/**
+	 * Encode an entity of {@code entityType} by calling {@code encoder} and record its duration.
+	 *
+	 * @param entityType the entity type.
+	 * @param encoder the function encoding the entity.
+	 * @return the encoding result.
+	 */
+	<T> T encode(Class<?> entityType, Supplier<T> encoder) {
+
+		long allocated = allocatedBytes();
+		long start = System.nanoTime();
+
+		T result = encoder.get();
+
+		long nanos = System.nanoTime() - start;
+
+		getOrCreate(entityType).encoding.record(nanos, allocatedBytes() - allocated);
+
+		return result;
+	}
+
+	private EntityMetrics getOrCreate(Class<?> entityType) {
+
+		EntityMetrics entityMetrics = metrics.get(entityType);
+
+		return entityMetrics != null ? entityMetrics
+				: metrics.computeIfAbsent(ClassUtils.getUserClass(entityType), EntityMetrics::new);
+	}
+
+	private long allocatedBytes() {
+		return measureAllocations ? ALLOCATIONS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+	}
+
+	@Nullable
+	private static com.sun.management.ThreadMXBean getAllocationBean() {
+
+		try {
+
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+			if (bean instanceof com.sun.management.ThreadMXBean) {
+
+				com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+
+				if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+					return allocationBean;
+				}
+			}
+		} catch (LinkageError | RuntimeException e) {
+			// not supported by this JVM
+		}
+
+		return null;
+	}
+
+	/**
+	 * Mapping metrics of an entity type.
+	 */
+	public static class EntityMetrics {
+
+		private final Class<?> entityType;
+
+		private final Timing decoding = new Timing();
+
+		private final Timing encoding = new Timing();
+
+		EntityMetrics(Class<?> entityType) {
+			this.entityType = entityType;
+		}
+
+		/**
+		 * @return the entity type.
+		 */
+		public Class<?> getEntityType() {
+			return entityType;
+		}
+
+		/**
+		 * @return the number of decoded rows.
+		 */
+		public long getDecodeCount() {
+			return decoding.count.sum();
+		}
+
+		/**
+		 * @return the total time spent decoding rows into entities or projections.
+		 */
+		public Duration getDecodeTime() {
+			return Duration.ofNanos(decoding.nanos.sum());
+		}
+
+		/**
+		 * @return the number of rows decoded per second of decoding time or {@literal 0} if no row was decoded.
+		 */
+		public double getDecodedRowsPerSecond() {
+			return decoding.getPerSecond();
+		}
+
+		/**
+		 * @return the estimated bytes allocated while decoding rows or {@literal 0} if allocations are not measured.
+		 */
+		public long getDecodeAllocatedBytes() {
+			return decoding.allocatedBytes.sum();
+		}
+
+		/**
+		 * @return the number of encoded entities.
+		 */
+		public long getEncodeCount() {
+			return encoding.count.sum();
+		}
+
+		/**
+		 * @return the total time spent encoding entities into column values.
+		 */
+		public Duration getEncodeTime() {
+			return Duration.ofNanos(encoding.nanos.sum());
+		}
+
+		/**
+		 * @return the number of entities encoded per second of encoding time or {@literal 0} if no entity was encoded.
+		 */
+		public double getEncodedEntitiesPerSecond() {
+			return encoding.getPerSecond();
+		}
+
+		/**
+		 * @return the estimated bytes allocated while encoding entities or {@literal 0} if allocations are not measured.
+		 */
+		public long getEncodeAllocatedBytes() {
+			return encoding.allocatedBytes.sum();
+		}
+
+		long getTotalNanos() {
+			return decoding.nanos.sum() + encoding.nanos.sum();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s: decoded=%d (%s, %d bytes), encoded=%d (%s, %d bytes)", entityType.getName(),
+					getDecodeCount(), getDecodeTime(), getDecodeAllocatedBytes(), getEncodeCount(), getEncodeTime(),
+					getEncodeAllocatedBytes());
+		}
+	}
+
+	static class Timing {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder nanos = new LongAdder();
+
+		private final LongAdder allocatedBytes = new LongAdder();
+
+		void record(long nanos, long allocatedBytes) {
+
+			this.count.increment();
+			this.nanos.add(nanos);
+			this.allocatedBytes.add(Math.max(allocatedBytes, 0));
+		}
+
+		double getPerSecond() {
+
+			long nanos = this.nanos.sum();
+
+			return nanos == 0 ? 0 : this.count.sum() * (double) TimeUnit.SECONDS.toNanos(1) / nanos;
+		}
+	}
+}
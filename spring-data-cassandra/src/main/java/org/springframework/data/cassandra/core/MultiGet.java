@@ -0,0 +1,368 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.ColumnName;
+import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition.Operators;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition.Predicate;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Support for multi-get queries. {@link #split(Query, CassandraPersistentEntity, CassandraMappingContext) Splitting}
+ * turns a {@link Query} with an {@code IN} restriction on a partition key column into one {@link Query} per
+ * partition. {@link #execute(List, Function, MultiGetOptions) Execution} runs per-partition lookups concurrently and
+ * merges their results.
+ *
+ * @since 3.3
+ * @see MultiGetOptions
+ */
+class MultiGet {
+
+	private MultiGet() {}
+
+	/**
+	 * Split {@code query} into one query per {@code IN} value of its first {@code IN} restriction on a partition key
+	 * column. Duplicate {@code IN} values are queried once. Queries without such a restriction, with a single {@code IN}
+	 * value, with a paging state or with a {@link Query#sort(org.springframework.data.domain.Sort) sort} are returned
+	 * as-is. Sorted queries are not split because merged per-partition results would not retain the order across
+	 * partitions that a single {@code IN} query guarantees.
+	 *
+	 * @param query the query to split.
+	 * @param entity the queried entity.
+	 * @param mappingContext the mapping context to resolve composite primary keys.
+	 * @return the per-partition queries.
+	 */
+	static List<Query> split(Query query, CassandraPersistentEntity<?> entity, CassandraMappingContext mappingContext) {
+
+		if (query.getPagingState().isPresent() || query.getSort().isSorted()) {
+			return Collections.singletonList(query);
+		}
+
+		List<CriteriaDefinition> criteriaDefinitions = new ArrayList<>();
+		query.getCriteriaDefinitions().forEach(criteriaDefinitions::add);
+
+		for (int index = 0; index < criteriaDefinitions.size(); index++) {
+
+			CriteriaDefinition criteriaDefinition = criteriaDefinitions.get(index);
+			Predicate predicate = criteriaDefinition.getPredicate();
+
+			if (predicate.getOperator() != Operators.IN || !(predicate.getValue() instanceof Collection)
+					|| !isPartitionKey(criteriaDefinition.getColumnName(), entity, mappingContext)) {
+				continue;
+			}
+
+			Collection<?> values = new LinkedHashSet<>((Collection<?>) predicate.getValue());
+
+			if (values.size() < 2) {
+				return Collections.singletonList(query);
+			}
+
+			List<Query> queries = new ArrayList<>(values.size());
+
+			for (Object value : values) {
+
+				List<CriteriaDefinition> partitionCriteria = new ArrayList<>(criteriaDefinitions);
+				partitionCriteria.set(index,
+						Criteria.of(criteriaDefinition.getColumnName(), new Predicate(Operators.EQ, value)));
+
+				queries.add(copy(query, Query.query(partitionCriteria)));
+			}
+
+			return queries;
+		}
+
+		return Collections.singletonList(query);
+	}
+
+	private static Query copy(Query source, Query target) {
+
+		Query query = target.columns(source.getColumns()).sort(source.getSort());
+
+		if (source.getQueryOptions().isPresent()) {
+			query = query.queryOptions(source.getQueryOptions().get());
+		}
+
+		if (source.getLimit() > 0) {
+			query = query.limit(source.getLimit());
+		}
+
+		return source.isAllowFiltering() ? query.withAllowFiltering() : query;
+	}
+
+	private static boolean isPartitionKey(ColumnName columnName, CassandraPersistentEntity<?> entity,
+			CassandraMappingContext mappingContext) {
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				if (columnName.getColumnName().filter(it -> it.equals(property.getName())).isPresent()) {
+					return true;
+				}
+
+				CassandraPersistentEntity<?> keyEntity = mappingContext.getRequiredPersistentEntity(property);
+
+				for (CassandraPersistentProperty keyProperty : keyEntity) {
+
+					if (keyProperty.isPartitionKeyColumn() && (matches(columnName, keyProperty) || columnName.getColumnName()
+							.filter(it -> it.equals(property.getName() + "." + keyProperty.getName())).isPresent())) {
+						return true;
+					}
+				}
+
+				continue;
+			}
+
+			boolean partitionKey = property.isPartitionKeyColumn()
+					|| (property.isIdProperty() && !entity.isCompositePrimaryKey());
+
+			if (partitionKey && matches(columnName, property)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean matches(ColumnName columnName, CassandraPersistentProperty property) {
+
+		if (columnName.getCqlIdentifier().isPresent()) {
+			return columnName.getCqlIdentifier().get().equals(property.getColumnName());
+		}
+
+		return columnName.getColumnName()
+				.filter(it -> it.equals(property.getName())
+						|| (property.getColumnName() != null && it.equals(property.getRequiredColumnName().asInternal())))
+				.isPresent();
+	}
+
+	/**
+	 * Execute {@code lookups} concurrently. At most {@link MultiGetOptions#getConcurrency()} lookups are in progress at a
+	 * time. No further lookups are started once a lookup fails.
+	 *
+	 * @param lookups the lookups to execute.
+	 * @param executor function to execute a lookup asynchronously.
+	 * @param options the {@link MultiGetOptions}.
+	 * @return the merged results in lookup order if {@link MultiGetOptions#isOrdered() ordered}, otherwise in order of
+	 *         completion.
+	 */
+	static <S, T> CompletableFuture<List<T>> execute(List<S> lookups,
+			Function<S, ? extends CompletionStage<List<T>>> executor, MultiGetOptions options) {
+		return new Execution<>(lookups, executor, options.isOrdered()).start(options.getConcurrency());
+	}
+
+	/**
+	 * Fetch all pages of an asynchronously executed statement.
+	 *
+	 * @param resultSet the first page.
+	 * @return the rows of all pages.
+	 */
+	static CompletionStage<List<Row>> fetchAll(CompletionStage<AsyncResultSet> resultSet) {
+		return resultSet.thenCompose(it -> fetchAll(it, new ArrayList<>()));
+	}
+
+	private static CompletionStage<List<Row>> fetchAll(AsyncResultSet resultSet, List<Row> rows) {
+
+		resultSet.currentPage().forEach(rows::add);
+
+		return resultSet.hasMorePages() ? resultSet.fetchNextPage().thenCompose(it -> fetchAll(it, rows))
+				: CompletableFuture.completedFuture(rows);
+	}
+
+	/**
+	 * Await completion of {@code future}.
+	 *
+	 * @param future the future to await.
+	 * @return the result of {@code future}.
+	 * @throws RuntimeException the failure of {@code future}.
+	 */
+	static <T> T await(CompletableFuture<T> future) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while awaiting multi-get", e);
+		} catch (ExecutionException e) {
+
+			Throwable cause = unwrap(e.getCause());
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+
+		Throwable result = throwable;
+
+		while (result instanceof CompletionException && result.getCause() != null) {
+			result = result.getCause();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Concurrent execution of lookups. A completed lookup starts the next pending lookup. Lookups are started from a
+	 * single loop at a time so that lookups completing synchronously do not nest their successors.
+	 */
+	private static class Execution<S, T> {
+
+		private final List<S> lookups;
+
+		private final Function<S, ? extends CompletionStage<List<T>>> executor;
+
+		private final boolean ordered;
+
+		private final AtomicInteger next = new AtomicInteger();
+
+		private final AtomicInteger requested = new AtomicInteger();
+
+		private final AtomicInteger remaining;
+
+		private final AtomicReferenceArray<List<T>> results;
+
+		private final Queue<Integer> completionOrder = new ConcurrentLinkedQueue<>();
+
+		private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+		Execution(List<S> lookups, Function<S, ? extends CompletionStage<List<T>>> executor, boolean ordered) {
+
+			this.lookups = lookups;
+			this.executor = executor;
+			this.ordered = ordered;
+			this.remaining = new AtomicInteger(lookups.size());
+			this.results = new AtomicReferenceArray<>(lookups.size());
+		}
+
+		CompletableFuture<List<T>> start(int concurrency) {
+
+			if (lookups.isEmpty()) {
+				result.complete(Collections.emptyList());
+			}
+
+			for (int i = 0; i < Math.min(concurrency, lookups.size()); i++) {
+				requestNext();
+			}
+
+			return result;
+		}
+
+		/**
+		 * Request the next lookup. Lookups requested while another thread or a synchronously completed lookup is starting
+		 * lookups are started by that loop instead of recursing into {@link #executeNext()}.
+		 */
+		private void requestNext() {
+
+			if (requested.getAndIncrement() != 0) {
+				return;
+			}
+
+			do {
+				executeNext();
+			} while (requested.decrementAndGet() != 0);
+		}
+
+		private void executeNext() {
+
+			int index = next.getAndIncrement();
+
+			if (index >= lookups.size() || result.isDone()) {
+				return;
+			}
+
+			CompletionStage<List<T>> lookup;
+
+			try {
+				lookup = executor.apply(lookups.get(index));
+			} catch (RuntimeException e) {
+
+				result.completeExceptionally(e);
+				return;
+			}
+
+			lookup.whenComplete((values, error) -> {
+
+				if (error != null) {
+					result.completeExceptionally(unwrap(error));
+					return;
+				}
+
+				results.set(index, values);
+				completionOrder.add(index);
+
+				if (remaining.decrementAndGet() == 0) {
+					result.complete(merge());
+				} else {
+					requestNext();
+				}
+			});
+		}
+
+		private List<T> merge() {
+
+			List<T> merged = new ArrayList<>();
+
+			if (ordered) {
+				for (int index = 0; index < results.length(); index++) {
+					addAll(merged, results.get(index));
+				}
+			} else {
+				for (Integer index : completionOrder) {
+					addAll(merged, results.get(index));
+				}
+			}
+
+			return merged;
+		}
+
+		private static <T> void addAll(List<T> target, @Nullable List<T> values) {
+
+			if (values != null) {
+				target.addAll(values);
+			}
+		}
+	}
+}
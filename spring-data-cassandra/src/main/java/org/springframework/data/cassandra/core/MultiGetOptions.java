@@ -0,0 +1,179 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for multi-get queries. A multi-get query splits a {@code IN} restriction on a partition key column into one
+ * query per partition. Per-partition queries are routed to a replica of their partition and executed concurrently,
+ * bounded by {@link #getConcurrency()}, instead of letting a single coordinator fan out to all replicas.
+ * {@link #isOrdered() Ordered} multi-gets return results in the order of the {@code IN} values.
+ *
+ * @since 3.3
+ * @see CassandraOperations#multiGet(org.springframework.data.cassandra.core.query.Query, Class, MultiGetOptions)
+ * @see AsyncCassandraOperations#multiGet(org.springframework.data.cassandra.core.query.Query, Class, MultiGetOptions)
+ * @see ReactiveCassandraOperations#multiGet(org.springframework.data.cassandra.core.query.Query, Class,
+ *      MultiGetOptions)
+ */
+public class MultiGetOptions {
+
+	private static final MultiGetOptions EMPTY = new MultiGetOptionsBuilder().build();
+
+	private final int concurrency;
+
+	private final boolean ordered;
+
+	private MultiGetOptions(int concurrency, boolean ordered) {
+		this.concurrency = concurrency;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Create a new {@link MultiGetOptionsBuilder}.
+	 *
+	 * @return a new {@link MultiGetOptionsBuilder}.
+	 */
+	public static MultiGetOptionsBuilder builder() {
+		return new MultiGetOptionsBuilder();
+	}
+
+	/**
+	 * Create default {@link MultiGetOptions}.
+	 *
+	 * @return default {@link MultiGetOptions}.
+	 */
+	public static MultiGetOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link MultiGetOptionsBuilder} to mutate properties of this {@link MultiGetOptions}.
+	 *
+	 * @return a new {@link MultiGetOptionsBuilder} initialized with this {@link MultiGetOptions}.
+	 */
+	public MultiGetOptionsBuilder mutate() {
+		return new MultiGetOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the maximum number of per-partition queries to execute concurrently.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * @return {@literal true} to return results in the order of the {@code IN} values.
+	 */
+	public boolean isOrdered() {
+		return this.ordered;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof MultiGetOptions)) {
+			return false;
+		}
+
+		MultiGetOptions that = (MultiGetOptions) o;
+
+		return concurrency == that.concurrency && ordered == that.ordered;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * concurrency + (ordered ? 1 : 0);
+	}
+
+	/**
+	 * Builder for {@link MultiGetOptions}.
+	 */
+	public static class MultiGetOptionsBuilder {
+
+		private int concurrency = 32;
+
+		private boolean ordered = false;
+
+		private MultiGetOptionsBuilder() {}
+
+		private MultiGetOptionsBuilder(MultiGetOptions options) {
+
+			this.concurrency = options.concurrency;
+			this.ordered = options.ordered;
+		}
+
+		/**
+		 * Set the maximum number of per-partition queries to execute concurrently. Defaults to {@code 32}.
+		 *
+		 * @param concurrency the maximum number of concurrent queries, must be greater than zero.
+		 * @return {@code this} {@link MultiGetOptionsBuilder}
+		 */
+		public MultiGetOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Return results in the order of the {@code IN} values.
+		 *
+		 * @return {@code this} {@link MultiGetOptionsBuilder}
+		 */
+		public MultiGetOptionsBuilder ordered() {
+			return ordered(true);
+		}
+
+		/**
+		 * Configure whether to return results in the order of the {@code IN} values. Defaults to {@literal false}
+		 * returning results in the order in which per-partition queries complete.
+		 *
+		 * @param ordered {@literal true} to return results in the order of the {@code IN} values.
+		 * @return {@code this} {@link MultiGetOptionsBuilder}
+		 */
+		public MultiGetOptionsBuilder ordered(boolean ordered) {
+
+			this.ordered = ordered;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link MultiGetOptions} with the configured values.
+		 *
+		 * @return a new {@link MultiGetOptions} with the configured values
+		 */
+		public MultiGetOptions build() {
+			return new MultiGetOptions(this.concurrency, this.ordered);
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for partition-aware batches. A partitioned batch groups its statements by partition (routing key and
+ * keyspace) and executes one {@link com.datastax.oss.driver.api.core.cql.BatchType#UNLOGGED UNLOGGED} batch per
+ * partition instead of a single {@link com.datastax.oss.driver.api.core.cql.BatchType#LOGGED LOGGED} batch spanning
+ * all partitions. Batches of a partition are split once they exceed {@link #getMaxStatements()} or
+ * {@link #getMaxSizeInBytes()}. Batches are executed concurrently, bounded by {@link #getConcurrency()}.
+ * <p>
+ * Partitioned batches are not atomic across partitions.
+ *
+ * @since 3.3
+ * @see CassandraOperations#batchOps(PartitionedBatchOptions)
+ * @see ReactiveCassandraOperations#batchOps(PartitionedBatchOptions)
+ */
+public class PartitionedBatchOptions {
+
+	private static final PartitionedBatchOptions EMPTY = new PartitionedBatchOptionsBuilder().build();
+
+	private final int maxStatements;
+
+	private final int maxSizeInBytes;
+
+	private final int concurrency;
+
+	private PartitionedBatchOptions(int maxStatements, int maxSizeInBytes, int concurrency) {
+		this.maxStatements = maxStatements;
+		this.maxSizeInBytes = maxSizeInBytes;
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Create a new {@link PartitionedBatchOptionsBuilder}.
+	 *
+	 * @return a new {@link PartitionedBatchOptionsBuilder}.
+	 */
+	public static PartitionedBatchOptionsBuilder builder() {
+		return new PartitionedBatchOptionsBuilder();
+	}
+
+	/**
+	 * Create default {@link PartitionedBatchOptions}.
+	 *
+	 * @return default {@link PartitionedBatchOptions}.
+	 */
+	public static PartitionedBatchOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link PartitionedBatchOptionsBuilder} to mutate properties of this {@link PartitionedBatchOptions}.
+	 *
+	 * @return a new {@link PartitionedBatchOptionsBuilder} initialized with this {@link PartitionedBatchOptions}.
+	 */
+	public PartitionedBatchOptionsBuilder mutate() {
+		return new PartitionedBatchOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the maximum number of statements per batch.
+	 */
+	public int getMaxStatements() {
+		return this.maxStatements;
+	}
+
+	/**
+	 * @return the maximum estimated size of a batch in bytes.
+	 */
+	public int getMaxSizeInBytes() {
+		return this.maxSizeInBytes;
+	}
+
+	/**
+	 * @return the maximum number of batches to execute concurrently.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof PartitionedBatchOptions)) {
+			return false;
+		}
+
+		PartitionedBatchOptions that = (PartitionedBatchOptions) o;
+
+		return maxStatements == that.maxStatements && maxSizeInBytes == that.maxSizeInBytes
+				&& concurrency == that.concurrency;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = maxStatements;
+		result = 31 * result + maxSizeInBytes;
+		result = 31 * result + concurrency;
+		return result;
+	}
+
+	/**
+	 * Builder for {@link PartitionedBatchOptions}.
+	 */
+	public static class PartitionedBatchOptionsBuilder {
+
+		private int maxStatements = 100;
+
+		private int maxSizeInBytes = 5 * 1024;
+
+		private int concurrency = Runtime.getRuntime().availableProcessors();
+
+		private PartitionedBatchOptionsBuilder() {}
+
+		private PartitionedBatchOptionsBuilder(PartitionedBatchOptions options) {
+
+			this.maxStatements = options.maxStatements;
+			this.maxSizeInBytes = options.maxSizeInBytes;
+			this.concurrency = options.concurrency;
+		}
+
+		/**
+		 * Set the maximum number of statements per batch. Defaults to {@code 100}.
+		 *
+		 * @param maxStatements the maximum number of statements per batch, must be greater than zero.
+		 * @return {@code this} {@link PartitionedBatchOptionsBuilder}
+		 */
+		public PartitionedBatchOptionsBuilder maxStatements(int maxStatements) {
+
+			Assert.isTrue(maxStatements > 0, "Max statements must be greater than zero");
+
+			this.maxStatements = maxStatements;
+
+			return this;
+		}
+
+		/**
+		 * Set the maximum estimated size of a batch in bytes. A batch is split once adding a statement would exceed the
+		 * maximum size. A single statement exceeding the maximum size is executed on its own. Defaults to {@code 5 KiB}
+		 * matching Cassandra's default {@code batch_size_warn_threshold_in_kb}.
+		 *
+		 * @param maxSizeInBytes the maximum size of a batch in bytes, must be greater than zero.
+		 * @return {@code this} {@link PartitionedBatchOptionsBuilder}
+		 */
+		public PartitionedBatchOptionsBuilder maxSizeInBytes(int maxSizeInBytes) {
+
+			Assert.isTrue(maxSizeInBytes > 0, "Max size in bytes must be greater than zero");
+
+			this.maxSizeInBytes = maxSizeInBytes;
+
+			return this;
+		}
+
+		/**
+		 * Set the maximum number of batches to execute concurrently. Defaults to the number of available processors.
+		 *
+		 * @param concurrency the maximum number of concurrent batches, must be greater than zero.
+		 * @return {@code this} {@link PartitionedBatchOptionsBuilder}
+		 */
+		public PartitionedBatchOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link PartitionedBatchOptions} with the configured values.
+		 *
+		 * @return a new {@link PartitionedBatchOptions} with the configured values
+		 */
+		public PartitionedBatchOptions build() {
+			return new PartitionedBatchOptions(this.maxStatements, this.maxSizeInBytes, this.concurrency);
+		}
+	}
+}
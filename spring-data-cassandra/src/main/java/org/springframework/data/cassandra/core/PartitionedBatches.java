@@ -0,0 +1,301 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Support for partition-aware batches. Statements are routed to their partition by {@link #route routing} them with the
+ * routing key of their entity. {@link #group(List, long, DriverContext) Grouping} creates one
+ * {@link BatchType#UNLOGGED} batch per partition, split by the limits of {@link PartitionedBatchOptions}. Statements
+ * without a routing key and partitions consisting of a single statement are executed without a batch.
+ *
+ * @since 3.3
+ * @see PartitionedBatchOptions
+ */
+class PartitionedBatches {
+
+	private final PartitionedBatchOptions options;
+
+	private final RoutingKeyResolver routingKeyResolver;
+
+	PartitionedBatches(PartitionedBatchOptions options, CassandraConverter converter) {
+		this.options = options;
+		this.routingKeyResolver = new RoutingKeyResolver(converter);
+	}
+
+	/**
+	 * @return the {@link PartitionedBatchOptions}.
+	 */
+	PartitionedBatchOptions getOptions() {
+		return this.options;
+	}
+
+	/**
+	 * Route the {@code statement} to the partition of {@code entity} by setting its routing key and routing keyspace.
+	 *
+	 * @param statement the statement writing {@code entity}.
+	 * @param entity the written entity.
+	 * @param persistentEntity the {@link CassandraPersistentEntity} of the entity.
+	 * @param options the {@link WriteOptions} used to create the statement.
+	 * @return the routed statement or the unchanged statement if the routing key cannot be resolved.
+	 */
+	<S extends BatchableStatement<S>> S route(S statement, Object entity, CassandraPersistentEntity<?> persistentEntity,
+			WriteOptions options) {
+
+		ByteBuffer routingKey = routingKeyResolver.getRoutingKey(entity, persistentEntity);
+
+		if (routingKey == null) {
+			return statement;
+		}
+
+		S routed = statement.setRoutingKey(routingKey);
+
+		return options.getKeyspace() != null ? routed.setRoutingKeyspace(options.getKeyspace()) : routed;
+	}
+
+	/**
+	 * Group statements by their partition into {@link BatchType#UNLOGGED} batches.
+	 *
+	 * @param statements the statements to group.
+	 * @param timestamp the query timestamp to apply or {@link Statement#NO_DEFAULT_TIMESTAMP}.
+	 * @param context the {@link DriverContext} used to estimate statement sizes.
+	 * @return the statements to execute.
+	 */
+	List<Statement<?>> group(List<? extends BatchableStatement<?>> statements, long timestamp, DriverContext context) {
+
+		Map<Partition, List<BatchableStatement<?>>> partitions = new LinkedHashMap<>();
+		List<Statement<?>> result = new ArrayList<>();
+
+		for (BatchableStatement<?> statement : statements) {
+
+			if (statement.getRoutingKey() == null) {
+				result.add(withTimestamp(statement, timestamp));
+				continue;
+			}
+
+			partitions.computeIfAbsent(new Partition(statement.getRoutingKeyspace(), statement.getRoutingKey()),
+					key -> new ArrayList<>()).add(statement);
+		}
+
+		for (Map.Entry<Partition, List<BatchableStatement<?>>> entry : partitions.entrySet()) {
+
+			List<BatchableStatement<?>> batch = new ArrayList<>();
+			int batchSize = 0;
+
+			for (BatchableStatement<?> statement : entry.getValue()) {
+
+				int size = statement.computeSizeInBytes(context);
+
+				if (!batch.isEmpty()
+						&& (batch.size() >= options.getMaxStatements() || batchSize + size > options.getMaxSizeInBytes())) {
+
+					result.add(createBatch(entry.getKey(), batch, timestamp));
+					batch = new ArrayList<>();
+					batchSize = 0;
+				}
+
+				batch.add(statement);
+				batchSize += size;
+			}
+
+			result.add(createBatch(entry.getKey(), batch, timestamp));
+		}
+
+		return result;
+	}
+
+	private static Statement<?> createBatch(Partition partition, List<BatchableStatement<?>> statements,
+			long timestamp) {
+
+		if (statements.size() == 1) {
+			return withTimestamp(statements.get(0), timestamp);
+		}
+
+		BatchStatementBuilder builder = BatchStatement.builder(BatchType.UNLOGGED).addStatements(statements)
+				.setRoutingKey(partition.routingKey).setQueryTimestamp(timestamp);
+
+		if (partition.keyspace != null) {
+			builder.setRoutingKeyspace(partition.keyspace);
+		}
+
+		return builder.build();
+	}
+
+	private static Statement<?> withTimestamp(Statement<?> statement, long timestamp) {
+		return timestamp != Statement.NO_DEFAULT_TIMESTAMP ? statement.setQueryTimestamp(timestamp) : statement;
+	}
+
+	/**
+	 * Execute {@code statements} asynchronously and await their completion. At most {@code concurrency} statements are in
+	 * progress at a time. No further statements are executed once a statement fails.
+	 *
+	 * @param executor function to execute a statement asynchronously.
+	 * @param statements the statements to execute.
+	 * @param concurrency maximum number of statements to execute concurrently.
+	 * @return the aggregated {@link WriteResult}.
+	 * @throws RuntimeException the failure of the first failed statement.
+	 */
+	static WriteResult execute(Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+			List<Statement<?>> statements, int concurrency) {
+
+		Semaphore permits = new Semaphore(concurrency);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<CompletableFuture<WriteResult>> results = new ArrayList<>(statements.size());
+
+		try {
+
+			for (Statement<?> statement : statements) {
+
+				permits.acquire();
+
+				if (failure.get() != null) {
+					permits.release();
+					break;
+				}
+
+				CompletableFuture<WriteResult> result;
+
+				try {
+					result = executor.apply(statement).toCompletableFuture().thenApply(PartitionedBatches::toWriteResult);
+				} catch (RuntimeException e) {
+
+					failure.compareAndSet(null, e);
+					permits.release();
+					break;
+				}
+
+				result.whenComplete((writeResult, error) -> {
+
+					if (error != null) {
+						failure.compareAndSet(null, error);
+					}
+
+					permits.release();
+				});
+
+				results.add(result);
+			}
+
+			permits.acquire(concurrency);
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while executing partitioned batch", e);
+		}
+
+		if (failure.get() != null) {
+
+			Throwable error = failure.get() instanceof CompletionException && failure.get().getCause() != null
+					? failure.get().getCause()
+					: failure.get();
+
+			if (error instanceof RuntimeException) {
+				throw (RuntimeException) error;
+			}
+
+			throw new IllegalStateException(error);
+		}
+
+		List<WriteResult> writeResults = new ArrayList<>(results.size());
+
+		for (CompletableFuture<WriteResult> result : results) {
+			writeResults.add(result.join());
+		}
+
+		return WriteResult.aggregate(writeResults);
+	}
+
+	private static WriteResult toWriteResult(AsyncResultSet resultSet) {
+
+		List<Row> rows = new ArrayList<>(resultSet.remaining());
+
+		resultSet.currentPage().forEach(rows::add);
+
+		return new WriteResult(Collections.singletonList(resultSet.getExecutionInfo()), resultSet.wasApplied(), rows);
+	}
+
+	/**
+	 * Partition identified by its routing keyspace and routing key.
+	 */
+	private static class Partition {
+
+		private final @Nullable CqlIdentifier keyspace;
+
+		private final ByteBuffer routingKey;
+
+		Partition(@Nullable CqlIdentifier keyspace, ByteBuffer routingKey) {
+			this.keyspace = keyspace;
+			this.routingKey = routingKey;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Partition)) {
+				return false;
+			}
+
+			Partition that = (Partition) o;
+
+			return ObjectUtils.nullSafeEquals(keyspace, that.keyspace) && routingKey.equals(that.routingKey);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * ObjectUtils.nullSafeHashCode(keyspace) + routingKey.hashCode();
+		}
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.convert.QueryMapper;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition;
+import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * A {@link Query} compiled into a {@link PreparedStatement} that can be executed repeatedly with different criteria
+ * values. Mapping the query, rendering CQL and preparing the statement happens once when creating the
+ * {@link PreparedQuery}, executions only convert and bind the values.
+ * <p>
+ * Each criteria rendered with a bind marker is a parameter named after the property or column it references, in the
+ * order of the query criteria. {@code IN} criteria with multiple values are rendered as literals and
+ * {@code IS NOT NULL} criteria do not have a value, so they are not parameters and retain the values of the
+ * {@link Query} used to create the {@link PreparedQuery}. Query options, sort, limit and projection are retained as
+ * well.
+ * <p>
+ * A {@link PreparedQuery} is bound to the session it was prepared with and can be used concurrently.
+ *
+ * @param <T> the result type.
+ * @since 3.3
+ * @see CassandraOperations#prepare(Query, Class)
+ * @see AsyncCassandraOperations#prepare(Query, Class)
+ * @see ReactiveCassandraOperations#prepare(Query, Class)
+ */
+public class PreparedQuery<T> {
+
+	private final Class<T> entityClass;
+
+	private final CassandraPersistentEntity<?> persistentEntity;
+
+	private final SimpleStatement statement;
+
+	private final PreparedStatement preparedStatement;
+
+	private final QueryMapper queryMapper;
+
+	private final Function<Row, T> rowMapper;
+
+	private final List<CriteriaDefinition> criteria;
+
+	private final boolean[] bindable;
+
+	private final List<CriteriaDefinition> parameters;
+
+	private final List<String> parameterNames;
+
+	PreparedQuery(Query query, Class<T> entityClass, CassandraPersistentEntity<?> persistentEntity,
+			SimpleStatement statement, PreparedStatement preparedStatement, QueryMapper queryMapper,
+			Function<Row, T> rowMapper) {
+
+		this.entityClass = entityClass;
+		this.persistentEntity = persistentEntity;
+		this.statement = statement;
+		this.preparedStatement = preparedStatement;
+		this.queryMapper = queryMapper;
+		this.rowMapper = rowMapper;
+
+		List<CriteriaDefinition> criteria = query.toList();
+		boolean[] bindable = new boolean[criteria.size()];
+		List<CriteriaDefinition> parameters = new ArrayList<>();
+		List<String> parameterNames = new ArrayList<>();
+		Iterator<CriteriaDefinition> mapped = queryMapper.getMappedObject(query, persistentEntity).iterator();
+
+		for (int i = 0; i < criteria.size(); i++) {
+			if (StatementFactory.hasBindMarker(mapped.next())) {
+				bindable[i] = true;
+				parameters.add(criteria.get(i));
+				parameterNames.add(criteria.get(i).getColumnName().toString());
+			}
+		}
+
+		this.criteria = criteria;
+		this.bindable = bindable;
+		this.parameters = parameters;
+		this.parameterNames = Collections.unmodifiableList(parameterNames);
+	}
+
+	/**
+	 * @return the entity type.
+	 */
+	public Class<T> getEntityClass() {
+		return this.entityClass;
+	}
+
+	/**
+	 * @return the CQL of the prepared statement.
+	 */
+	public String getCql() {
+		return this.statement.getQuery();
+	}
+
+	/**
+	 * @return the underlying {@link PreparedStatement}.
+	 */
+	public PreparedStatement getPreparedStatement() {
+		return this.preparedStatement;
+	}
+
+	/**
+	 * @return the parameter names in the order of their bind markers. Criteria referencing the same property more than
+	 *         once result in duplicate names.
+	 */
+	public List<String> getParameterNames() {
+		return this.parameterNames;
+	}
+
+	/**
+	 * Bind parameter values by their name. Values are converted to their column type the same way as {@link Query}
+	 * criteria values. Binding by name requires parameter names to be unique; use {@link #bind(Object...)} for queries
+	 * referencing the same property more than once.
+	 *
+	 * @param values parameter values keyed by parameter name, must not be {@literal null}. Must contain a value for
+	 *          each parameter.
+	 * @return the {@link BoundStatement}.
+	 * @throws IllegalArgumentException if a value is missing, a name does not refer to a parameter or parameter names are
+	 *           ambiguous.
+	 */
+	public BoundStatement bind(Map<String, ?> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		Map<String, Integer> indexes = new LinkedHashMap<>(this.parameterNames.size());
+
+		for (int i = 0; i < this.parameterNames.size(); i++) {
+
+			if (indexes.put(this.parameterNames.get(i), i) != null) {
+				throw new IllegalArgumentException(String.format(
+						"Parameter [%s] is ambiguous; bind values by index for queries referencing a property more than once",
+						this.parameterNames.get(i)));
+			}
+		}
+
+		for (String name : values.keySet()) {
+			Assert.isTrue(indexes.containsKey(name), () -> String.format("No parameter named [%s] in %s", name,
+					this.parameterNames));
+		}
+
+		Object[] valuesToBind = new Object[this.parameterNames.size()];
+
+		indexes.forEach((name, index) -> {
+
+			Assert.isTrue(values.containsKey(name), () -> String.format("No value for parameter [%s]", name));
+
+			valuesToBind[index] = values.get(name);
+		});
+
+		return bind(valuesToBind);
+	}
+
+	/**
+	 * Bind parameter values by their index. Values are converted to their column type the same way as {@link Query}
+	 * criteria values.
+	 *
+	 * @param values parameter values in the order of {@link #getParameterNames()}.
+	 * @return the {@link BoundStatement}.
+	 * @throws IllegalArgumentException if the number of values does not match the number of parameters.
+	 */
+	public BoundStatement bind(Object... values) {
+
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(values.length == this.parameters.size(), () -> String
+				.format("Expected %d values for parameters %s but got %d", this.parameters.size(), this.parameterNames,
+						values.length));
+
+		Object[] mappedValues = new Object[values.length];
+
+		for (int i = 0; i < values.length; i++) {
+			mappedValues[i] = getMappedValue(this.parameters.get(i), values[i]);
+		}
+
+		return PreparedStatementDelegate.applyStatementSettings(this.statement,
+				this.preparedStatement.bind(mappedValues));
+	}
+
+	/**
+	 * Bind the criteria values of {@code query}. {@code query} must consist of criteria referencing the same properties
+	 * with the same operators as the query used to create this {@link PreparedQuery}. Criteria that are not parameters
+	 * must have the same values as the prepared criteria. Other settings of {@code query},
+	 * such as its sort, limit or query options, are not considered.
+	 *
+	 * @param query the query providing the criteria values, must not be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 * @throws IllegalArgumentException if the criteria of {@code query} do not match the prepared criteria.
+	 */
+	public BoundStatement bind(Query query) {
+
+		Assert.notNull(query, "Query must not be null");
+
+		List<CriteriaDefinition> criteria = query.toList();
+
+		Assert.isTrue(criteria.size() == this.criteria.size(),
+				() -> String.format("Criteria %s do not match prepared criteria %s", criteria, this.criteria));
+
+		List<Object> values = new ArrayList<>(this.parameters.size());
+
+		for (int i = 0; i < criteria.size(); i++) {
+
+			CriteriaDefinition prepared = this.criteria.get(i);
+			CriteriaDefinition actual = criteria.get(i);
+
+			if (!prepared.getColumnName().equals(actual.getColumnName())
+					|| !prepared.getPredicate().getOperator().equals(actual.getPredicate().getOperator())) {
+				throw new IllegalArgumentException(
+						String.format("Criteria %s do not match prepared criteria %s", criteria, this.criteria));
+			}
+
+			if (this.bindable[i]) {
+				values.add(actual.getPredicate().getValue());
+			} else if (!ObjectUtils.nullSafeEquals(prepared.getPredicate().getValue(), actual.getPredicate().getValue())) {
+				throw new IllegalArgumentException(String.format(
+						"Value of criteria %s does not match the value %s rendered into the prepared statement", actual,
+						prepared.getPredicate().getValue()));
+			}
+		}
+
+		return bind(values.toArray());
+	}
+
+	Function<Row, T> getRowMapper() {
+		return this.rowMapper;
+	}
+
+	@Nullable
+	private Object getMappedValue(CriteriaDefinition parameter, @Nullable Object value) {
+
+		CriteriaDefinition criteria = Criteria.of(parameter.getColumnName(),
+				new CriteriaDefinition.Predicate(parameter.getPredicate().getOperator(), value));
+
+		return this.queryMapper.getMappedObject(Filter.from(criteria), this.persistentEntity).iterator().next()
+				.getPredicate().getValue();
+	}
+}
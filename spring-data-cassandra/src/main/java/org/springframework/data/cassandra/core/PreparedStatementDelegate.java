@@ -15,11 +15,13 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.List;
 import java.util.Map;
 
 import org.slf4j.Logger;
 
 import org.springframework.data.cassandra.core.cql.QueryExtractorDelegate;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
@@ -66,6 +68,98 @@ class PreparedStatementDelegate {
 		return ps.bind(statement.getPositionalValues().toArray());
 	}
 
+	/**
+	 * Bind values held in {@link SimpleStatement} to the {@link PreparedStatement}. Positional {@literal null} values are
+	 * left unset if {@code unsetNulls} is {@literal true}. Unset values neither create tombstones nor overwrite existing
+	 * column values.
+	 *
+	 * @param statement the statement providing the values.
+	 * @param ps the prepared statement.
+	 * @param unsetNulls whether to leave positional {@literal null} values unset.
+	 * @return the bound statement.
+	 * @since 3.3
+	 */
+	static BoundStatement bind(SimpleStatement statement, PreparedStatement ps, boolean unsetNulls) {
+
+		if (!unsetNulls || !statement.getNamedValues().isEmpty()) {
+			return bind(statement, ps);
+		}
+
+		List<Object> values = statement.getPositionalValues();
+		BoundStatementBuilder boundStatementBuilder = ps.boundStatementBuilder(values.toArray());
+
+		for (int i = 0; i < values.size(); i++) {
+			if (values.get(i) == null) {
+				boundStatementBuilder = boundStatementBuilder.unset(i);
+			}
+		}
+
+		return boundStatementBuilder.build();
+	}
+
+	/**
+	 * Apply the settings of {@link SimpleStatement} to the {@link BoundStatement}. Bound statements inherit their
+	 * settings from the {@link PreparedStatement}. A cached {@link PreparedStatement} may have been prepared from a
+	 * statement using different settings (consistency level, page size, execution profile and others) so the settings
+	 * of the actual statement must be carried over.
+	 *
+	 * @param statement the statement providing the settings.
+	 * @param bound the bound statement.
+	 * @return the {@link BoundStatement} with settings applied.
+	 * @since 3.3
+	 */
+	static BoundStatement applyStatementSettings(SimpleStatement statement, BoundStatement bound) {
+
+		BoundStatement statementToUse = bound;
+
+		if (!ObjectUtils.nullSafeEquals(statement.getExecutionProfileName(), statementToUse.getExecutionProfileName())) {
+			statementToUse = statementToUse.setExecutionProfileName(statement.getExecutionProfileName());
+		}
+
+		if (!ObjectUtils.nullSafeEquals(statement.getExecutionProfile(), statementToUse.getExecutionProfile())) {
+			statementToUse = statementToUse.setExecutionProfile(statement.getExecutionProfile());
+		}
+
+		if (!ObjectUtils.nullSafeEquals(statement.getConsistencyLevel(), statementToUse.getConsistencyLevel())) {
+			statementToUse = statementToUse.setConsistencyLevel(statement.getConsistencyLevel());
+		}
+
+		if (!ObjectUtils.nullSafeEquals(statement.getSerialConsistencyLevel(),
+				statementToUse.getSerialConsistencyLevel())) {
+			statementToUse = statementToUse.setSerialConsistencyLevel(statement.getSerialConsistencyLevel());
+		}
+
+		if (statement.getPageSize() != statementToUse.getPageSize()) {
+			statementToUse = statementToUse.setPageSize(statement.getPageSize());
+		}
+
+		if (!ObjectUtils.nullSafeEquals(statement.getTimeout(), statementToUse.getTimeout())) {
+			statementToUse = statementToUse.setTimeout(statement.getTimeout());
+		}
+
+		if (!ObjectUtils.nullSafeEquals(statement.isIdempotent(), statementToUse.isIdempotent())) {
+			statementToUse = statementToUse.setIdempotent(statement.isIdempotent());
+		}
+
+		if (statement.isTracing() != statementToUse.isTracing()) {
+			statementToUse = statementToUse.setTracing(statement.isTracing());
+		}
+
+		if (!ObjectUtils.nullSafeEquals(statement.getPagingState(), statementToUse.getPagingState())) {
+			statementToUse = statementToUse.setPagingState(statement.getPagingState());
+		}
+
+		if (statement.getQueryTimestamp() != statementToUse.getQueryTimestamp()) {
+			statementToUse = statementToUse.setQueryTimestamp(statement.getQueryTimestamp());
+		}
+
+		if (!ObjectUtils.nullSafeEquals(statement.getNode(), statementToUse.getNode())) {
+			statementToUse = statementToUse.setNode(statement.getNode());
+		}
+
+		return statementToUse;
+	}
+
 	/**
 	 * Ensure the given {@link Statement} is a {@link SimpleStatement}. Throw a {@link IllegalArgumentException}
 	 * otherwise.
@@ -85,7 +179,7 @@ class PreparedStatementDelegate {
 	/**
 	 * Check whether to use prepared statements. When {@code usePreparedStatements} is {@literal true}, then verifying
 	 * additionally that the given {@link Statement} is a {@link SimpleStatement}, otherwise log the mismatch and fallback
-	 * to non-prepared usage.
+	 * to non-prepared usage. {@link BoundStatement Bound statements} are already prepared and executed as-is.
 	 *
 	 * @param usePreparedStatements
 	 * @param statement
@@ -100,6 +194,10 @@ class PreparedStatementDelegate {
 				return true;
 			}
 
+			if (statement instanceof BoundStatement) {
+				return false;
+			}
+
 			logger.warn(getMessage(statement));
 		}
 
@@ -0,0 +1,428 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Client-side cache for results of queries executed through {@link CassandraTemplate} that enable caching with
+ * {@link org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#cacheResults(Duration)} or,
+ * in repositories, with {@link org.springframework.data.cassandra.repository.CacheResults}.
+ * <p>
+ * Results are keyed by the CQL of the statement, its bound values, consistency level, keyspace and execution profile.
+ * Only {@link SimpleStatement simple} and {@link BoundStatement bound} statements without a paging state are cached.
+ * The cache holds the driver {@link Row rows} of a result instead of mapped objects. A cache hit saves the round trip to
+ * Cassandra but still maps the rows so that each read returns new objects that callers may modify without affecting
+ * other readers. The cache is bounded by the estimated size of the cached rows and evicts least recently used results
+ * once the bound is reached. Writing to a table through the template invalidates all cached results of that table.
+ * Statements executed through {@link org.springframework.data.cassandra.core.cql.CqlOperations} and writes of other
+ * clients are not observed and become visible once cached results expire.
+ * <p>
+ * Lookups do not take a lock. Cached results are held in a concurrent map while the recency order and an index of
+ * cached results per table are guarded by a lock that cache hits acquire only if it is uncontended, which makes
+ * eviction approximate under heavy concurrent access. Invalidating a table discards only the results of that table.
+ *
+ * @since 3.3
+ * @see CassandraTemplate#setQueryResultCache(QueryResultCache)
+ */
+public class QueryResultCache {
+
+	/**
+	 * Default upper bound of the estimated size of cached rows in bytes.
+	 */
+	public static final long DEFAULT_MAX_WEIGHT = 16 * 1024 * 1024;
+
+	private static final int ROW_OVERHEAD = 64;
+
+	private static final int VALUE_OVERHEAD = 16;
+
+	private final long maxWeight;
+
+	private final LongSupplier nanoClock;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private final Map<Object, CachedResult> results = new ConcurrentHashMap<>();
+
+	private final Map<CqlIdentifier, Long> generations = new ConcurrentHashMap<>();
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	// guarded by lock
+	private final Map<Object, CachedResult> order = new LinkedHashMap<>(16, 0.75f, true);
+
+	// guarded by lock
+	private final Map<CqlIdentifier, Set<Object>> keysByTable = new HashMap<>();
+
+	// guarded by lock
+	private long weight;
+
+	/**
+	 * Create a new {@link QueryResultCache} bounded by {@link #DEFAULT_MAX_WEIGHT}.
+	 */
+	public QueryResultCache() {
+		this(DEFAULT_MAX_WEIGHT);
+	}
+
+	/**
+	 * Create a new {@link QueryResultCache}.
+	 *
+	 * @param maxWeight upper bound of the estimated size of cached rows in bytes, must be greater than zero.
+	 */
+	public QueryResultCache(long maxWeight) {
+		this(maxWeight, System::nanoTime);
+	}
+
+	QueryResultCache(long maxWeight, LongSupplier nanoClock) {
+
+		Assert.isTrue(maxWeight > 0, "Maximum weight must be greater than zero");
+
+		this.maxWeight = maxWeight;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Discard all cached results of queries reading from {@code tableName}.
+	 *
+	 * @param tableName the table name, must not be {@literal null}.
+	 */
+	public void invalidate(CqlIdentifier tableName) {
+
+		Assert.notNull(tableName, "Table name must not be null");
+
+		this.lock.lock();
+		try {
+
+			this.generations.merge(tableName, 1L, Long::sum);
+
+			Set<Object> keys = this.keysByTable.remove(tableName);
+
+			if (keys == null) {
+				return;
+			}
+
+			for (Object key : keys) {
+
+				CachedResult result = this.results.remove(key);
+
+				if (result != null) {
+					this.order.remove(key);
+					this.weight -= result.weight;
+				}
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Discard all cached results.
+	 */
+	public void clear() {
+
+		this.lock.lock();
+		try {
+
+			this.generations.replaceAll((tableName, generation) -> generation + 1);
+			this.results.clear();
+			this.order.clear();
+			this.keysByTable.clear();
+			this.weight = 0;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the statistics of this cache.
+	 */
+	public Statistics getStatistics() {
+
+		this.lock.lock();
+		try {
+			return new Statistics(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.results.size(),
+					this.weight);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the cached rows for {@code key}.
+	 *
+	 * @param key the cache key.
+	 * @return the rows or {@literal null} if no result is cached or the cached result expired.
+	 */
+	@Nullable
+	List<Row> get(Object key) {
+
+		CachedResult result = this.results.get(key);
+
+		if (result != null && result.expiresAt - this.nanoClock.getAsLong() <= 0) {
+			remove(key, result);
+			result = null;
+		}
+
+		if (result == null) {
+			this.misses.increment();
+			return null;
+		}
+
+		this.hits.increment();
+
+		if (this.lock.tryLock()) {
+			try {
+				this.order.get(key);
+			} finally {
+				this.lock.unlock();
+			}
+		}
+
+		return result.rows;
+	}
+
+	/**
+	 * Return the invalidation generation of {@code tableName} to obtain before running a query whose result is to be
+	 * {@link #put(Object, CqlIdentifier, List, Duration, long) cached}.
+	 *
+	 * @param tableName the table name.
+	 * @return the invalidation generation.
+	 */
+	long getGeneration(CqlIdentifier tableName) {
+		return this.generations.getOrDefault(tableName, 0L);
+	}
+
+	/**
+	 * Cache {@code rows} unless {@code tableName} was invalidated since {@code generation} was obtained, which prevents
+	 * caching results that were read before a concurrent write completed. Results exceeding the maximum weight are not
+	 * cached.
+	 *
+	 * @param key the cache key.
+	 * @param tableName the table the rows were read from.
+	 * @param rows the rows to cache.
+	 * @param ttl the time to live of the cached result.
+	 * @param generation the invalidation generation obtained before running the query.
+	 */
+	void put(Object key, CqlIdentifier tableName, List<Row> rows, Duration ttl, long generation) {
+
+		long resultWeight = weigh(rows);
+
+		if (resultWeight > this.maxWeight) {
+			return;
+		}
+
+		CachedResult result = new CachedResult(tableName, rows, resultWeight,
+				this.nanoClock.getAsLong() + ttl.toNanos());
+
+		this.lock.lock();
+		try {
+
+			if (getGeneration(tableName) != generation) {
+				return;
+			}
+
+			CachedResult previous = this.results.put(key, result);
+
+			if (previous != null) {
+				unindex(key, previous);
+				this.weight -= previous.weight;
+			}
+
+			this.order.put(key, result);
+			this.keysByTable.computeIfAbsent(tableName, it -> new HashSet<>()).add(key);
+			this.weight += resultWeight;
+
+			Iterator<Map.Entry<Object, CachedResult>> iterator = this.order.entrySet().iterator();
+
+			while (this.weight > this.maxWeight && iterator.hasNext()) {
+
+				Map.Entry<Object, CachedResult> eldest = iterator.next();
+
+				iterator.remove();
+				this.results.remove(eldest.getKey(), eldest.getValue());
+				unindex(eldest.getKey(), eldest.getValue());
+				this.weight -= eldest.getValue().weight;
+				this.evictions.increment();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void remove(Object key, CachedResult result) {
+
+		this.lock.lock();
+		try {
+
+			if (this.results.remove(key, result)) {
+				this.order.remove(key);
+				unindex(key, result);
+				this.weight -= result.weight;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void unindex(Object key, CachedResult result) {
+
+		Set<Object> keys = this.keysByTable.get(result.tableName);
+
+		if (keys != null && keys.remove(key) && keys.isEmpty()) {
+			this.keysByTable.remove(result.tableName);
+		}
+	}
+
+	private static long weigh(List<Row> rows) {
+
+		long weight = 0;
+
+		for (Row row : rows) {
+
+			weight += ROW_OVERHEAD;
+
+			for (int i = 0; i < row.size(); i++) {
+
+				ByteBuffer value = row.getBytesUnsafe(i);
+
+				weight += VALUE_OVERHEAD + (value != null ? value.remaining() : 0);
+			}
+		}
+
+		return weight;
+	}
+
+	private static class CachedResult {
+
+		private final CqlIdentifier tableName;
+
+		private final List<Row> rows;
+
+		private final long weight;
+
+		private final long expiresAt;
+
+		CachedResult(CqlIdentifier tableName, List<Row> rows, long weight, long expiresAt) {
+			this.tableName = tableName;
+			this.rows = rows;
+			this.weight = weight;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Statistics of a {@link QueryResultCache}.
+	 */
+	public static class Statistics {
+
+		private final long hitCount;
+
+		private final long missCount;
+
+		private final long evictionCount;
+
+		private final int size;
+
+		private final long weight;
+
+		Statistics(long hitCount, long missCount, long evictionCount, int size, long weight) {
+			this.hitCount = hitCount;
+			this.missCount = missCount;
+			this.evictionCount = evictionCount;
+			this.size = size;
+			this.weight = weight;
+		}
+
+		/**
+		 * @return the number of queries served from the cache.
+		 */
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		/**
+		 * @return the number of cacheable queries that were not served from the cache.
+		 */
+		public long getMissCount() {
+			return missCount;
+		}
+
+		/**
+		 * @return the ratio of cacheable queries served from the cache or {@literal 0} if nothing was queried.
+		 */
+		public double getHitRate() {
+
+			long requests = hitCount + missCount;
+
+			return requests == 0 ? 0 : (double) hitCount / requests;
+		}
+
+		/**
+		 * @return the number of results evicted because the cache reached its maximum weight.
+		 */
+		public long getEvictionCount() {
+			return evictionCount;
+		}
+
+		/**
+		 * @return the number of cached results including results that expired but were not yet read.
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * @return the estimated size of the cached rows in bytes.
+		 */
+		public long getWeight() {
+			return weight;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("hits=%d, misses=%d, hitRate=%.2f, evictions=%d, size=%d, weight=%d", hitCount,
+					missCount, getHitRate(), evictionCount, size, weight);
+		}
+	}
+}
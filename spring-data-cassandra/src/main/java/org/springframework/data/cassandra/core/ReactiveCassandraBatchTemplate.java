@@ -28,10 +28,13 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.ReactiveCqlOperations;
+import org.springframework.data.cassandra.core.cql.ReactiveSessionCallback;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -40,6 +43,7 @@ import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.BatchType;
 import com.datastax.oss.driver.api.core.cql.BatchableStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 
 /**
  * Default implementation for {@link ReactiveCassandraBatchOperations}.
@@ -64,12 +68,30 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 
 	private final StatementFactory statementFactory;
 
+	private final @Nullable PartitionedBatches partitionedBatches;
+
+	private volatile long timestamp = Statement.NO_DEFAULT_TIMESTAMP;
+
 	/**
 	 * Create a new {@link CassandraBatchTemplate} given {@link CassandraOperations}.
 	 *
 	 * @param operations must not be {@literal null}.
 	 */
 	ReactiveCassandraBatchTemplate(ReactiveCassandraOperations operations) {
+		this(operations, null);
+	}
+
+	/**
+	 * Create a new {@link ReactiveCassandraBatchTemplate} given {@link ReactiveCassandraOperations} and
+	 * {@link PartitionedBatchOptions}. Statements are grouped into partitioned {@link BatchType#UNLOGGED} batches if
+	 * {@link PartitionedBatchOptions} are given, otherwise all statements are executed as single
+	 * {@link BatchType#LOGGED} batch.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param options the {@link PartitionedBatchOptions}, may be {@literal null}.
+	 * @since 3.3
+	 */
+	ReactiveCassandraBatchTemplate(ReactiveCassandraOperations operations, @Nullable PartitionedBatchOptions options) {
 
 		Assert.notNull(operations, "CassandraOperations must not be null");
 
@@ -77,6 +99,7 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 		this.converter = operations.getConverter();
 		this.mappingContext = this.converter.getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(converter));
+		this.partitionedBatches = options != null ? new PartitionedBatches(options, this.converter) : null;
 	}
 
 	private void assertNotExecuted() {
@@ -130,6 +153,10 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 
 			if (this.executed.compareAndSet(false, true)) {
 
+				if (this.partitionedBatches != null) {
+					return executePartitioned(this.partitionedBatches);
+				}
+
 				return Flux.merge(this.batchMonos) //
 						.flatMap(Flux::fromIterable) //
 						.collectList() //
@@ -148,6 +175,23 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 		});
 	}
 
+	private Mono<WriteResult> executePartitioned(PartitionedBatches partitionedBatches) {
+
+		ReactiveCqlOperations cqlOperations = this.operations.getReactiveCqlOperations();
+
+		return Flux.merge(this.batchMonos) //
+				.flatMap(Flux::fromIterable) //
+				.collectList() //
+				.flatMapMany(statements -> cqlOperations.execute((ReactiveSessionCallback<Statement<?>>) session -> Flux
+						.fromIterable(partitionedBatches.group(statements, this.timestamp, session.getContext())))) //
+				.flatMap(statement -> cqlOperations.queryForResultSet(statement) //
+						.flatMap(resultSet -> resultSet.rows().collectList()
+								.map(rows -> new WriteResult(resultSet.getAllExecutionInfo(), resultSet.wasApplied(), rows))),
+						partitionedBatches.getOptions().getConcurrency()) //
+				.collectList() //
+				.map(WriteResult::aggregate);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraBatchOperations#withTimestamp(long)
 	 */
@@ -157,6 +201,7 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 		assertNotExecuted();
 
 		this.batch.setQueryTimestamp(timestamp);
+		this.timestamp = timestamp;
 
 		return this;
 	}
@@ -234,7 +279,7 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 			SimpleStatement insertQuery = getStatementFactory()
 					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build();
 
-			insertQueries.add(insertQuery);
+			insertQueries.add(route(insertQuery, entity, persistentEntity, options));
 		}
 
 		return insertQueries;
@@ -311,7 +356,7 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 			SimpleStatement update = getStatementFactory()
 					.update(entity, options, persistentEntity, persistentEntity.getTableName()).build();
 
-			updateQueries.add(update);
+			updateQueries.add(route(update, entity, persistentEntity, options));
 		}
 
 		return updateQueries;
@@ -375,6 +420,16 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 		return this;
 	}
 
+	private SimpleStatement route(SimpleStatement statement, Object entity, CassandraPersistentEntity<?> persistentEntity,
+			WriteOptions options) {
+
+		if (this.partitionedBatches == null) {
+			return statement;
+		}
+
+		return this.partitionedBatches.route(statement, entity, persistentEntity, options);
+	}
+
 	private void assertNotQueryOptions(Iterable<?> entities) {
 
 		for (Object entity : entities) {
@@ -399,7 +454,7 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 			SimpleStatement delete = getStatementFactory()
 					.delete(entity, options, getConverter(), persistentEntity.getTableName()).build();
 
-			deleteQueries.add(delete);
+			deleteQueries.add(route(delete, entity, persistentEntity, options));
 		}
 
 		return deleteQueries;
@@ -18,6 +18,8 @@ package org.springframework.data.cassandra.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
@@ -59,6 +61,20 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	ReactiveCassandraBatchOperations batchOps();
 
+	/**
+	 * Returns a new partition-aware {@link ReactiveCassandraBatchOperations}. Statements added to the batch are grouped
+	 * by their partition and executed as one {@link com.datastax.oss.driver.api.core.cql.BatchType#UNLOGGED UNLOGGED}
+	 * batch per partition. Batches are split by the limits and executed concurrently as configured by
+	 * {@link PartitionedBatchOptions}. Each {@link ReactiveCassandraBatchOperations} instance can be executed only once.
+	 * <p>
+	 * Partitioned batches are not atomic across partitions. Use {@link #batchOps()} for atomic multi-partition batches.
+	 *
+	 * @param options must not be {@literal null}.
+	 * @return a new partition-aware {@link ReactiveCassandraBatchOperations}.
+	 * @since 3.3
+	 */
+	ReactiveCassandraBatchOperations batchOps(PartitionedBatchOptions options);
+
 	/**
 	 * Expose the underlying {@link ReactiveCqlOperations} to allow CQL operations.
 	 *
@@ -159,6 +175,35 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	<T> Flux<T> select(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Scan the table of {@code entityClass} by splitting the token ring into token ranges and querying ranges
+	 * concurrently. Each range query is routed to a replica of its token range. Rows of the individual ranges are merged
+	 * into a single stream without a particular order.
+	 *
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param options the {@link ScanOptions} to control concurrency and range splitting, must not be {@literal null}.
+	 * @return all entities of the table.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.3
+	 */
+	<T> Flux<T> scan(Class<T> entityClass, ScanOptions options) throws DataAccessException;
+
+	/**
+	 * Execute a {@code SELECT} query with an {@code IN} restriction on a partition key column as multi-get. The query is
+	 * split into one query per {@code IN} value that is routed to a replica of its partition. Per-partition queries are
+	 * executed concurrently. Queries without an {@code IN} restriction on a partition key column are executed as
+	 * {@link #select(Query, Class)}. A {@link Query#limit(long) limit} applies to the merged result. Sorted queries are
+	 * executed as a single query to retain their order across partitions.
+	 *
+	 * @param query the query to execute, must not be {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param options the {@link MultiGetOptions} to control concurrency and result order, must not be {@literal null}.
+	 * @return the converted results.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.3
+	 */
+	<T> Flux<T> multiGet(Query query, Class<T> entityClass, MultiGetOptions options) throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query with paging and convert the result set to a {@link Slice} of entities.
 	 *
@@ -181,6 +226,69 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	<T> Mono<T> selectOne(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Compile a {@code SELECT} {@link Query} into a {@link PreparedQuery} that can be executed repeatedly with different
+	 * criteria values. The query is mapped, rendered and prepared once. Criteria values of {@code query} serve as
+	 * placeholders and are replaced by the values bound on execution.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the {@link PreparedQuery}.
+	 * @throws DataAccessException if there is any problem preparing the query.
+	 * @since 3.3
+	 * @see PreparedQuery
+	 */
+	<T> Mono<PreparedQuery<T>> prepare(Query query, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by parameter name and convert the resulting items to a
+	 * Flux of entities.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values keyed by {@link PreparedQuery#getParameterNames() parameter name}, must not be
+	 *          {@literal null}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> Flux<T> select(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by index and convert the resulting items to a Flux of
+	 * entities.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values in the order of {@link PreparedQuery#getParameterNames()}.
+	 * @return the converted results
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> Flux<T> select(PreparedQuery<T> query, Object... values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by parameter name and convert the resulting item to an
+	 * entity.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values keyed by {@link PreparedQuery#getParameterNames() parameter name}, must not be
+	 *          {@literal null}.
+	 * @return the converted object or {@link Mono#empty()}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> Mono<T> selectOne(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * Execute a {@link PreparedQuery} binding {@code values} by index and convert the resulting item to an entity.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param values parameter values in the order of {@link PreparedQuery#getParameterNames()}.
+	 * @return the converted object or {@link Mono#empty()}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.3
+	 */
+	<T> Mono<T> selectOne(PreparedQuery<T> query, Object... values) throws DataAccessException;
+
 	/**
 	 * Update the queried entities and return {@literal true} if the update was applied.
 	 *
@@ -20,8 +20,13 @@ import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +47,7 @@ import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.*;
 import org.springframework.data.cassandra.core.cql.session.DefaultReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.SimpleUserTypeResolver;
@@ -97,6 +103,8 @@ import com.datastax.oss.driver.api.querybuilder.update.Update;
  * statements. Also, statements accepted by methods (such as {@link #select(String, Class)} or
  * {@link #select(Statement, Class) and others}) will be prepared prior to execution. Note that {@link Statement}
  * objects passed to methods must be {@link SimpleStatement} so that these can be prepared.
+ * Prepared statements are cached through {@link #setPreparedStatementCache(BoundedPreparedStatementCache)} so that
+ * concurrent executions of the same statement share a single preparation.
  * <p>
  * Note: The {@link ReactiveSessionFactory} should always be configured as a bean in the application context, in the
  * first case given to the service directly, in the second case to the prepared template.
@@ -128,6 +136,16 @@ public class ReactiveCassandraTemplate
 
 	private boolean usePreparedStatements = true;
 
+	private boolean unsetNulls;
+
+	private @Nullable EntityChangeTracker changeTracker;
+
+	private @Nullable MappingMetrics mappingMetrics;
+
+	private @Nullable ReadCoalescer readCoalescer;
+
+	private @Nullable BoundedPreparedStatementCache preparedStatementCache = BoundedPreparedStatementCache.create();
+
 	/**
 	 * Creates an instance of {@link ReactiveCassandraTemplate} initialized with the given {@link ReactiveSession} and a
 	 * default {@link MappingCassandraConverter}.
@@ -199,6 +217,17 @@ public class ReactiveCassandraTemplate
 		return new ReactiveCassandraBatchTemplate(this);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#batchOps(org.springframework.data.cassandra.core.PartitionedBatchOptions)
+	 */
+	@Override
+	public ReactiveCassandraBatchOperations batchOps(PartitionedBatchOptions options) {
+
+		Assert.notNull(options, "PartitionedBatchOptions must not be null");
+
+		return new ReactiveCassandraBatchTemplate(this, options);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.context.ApplicationEventPublisherAware#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
 	 */
@@ -272,6 +301,133 @@ public class ReactiveCassandraTemplate
 		this.usePreparedStatements = usePreparedStatements;
 	}
 
+	/**
+	 * Returns whether this instance leaves {@literal null} properties of entities unset when inserting or updating
+	 * entities instead of writing {@literal null}s. Disabled by default.
+	 *
+	 * @return {@literal true} if {@literal null} properties are left unset; {@literal false} otherwise.
+	 * @since 3.3
+	 * @see InsertOptions#isUnsetNulls()
+	 * @see UpdateOptions#isUnsetNulls()
+	 * @see org.springframework.data.cassandra.core.mapping.UnsetNulls
+	 */
+	public boolean isUnsetNulls() {
+		return unsetNulls;
+	}
+
+	/**
+	 * Enable/disable leaving {@literal null} properties of entities unset when inserting or updating entities. Unset
+	 * values do not create tombstones and leave existing column values untouched. With
+	 * {@link #setUsePreparedStatements(boolean) prepared statements} enabled, statements render all columns and leave
+	 * {@literal null} values unset on the bound statement so that each entity uses a single prepared statement.
+	 * Otherwise, statements omit columns with {@literal null} values.
+	 *
+	 * @param unsetNulls whether to leave {@literal null} properties unset.
+	 * @since 3.3
+	 */
+	public void setUnsetNulls(boolean unsetNulls) {
+		this.unsetNulls = unsetNulls;
+	}
+
+	/**
+	 * Returns whether this instance tracks changes of entities read through this template. Disabled by default.
+	 *
+	 * @return {@literal true} if change tracking is enabled; {@literal false} otherwise.
+	 * @since 3.3
+	 */
+	public boolean isChangeTracking() {
+		return changeTracker != null;
+	}
+
+	/**
+	 * Enable/disable change tracking. If enabled, entities read or updated through this template keep a snapshot of
+	 * their column values and {@link #update(Object, UpdateOptions) updating} such an entity writes only the columns
+	 * that changed since. Updating an entity without changes does not issue a statement. Entities without a snapshot or
+	 * with a changed primary key are updated entirely.
+	 * <p>
+	 * Changes are detected after invoking {@code BeforeConvertCallback}s so that changes applied by callbacks, such as
+	 * auditing, are written. Skipped updates neither invoke {@code BeforeSaveCallback}s nor publish
+	 * {@code BeforeSaveEvent}s and {@code AfterSaveEvent}s as these refer to the statement to execute.
+	 *
+	 * @param changeTracking whether to track changes of entities.
+	 * @since 3.3
+	 */
+	public void setChangeTracking(boolean changeTracking) {
+		this.changeTracker = changeTracking ? (this.changeTracker != null ? this.changeTracker : new EntityChangeTracker())
+				: null;
+	}
+
+	/**
+	 * Returns the {@link MappingMetrics} recording the time spent mapping rows and entities.
+	 *
+	 * @return the {@link MappingMetrics} or {@literal null} if mapping is not measured.
+	 * @since 3.3
+	 */
+	@Nullable
+	public MappingMetrics getMappingMetrics() {
+		return this.mappingMetrics;
+	}
+
+	/**
+	 * Set the {@link MappingMetrics} to record the time spent converting rows into entities or projections and
+	 * converting entities into column values per entity type.
+	 *
+	 * @param mappingMetrics the mapping metrics, can be {@literal null} to disable recording.
+	 * @since 3.3
+	 */
+	public void setMappingMetrics(@Nullable MappingMetrics mappingMetrics) {
+		this.mappingMetrics = mappingMetrics;
+	}
+
+	/**
+	 * Returns whether identical reads that are in flight at the same time are coalesced into a single query.
+	 *
+	 * @return {@literal true} if reads are coalesced; {@literal false} otherwise.
+	 * @since 3.3
+	 */
+	public boolean isCoalesceReads() {
+		return this.readCoalescer != null;
+	}
+
+	/**
+	 * Enable/disable coalescing of identical reads. If enabled, subscribers to {@link #selectOneById(Object, Class)} and
+	 * {@link #select(Query, Class)} that subscribe while an identical query is in flight receive the rows of that query,
+	 * mapped to new objects, instead of sending another request. Coalesced queries collect their rows before emitting
+	 * them. A subscriber cancelling the query in flight makes waiting subscribers run the query again. Disabled by
+	 * default.
+	 *
+	 * @param coalesceReads whether to coalesce identical reads.
+	 * @since 3.3
+	 */
+	public void setCoalesceReads(boolean coalesceReads) {
+		this.readCoalescer = coalesceReads ? (this.readCoalescer != null ? this.readCoalescer : new ReadCoalescer()) : null;
+	}
+
+	/**
+	 * Returns the {@link BoundedPreparedStatementCache} used to cache {@link PreparedStatement prepared statements} if
+	 * {@link #isUsePreparedStatements() prepared statements} are enabled.
+	 *
+	 * @return the {@link BoundedPreparedStatementCache} or {@literal null} if prepared statements are not cached.
+	 * @since 3.3
+	 */
+	@Nullable
+	public BoundedPreparedStatementCache getPreparedStatementCache() {
+		return preparedStatementCache;
+	}
+
+	/**
+	 * Set the {@link BoundedPreparedStatementCache} to cache {@link PreparedStatement prepared statements}. Concurrent
+	 * requests for the same statement share a single in-flight preparation. Cached statements are used only if
+	 * {@link #isUsePreparedStatements() prepared statements} are enabled. Setting the cache to {@literal null} prepares
+	 * each statement through the driver.
+	 *
+	 * @param preparedStatementCache the cache to use, can be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setPreparedStatementCache(@Nullable BoundedPreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
 	/**
 	 * Returns the {@link EntityOperations} used to perform data access operations on an entity inside a Cassandra data
 	 * source.
@@ -415,6 +571,53 @@ public class ReactiveCassandraTemplate
 		return doSelect(query, entityClass, getTableName(entityClass), entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#scan(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> Flux<T> scan(Class<T> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = persistentEntity.getTableName();
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		// token range statements differ in their token literals and are executed without preparing them
+		return getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<Statement<?>>) session -> Flux
+						.fromIterable(TokenRangeScan.createStatements(getStatementFactory(), session.getMetadata(), null,
+								session.getKeyspace(), persistentEntity, tableName, options)))
+				.flatMap(statement -> getReactiveCqlOperations().query(statement, (row, rowNum) -> mapper.apply(row)),
+						options.getConcurrency());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#multiGet(org.springframework.data.cassandra.core.query.Query, java.lang.Class, org.springframework.data.cassandra.core.MultiGetOptions)
+	 */
+	@Override
+	public <T> Flux<T> multiGet(Query query, Class<T> entityClass, MultiGetOptions options) throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "MultiGetOptions must not be null");
+
+		List<Query> queries = MultiGet.split(query, getRequiredPersistentEntity(entityClass),
+				getConverter().getMappingContext());
+
+		if (queries.size() == 1) {
+			return select(queries.get(0), entityClass);
+		}
+
+		Flux<Query> partitionQueries = Flux.fromIterable(queries);
+		Flux<T> result = options.isOrdered()
+				? partitionQueries.flatMapSequential(it -> select(it, entityClass), options.getConcurrency())
+				: partitionQueries.flatMap(it -> select(it, entityClass), options.getConcurrency());
+
+		return query.getLimit() > 0 ? result.take(query.getLimit()) : result;
+	}
+
 	<T> Flux<T> doSelect(Query query, Class<?> entityClass, CqlIdentifier tableName, Class<T> returnType) {
 
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entityClass);
@@ -428,7 +631,7 @@ public class ReactiveCassandraTemplate
 
 		Function<Row, T> mapper = getMapper(entityClass, returnType, tableName);
 
-		return doQuery(select.build(), (row, rowNum) -> mapper.apply(row));
+		return doCoalescedQuery(select.build(), (row, rowNum) -> mapper.apply(row));
 	}
 
 	/* (non-Javadoc)
@@ -443,6 +646,74 @@ public class ReactiveCassandraTemplate
 		return select(query, entityClass).next();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#prepare(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<PreparedQuery<T>> prepare(Query query, Class<T> entityClass) throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = getTableName(entityClass);
+
+		Columns columns = getStatementFactory().computeColumnsForProjection(query.getColumns(), entity, entityClass);
+		Query queryToUse = query.columns(columns);
+
+		SimpleStatement statement = getStatementFactory().select(queryToUse, entity, tableName).build();
+
+		return getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<PreparedStatement>) session -> session.prepare(statement)).next()
+				.map(it -> new PreparedQuery<>(queryToUse, entityClass, entity, statement, it,
+						getStatementFactory().getQueryMapper(), getMapper(entityClass, entityClass, tableName)));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#select(org.springframework.data.cassandra.core.PreparedQuery, java.util.Map)
+	 */
+	@Override
+	public <T> Flux<T> select(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException {
+
+		Assert.notNull(query, "PreparedQuery must not be null");
+
+		return doSelect(query, query.bind(values));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#select(org.springframework.data.cassandra.core.PreparedQuery, java.lang.Object[])
+	 */
+	@Override
+	public <T> Flux<T> select(PreparedQuery<T> query, Object... values) throws DataAccessException {
+
+		Assert.notNull(query, "PreparedQuery must not be null");
+
+		return doSelect(query, query.bind(values));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectOne(org.springframework.data.cassandra.core.PreparedQuery, java.util.Map)
+	 */
+	@Override
+	public <T> Mono<T> selectOne(PreparedQuery<T> query, Map<String, ?> values) throws DataAccessException {
+		return select(query, values).next();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectOne(org.springframework.data.cassandra.core.PreparedQuery, java.lang.Object[])
+	 */
+	@Override
+	public <T> Mono<T> selectOne(PreparedQuery<T> query, Object... values) throws DataAccessException {
+		return select(query, values).next();
+	}
+
+	private <T> Flux<T> doSelect(PreparedQuery<T> query, BoundStatement statement) {
+
+		Function<Row, T> mapper = query.getRowMapper();
+
+		return getReactiveCqlOperations().query(statement, (row, rowNum) -> mapper.apply(row));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#slice(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
 	 */
@@ -591,10 +862,12 @@ public class ReactiveCassandraTemplate
 		Assert.notNull(id, "Id must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		StatementBuilder<Select> builder = getStatementFactory().selectOneById(id, getRequiredPersistentEntity(entityClass),
-				getTableName(entityClass));
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+		StatementBuilder<Select> builder = getStatementFactory().selectOneById(id, entity, tableName);
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
 
-		return selectOne(builder.build(), entityClass);
+		return doCoalescedQuery(builder.build(), (row, rowNum) -> mapper.apply(row)).next();
 	}
 
 	/* (non-Javadoc)
@@ -626,23 +899,42 @@ public class ReactiveCassandraTemplate
 			CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entityToInsert.getClass());
 
 			T entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : entityToInsert;
+			boolean unsetNulls = isUnsetNulls(options, persistentEntity);
 
-			StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options, persistentEntity,
-					tableName);
+			StatementBuilder<RegularInsert> builder = encode(persistentEntity.getType(), () -> getStatementFactory()
+					.insert(entityToUse, options, persistentEntity, tableName, isInsertNulls(options, unsetNulls)));
 
 			if (source.isVersionedEntity()) {
 				builder.apply(Insert::ifNotExists);
-				return doInsertVersioned(builder.build(), entityToUse, source, tableName);
+				return doInsertVersioned(builder.build(), entityToUse, source, tableName, unsetNulls);
 			}
 
-			return doInsert(builder.build(), entityToUse, tableName);
+			return doInsert(builder.build(), entityToUse, tableName, unsetNulls);
 		});
 	}
 
+	private boolean isUnsetNulls(WriteOptions options, CassandraPersistentEntity<?> persistentEntity) {
+		return this.unsetNulls || StatementFactory.isUnsetNulls(options, persistentEntity);
+	}
+
+	/**
+	 * Determine whether to render columns with {@literal null} values. Leaving {@literal null}s unset renders all
+	 * columns when using prepared statements to bind {@literal null}s as unset values and omits {@literal null} columns
+	 * otherwise.
+	 */
+	private boolean isInsertNulls(WriteOptions options, boolean unsetNulls) {
+
+		if (unsetNulls) {
+			return isUsePreparedStatements();
+		}
+
+		return options instanceof InsertOptions && ((InsertOptions) options).isInsertNulls();
+	}
+
 	private <T> Mono<EntityWriteResult<T>> doInsertVersioned(SimpleStatement insert, T entity, AdaptibleEntity<T> source,
-			CqlIdentifier tableName) {
+			CqlIdentifier tableName, boolean unsetNulls) {
 
-		return executeSave(entity, tableName, insert, (result, sink) -> {
+		return executeSave(entity, tableName, insert, unsetNulls, (result, sink) -> {
 
 			if (!result.wasApplied()) {
 
@@ -657,8 +949,9 @@ public class ReactiveCassandraTemplate
 		});
 	}
 
-	private <T> Mono<EntityWriteResult<T>> doInsert(SimpleStatement insert, T entity, CqlIdentifier tableName) {
-		return executeSave(entity, tableName, insert);
+	private <T> Mono<EntityWriteResult<T>> doInsert(SimpleStatement insert, T entity, CqlIdentifier tableName,
+			boolean unsetNulls) {
+		return executeSave(entity, tableName, insert, unsetNulls, (writeResult, sink) -> sink.next(writeResult));
 	}
 
 	/* (non-Javadoc)
@@ -696,10 +989,13 @@ public class ReactiveCassandraTemplate
 		Number previousVersion = source.getVersion();
 		T toSave = source.incrementVersion();
 
-		StatementBuilder<Update> builder = getStatementFactory().update(toSave, options, persistentEntity, tableName);
+		boolean unsetNulls = isUnsetNulls(options, persistentEntity);
+		EntityChangeTracker.Changes changes = getChanges(entity, toSave, persistentEntity);
+		StatementBuilder<Update> builder = encode(persistentEntity.getType(), () -> getStatementFactory().update(toSave, options,
+				persistentEntity, tableName, !unsetNulls || isUsePreparedStatements(), changes));
 		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build();
 
-		return executeSave(toSave, tableName, update, (result, sink) -> {
+		return maybeTrack(executeSave(toSave, tableName, update, unsetNulls, (result, sink) -> {
 
 			if (!result.wasApplied()) {
 
@@ -711,15 +1007,60 @@ public class ReactiveCassandraTemplate
 			}
 
 			sink.next(result);
-		});
+		}), changes, persistentEntity);
 	}
 
 	private <T> Mono<EntityWriteResult<T>> doUpdate(T entity, UpdateOptions options, CqlIdentifier tableName,
 			CassandraPersistentEntity<?> persistentEntity) {
 
-		StatementBuilder<Update> builder = getStatementFactory().update(entity, options, persistentEntity, tableName);
+		EntityChangeTracker.Changes trackedChanges = getChanges(entity, entity, persistentEntity);
+
+		// skipped updates execute no statement and therefore invoke no save callbacks and publish no save events
+		if (EntityChangeTracker.isUnchanged(trackedChanges, options)) {
+			return Mono.just(EntityWriteResult.unchanged(entity));
+		}
 
-		return executeSave(entity, tableName, builder.build());
+		// an unchanged entity is updated in full to apply conditions, TTL or timestamp
+		EntityChangeTracker.Changes changes = trackedChanges != null && trackedChanges.isEmpty() ? null
+				: trackedChanges;
+
+		boolean unsetNulls = isUnsetNulls(options, persistentEntity);
+		StatementBuilder<Update> builder = encode(persistentEntity.getType(), () -> getStatementFactory().update(entity, options,
+				persistentEntity, tableName, !unsetNulls || isUsePreparedStatements(), changes));
+
+		return maybeTrack(executeSave(entity, tableName, builder.build(), unsetNulls,
+				(writeResult, sink) -> sink.next(writeResult)), changes, persistentEntity);
+	}
+
+	@Nullable
+	private EntityChangeTracker.Changes getChanges(Object trackedEntity, Object entityToWrite,
+			CassandraPersistentEntity<?> persistentEntity) {
+		return changeTracker != null
+				? changeTracker.getChanges(trackedEntity, entityToWrite, getConverter(), persistentEntity)
+				: null;
+	}
+
+	private <T> Mono<EntityWriteResult<T>> maybeTrack(Mono<EntityWriteResult<T>> result,
+			@Nullable EntityChangeTracker.Changes changes, CassandraPersistentEntity<?> persistentEntity) {
+
+		EntityChangeTracker changeTracker = this.changeTracker;
+
+		if (changeTracker == null) {
+			return result;
+		}
+
+		return result.doOnNext(writeResult -> {
+
+			if (!writeResult.wasApplied()) {
+				return;
+			}
+
+			if (changes != null) {
+				changeTracker.track(writeResult.getEntity(), changes.getColumns());
+			} else {
+				changeTracker.track(writeResult.getEntity(), getConverter(), persistentEntity);
+			}
+		});
 	}
 
 	/* (non-Javadoc)
@@ -743,7 +1084,8 @@ public class ReactiveCassandraTemplate
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entity.getClass());
 		CqlIdentifier tableName = persistentEntity.getTableName();
 
-		StatementBuilder<Delete> builder = getStatementFactory().delete(entity, options, getConverter(), tableName);
+		StatementBuilder<Delete> builder = encode(persistentEntity.getType(),
+				() -> getStatementFactory().delete(entity, options, getConverter(), tableName));
 
 		return source.isVersionedEntity()
 				? doDeleteVersioned(source.appendVersionCondition(builder).build(), entity, source, tableName)
@@ -851,19 +1193,16 @@ public class ReactiveCassandraTemplate
 	// Implementation hooks and utility methods
 	// -------------------------------------------------------------------------
 
-	private <T> Mono<EntityWriteResult<T>> executeSave(T entity, CqlIdentifier tableName, SimpleStatement statement) {
-		return executeSave(entity, tableName, statement, (writeResult, sink) -> sink.next(writeResult));
-	}
-
 	private <T> Mono<EntityWriteResult<T>> executeSave(T entity, CqlIdentifier tableName, SimpleStatement statement,
-			BiConsumer<EntityWriteResult<T>, SynchronousSink<EntityWriteResult<T>>> handler) {
+			boolean unsetNulls, BiConsumer<EntityWriteResult<T>, SynchronousSink<EntityWriteResult<T>>> handler) {
 
 		return Mono.defer(() -> {
 
 			maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement));
 
 			return maybeCallBeforeSave(entity, tableName, statement).flatMapMany(entityToSave -> {
-				Mono<WriteResult> execute = doExecuteAndFlatMap(statement, ReactiveCassandraTemplate::toWriteResult);
+				Mono<WriteResult> execute = doExecuteAndFlatMap(statement, ReactiveCassandraTemplate::toWriteResult,
+						unsetNulls);
 
 				return execute.map(it -> EntityWriteResult.of(it, entityToSave)).handle(handler) //
 						.doOnNext(it -> maybeEmitEvent(new AfterSaveEvent<>(entityToSave, tableName)));
@@ -887,18 +1226,51 @@ public class ReactiveCassandraTemplate
 
 		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
 
-			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement);
+			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement, preparedStatementCache);
 			return getReactiveCqlOperations().query(statementHandler, statementHandler, rowMapper);
 		}
 
 		return getReactiveCqlOperations().query(statement, rowMapper);
 	}
 
+	private <T> Flux<T> doCoalescedQuery(Statement<?> statement, RowMapper<T> rowMapper) {
+
+		ReadCoalescer readCoalescer = this.readCoalescer;
+		Object key = readCoalescer != null ? StatementKey.of(statement) : null;
+
+		if (key == null) {
+			return doQuery(statement, rowMapper);
+		}
+
+		return doCoalescedQuery(readCoalescer, key, statement).flatMapIterable(it -> ReadCoalescer.map(it, rowMapper));
+	}
+
+	private Mono<List<Row>> doCoalescedQuery(ReadCoalescer readCoalescer, Object key, Statement<?> statement) {
+
+		return Mono.defer(() -> {
+
+			CompletableFuture<List<Row>> flight = new CompletableFuture<>();
+			CompletableFuture<List<Row>> leader = readCoalescer.join(key, flight);
+
+			if (leader != null) {
+
+				// subscribe to a dependent future as cancelling a subscriber cancels the future it subscribed to
+				return Mono.fromFuture(leader.thenApply(it -> it)).onErrorResume(CancellationException.class,
+						e -> doCoalescedQuery(readCoalescer, key, statement));
+			}
+
+			return doQuery(statement, (row, rowNum) -> row).collectList() //
+					.doOnNext(rows -> readCoalescer.complete(key, flight, rows, null)) //
+					.doOnError(e -> readCoalescer.complete(key, flight, null, e)) //
+					.doOnCancel(() -> readCoalescer.complete(key, flight, null, new CancellationException()));
+		});
+	}
+
 	private <T> Mono<T> doExecute(Statement<?> statement, Function<ReactiveResultSet, T> mappingFunction) {
 
 		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
 
-			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement);
+			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement, preparedStatementCache);
 			return getReactiveCqlOperations()
 					.query(statementHandler, statementHandler, rs -> Mono.just(mappingFunction.apply(rs))).next();
 		}
@@ -908,10 +1280,16 @@ public class ReactiveCassandraTemplate
 
 	private <T> Mono<T> doExecuteAndFlatMap(Statement<?> statement,
 			Function<ReactiveResultSet, Mono<T>> mappingFunction) {
+		return doExecuteAndFlatMap(statement, mappingFunction, false);
+	}
+
+	private <T> Mono<T> doExecuteAndFlatMap(Statement<?> statement, Function<ReactiveResultSet, Mono<T>> mappingFunction,
+			boolean unsetNulls) {
 
 		if (PreparedStatementDelegate.canPrepare(isUsePreparedStatements(), statement, logger)) {
 
-			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement);
+			PreparedStatementHandler statementHandler = new PreparedStatementHandler(statement, preparedStatementCache,
+					unsetNulls);
 			return getReactiveCqlOperations().query(statementHandler, statementHandler, mappingFunction::apply).next();
 		}
 
@@ -940,7 +1318,6 @@ public class ReactiveCassandraTemplate
 				.single();
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> Function<Row, T> getMapper(Class<?> entityType, Class<T> targetType, CqlIdentifier tableName) {
 
 		Class<?> typeToRead = resolveTypeToRead(entityType, targetType);
@@ -949,23 +1326,43 @@ public class ReactiveCassandraTemplate
 
 			maybeEmitEvent(new AfterLoadEvent<>(row, targetType, tableName));
 
-			Object source = getConverter().read(typeToRead, row);
-
-			T result = (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+			MappingMetrics mappingMetrics = this.mappingMetrics;
+			T result = mappingMetrics != null ? mappingMetrics.decode(entityType, () -> read(typeToRead, targetType, row))
+					: read(typeToRead, targetType, row);
 
 			if (result != null) {
 				maybeEmitEvent(new AfterConvertEvent<>(row, result, tableName));
 			}
 
+			if (changeTracker != null && result != null && !targetType.isInterface() && typeToRead == entityType) {
+				changeTracker.track(result, getConverter(), getRequiredPersistentEntity(entityType));
+			}
+
 			return result;
 		};
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T read(Class<?> typeToRead, Class<T> targetType, Row row) {
+
+		Object source = getConverter().read(typeToRead, row);
+
+		return (T) (targetType.isInterface() ? getProjectionFactory().createProjection(targetType, source) : source);
+	}
+
 	static Mono<WriteResult> toWriteResult(ReactiveResultSet resultSet) {
 		return resultSet.rows().collectList()
 				.map(rows -> new WriteResult(resultSet.getAllExecutionInfo(), resultSet.wasApplied(), rows));
 	}
 
+	private <T> T encode(Class<?> entityType, Supplier<T> encoder) {
+
+		MappingMetrics mappingMetrics = this.mappingMetrics;
+
+		return mappingMetrics != null ? mappingMetrics.encode(entityType, encoder) : encoder.get();
+	}
+
 	private Class<?> resolveTypeToRead(Class<?> entityType, Class<?> targetType) {
 		return targetType.isInterface() || targetType.isAssignableFrom(entityType) ? entityType : targetType;
 	}
@@ -1018,8 +1415,19 @@ public class ReactiveCassandraTemplate
 
 		private final SimpleStatement statement;
 
-		public PreparedStatementHandler(Statement<?> statement) {
+		private final @Nullable BoundedPreparedStatementCache cache;
+
+		private final boolean unsetNulls;
+
+		public PreparedStatementHandler(Statement<?> statement, @Nullable BoundedPreparedStatementCache cache) {
+			this(statement, cache, false);
+		}
+
+		PreparedStatementHandler(Statement<?> statement, @Nullable BoundedPreparedStatementCache cache,
+				boolean unsetNulls) {
 			this.statement = PreparedStatementDelegate.getStatementForPrepare(statement);
+			this.cache = cache;
+			this.unsetNulls = unsetNulls;
 		}
 
 		/*
@@ -1028,7 +1436,13 @@ public class ReactiveCassandraTemplate
 		 */
 		@Override
 		public Mono<PreparedStatement> createPreparedStatement(ReactiveSession session) throws DriverException {
-			return session.prepare(statement);
+
+			if (cache == null) {
+				return session.prepare(statement);
+			}
+
+			return Mono.fromCompletionStage(() -> cache.getPreparedStatementAsync(session,
+					session.getKeyspace().orElse(null), statement, () -> session.prepare(statement).toFuture()));
 		}
 
 		/*
@@ -1037,7 +1451,10 @@ public class ReactiveCassandraTemplate
 		 */
 		@Override
 		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
-			return PreparedStatementDelegate.bind(statement, ps);
+
+			BoundStatement bound = PreparedStatementDelegate.bind(statement, ps, unsetNulls);
+
+			return cache != null ? PreparedStatementDelegate.applyStatementSettings(statement, bound) : bound;
 		}
 
 		/*
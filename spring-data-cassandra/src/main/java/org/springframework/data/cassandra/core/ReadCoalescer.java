@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.core.cql.RowMapper;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Merges identical reads that are in flight at the same time into a single query. The first caller for a
+ * {@link StatementKey key} runs the query while callers arriving before it completes wait for and share its rows.
+ * Rows are shared, not mapped objects, so each caller maps its own instances. Nothing is retained once the query
+ * completes.
+ *
+ * @since 3.3
+ */
+class ReadCoalescer {
+
+	private final Map<Object, CompletableFuture<List<Row>>> inFlight = new ConcurrentHashMap<>();
+
+	private final LongAdder coalesced = new LongAdder();
+
+	/**
+	 * Run {@code query} unless an identical query is in flight and return its rows. Blocks until the rows are available.
+	 *
+	 * @param key the {@link StatementKey key} of the query.
+	 * @param query the query to run.
+	 * @return the rows.
+	 */
+	List<Row> execute(Object key, Supplier<List<Row>> query) {
+
+		CompletableFuture<List<Row>> flight = new CompletableFuture<>();
+		CompletableFuture<List<Row>> leader = join(key, flight);
+
+		if (leader != null) {
+			return await(leader);
+		}
+
+		List<Row> rows;
+
+		try {
+			rows = query.get();
+		} catch (RuntimeException | Error cause) {
+			complete(key, flight, null, cause);
+			throw cause;
+		}
+
+		complete(key, flight, rows, null);
+
+		return rows;
+	}
+
+	/**
+	 * Run {@code query} asynchronously unless an identical query is in flight and return a future of its rows.
+	 *
+	 * @param key the {@link StatementKey key} of the query.
+	 * @param query the query to run.
+	 * @return a future of the rows. Cancelling the future does not cancel the query.
+	 */
+	CompletableFuture<List<Row>> executeAsync(Object key, Supplier<? extends CompletionStage<List<Row>>> query) {
+
+		CompletableFuture<List<Row>> flight = new CompletableFuture<>();
+		CompletableFuture<List<Row>> leader = join(key, flight);
+
+		if (leader != null) {
+			return leader.thenApply(it -> it);
+		}
+
+		try {
+			query.get().whenComplete((rows, cause) -> complete(key, flight, rows, cause));
+		} catch (RuntimeException | Error cause) {
+			complete(key, flight, null, cause);
+		}
+
+		return flight.thenApply(it -> it);
+	}
+
+	/**
+	 * Register {@code flight} as the in-flight query for {@code key} unless another query is in flight. The caller must
+	 * {@link #complete(Object, CompletableFuture, List, Throwable) complete} a registered flight.
+	 *
+	 * @param key the {@link StatementKey key} of the query.
+	 * @param flight the future to complete with the rows of the query to run.
+	 * @return the future of the query in flight or {@literal null} if {@code flight} was registered.
+	 */
+	@Nullable
+	CompletableFuture<List<Row>> join(Object key, CompletableFuture<List<Row>> flight) {
+
+		CompletableFuture<List<Row>> leader = this.inFlight.putIfAbsent(key, flight);
+
+		if (leader != null) {
+			this.coalesced.increment();
+		}
+
+		return leader;
+	}
+
+	/**
+	 * Complete a {@link #join(Object, CompletableFuture) registered} flight with {@code rows} or {@code cause} and
+	 * release its key so that subsequent reads run a new query.
+	 *
+	 * @param key the {@link StatementKey key} of the query.
+	 * @param flight the registered future.
+	 * @param rows the rows if the query succeeded.
+	 * @param cause the failure if the query failed.
+	 */
+	void complete(Object key, CompletableFuture<List<Row>> flight, @Nullable List<Row> rows, @Nullable Throwable cause) {
+
+		this.inFlight.remove(key, flight);
+
+		if (cause != null) {
+			flight.completeExceptionally(cause);
+		} else {
+			flight.complete(rows);
+		}
+	}
+
+	/**
+	 * @return the number of reads that were served by an identical query in flight.
+	 */
+	long getCoalescedCount() {
+		return this.coalesced.sum();
+	}
+
+	/**
+	 * Map shared {@code rows} to new objects.
+	 *
+	 * @param rows the rows.
+	 * @param rowMapper the mapper to apply.
+	 * @return the mapped objects.
+	 */
+	static <T> List<T> map(List<Row> rows, RowMapper<T> rowMapper) {
+
+		List<T> result = new ArrayList<>(rows.size());
+
+		for (int i = 0; i < rows.size(); i++) {
+			result.add(rowMapper.mapRow(rows.get(i), i));
+		}
+
+		return result;
+	}
+
+	private static List<Row> await(CompletableFuture<List<Row>> leader) {
+
+		try {
+			return leader.join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+}
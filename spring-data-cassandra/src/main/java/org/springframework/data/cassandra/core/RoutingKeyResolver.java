@@ -0,0 +1,288 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.convert.CassandraColumnType;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition.Operators;
+import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+
+/**
+ * Resolves the routing key of an entity. The routing key is the serialized partition key of the entity as used by the
+ * driver to compute the token of a partition. Partition keys consisting of multiple columns are serialized into a
+ * composite routing key. Routing keys can be resolved from an entity, from column values that were already converted to
+ * their column types or from the {@code EQ} restrictions of a mapped {@link Filter}.
+ *
+ * @since 3.3
+ */
+class RoutingKeyResolver {
+
+	private final CassandraConverter converter;
+
+	RoutingKeyResolver(CassandraConverter converter) {
+		this.converter = converter;
+	}
+
+	/**
+	 * Resolve the routing key of the given {@code entity}.
+	 *
+	 * @param entity the entity.
+	 * @param persistentEntity the {@link CassandraPersistentEntity} of the entity.
+	 * @return the routing key or {@literal null} if the partition key cannot be resolved or serialized.
+	 */
+	@Nullable
+	ByteBuffer getRoutingKey(Object entity, CassandraPersistentEntity<?> persistentEntity) {
+
+		List<ByteBuffer> components = new ArrayList<>();
+
+		try {
+			if (!addComponents(persistentEntity.getPropertyAccessor(entity), persistentEntity, components)) {
+				return null;
+			}
+		} catch (RuntimeException e) {
+			return null;
+		}
+
+		return toRoutingKey(components);
+	}
+
+	/**
+	 * Resolve the routing key from column values keyed by column name. Values are expected to be converted to their
+	 * column types already, as written by {@link CassandraConverter#write(Object, Object, CassandraPersistentEntity)}.
+	 *
+	 * @param columns the column values.
+	 * @param persistentEntity the {@link CassandraPersistentEntity} owning the columns.
+	 * @return the routing key or {@literal null} if not all partition key columns have a value or cannot be serialized.
+	 */
+	@Nullable
+	ByteBuffer getRoutingKeyForColumns(Map<CqlIdentifier, Object> columns,
+			CassandraPersistentEntity<?> persistentEntity) {
+
+		return getRoutingKeyForColumns(columns::get, persistentEntity);
+	}
+
+	/**
+	 * Resolve the routing key from positional column values. Values are expected to be converted to their column types
+	 * already.
+	 *
+	 * @param columns the columns.
+	 * @param values the column values in column order.
+	 * @param persistentEntity the {@link CassandraPersistentEntity} owning the columns.
+	 * @return the routing key or {@literal null} if not all partition key columns have a value or cannot be serialized.
+	 */
+	@Nullable
+	ByteBuffer getRoutingKeyForColumns(List<CqlIdentifier> columns, List<Object> values,
+			CassandraPersistentEntity<?> persistentEntity) {
+
+		return getRoutingKeyForColumns(column -> {
+
+			int index = columns.indexOf(column);
+			return index != -1 ? values.get(index) : null;
+		}, persistentEntity);
+	}
+
+	@Nullable
+	private ByteBuffer getRoutingKeyForColumns(Function<CqlIdentifier, Object> columns,
+			CassandraPersistentEntity<?> persistentEntity) {
+
+		List<ByteBuffer> components = new ArrayList<>();
+
+		try {
+			if (!addComponents(columns, persistentEntity, components)) {
+				return null;
+			}
+		} catch (RuntimeException e) {
+			return null;
+		}
+
+		return toRoutingKey(components);
+	}
+
+	/**
+	 * Resolve the routing key from the {@code EQ} restrictions of a {@link Filter} mapped by
+	 * {@link org.springframework.data.cassandra.core.convert.QueryMapper}.
+	 *
+	 * @param filter the mapped {@link Filter}.
+	 * @param persistentEntity the {@link CassandraPersistentEntity} owning the restricted columns.
+	 * @return the routing key or {@literal null} if the filter does not restrict all partition key columns to a single
+	 *         value.
+	 */
+	@Nullable
+	ByteBuffer getRoutingKeyForFilter(Filter filter, CassandraPersistentEntity<?> persistentEntity) {
+
+		Map<CqlIdentifier, Object> columns = new LinkedHashMap<>();
+
+		for (CriteriaDefinition criteriaDefinition : filter) {
+
+			if (criteriaDefinition.getPredicate().getOperator() != Operators.EQ) {
+				continue;
+			}
+
+			criteriaDefinition.getColumnName().getCqlIdentifier()
+					.ifPresent(it -> columns.put(it, criteriaDefinition.getPredicate().getValue()));
+		}
+
+		return columns.isEmpty() ? null : getRoutingKeyForColumns(columns, persistentEntity);
+	}
+
+	@Nullable
+	private static ByteBuffer toRoutingKey(List<ByteBuffer> components) {
+
+		if (components.isEmpty()) {
+			return null;
+		}
+
+		return components.size() == 1 ? components.get(0) : compose(components);
+	}
+
+	private boolean addComponents(PersistentPropertyAccessor<?> accessor, CassandraPersistentEntity<?> entity,
+			List<ByteBuffer> components) {
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				Object key = accessor.getProperty(property);
+
+				if (key == null) {
+					return false;
+				}
+
+				CassandraPersistentEntity<?> keyEntity = converter.getMappingContext().getRequiredPersistentEntity(property);
+
+				if (!addComponents(keyEntity.getPropertyAccessor(key), keyEntity, components)) {
+					return false;
+				}
+
+				continue;
+			}
+
+			boolean partitionKey = property.isPartitionKeyColumn()
+					|| (property.isIdProperty() && !entity.isCompositePrimaryKey());
+
+			if (!partitionKey) {
+				continue;
+			}
+
+			Object value = accessor.getProperty(property);
+
+			if (value == null) {
+				return false;
+			}
+
+			CassandraColumnType columnType = converter.getColumnTypeResolver().resolve(property);
+			ByteBuffer component = encode(converter.convertToColumnType(value, columnType), columnType);
+
+			if (component == null) {
+				return false;
+			}
+
+			components.add(component);
+		}
+
+		return true;
+	}
+
+	private boolean addComponents(Function<CqlIdentifier, Object> columns, CassandraPersistentEntity<?> entity,
+			List<ByteBuffer> components) {
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				CassandraPersistentEntity<?> keyEntity = converter.getMappingContext().getRequiredPersistentEntity(property);
+
+				if (!addComponents(columns, keyEntity, components)) {
+					return false;
+				}
+
+				continue;
+			}
+
+			boolean partitionKey = property.isPartitionKeyColumn()
+					|| (property.isIdProperty() && !entity.isCompositePrimaryKey());
+
+			if (!partitionKey) {
+				continue;
+			}
+
+			Object value = columns.apply(property.getRequiredColumnName());
+
+			if (value == null) {
+				return false;
+			}
+
+			ByteBuffer component = encode(value, converter.getColumnTypeResolver().resolve(property));
+
+			if (component == null) {
+				return false;
+			}
+
+			components.add(component);
+		}
+
+		return true;
+	}
+
+	@Nullable
+	private ByteBuffer encode(Object columnValue, CassandraColumnType columnType) {
+
+		TypeCodec<Object> codec = converter.getCodecRegistry().codecFor(columnType.getDataType(), columnValue);
+
+		return codec.encode(columnValue, ProtocolVersion.DEFAULT);
+	}
+
+	/**
+	 * Compose a routing key from multiple components. Each component is serialized as its length (unsigned short), its
+	 * bytes and a trailing zero byte.
+	 */
+	private static ByteBuffer compose(List<ByteBuffer> components) {
+
+		int size = 0;
+
+		for (ByteBuffer component : components) {
+			size += 2 + component.remaining() + 1;
+		}
+
+		ByteBuffer routingKey = ByteBuffer.allocate(size);
+
+		for (ByteBuffer component : components) {
+			routingKey.putShort((short) component.remaining());
+			routingKey.put(component.duplicate());
+			routingKey.put((byte) 0);
+		}
+
+		routingKey.flip();
+
+		return routingKey;
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Options for full table scans split into token ranges. A scan splits the token ring into the token ranges of the
+ * cluster (optionally split further into {@link #getSplitsPerRange() splits per range}) and queries each range using
+ * {@code token(…) > ? AND token(…) <= ?} restrictions. Ranges are queried concurrently, bounded by
+ * {@link #getConcurrency()}, and each range query is routed to a replica of its token range.
+ *
+ * @since 3.3
+ * @see CassandraOperations#scan(Class, ScanOptions)
+ * @see ReactiveCassandraOperations#scan(Class, ScanOptions)
+ */
+public class ScanOptions {
+
+	private static final ScanOptions EMPTY = new ScanOptionsBuilder().build();
+
+	private final int concurrency;
+
+	private final int splitsPerRange;
+
+	private final QueryOptions queryOptions;
+
+	private ScanOptions(int concurrency, int splitsPerRange, QueryOptions queryOptions) {
+		this.concurrency = concurrency;
+		this.splitsPerRange = splitsPerRange;
+		this.queryOptions = queryOptions;
+	}
+
+	/**
+	 * Create a new {@link ScanOptionsBuilder}.
+	 *
+	 * @return a new {@link ScanOptionsBuilder}.
+	 */
+	public static ScanOptionsBuilder builder() {
+		return new ScanOptionsBuilder();
+	}
+
+	/**
+	 * Create default {@link ScanOptions}.
+	 *
+	 * @return default {@link ScanOptions}.
+	 */
+	public static ScanOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link ScanOptionsBuilder} to mutate properties of this {@link ScanOptions}.
+	 *
+	 * @return a new {@link ScanOptionsBuilder} initialized with this {@link ScanOptions}.
+	 */
+	public ScanOptionsBuilder mutate() {
+		return new ScanOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the maximum number of token ranges to query concurrently.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * @return the number of splits of each token range.
+	 */
+	public int getSplitsPerRange() {
+		return this.splitsPerRange;
+	}
+
+	/**
+	 * @return the {@link QueryOptions} to apply to each token range query.
+	 */
+	public QueryOptions getQueryOptions() {
+		return this.queryOptions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof ScanOptions)) {
+			return false;
+		}
+
+		ScanOptions that = (ScanOptions) o;
+
+		if (concurrency != that.concurrency) {
+			return false;
+		}
+
+		if (splitsPerRange != that.splitsPerRange) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(queryOptions, that.queryOptions);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		int result = concurrency;
+		result = 31 * result + splitsPerRange;
+		result = 31 * result + ObjectUtils.nullSafeHashCode(queryOptions);
+		return result;
+	}
+
+	/**
+	 * Builder for {@link ScanOptions}.
+	 */
+	public static class ScanOptionsBuilder {
+
+		private int concurrency = Runtime.getRuntime().availableProcessors();
+
+		private int splitsPerRange = 1;
+
+		private QueryOptions queryOptions = QueryOptions.empty();
+
+		private ScanOptionsBuilder() {}
+
+		private ScanOptionsBuilder(ScanOptions scanOptions) {
+
+			this.concurrency = scanOptions.concurrency;
+			this.splitsPerRange = scanOptions.splitsPerRange;
+			this.queryOptions = scanOptions.queryOptions;
+		}
+
+		/**
+		 * Set the maximum number of token ranges to query concurrently. Defaults to the number of available processors.
+		 *
+		 * @param concurrency the maximum number of concurrent range queries, must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Set the number of splits of each token range of the cluster. Splitting token ranges creates smaller range
+		 * queries which allows a higher parallelism for clusters with a small number of token ranges. Defaults to
+		 * {@code 1}.
+		 *
+		 * @param splitsPerRange the number of splits per token range, must be greater than zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder splitsPerRange(int splitsPerRange) {
+
+			Assert.isTrue(splitsPerRange > 0, "Splits per range must be greater than zero");
+
+			this.splitsPerRange = splitsPerRange;
+
+			return this;
+		}
+
+		/**
+		 * Set the {@link QueryOptions} to apply to each token range query.
+		 *
+		 * @param queryOptions must not be {@literal null}.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder queryOptions(QueryOptions queryOptions) {
+
+			Assert.notNull(queryOptions, "QueryOptions must not be null");
+
+			this.queryOptions = queryOptions;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link ScanOptions} with the configured values.
+		 *
+		 * @return a new {@link ScanOptions} with the configured values
+		 */
+		public ScanOptions build() {
+			return new ScanOptions(this.concurrency, this.splitsPerRange, this.queryOptions);
+		}
+	}
+}
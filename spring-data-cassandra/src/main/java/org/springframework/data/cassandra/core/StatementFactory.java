@@ -16,14 +16,18 @@
 package org.springframework.data.cassandra.core;
 
 import java.beans.PropertyDescriptor;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -37,6 +41,8 @@ import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.cql.util.TermFactory;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.mapping.UnsetNulls;
 import org.springframework.data.cassandra.core.query.Columns;
 import org.springframework.data.cassandra.core.query.Columns.ColumnSelector;
 import org.springframework.data.cassandra.core.query.Columns.FunctionCall;
@@ -66,9 +72,15 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.MapType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.querybuilder.BuildableQuery;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.condition.Condition;
 import com.datastax.oss.driver.api.querybuilder.condition.ConditionBuilder;
@@ -106,6 +118,8 @@ public class StatementFactory {
 
 	private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
+	private final RoutingKeyResolver routingKeyResolver;
+
 	/**
 	 * Create {@link StatementFactory} given {@link CassandraConverter}.
 	 *
@@ -116,6 +130,7 @@ public class StatementFactory {
 
 		Assert.notNull(converter, "CassandraConverter must not be null");
 		this.cassandraConverter = converter;
+		this.routingKeyResolver = new RoutingKeyResolver(converter);
 
 		UpdateMapper updateMapper = new UpdateMapper(converter);
 		this.queryMapper = updateMapper;
@@ -143,6 +158,7 @@ public class StatementFactory {
 		Assert.notNull(updateMapper, "UpdateMapper must not be null");
 
 		this.cassandraConverter = queryMapper.getConverter();
+		this.routingKeyResolver = new RoutingKeyResolver(this.cassandraConverter);
 		this.queryMapper = queryMapper;
 		this.updateMapper = updateMapper;
 	}
@@ -217,8 +233,74 @@ public class StatementFactory {
 
 		cassandraConverter.write(id, where, persistentEntity);
 
-		return StatementBuilder.of(QueryBuilder.selectFrom(tableName).all().limit(1))
+		StatementBuilder<Select> builder = StatementBuilder.of(QueryBuilder.selectFrom(tableName).all().limit(1))
 				.bind((statement, factory) -> statement.where(toRelations(where, factory)));
+
+		setIdempotent(builder, true);
+		route(builder, routingKeyResolver.getRoutingKeyForColumns(where, persistentEntity), null);
+
+		return builder;
+	}
+
+	/**
+	 * Create a {@literal SELECT} statement selecting all rows of the token range {@code (lowerBound, upperBound]}. Token
+	 * bounds are CQL literals as formatted by {@link com.datastax.oss.driver.api.core.metadata.TokenMap#format}.
+	 *
+	 * @param persistentEntity must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @param lowerBound the exclusive lower token bound, can be {@literal null} to select from the start of the ring.
+	 * @param upperBound the inclusive upper token bound, can be {@literal null} to select to the end of the ring.
+	 * @return the select builder.
+	 * @since 3.3
+	 */
+	StatementBuilder<Select> selectTokenRange(CassandraPersistentEntity<?> persistentEntity, CqlIdentifier tableName,
+			@Nullable String lowerBound, @Nullable String upperBound) {
+
+		Assert.notNull(persistentEntity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(tableName, "Table name must not be null");
+
+		CqlIdentifier[] partitionKey = getPartitionKeyColumns(persistentEntity).toArray(new CqlIdentifier[0]);
+
+		if (partitionKey.length == 0) {
+			throw new IllegalArgumentException(
+					String.format("No partition key columns found in entity [%s]", persistentEntity.getType()));
+		}
+
+		Select select = QueryBuilder.selectFrom(tableName).all();
+
+		if (lowerBound != null) {
+			select = select.whereToken(partitionKey).isGreaterThan(QueryBuilder.raw(lowerBound));
+		}
+
+		if (upperBound != null) {
+			select = select.whereToken(partitionKey).isLessThanOrEqualTo(QueryBuilder.raw(upperBound));
+		}
+
+		return setIdempotent(StatementBuilder.of(select), true);
+	}
+
+	private List<CqlIdentifier> getPartitionKeyColumns(CassandraPersistentEntity<?> persistentEntity) {
+
+		List<CqlIdentifier> partitionKey = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : persistentEntity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				CassandraPersistentEntity<?> primaryKeyEntity = cassandraConverter.getMappingContext()
+						.getRequiredPersistentEntity(property);
+
+				for (CassandraPersistentProperty primaryKeyProperty : primaryKeyEntity) {
+					if (primaryKeyProperty.isPartitionKeyColumn()) {
+						partitionKey.add(primaryKeyProperty.getRequiredColumnName());
+					}
+				}
+			} else if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+				partitionKey.add(property.getRequiredColumnName());
+			}
+		}
+
+		return partitionKey;
 	}
 
 	/**
@@ -289,23 +371,52 @@ public class StatementFactory {
 	StatementBuilder<RegularInsert> insert(Object objectToInsert, WriteOptions options,
 			CassandraPersistentEntity<?> persistentEntity, CqlIdentifier tableName) {
 
+		boolean insertNulls = options instanceof InsertOptions && ((InsertOptions) options).isInsertNulls();
+
+		return insert(objectToInsert, options, persistentEntity, tableName,
+				insertNulls && !isUnsetNulls(options, persistentEntity));
+	}
+
+	/**
+	 * Creates a Query Object for an insert.
+	 *
+	 * @param objectToInsert the object to save, must not be {@literal null}.
+	 * @param options optional {@link WriteOptions} to apply to the {@link Insert} statement, may be {@literal null}.
+	 * @param persistentEntity the {@link CassandraPersistentEntity} to write insert values.
+	 * @param tableName the table name, must not be empty and not {@literal null}.
+	 * @param insertNulls whether to render columns with {@literal null} values.
+	 * @return the insert builder.
+	 * @since 3.3
+	 */
+	StatementBuilder<RegularInsert> insert(Object objectToInsert, WriteOptions options,
+			CassandraPersistentEntity<?> persistentEntity, CqlIdentifier tableName, boolean insertNulls) {
+
 		Assert.notNull(tableName, "TableName must not be null");
 		Assert.notNull(objectToInsert, "Object to insert must not be null");
 		Assert.notNull(persistentEntity, "CassandraPersistentEntity must not be null");
 		Assert.notNull(tableName, "Table name must not be null");
 
-		boolean insertNulls;
-		if (options instanceof InsertOptions) {
-
-			InsertOptions insertOptions = (InsertOptions) options;
-			insertNulls = insertOptions.isInsertNulls();
-		} else {
-			insertNulls = false;
-		}
-
 		Map<CqlIdentifier, Object> object = new LinkedHashMap<>();
 		cassandraConverter.write(objectToInsert, object, persistentEntity);
 
+		return insertColumns(object, options, persistentEntity, tableName, insertNulls);
+	}
+
+	/**
+	 * Creates a Query Object for an insert of column values that were already converted to their column types, as
+	 * written by {@link CassandraConverter#write(Object, Object, CassandraPersistentEntity)}.
+	 *
+	 * @param object the column values to insert, must not be {@literal null}.
+	 * @param options optional {@link WriteOptions} to apply to the {@link Insert} statement, may be {@literal null}.
+	 * @param persistentEntity the {@link CassandraPersistentEntity} owning the columns.
+	 * @param tableName the table name, must not be empty and not {@literal null}.
+	 * @param insertNulls whether to render columns with {@literal null} values.
+	 * @return the insert builder.
+	 * @since 3.3
+	 */
+	StatementBuilder<RegularInsert> insertColumns(Map<CqlIdentifier, Object> object, WriteOptions options,
+			CassandraPersistentEntity<?> persistentEntity, CqlIdentifier tableName, boolean insertNulls) {
+
 		StatementBuilder<RegularInsert> builder = StatementBuilder
 				.of(QueryBuilder.insertInto(tableName).valuesByIds(Collections.emptyMap())).bind((statement, factory) -> {
 
@@ -314,11 +425,37 @@ public class StatementFactory {
 					return statement.valuesByIds(values);
 				}).apply(statement -> (RegularInsert) addWriteOptions(statement, options));
 
+		setIdempotent(builder, isIdempotent(options));
 		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
 
+		route(builder, routingKeyResolver.getRoutingKeyForColumns(object, persistentEntity), options);
+
 		return builder;
 	}
 
+	/**
+	 * Determine whether {@literal null} values of {@code entity} should be left unset instead of writing {@literal null}s
+	 * considering {@link InsertOptions#isUnsetNulls()}, {@link UpdateOptions#isUnsetNulls()} and the
+	 * {@link UnsetNulls @UnsetNulls} annotation.
+	 *
+	 * @param options the {@link WriteOptions} to inspect.
+	 * @param entity the {@link CassandraPersistentEntity} to inspect.
+	 * @return {@literal true} to leave {@literal null} values unset.
+	 * @since 3.3
+	 */
+	static boolean isUnsetNulls(@Nullable QueryOptions options, CassandraPersistentEntity<?> entity) {
+
+		if (options instanceof InsertOptions && ((InsertOptions) options).isUnsetNulls()) {
+			return true;
+		}
+
+		if (options instanceof UpdateOptions && ((UpdateOptions) options).isUnsetNulls()) {
+			return true;
+		}
+
+		return entity.isAnnotationPresent(UnsetNulls.class);
+	}
+
 	private static Map<CqlIdentifier, Term> createTerms(boolean insertNulls, Map<CqlIdentifier, Object> object,
 			TermFactory factory) {
 
@@ -383,9 +520,14 @@ public class StatementFactory {
 		query.getQueryOptions().filter(WriteOptions.class::isInstance).map(WriteOptions.class::cast)
 				.ifPresent(writeOptions -> builder.apply(statement -> addWriteOptions(statement, writeOptions)));
 
+		setIdempotent(builder, isIdempotent(mappedUpdate) && isIdempotent(query.getQueryOptions().orElse(null)));
+
 		query.getQueryOptions().ifPresent(
 				options -> builder.transform(statementBuilder -> QueryOptionsUtil.addQueryOptions(statementBuilder, options)));
 
+		route(builder, routingKeyResolver.getRoutingKeyForFilter(filter, persistentEntity),
+				query.getQueryOptions().orElse(null));
+
 		return builder;
 	}
 
@@ -428,6 +570,51 @@ public class StatementFactory {
 		Assert.notNull(options, "WriteOptions must not be null");
 		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
 
+		return update(objectToUpdate, options, entity, tableName, !isUnsetNulls(options, entity));
+	}
+
+	/**
+	 * Create an {@literal UPDATE} statement by mapping {@code objectToUpdate} to {@link Update} considering
+	 * {@link UpdateOptions}. Assignments of {@literal null} values are only omitted if at least one non-{@literal null}
+	 * assignment remains.
+	 *
+	 * @param objectToUpdate must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @param includeNulls whether to render assignments of {@literal null} values.
+	 * @return the update builder.
+	 * @since 3.3
+	 */
+	StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update(Object objectToUpdate,
+			WriteOptions options, CassandraPersistentEntity<?> entity, CqlIdentifier tableName, boolean includeNulls) {
+		return update(objectToUpdate, options, entity, tableName, includeNulls, null);
+	}
+
+	/**
+	 * Create an {@literal UPDATE} statement by mapping {@code objectToUpdate} to {@link Update} considering
+	 * {@link UpdateOptions}. Given {@link EntityChangeTracker.Changes}, only changed columns are assigned and changes of
+	 * non-frozen collections are written as element-level delta ({@code col = col + ?}, {@code col = col - ?}) to avoid
+	 * overwriting the entire collection.
+	 *
+	 * @param objectToUpdate must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @param includeNulls whether to render assignments of {@literal null} values.
+	 * @param changes changes since the entity was read, can be {@literal null} to assign all columns.
+	 * @return the update builder.
+	 * @since 3.3
+	 */
+	StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update(Object objectToUpdate,
+			WriteOptions options, CassandraPersistentEntity<?> entity, CqlIdentifier tableName, boolean includeNulls,
+			@Nullable EntityChangeTracker.Changes changes) {
+
+		Assert.notNull(tableName, "TableName must not be null");
+		Assert.notNull(objectToUpdate, "Object to builder must not be null");
+		Assert.notNull(options, "WriteOptions must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
 		Where where = new Where();
 		cassandraConverter.write(objectToUpdate, where, entity);
 
@@ -435,18 +622,60 @@ public class StatementFactory {
 		cassandraConverter.write(objectToUpdate, object, entity);
 		where.forEach((cqlIdentifier, o) -> object.remove(cqlIdentifier));
 
+		Map<CqlIdentifier, Object> additions = new LinkedHashMap<>();
+		Map<CqlIdentifier, Object> removals = new LinkedHashMap<>();
+
+		if (changes != null) {
+			object.keySet().removeIf(column -> !changes.isChanged(column));
+			computeCollectionDeltas(object, changes, entity, additions, removals);
+		}
+
+		if (!includeNulls && (!additions.isEmpty() || !removals.isEmpty()
+				|| object.values().stream().anyMatch(Objects::nonNull))) {
+			object.values().removeIf(Objects::isNull);
+		}
+
+		return update(object, additions, removals, where, options, entity, tableName);
+	}
+
+	/**
+	 * Create an {@literal UPDATE} statement assigning column values that were already converted to their column types,
+	 * as written by {@link CassandraConverter#write(Object, Object, CassandraPersistentEntity)}.
+	 *
+	 * @param object the column values to assign, must not be {@literal null}.
+	 * @param where the primary key column values, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @param entity the {@link CassandraPersistentEntity} owning the columns.
+	 * @param tableName must not be {@literal null}.
+	 * @return the update builder.
+	 * @since 3.3
+	 */
+	StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> updateColumns(
+			Map<CqlIdentifier, Object> object, Where where, WriteOptions options, CassandraPersistentEntity<?> entity,
+			CqlIdentifier tableName) {
+		return update(object, Collections.emptyMap(), Collections.emptyMap(), where, options, entity, tableName);
+	}
+
+	private StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update(
+			Map<CqlIdentifier, Object> object, Map<CqlIdentifier, Object> additions, Map<CqlIdentifier, Object> removals,
+			Where where, WriteOptions options, CassandraPersistentEntity<?> entity, CqlIdentifier tableName) {
+
 		StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> builder = StatementBuilder
 				.of(QueryBuilder.update(tableName).set().where())
-				.bind((statement, factory) -> ((UpdateWithAssignments) statement).set(toAssignments(object, factory))
-						.where(toRelations(where, factory)))
+				.bind((statement, factory) -> ((UpdateWithAssignments) statement)
+						.set(toAssignments(object, additions, removals, factory)).where(toRelations(where, factory)))
 				.apply(update -> addWriteOptions(update, options));
 
 		Optional.of(options).filter(UpdateOptions.class::isInstance).map(UpdateOptions.class::cast)
 				.map(UpdateOptions::getIfCondition)
 				.ifPresent(criteriaDefinitions -> applyUpdateIfCondition(builder, criteriaDefinitions));
 
+		// list appends are not idempotent
+		setIdempotent(builder, isIdempotent(options) && additions.values().stream().noneMatch(List.class::isInstance));
 		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
 
+		route(builder, routingKeyResolver.getRoutingKeyForColumns(where, entity), options);
+
 		return builder;
 	}
 
@@ -466,8 +695,13 @@ public class StatementFactory {
 
 		cassandraConverter.write(id, where, persistentEntity);
 
-		return StatementBuilder.of(QueryBuilder.deleteFrom(tableName).where())
+		StatementBuilder<Delete> builder = StatementBuilder.of(QueryBuilder.deleteFrom(tableName).where())
 				.bind((statement, factory) -> statement.where(toRelations(where, factory)));
+
+		setIdempotent(builder, true);
+		route(builder, routingKeyResolver.getRoutingKeyForColumns(where, persistentEntity), null);
+
+		return builder;
 	}
 
 	/**
@@ -513,9 +747,14 @@ public class StatementFactory {
 		query.getQueryOptions().filter(WriteOptions.class::isInstance).map(WriteOptions.class::cast)
 				.ifPresent(writeOptions -> builder.apply(statement -> addWriteOptions(statement, writeOptions)));
 
+		setIdempotent(builder, isIdempotent(query.getQueryOptions().orElse(null)));
+
 		query.getQueryOptions()
 				.ifPresent(options -> builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options)));
 
+		route(builder, routingKeyResolver.getRoutingKeyForFilter(filter, persistentEntity),
+				query.getQueryOptions().orElse(null));
+
 		return builder;
 	}
 
@@ -549,8 +788,16 @@ public class StatementFactory {
 				.map(DeleteOptions::getIfCondition)
 				.ifPresent(criteriaDefinitions -> applyDeleteIfCondition(builder, criteriaDefinitions));
 
+		setIdempotent(builder, isIdempotent(options));
 		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
 
+		CassandraPersistentEntity<?> persistentEntity = cassandraConverter.getMappingContext()
+				.getPersistentEntity(ClassUtils.getUserClass(entity));
+
+		if (persistentEntity != null) {
+			route(builder, routingKeyResolver.getRoutingKeyForColumns(where, persistentEntity), options);
+		}
+
 		return builder;
 	}
 
@@ -608,13 +855,112 @@ public class StatementFactory {
 		}
 
 		select.onBuild(statementBuilder -> query.getPagingState().ifPresent(statementBuilder::setPagingState));
+		setIdempotent(select, true);
 
 		query.getQueryOptions()
 				.ifPresent(it -> select.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, it)));
 
+		route(select, routingKeyResolver.getRoutingKeyForFilter(filter, entity), query.getQueryOptions().orElse(null));
+
 		return select;
 	}
 
+	/**
+	 * Resolve the routing key of a statement binding positional {@code values} to {@code columns}. Values are expected to
+	 * be converted to their column types already.
+	 *
+	 * @param columns the bound columns.
+	 * @param values the bound values in column order.
+	 * @param persistentEntity the {@link CassandraPersistentEntity} owning the columns.
+	 * @return the routing key or {@literal null} if the values do not contain all partition key columns.
+	 * @since 3.3
+	 */
+	@Nullable
+	ByteBuffer getRoutingKey(List<CqlIdentifier> columns, List<Object> values,
+			CassandraPersistentEntity<?> persistentEntity) {
+		return routingKeyResolver.getRoutingKeyForColumns(columns, values, persistentEntity);
+	}
+
+	/**
+	 * Route statements built by {@code builder} to the partition identified by {@code routingKey}. Simple statements do
+	 * not carry partition key metadata, so the driver cannot compute their token and pick a replica as coordinator
+	 * unless the routing key is set explicitly.
+	 *
+	 * @param builder the {@link StatementBuilder} to route.
+	 * @param routingKey the routing key, can be {@literal null} if the partition is not known.
+	 * @param options the {@link QueryOptions} providing the routing keyspace, can be {@literal null}.
+	 */
+	private static void route(StatementBuilder<?> builder, @Nullable ByteBuffer routingKey,
+			@Nullable QueryOptions options) {
+
+		if (routingKey == null) {
+			return;
+		}
+
+		builder.onBuild(statementBuilder -> {
+
+			statementBuilder.setRoutingKey(routingKey);
+
+			if (options != null && options.getKeyspace() != null) {
+				statementBuilder.setRoutingKeyspace(options.getKeyspace());
+			}
+		});
+	}
+
+	/**
+	 * Mark statements built by {@code builder} as idempotent or non-idempotent. The driver retries and speculatively
+	 * executes only idempotent statements. {@link QueryOptions#getIdempotent() Idempotence configured through query
+	 * options} takes precedence as query options are applied after building the statement.
+	 *
+	 * @param builder the {@link StatementBuilder}.
+	 * @param idempotent whether the statement is idempotent.
+	 * @return the {@link StatementBuilder}.
+	 */
+	private static <S extends BuildableQuery> StatementBuilder<S> setIdempotent(StatementBuilder<S> builder,
+			boolean idempotent) {
+		return builder.onBuild(statementBuilder -> statementBuilder.setIdempotence(idempotent));
+	}
+
+	/**
+	 * Lightweight transactions are not idempotent as the condition may evaluate differently when applying a statement
+	 * again.
+	 */
+	private static boolean isIdempotent(@Nullable QueryOptions options) {
+
+		if (options instanceof InsertOptions) {
+			return !((InsertOptions) options).isIfNotExists();
+		}
+
+		if (options instanceof UpdateOptions) {
+			return !((UpdateOptions) options).isIfExists() && ((UpdateOptions) options).getIfCondition() == null;
+		}
+
+		if (options instanceof DeleteOptions) {
+			return !((DeleteOptions) options).isIfExists() && ((DeleteOptions) options).getIfCondition() == null;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Counter updates and list appends or prepends are not idempotent as applying them again changes the result.
+	 */
+	private static boolean isIdempotent(Update update) {
+
+		for (AssignmentOp assignmentOp : update.getUpdateOperations()) {
+
+			if (assignmentOp instanceof IncrOp) {
+				return false;
+			}
+
+			if (assignmentOp instanceof AddToOp && !(((AddToOp) assignmentOp).getValue() instanceof Set)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private static StatementBuilder<Select> createSelectAndOrder(List<Selector> selectors, CqlIdentifier from,
 			Filter filter, Sort sort) {
 
@@ -729,6 +1075,121 @@ public class StatementFactory {
 		return assignments;
 	}
 
+	private static Iterable<Assignment> toAssignments(Map<CqlIdentifier, Object> object,
+			Map<CqlIdentifier, Object> additions, Map<CqlIdentifier, Object> removals, TermFactory factory) {
+
+		List<Assignment> assignments = (List<Assignment>) toAssignments(object, factory);
+
+		additions.forEach((cqlIdentifier, termValue) -> assignments
+				.add(Assignment.append(cqlIdentifier, factory.create(termValue))));
+		removals.forEach((cqlIdentifier, termValue) -> assignments
+				.add(Assignment.remove(cqlIdentifier, factory.create(termValue))));
+
+		return assignments;
+	}
+
+	/**
+	 * Replace assignments of changed non-frozen collection columns in {@code object} with element-level deltas against
+	 * the previous value. Sets and maps are written as additions and removals. Lists are only written as delta if
+	 * elements were appended to the previous list. Collections that were or became {@literal null} are assigned
+	 * entirely.
+	 */
+	@SuppressWarnings("unchecked")
+	private void computeCollectionDeltas(Map<CqlIdentifier, Object> object, EntityChangeTracker.Changes changes,
+			CassandraPersistentEntity<?> entity, Map<CqlIdentifier, Object> additions,
+			Map<CqlIdentifier, Object> removals) {
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (!(property.isCollectionLike() || property.isMap()) || property.getColumnName() == null
+					|| !object.containsKey(property.getRequiredColumnName())) {
+				continue;
+			}
+
+			CqlIdentifier column = property.getRequiredColumnName();
+			Object previous = changes.getPreviousValue(column);
+			Object current = object.get(column);
+
+			if (previous == null || current == null || !isNonFrozenCollection(property)) {
+				continue;
+			}
+
+			if (previous instanceof Set && current instanceof Set) {
+
+				Set<Object> added = new LinkedHashSet<>((Set<Object>) current);
+				added.removeAll((Set<Object>) previous);
+
+				Set<Object> removed = new LinkedHashSet<>((Set<Object>) previous);
+				removed.removeAll((Set<Object>) current);
+
+				object.remove(column);
+				putIfNotEmpty(additions, column, added);
+				putIfNotEmpty(removals, column, removed);
+			}
+
+			if (previous instanceof Map && current instanceof Map) {
+
+				Map<Object, Object> previousMap = (Map<Object, Object>) previous;
+				Map<Object, Object> put = new LinkedHashMap<>();
+
+				((Map<Object, Object>) current).forEach((key, value) -> {
+					if (!previousMap.containsKey(key) || !ObjectUtils.nullSafeEquals(previousMap.get(key), value)) {
+						put.put(key, value);
+					}
+				});
+
+				Set<Object> removed = new LinkedHashSet<>(previousMap.keySet());
+				removed.removeAll(((Map<Object, Object>) current).keySet());
+
+				object.remove(column);
+				putIfNotEmpty(additions, column, put);
+				putIfNotEmpty(removals, column, removed);
+			}
+
+			if (previous instanceof List && current instanceof List) {
+
+				List<Object> previousList = (List<Object>) previous;
+				List<Object> currentList = (List<Object>) current;
+
+				if (currentList.size() > previousList.size()
+						&& currentList.subList(0, previousList.size()).equals(previousList)) {
+
+					object.remove(column);
+					additions.put(column, new ArrayList<>(currentList.subList(previousList.size(), currentList.size())));
+				}
+			}
+		}
+	}
+
+	private boolean isNonFrozenCollection(CassandraPersistentProperty property) {
+
+		DataType dataType = cassandraConverter.getColumnTypeResolver().resolve(property).getDataType();
+
+		if (dataType instanceof ListType) {
+			return !((ListType) dataType).isFrozen();
+		}
+
+		if (dataType instanceof SetType) {
+			return !((SetType) dataType).isFrozen();
+		}
+
+		if (dataType instanceof MapType) {
+			return !((MapType) dataType).isFrozen();
+		}
+
+		return false;
+	}
+
+	private static void putIfNotEmpty(Map<CqlIdentifier, Object> target, CqlIdentifier column, Object collection) {
+
+		boolean empty = collection instanceof Collection ? ((Collection<?>) collection).isEmpty()
+				: ((Map<?, ?>) collection).isEmpty();
+
+		if (!empty) {
+			target.put(column, collection);
+		}
+	}
+
 	private static void applyUpdateIfCondition(
 			StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update, Filter criteriaDefinitions) {
 
@@ -930,6 +1391,26 @@ public class StatementFactory {
 		return deleteToUse;
 	}
 
+	/**
+	 * Determine whether the relation for {@code criteriaDefinition} renders its value as bind marker. Values of
+	 * {@code IN} criteria with multiple values are rendered as literals.
+	 *
+	 * @param criteriaDefinition the mapped criteria.
+	 * @return {@literal true} if the value of {@code criteriaDefinition} is bound to a bind marker.
+	 * @since 3.3
+	 */
+	static boolean hasBindMarker(CriteriaDefinition criteriaDefinition) {
+
+		AtomicBoolean bindMarker = new AtomicBoolean();
+
+		toClause(criteriaDefinition, value -> {
+			bindMarker.set(true);
+			return QueryBuilder.bindMarker();
+		});
+
+		return bindMarker.get();
+	}
+
 	private static Relation toClause(CriteriaDefinition criteriaDefinition, TermFactory factory) {
 
 		CqlIdentifier columnName = criteriaDefinition.getColumnName().getCqlIdentifier()
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Arrays;
+
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Utility to derive a key identifying the result of a read {@link Statement}. Statements yielding the same key read
+ * the same rows at the time of execution.
+ *
+ * @since 3.3
+ * @see QueryResultCache
+ * @see ReadCoalescer
+ */
+final class StatementKey {
+
+	private StatementKey() {}
+
+	/**
+	 * Create the key for {@code statement} from its CQL, bound values, keyspace, consistency level and execution
+	 * profile. Only {@link SimpleStatement simple} and {@link BoundStatement bound} statements without a paging state
+	 * have a key.
+	 *
+	 * @param statement the statement to execute.
+	 * @return the key or {@literal null} if the result of {@code statement} cannot be identified.
+	 */
+	@Nullable
+	static Object of(Statement<?> statement) {
+
+		if (statement.getPagingState() != null) {
+			return null;
+		}
+
+		if (statement instanceof SimpleStatement) {
+
+			SimpleStatement simpleStatement = (SimpleStatement) statement;
+
+			return Arrays.asList(simpleStatement.getQuery(), simpleStatement.getPositionalValues(),
+					simpleStatement.getNamedValues(), statement.getKeyspace(), statement.getConsistencyLevel(),
+					statement.getExecutionProfileName(), statement.getExecutionProfile());
+		}
+
+		if (statement instanceof BoundStatement) {
+
+			BoundStatement boundStatement = (BoundStatement) statement;
+
+			return Arrays.asList(boundStatement.getPreparedStatement().getQuery(), boundStatement.getValues(),
+					statement.getKeyspace(), statement.getConsistencyLevel(), statement.getExecutionProfileName(),
+					statement.getExecutionProfile());
+		}
+
+		return null;
+	}
+}
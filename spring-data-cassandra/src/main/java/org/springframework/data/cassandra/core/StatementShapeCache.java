@@ -0,0 +1,427 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
+import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatementBuilder;
+
+/**
+ * Cache for entity write statement shapes. A shape is determined by the entity type, the table name, the columns to
+ * write (non-{@literal null} column mask) and the {@link WriteOptions} rendered into the CQL, that is the
+ * {@link WriteOptions#getTtl() TTL} and {@code IF EXISTS}/{@code IF NOT EXISTS} conditions. Statements sharing the same
+ * shape render the same CQL so subsequent writes can reuse the rendered CQL and its {@link PreparedStatement} and only
+ * bind values positionally. {@link QueryOptions} such as consistency levels or timeouts are applied to each bound
+ * statement and do not contribute to the shape.
+ * <p>
+ * Writes using a {@link WriteOptions#getTimestamp() timestamp} are not cached as the timestamp is rendered into the CQL
+ * and typically changes with each write. The cache is bounded by the number of shapes and evicts the least recently
+ * used shape once the limit is exceeded. Lookups update the recency order only if its lock is uncontended so that
+ * lookups never block.
+ *
+ * @since 3.3
+ */
+class StatementShapeCache {
+
+	static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private final Map<ShapeKey, StatementShape> shapes = new ConcurrentHashMap<>();
+
+	private final Map<ShapeKey, StatementShape> order = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final int cacheLimit;
+
+	/**
+	 * Create a new {@link StatementShapeCache} given {@code cacheLimit}.
+	 *
+	 * @param cacheLimit maximum number of shapes to cache.
+	 */
+	StatementShapeCache(int cacheLimit) {
+
+		Assert.isTrue(cacheLimit >= 0, "Cache limit must be greater or equal to zero");
+
+		this.cacheLimit = cacheLimit;
+	}
+
+	/**
+	 * Compute the written columns and their values from the converted {@code object}. Columns with {@literal null}
+	 * values are skipped unless {@code includeNulls} is {@literal true}.
+	 *
+	 * @param object the converted entity.
+	 * @param includeNulls whether to include {@literal null} values.
+	 * @return the column values in column order.
+	 */
+	static ColumnValues getColumnValues(Map<CqlIdentifier, Object> object, boolean includeNulls) {
+
+		List<CqlIdentifier> columns = new ArrayList<>(object.size());
+		List<Object> values = new ArrayList<>(object.size());
+
+		object.forEach((cqlIdentifier, value) -> {
+
+			if (value == null && !includeNulls) {
+				return;
+			}
+
+			columns.add(cqlIdentifier);
+			values.add(value);
+		});
+
+		return new ColumnValues(columns, values);
+	}
+
+	/**
+	 * Compute the written columns and their values from positional {@code values} written by a compiled entity writer.
+	 * Columns with {@literal null} values are skipped unless {@code includeNulls} is {@literal true}.
+	 *
+	 * @param columns the written columns.
+	 * @param values the column values in column order.
+	 * @param includeNulls whether to include {@literal null} values.
+	 * @return the column values in column order.
+	 */
+	static ColumnValues getColumnValues(List<CqlIdentifier> columns, Object[] values, boolean includeNulls) {
+
+		if (includeNulls || !ObjectUtils.containsElement(values, null)) {
+			return new ColumnValues(columns, Arrays.asList(values));
+		}
+
+		List<CqlIdentifier> nonNullColumns = new ArrayList<>(values.length);
+		List<Object> nonNullValues = new ArrayList<>(values.length);
+
+		for (int i = 0; i < values.length; i++) {
+
+			if (values[i] != null) {
+				nonNullColumns.add(columns.get(i));
+				nonNullValues.add(values[i]);
+			}
+		}
+
+		return new ColumnValues(nonNullColumns, nonNullValues);
+	}
+
+	/**
+	 * Check whether statements using {@link WriteOptions} are cacheable.
+	 *
+	 * @param options the write options.
+	 * @return {@literal true} if statements using {@link WriteOptions} are cacheable.
+	 */
+	static boolean isCacheable(WriteOptions options) {
+		return options.getTimestamp() == null;
+	}
+
+	/**
+	 * Lookup a {@link StatementShape}.
+	 *
+	 * @param entityType the entity type.
+	 * @param tableName the table name.
+	 * @param columns the written columns.
+	 * @param options the write options.
+	 * @param conditional whether the statement is conditional ({@code IF NOT EXISTS}).
+	 * @return the {@link StatementShape} or {@literal null} if the shape is not cached.
+	 */
+	@Nullable
+	StatementShape getShape(Class<?> entityType, CqlIdentifier tableName, List<CqlIdentifier> columns,
+			WriteOptions options, boolean conditional) {
+
+		ShapeKey key = new ShapeKey(entityType, tableName, columns, options, conditional);
+		StatementShape shape = shapes.get(key);
+
+		if (shape != null && lock.tryLock()) {
+			try {
+				order.get(key);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		return shape;
+	}
+
+	/**
+	 * Register a {@link StatementShape} from a rendered {@link SimpleStatement} and evict the least recently used shape
+	 * if the cache limit is exceeded.
+	 *
+	 * @param entityType the entity type.
+	 * @param tableName the table name.
+	 * @param columns the written columns.
+	 * @param options the write options.
+	 * @param conditional whether the statement is conditional ({@code IF NOT EXISTS}).
+	 * @param statement the rendered statement using positional bind markers.
+	 * @return the {@link StatementShape}.
+	 */
+	StatementShape register(Class<?> entityType, CqlIdentifier tableName, List<CqlIdentifier> columns,
+			WriteOptions options, boolean conditional, SimpleStatement statement) {
+
+		StatementShape shape = new StatementShape(statement.getQuery(), statement.isIdempotent());
+
+		if (cacheLimit == 0) {
+			return shape;
+		}
+
+		ShapeKey key = new ShapeKey(entityType, tableName, columns, options, conditional);
+
+		lock.lock();
+		try {
+
+			StatementShape existing = shapes.putIfAbsent(key, shape);
+
+			if (existing != null) {
+				return existing;
+			}
+
+			order.put(key, shape);
+
+			Iterator<ShapeKey> iterator = order.keySet().iterator();
+
+			while (order.size() > cacheLimit && iterator.hasNext()) {
+
+				shapes.remove(iterator.next());
+				iterator.remove();
+			}
+
+			return shape;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return the number of cached shapes.
+	 */
+	int size() {
+		return shapes.size();
+	}
+
+	/**
+	 * Value object holding written columns and their values.
+	 */
+	static class ColumnValues {
+
+		private final List<CqlIdentifier> columns;
+
+		private final List<Object> values;
+
+		ColumnValues(List<CqlIdentifier> columns, List<Object> values) {
+			this.columns = columns;
+			this.values = values;
+		}
+
+		List<CqlIdentifier> getColumns() {
+			return columns;
+		}
+
+		List<Object> getValues() {
+			return values;
+		}
+
+		/**
+		 * @return the column values keyed by column in column order.
+		 */
+		Map<CqlIdentifier, Object> toMap() {
+
+			Map<CqlIdentifier, Object> map = new LinkedHashMap<>(columns.size());
+
+			for (int i = 0; i < columns.size(); i++) {
+				map.put(columns.get(i), values.get(i));
+			}
+
+			return map;
+		}
+	}
+
+	/**
+	 * Rendered statement shape holding the CQL and the {@link PreparedStatement} once the shape was prepared.
+	 */
+	static class StatementShape {
+
+		private final String cql;
+
+		private final @Nullable Boolean idempotent;
+
+		private volatile @Nullable SessionPreparedStatement prepared;
+
+		StatementShape(String cql, @Nullable Boolean idempotent) {
+			this.cql = cql;
+			this.idempotent = idempotent;
+		}
+
+		String getCql() {
+			return cql;
+		}
+
+		/**
+		 * Create a {@link SimpleStatement} for this shape by binding {@code values} positionally and applying
+		 * {@link WriteOptions}. Simple statements do not carry partition key metadata, so the {@code routingKey} is set
+		 * explicitly to retain token-aware routing.
+		 *
+		 * @param values the values to bind.
+		 * @param options the write options.
+		 * @param routingKey the routing key of the written partition, can be {@literal null} if not known.
+		 * @return the {@link SimpleStatement}.
+		 */
+		SimpleStatement bind(List<Object> values, WriteOptions options, @Nullable ByteBuffer routingKey) {
+
+			SimpleStatementBuilder builder = SimpleStatement.builder(cql).addPositionalValues(values.toArray());
+
+			if (idempotent != null) {
+				builder.setIdempotence(idempotent);
+			}
+
+			if (routingKey != null) {
+
+				builder.setRoutingKey(routingKey);
+
+				if (options.getKeyspace() != null) {
+					builder.setRoutingKeyspace(options.getKeyspace());
+				}
+			}
+
+			return QueryOptionsUtil.addQueryOptions(builder.build(), options);
+		}
+
+		/**
+		 * Obtain the {@link PreparedStatement} for this shape. Prepares the statement if this shape was not yet prepared
+		 * on the given {@link CqlSession}.
+		 *
+		 * @param session the session.
+		 * @param statement the statement to prepare.
+		 * @return the {@link PreparedStatement}.
+		 */
+		PreparedStatement prepare(CqlSession session, SimpleStatement statement) {
+
+			SessionPreparedStatement prepared = this.prepared;
+
+			if (prepared != null && prepared.session == session) {
+				return prepared.preparedStatement;
+			}
+
+			PreparedStatement preparedStatement = session.prepare(statement);
+			this.prepared = new SessionPreparedStatement(session, preparedStatement);
+
+			return preparedStatement;
+		}
+	}
+
+	private static class SessionPreparedStatement {
+
+		final CqlSession session;
+
+		final PreparedStatement preparedStatement;
+
+		SessionPreparedStatement(CqlSession session, PreparedStatement preparedStatement) {
+			this.session = session;
+			this.preparedStatement = preparedStatement;
+		}
+	}
+
+	/**
+	 * Key of a shape considering only {@link WriteOptions} that are rendered into the CQL.
+	 */
+	private static class ShapeKey {
+
+		final Class<?> entityType;
+		final CqlIdentifier tableName;
+		final List<CqlIdentifier> columns;
+		final Duration ttl;
+		final boolean conditional;
+
+		ShapeKey(Class<?> entityType, CqlIdentifier tableName, List<CqlIdentifier> columns, WriteOptions options,
+				boolean conditional) {
+
+			this.entityType = entityType;
+			this.tableName = tableName;
+			this.columns = columns;
+			this.ttl = options.getTtl();
+			this.conditional = conditional || isConditional(options);
+		}
+
+		private static boolean isConditional(WriteOptions options) {
+			return (options instanceof InsertOptions && ((InsertOptions) options).isIfNotExists())
+					|| (options instanceof UpdateOptions && ((UpdateOptions) options).isIfExists());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof ShapeKey)) {
+				return false;
+			}
+
+			ShapeKey that = (ShapeKey) o;
+
+			if (conditional != that.conditional) {
+				return false;
+			}
+
+			if (!ObjectUtils.nullSafeEquals(entityType, that.entityType)) {
+				return false;
+			}
+
+			if (!ObjectUtils.nullSafeEquals(tableName, that.tableName)) {
+				return false;
+			}
+
+			if (!ObjectUtils.nullSafeEquals(columns, that.columns)) {
+				return false;
+			}
+
+			return ObjectUtils.nullSafeEquals(ttl, that.ttl);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			int result = ObjectUtils.nullSafeHashCode(entityType);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(tableName);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(columns);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(ttl);
+			result = 31 * result + (conditional ? 1 : 0);
+			return result;
+		}
+	}
+}
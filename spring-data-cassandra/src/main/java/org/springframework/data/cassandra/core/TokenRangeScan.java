@@ -0,0 +1,349 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.CassandraUncategorizedException;
+import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+
+/**
+ * Support for full table scans split into token ranges. {@link #split(TokenMap, int)} splits the token ring into
+ * non-wrapping {@link Slice slices} that can be queried independently. {@link RowIterator} queries slices concurrently
+ * and merges their rows into a single {@link Iterator}.
+ *
+ * @since 3.3
+ */
+class TokenRangeScan {
+
+	private TokenRangeScan() {}
+
+	/**
+	 * Split the token ring described by {@link TokenMap} into non-wrapping {@link Slice slices}. Each token range of the
+	 * cluster is split into {@code splitsPerRange} slices.
+	 *
+	 * @param tokenMap the token map of the cluster.
+	 * @param splitsPerRange number of splits per token range.
+	 * @return the slices covering the full token ring.
+	 */
+	static List<Slice> split(TokenMap tokenMap, int splitsPerRange) {
+
+		List<Slice> slices = new ArrayList<>();
+
+		for (TokenRange range : tokenMap.getTokenRanges()) {
+
+			if (range.isFullRing()) {
+
+				// a ring with a single token, (t, t] spans the full ring and is not splittable into token restrictions
+				return Collections.singletonList(new Slice(null, null, null));
+			}
+
+			for (TokenRange split : splitsPerRange > 1 ? range.splitEvenly(splitsPerRange)
+					: Collections.singletonList(range)) {
+
+				if (split.isWrappedAround()) {
+
+					// (start, end] unwraps to (start, min] and (min, end], token(…) <= min matches no rows
+					List<TokenRange> unwrapped = split.unwrap();
+
+					slices.add(new Slice(tokenMap.format(unwrapped.get(0).getStart()), null, split.getEnd()));
+					slices.add(new Slice(null, tokenMap.format(unwrapped.get(1).getEnd()), split.getEnd()));
+				} else {
+					slices.add(new Slice(tokenMap.format(split.getStart()), tokenMap.format(split.getEnd()), split.getEnd()));
+				}
+			}
+		}
+
+		return slices;
+	}
+
+	/**
+	 * Create {@code SELECT} statements for each token range {@link Slice} of the table. The statements carry a routing
+	 * token of their slice to route each statement to a replica of the token range. Without token metadata, a single
+	 * statement selecting the whole table is returned.
+	 *
+	 * @param statementFactory the statement factory.
+	 * @param metadata the cluster metadata.
+	 * @param templateKeyspace the keyspace applied to statements by the executing template, can be {@literal null}.
+	 * @param sessionKeyspace the session keyspace.
+	 * @param entity the entity to scan.
+	 * @param tableName the table to scan.
+	 * @param options the scan options.
+	 * @return the statements covering the full token ring.
+	 */
+	static List<Statement<?>> createStatements(StatementFactory statementFactory, Metadata metadata,
+			@Nullable CqlIdentifier templateKeyspace, Optional<CqlIdentifier> sessionKeyspace,
+			CassandraPersistentEntity<?> entity, CqlIdentifier tableName, ScanOptions options) {
+
+		List<Slice> slices = metadata.getTokenMap().map(it -> split(it, options.getSplitsPerRange()))
+				.orElseGet(() -> Collections.singletonList(new Slice(null, null, null)));
+
+		// route to the keyspace the statement targets once the template has applied its settings
+		CqlIdentifier routingKeyspace = templateKeyspace;
+
+		if (routingKeyspace == null) {
+			routingKeyspace = options.getQueryOptions().getKeyspace() != null ? options.getQueryOptions().getKeyspace()
+					: sessionKeyspace.orElse(null);
+		}
+
+		List<Statement<?>> statements = new ArrayList<>(slices.size());
+
+		for (Slice slice : slices) {
+
+			SimpleStatement statement = statementFactory
+					.selectTokenRange(entity, tableName, slice.getLowerBound(), slice.getUpperBound()).build();
+			statement = QueryOptionsUtil.addQueryOptions(statement, options.getQueryOptions()).setIdempotent(true);
+
+			if (slice.getRoutingToken() != null) {
+
+				statement = statement.setRoutingToken(slice.getRoutingToken());
+
+				if (routingKeyspace != null) {
+					statement = statement.setRoutingKeyspace(routingKeyspace);
+				}
+			}
+
+			statements.add(statement);
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Token range slice {@code (lowerBound, upperBound]}.
+	 */
+	static class Slice {
+
+		private final @Nullable String lowerBound;
+
+		private final @Nullable String upperBound;
+
+		private final @Nullable Token routingToken;
+
+		Slice(@Nullable String lowerBound, @Nullable String upperBound, @Nullable Token routingToken) {
+			this.lowerBound = lowerBound;
+			this.upperBound = upperBound;
+			this.routingToken = routingToken;
+		}
+
+		/**
+		 * @return the exclusive lower bound as CQL literal or {@literal null} if the slice starts at the beginning of the
+		 *         ring.
+		 */
+		@Nullable
+		String getLowerBound() {
+			return lowerBound;
+		}
+
+		/**
+		 * @return the inclusive upper bound as CQL literal or {@literal null} if the slice ends at the end of the ring.
+		 */
+		@Nullable
+		String getUpperBound() {
+			return upperBound;
+		}
+
+		/**
+		 * @return a token contained in this slice to route the slice query to a replica or {@literal null} if the slice
+		 *         spans the full ring.
+		 */
+		@Nullable
+		Token getRoutingToken() {
+			return routingToken;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("(%s, %s]", lowerBound == null ? "-" : lowerBound, upperBound == null ? "-" : upperBound);
+		}
+	}
+
+	/**
+	 * {@link Iterator} over the rows of multiple statements that are executed concurrently. At most {@code concurrency}
+	 * statements are in progress at a time. Each statement fetches its next page once the consumer starts consuming its
+	 * current page so that at most two pages per statement in progress are buffered. Rows of different statements are
+	 * interleaved page by page.
+	 */
+	static class RowIterator implements Iterator<Row>, AutoCloseable {
+
+		private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor;
+
+		private final Function<RuntimeException, RuntimeException> exceptionTranslator;
+
+		private final Iterator<Statement<?>> statements;
+
+		private final BlockingQueue<Object> pages = new LinkedBlockingQueue<>();
+
+		private int active;
+
+		private volatile boolean closed;
+
+		private @Nullable Iterator<Row> current;
+
+		/**
+		 * Create a new {@link RowIterator} and start executing up to {@code concurrency} statements.
+		 *
+		 * @param executor function to execute a statement asynchronously.
+		 * @param exceptionTranslator function to translate execution failures.
+		 * @param statements the statements to execute.
+		 * @param concurrency maximum number of statements to execute concurrently.
+		 */
+		RowIterator(Function<Statement<?>, CompletionStage<AsyncResultSet>> executor,
+				Function<RuntimeException, RuntimeException> exceptionTranslator, List<Statement<?>> statements,
+				int concurrency) {
+
+			this.executor = executor;
+			this.exceptionTranslator = exceptionTranslator;
+			this.statements = statements.iterator();
+
+			while (active < concurrency && executeNext()) {
+				active++;
+			}
+		}
+
+		private boolean executeNext() {
+
+			if (!statements.hasNext()) {
+				return false;
+			}
+
+			try {
+				subscribe(executor.apply(statements.next()));
+			} catch (RuntimeException e) {
+				pages.add(e);
+			}
+
+			return true;
+		}
+
+		private void subscribe(CompletionStage<AsyncResultSet> page) {
+
+			page.whenComplete((resultSet, error) -> {
+
+				if (!closed) {
+					pages.add(error != null ? error : resultSet);
+				}
+			});
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			while (current == null || !current.hasNext()) {
+
+				if (closed || active == 0) {
+					return false;
+				}
+
+				Object page = take();
+
+				if (page instanceof Throwable) {
+
+					close();
+
+					Throwable error = page instanceof CompletionException && ((Throwable) page).getCause() != null
+							? ((Throwable) page).getCause()
+							: (Throwable) page;
+
+					if (error instanceof RuntimeException) {
+						throw exceptionTranslator.apply((RuntimeException) error);
+					}
+
+					throw new IllegalStateException(error);
+				}
+
+				AsyncResultSet resultSet = (AsyncResultSet) page;
+
+				if (resultSet.hasMorePages()) {
+					subscribe(resultSet.fetchNextPage());
+				} else if (!executeNext()) {
+					active--;
+				}
+
+				current = resultSet.currentPage().iterator();
+			}
+
+			return true;
+		}
+
+		private Object take() {
+
+			try {
+				return pages.take();
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				close();
+
+				throw new CassandraUncategorizedException("Interrupted while awaiting token range scan", e);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Row next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return current.next();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.AutoCloseable#close()
+		 */
+		@Override
+		public void close() {
+			closed = true;
+			pages.clear();
+		}
+	}
+}
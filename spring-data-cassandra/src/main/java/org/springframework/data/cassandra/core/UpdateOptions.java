@@ -46,16 +46,19 @@ public class UpdateOptions extends WriteOptions {
 
 	private final @Nullable Filter ifCondition;
 
+	private final boolean unsetNulls;
+
 	private UpdateOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
-			@Nullable CqlIdentifier keyspace, @Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel,
-			Duration timeout, Duration ttl, @Nullable Long timestamp, @Nullable Boolean tracing, boolean ifExists,
-			@Nullable Filter ifCondition) {
+			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
+			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, Duration ttl, @Nullable Long timestamp,
+			@Nullable Boolean tracing, boolean ifExists, @Nullable Filter ifCondition, boolean unsetNulls) {
 
-		super(consistencyLevel, executionProfileResolver, keyspace, pageSize, serialConsistencyLevel, timeout, ttl,
-				timestamp, tracing);
+		super(consistencyLevel, executionProfileResolver, idempotent, keyspace, pageSize, serialConsistencyLevel, timeout,
+				ttl, timestamp, tracing);
 
 		this.ifExists = ifExists;
 		this.ifCondition = ifCondition;
+		this.unsetNulls = unsetNulls;
 	}
 
 	/**
@@ -103,6 +106,14 @@ public class UpdateOptions extends WriteOptions {
 		return ifCondition;
 	}
 
+	/**
+	 * @return {@literal true} to leave {@literal null} values from an entity unset instead of writing {@literal null}s.
+	 * @since 3.3
+	 */
+	public boolean isUnsetNulls() {
+		return this.unsetNulls;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
@@ -128,6 +139,10 @@ public class UpdateOptions extends WriteOptions {
 			return false;
 		}
 
+		if (unsetNulls != that.unsetNulls) {
+			return false;
+		}
+
 		return ObjectUtils.nullSafeEquals(ifCondition, that.ifCondition);
 	}
 
@@ -140,6 +155,7 @@ public class UpdateOptions extends WriteOptions {
 		int result = super.hashCode();
 		result = 31 * result + (ifExists ? 1 : 0);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(ifCondition);
+		result = 31 * result + (unsetNulls ? 1 : 0);
 		return result;
 	}
 
@@ -156,6 +172,8 @@ public class UpdateOptions extends WriteOptions {
 
 		private @Nullable Filter ifCondition;
 
+		private boolean unsetNulls;
+
 		private UpdateOptionsBuilder() {}
 
 		private UpdateOptionsBuilder(UpdateOptions updateOptions) {
@@ -164,6 +182,7 @@ public class UpdateOptions extends WriteOptions {
 
 			this.ifExists = updateOptions.ifExists;
 			this.ifCondition = updateOptions.ifCondition;
+			this.unsetNulls = updateOptions.unsetNulls;
 		}
 
 		/* (non-Javadoc)
@@ -205,6 +224,16 @@ public class UpdateOptions extends WriteOptions {
 			return this;
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.WriteOptions.WriteOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public UpdateOptionsBuilder idempotent(boolean idempotent) {
+
+			super.idempotent(idempotent);
+			return this;
+		}
+
 		/* (non-Javadoc)
 		 * @see org.springframework.data.cassandra.core.cql.WriteOptions.WriteOptionsBuilder#keyspace()
 		 */
@@ -381,15 +410,41 @@ public class UpdateOptions extends WriteOptions {
 			return this;
 		}
 
+		/**
+		 * Leave {@literal null} values from an entity unset instead of writing {@literal null}s. Unset values do not create
+		 * tombstones and leave existing column values untouched.
+		 *
+		 * @return {@code this} {@link UpdateOptionsBuilder}
+		 * @since 3.3
+		 */
+		public UpdateOptionsBuilder withUnsetNulls() {
+			return withUnsetNulls(true);
+		}
+
+		/**
+		 * Leave {@literal null} values from an entity unset instead of writing {@literal null}s. Unset values do not create
+		 * tombstones and leave existing column values untouched.
+		 *
+		 * @param unsetNulls {@literal true} to leave {@literal null} values unset.
+		 * @return {@code this} {@link UpdateOptionsBuilder}
+		 * @since 3.3
+		 */
+		public UpdateOptionsBuilder withUnsetNulls(boolean unsetNulls) {
+
+			this.unsetNulls = unsetNulls;
+
+			return this;
+		}
+
 		/**
 		 * Builds a new {@link UpdateOptions} with the configured values.
 		 *
 		 * @return a new {@link UpdateOptions} with the configured values
 		 */
 		public UpdateOptions build() {
-			return new UpdateOptions(this.consistencyLevel, this.executionProfileResolver, this.keyspace, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.ifExists,
-					this.ifCondition);
+			return new UpdateOptions(this.consistencyLevel, this.executionProfileResolver, this.idempotent, this.keyspace,
+					this.pageSize, this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing,
+					this.ifExists, this.ifCondition, this.unsetNulls);
 		}
 	}
 }
@@ -76,6 +76,31 @@ public class WriteResult {
 		return new WriteResult(resultSet);
 	}
 
+	/**
+	 * Aggregate multiple {@link WriteResult}s into a single {@link WriteResult}. The aggregated result was applied if all
+	 * results were applied.
+	 *
+	 * @param results the results to aggregate.
+	 * @return the aggregated {@link WriteResult}.
+	 * @since 3.3
+	 */
+	static WriteResult aggregate(List<WriteResult> results) {
+
+		List<ExecutionInfo> executionInfo = new ArrayList<>();
+		List<Row> rows = new ArrayList<>();
+		boolean wasApplied = true;
+
+		for (WriteResult result : results) {
+
+			executionInfo.addAll(result.getExecutionInfo());
+			rows.addAll(result.getRows());
+			wasApplied &= result.wasApplied();
+		}
+
+		return new WriteResult(Collections.unmodifiableList(executionInfo), wasApplied,
+				Collections.unmodifiableList(rows));
+	}
+
 	/**
 	 * @return {@literal true} if the write was applied.
 	 */
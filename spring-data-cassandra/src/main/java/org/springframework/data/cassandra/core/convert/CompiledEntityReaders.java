@@ -0,0 +1,366 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter.ConversionContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.mapping.Column;
+import org.springframework.data.cassandra.core.mapping.Element;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Cache of compiled entity readers. A compiled reader is a read plan for a particular entity type and
+ * {@link ColumnDefinitions column layout} that resolves column indexes of constructor arguments and properties once.
+ * Reading a {@link Row} through a compiled reader instantiates the entity and sets property values directly without
+ * resolving columns by name, evaluating SpEL or creating value providers per row. Entity instantiation and property
+ * access use the {@link EntityInstantiators} and generated property accessors of the mapping context.
+ * <p>
+ * Entities using SpEL expressions, embedded properties, composite primary keys or a custom read conversion are not
+ * compiled. These are read through the generic {@link MappingCassandraConverter} path.
+ *
+ * @since 3.3
+ */
+class CompiledEntityReaders {
+
+	static final int DEFAULT_LAYOUT_LIMIT = 16;
+
+	private final MappingCassandraConverter converter;
+
+	private final Map<TypeInformation<?>, TypeReaders> readers = new ConcurrentHashMap<>();
+
+	private final int layoutLimit;
+
+	/**
+	 * Create new {@link CompiledEntityReaders}.
+	 *
+	 * @param converter the converter providing mapping metadata and conversions.
+	 * @param layoutLimit maximum number of column layouts to cache per entity type.
+	 */
+	CompiledEntityReaders(MappingCassandraConverter converter, int layoutLimit) {
+		this.converter = converter;
+		this.layoutLimit = layoutLimit;
+	}
+
+	/**
+	 * Obtain the {@link CompiledEntityReader} for {@code typeHint} and the column layout of {@link Row}.
+	 *
+	 * @param typeHint the type to read.
+	 * @param row the row to read.
+	 * @return the {@link CompiledEntityReader} or {@literal null} if the type cannot be read through a compiled reader.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	<S> CompiledEntityReader<S> getReader(TypeInformation<? extends S> typeHint, Row row) {
+
+		TypeReaders typeReaders = readers.computeIfAbsent(typeHint, this::createTypeReaders);
+
+		if (typeReaders.entity == null) {
+			return null;
+		}
+
+		return (CompiledEntityReader<S>) typeReaders.getReader(row.getColumnDefinitions());
+	}
+
+	/**
+	 * Remove all compiled readers.
+	 */
+	void clear() {
+		readers.clear();
+	}
+
+	private TypeReaders createTypeReaders(TypeInformation<?> typeHint) {
+
+		Class<?> rawType = typeHint.getType();
+
+		if (Row.class.isAssignableFrom(rawType) || converter.getCustomConversions().hasCustomReadTarget(Row.class, rawType)
+				|| converter.getConversionService().canConvert(Row.class, rawType)) {
+			return new TypeReaders(null);
+		}
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getPersistentEntity(typeHint);
+
+		return new TypeReaders(entity != null && isCompilable(entity) ? entity : null);
+	}
+
+	private static boolean isCompilable(CassandraPersistentEntity<?> entity) {
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isCompositePrimaryKey() || property.isEmbedded() || property.getSpelExpression() != null) {
+				return false;
+			}
+		}
+
+		PreferredConstructor<?, CassandraPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+		if (constructor == null) {
+			return true;
+		}
+
+		for (Parameter<Object, CassandraPersistentProperty> parameter : constructor.getParameters()) {
+
+			if (constructor.isEnclosingClassParameter(parameter) || parameter.hasSpelExpression()
+					|| parameter.getName() == null || getProperty(entity, parameter) == null) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Nullable
+	private static CassandraPersistentProperty getProperty(CassandraPersistentEntity<?> entity,
+			Parameter<?, CassandraPersistentProperty> parameter) {
+
+		String name = parameter.getName();
+
+		if (name == null) {
+			return null;
+		}
+
+		CassandraPersistentProperty property = entity.getPersistentProperty(name);
+
+		if (parameter.getAnnotations().isPresent(Column.class) || parameter.getAnnotations().isPresent(Element.class)) {
+			return new AnnotatedCassandraConstructorProperty(
+					property == null ? new CassandraConstructorProperty(name, entity, parameter.getType()) : property,
+					parameter.getAnnotations());
+		}
+
+		return property;
+	}
+
+	/**
+	 * Compiled readers of a single type.
+	 */
+	private class TypeReaders {
+
+		final @Nullable CassandraPersistentEntity<?> entity;
+
+		final Map<List<CqlIdentifier>, CompiledEntityReader<?>> layouts = new ConcurrentHashMap<>();
+
+		volatile @Nullable LastReader last;
+
+		TypeReaders(@Nullable CassandraPersistentEntity<?> entity) {
+			this.entity = entity;
+		}
+
+		CompiledEntityReader<?> getReader(ColumnDefinitions columns) {
+
+			LastReader last = this.last;
+
+			// rows of the same result set page share their ColumnDefinitions
+			if (last != null && last.columns == columns) {
+				return last.reader;
+			}
+
+			List<CqlIdentifier> layout = new ArrayList<>(columns.size());
+
+			for (int i = 0; i < columns.size(); i++) {
+				layout.add(columns.get(i).getName());
+			}
+
+			CompiledEntityReader<?> reader = layouts.get(layout);
+
+			if (reader == null) {
+
+				reader = new CompiledEntityReader<>(entity, columns);
+
+				if (layouts.size() < layoutLimit) {
+					layouts.putIfAbsent(layout, reader);
+				}
+			}
+
+			this.last = new LastReader(columns, reader);
+
+			return reader;
+		}
+	}
+
+	private static class LastReader {
+
+		final ColumnDefinitions columns;
+
+		final CompiledEntityReader<?> reader;
+
+		LastReader(ColumnDefinitions columns, CompiledEntityReader<?> reader) {
+			this.columns = columns;
+			this.reader = reader;
+		}
+	}
+
+	/**
+	 * Read plan for an entity type and a column layout.
+	 *
+	 * @param <T> the entity type.
+	 */
+	class CompiledEntityReader<T> {
+
+		private final CassandraPersistentEntity<T> entity;
+
+		private final Map<String, ColumnReader> parameters;
+
+		private final List<ColumnReader> properties;
+
+		@SuppressWarnings("unchecked")
+		CompiledEntityReader(CassandraPersistentEntity<?> entity, ColumnDefinitions columns) {
+
+			this.entity = (CassandraPersistentEntity<T>) entity;
+			this.parameters = new HashMap<>();
+			this.properties = new ArrayList<>();
+
+			PreferredConstructor<?, CassandraPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+			if (constructor != null) {
+				for (Parameter<Object, CassandraPersistentProperty> parameter : constructor.getParameters()) {
+
+					CassandraPersistentProperty property = getProperty(entity, parameter);
+
+					parameters.put(parameter.getName(), new ColumnReader(property, columns));
+				}
+			}
+
+			if (!entity.requiresPropertyPopulation()) {
+				return;
+			}
+
+			for (CassandraPersistentProperty property : entity) {
+
+				// property is set through the constructor
+				if (entity.isConstructorArgument(property)) {
+					continue;
+				}
+
+				ColumnReader reader = new ColumnReader(property, columns);
+
+				if (reader.index > -1) {
+					properties.add(reader);
+				}
+			}
+		}
+
+		/**
+		 * Read the {@link Row} into a new entity instance.
+		 *
+		 * @param context the conversion context.
+		 * @param row the row to read.
+		 * @return the entity.
+		 */
+		T read(ConversionContext context, Row row) {
+
+			RowReader reader = new RowReader(row);
+			ParameterValueProvider<CassandraPersistentProperty> provider = parameters.isEmpty()
+					? MappingCassandraConverter.NoOpParameterValueProvider.INSTANCE
+					: new ColumnParameterValueProvider(context, reader);
+
+			T instance = converter.instantiators.getInstantiatorFor(entity).createInstance(entity, provider);
+
+			if (properties.isEmpty()) {
+				return instance;
+			}
+
+			ConversionService conversionService = converter.getConversionService();
+			PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(instance);
+
+			for (ColumnReader property : properties) {
+
+				Object value = property.read(context, reader);
+
+				if (value != null && !ClassUtils.isAssignableValue(property.property.getType(), value)) {
+					value = conversionService.convert(value, property.property.getType());
+				}
+
+				accessor.setProperty(property.property, value);
+			}
+
+			return accessor.getBean();
+		}
+
+		private class ColumnParameterValueProvider implements ParameterValueProvider<CassandraPersistentProperty> {
+
+			private final ConversionContext context;
+
+			private final RowReader reader;
+
+			ColumnParameterValueProvider(ConversionContext context, RowReader reader) {
+				this.context = context;
+				this.reader = reader;
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.springframework.data.mapping.model.ParameterValueProvider#getParameterValue(org.springframework.data.mapping.PreferredConstructor.Parameter)
+			 */
+			@Nullable
+			@Override
+			@SuppressWarnings("unchecked")
+			public <P> P getParameterValue(Parameter<P, CassandraPersistentProperty> parameter) {
+
+				ColumnReader columnReader = parameters.get(parameter.getName());
+
+				return columnReader != null ? (P) columnReader.read(context, reader) : null;
+			}
+		}
+	}
+
+	/**
+	 * Reads a single column into the type of a {@link CassandraPersistentProperty}.
+	 */
+	private static class ColumnReader {
+
+		final CassandraPersistentProperty property;
+
+		final TypeInformation<?> typeInformation;
+
+		final int index;
+
+		ColumnReader(CassandraPersistentProperty property, ColumnDefinitions columns) {
+			this.property = property;
+			this.typeInformation = property.getTypeInformation();
+			this.index = columns.firstIndexOf(property.getRequiredColumnName());
+		}
+
+		@Nullable
+		Object read(ConversionContext context, RowReader reader) {
+
+			if (index < 0) {
+				return null;
+			}
+
+			Object value = reader.get(index);
+
+			return value == null ? null : context.convert(value, typeInformation);
+		}
+	}
+}
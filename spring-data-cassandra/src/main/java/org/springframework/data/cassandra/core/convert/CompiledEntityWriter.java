@@ -0,0 +1,238 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Compiled writer for a {@link CassandraPersistentEntity}. A compiled writer determines the written columns and their
+ * {@link ColumnType column types} once and writes entity values into a positional value array matching
+ * {@link #getColumns() the column order}. Writing through a compiled writer does not require an intermediate
+ * {@link java.util.Map} and can be used to bind values to a cached statement directly.
+ * <p>
+ * Columns are ordered in the same way as {@link MappingCassandraConverter#write(Object, Object)} writes columns into a
+ * {@link java.util.Map}. Values of a composite primary key are flattened into their columns. Entities using embedded
+ * properties are not compiled.
+ *
+ * @since 3.3
+ * @see MappingCassandraConverter#getCompiledEntityWriter(CassandraPersistentEntity)
+ */
+public class CompiledEntityWriter {
+
+	private final MappingCassandraConverter converter;
+
+	private final CassandraPersistentEntity<?> entity;
+
+	private final @Nullable CassandraPersistentProperty compositeKeyProperty;
+
+	private final List<CqlIdentifier> columns;
+
+	private final ColumnWriter[] writers;
+
+	private CompiledEntityWriter(MappingCassandraConverter converter, CassandraPersistentEntity<?> entity,
+			@Nullable CassandraPersistentProperty compositeKeyProperty, List<ColumnWriter> writers) {
+
+		List<CqlIdentifier> columns = new ArrayList<>(writers.size());
+
+		for (ColumnWriter writer : writers) {
+			columns.add(writer.property.getRequiredColumnName());
+		}
+
+		this.converter = converter;
+		this.entity = entity;
+		this.compositeKeyProperty = compositeKeyProperty;
+		this.columns = Collections.unmodifiableList(columns);
+		this.writers = writers.toArray(new ColumnWriter[0]);
+	}
+
+	/**
+	 * Compile a {@link CompiledEntityWriter} for the given {@link CassandraPersistentEntity}.
+	 *
+	 * @param converter the converter providing mapping metadata and conversions.
+	 * @param entity the entity to compile.
+	 * @return the {@link CompiledEntityWriter} or {@literal null} if the entity cannot be written through a compiled
+	 *         writer.
+	 */
+	@Nullable
+	static CompiledEntityWriter compile(MappingCassandraConverter converter, CassandraPersistentEntity<?> entity) {
+
+		List<ColumnWriter> writers = new ArrayList<>();
+		CassandraPersistentProperty compositeKeyProperty = null;
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isEmbedded()) {
+				return null;
+			}
+
+			if (property.isCompositePrimaryKey()) {
+
+				CassandraPersistentEntity<?> keyEntity = converter.getMappingContext().getRequiredPersistentEntity(property);
+
+				if (compositeKeyProperty != null || !addWriters(converter, keyEntity, true, writers)) {
+					return null;
+				}
+
+				compositeKeyProperty = property;
+				continue;
+			}
+
+			if (property.isWritable()) {
+				writers.add(new ColumnWriter(converter, property, false));
+			}
+		}
+
+		return new CompiledEntityWriter(converter, entity, compositeKeyProperty, writers);
+	}
+
+	private static boolean addWriters(MappingCassandraConverter converter, CassandraPersistentEntity<?> keyEntity,
+			boolean keyColumn, List<ColumnWriter> writers) {
+
+		for (CassandraPersistentProperty property : keyEntity) {
+
+			if (property.isEmbedded() || property.isCompositePrimaryKey()) {
+				return false;
+			}
+
+			if (property.isWritable()) {
+				writers.add(new ColumnWriter(converter, property, keyColumn));
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the {@link CassandraPersistentEntity} written by this writer.
+	 */
+	public CassandraPersistentEntity<?> getEntity() {
+		return this.entity;
+	}
+
+	/**
+	 * @return the written columns in the order of {@link #write(Object) written values}.
+	 */
+	public List<CqlIdentifier> getColumns() {
+		return this.columns;
+	}
+
+	/**
+	 * Write the {@code source} entity into a positional value array. Values are converted to their column type and
+	 * ordered by {@link #getColumns()}. {@literal null} values are retained.
+	 *
+	 * @param source the entity to write, must not be {@literal null}.
+	 * @return the column values or {@literal null} if the source cannot be written positionally because its composite
+	 *         primary key is {@literal null}.
+	 */
+	@Nullable
+	public Object[] write(Object source) {
+
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(source);
+		PersistentPropertyAccessor<?> keyAccessor = null;
+
+		if (compositeKeyProperty != null) {
+
+			Object key = accessor.getProperty(compositeKeyProperty);
+
+			if (key == null) {
+				return null;
+			}
+
+			keyAccessor = converter.getMappingContext().getRequiredPersistentEntity(compositeKeyProperty)
+					.getPropertyAccessor(key);
+		}
+
+		ConversionService conversionService = converter.getConversionService();
+		Object[] values = new Object[writers.length];
+
+		for (int i = 0; i < writers.length; i++) {
+
+			ColumnWriter writer = writers[i];
+
+			values[i] = writer.write(writer.keyColumn ? keyAccessor : accessor, conversionService);
+		}
+
+		return values;
+	}
+
+	/**
+	 * Writes a single property value into its column type.
+	 */
+	private static class ColumnWriter {
+
+		final MappingCassandraConverter converter;
+
+		final CassandraPersistentProperty property;
+
+		final boolean keyColumn;
+
+		// column types of simple types do not depend on user type metadata and can be resolved once
+		final @Nullable ColumnType columnType;
+
+		ColumnWriter(MappingCassandraConverter converter, CassandraPersistentProperty property, boolean keyColumn) {
+
+			this.converter = converter;
+			this.property = property;
+			this.keyColumn = keyColumn;
+			this.columnType = isSimple(converter, property.getTypeInformation())
+					? converter.getColumnTypeResolver().resolve(property)
+					: null;
+		}
+
+		@Nullable
+		Object write(PersistentPropertyAccessor<?> accessor, ConversionService conversionService) {
+
+			ColumnType columnType = this.columnType != null ? this.columnType
+					: converter.getColumnTypeResolver().resolve(property);
+			Class<?> targetType = columnType.getType();
+			Object value = accessor.getProperty(property);
+
+			if (value != null && !targetType.isAssignableFrom(value.getClass())) {
+				value = conversionService.convert(value, targetType);
+			}
+
+			return converter.getWriteValue(value, columnType);
+		}
+
+		private static boolean isSimple(MappingCassandraConverter converter, @Nullable TypeInformation<?> type) {
+
+			if (type == null) {
+				return true;
+			}
+
+			if (type.isCollectionLike()) {
+				return isSimple(converter, type.getComponentType());
+			}
+
+			if (type.isMap()) {
+				return isSimple(converter, type.getComponentType()) && isSimple(converter, type.getMapValueType());
+			}
+
+			return converter.getCustomConversions().isSimpleType(type.getType());
+		}
+	}
+}
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -35,6 +36,7 @@ import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.cassandra.core.convert.CompiledEntityReaders.CompiledEntityReader;
 import org.springframework.data.cassandra.core.mapping.*;
 import org.springframework.data.cassandra.core.mapping.Embedded.OnEmpty;
 import org.springframework.data.mapping.MappingException;
@@ -54,6 +56,7 @@ import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.ObjectUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
@@ -96,6 +99,10 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	private final DefaultColumnTypeResolver cassandraTypeResolver;
 	private final EmbeddedEntityOperations embeddedEntityOperations;
 
+	private @Nullable CompiledEntityReaders compiledEntityReaders;
+
+	private @Nullable Map<CassandraPersistentEntity<?>, Optional<CompiledEntityWriter>> compiledEntityWriters;
+
 	/**
 	 * Create a new {@link MappingCassandraConverter} with a {@link CassandraMappingContext}.
 	 */
@@ -238,6 +245,102 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return userTypeResolver;
 	}
 
+	/**
+	 * Enable/disable compiled entity readers for {@link #readRow(Class, Row) reading rows}. A compiled reader resolves
+	 * column indexes once per entity type and column layout and sets property values directly instead of resolving
+	 * columns by name for each row. Entities using SpEL expressions, embedded properties, composite primary keys or a
+	 * custom read conversion are read using the generic mapping path. Compiled entity readers are disabled by default.
+	 * <p>
+	 * Compiled readers bypass {@link #doReadEntity(ConversionContext, CassandraValueProvider, TypeInformation)} for
+	 * top-level rows. Subclasses customizing entity reading should not enable compiled entity readers.
+	 *
+	 * @param useCompiledEntityReaders whether to use compiled entity readers.
+	 * @since 3.3
+	 */
+	public void setUseCompiledEntityReaders(boolean useCompiledEntityReaders) {
+		this.compiledEntityReaders = useCompiledEntityReaders
+				? new CompiledEntityReaders(this, CompiledEntityReaders.DEFAULT_LAYOUT_LIMIT)
+				: null;
+	}
+
+	/**
+	 * Returns whether this converter uses compiled entity readers to read rows.
+	 *
+	 * @return {@literal true} if compiled entity readers are enabled; {@literal false} otherwise.
+	 * @since 3.3
+	 */
+	public boolean isUseCompiledEntityReaders() {
+		return this.compiledEntityReaders != null;
+	}
+
+	/**
+	 * Enable/disable compiled entity writers. A {@link CompiledEntityWriter} resolves the written columns and their
+	 * column types once per entity and writes property values positionally. Writing an entity into a {@link Map} uses
+	 * the compiled writer as well. Entities using embedded properties are written using the generic mapping path.
+	 * Compiled entity writers are disabled by default.
+	 *
+	 * @param useCompiledEntityWriters whether to use compiled entity writers.
+	 * @since 3.3
+	 * @see #getCompiledEntityWriter(CassandraPersistentEntity)
+	 */
+	public void setUseCompiledEntityWriters(boolean useCompiledEntityWriters) {
+		this.compiledEntityWriters = useCompiledEntityWriters ? new ConcurrentReferenceHashMap<>() : null;
+	}
+
+	/**
+	 * Returns whether this converter uses compiled entity writers.
+	 *
+	 * @return {@literal true} if compiled entity writers are enabled; {@literal false} otherwise.
+	 * @since 3.3
+	 */
+	public boolean isUseCompiledEntityWriters() {
+		return this.compiledEntityWriters != null;
+	}
+
+	/**
+	 * Obtain the {@link CompiledEntityWriter} for the given {@link CassandraPersistentEntity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link CompiledEntityWriter} or {@literal null} if compiled entity writers are disabled or the entity
+	 *         cannot be written through a compiled writer.
+	 * @since 3.3
+	 */
+	@Nullable
+	public CompiledEntityWriter getCompiledEntityWriter(CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		Map<CassandraPersistentEntity<?>, Optional<CompiledEntityWriter>> compiledEntityWriters = this.compiledEntityWriters;
+
+		if (compiledEntityWriters == null) {
+			return null;
+		}
+
+		return compiledEntityWriters
+				.computeIfAbsent(entity, it -> Optional.ofNullable(CompiledEntityWriter.compile(this, it))).orElse(null);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#setCustomConversions(org.springframework.data.convert.CustomConversions)
+	 */
+	@Override
+	public void setCustomConversions(org.springframework.data.convert.CustomConversions conversions) {
+
+		super.setCustomConversions(conversions);
+
+		CompiledEntityReaders compiledEntityReaders = this.compiledEntityReaders;
+
+		if (compiledEntityReaders != null) {
+			compiledEntityReaders.clear();
+		}
+
+		Map<CassandraPersistentEntity<?>, Optional<CompiledEntityWriter>> compiledEntityWriters = this.compiledEntityWriters;
+
+		if (compiledEntityWriters != null) {
+			compiledEntityWriters.clear();
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.convert.CassandraConverter#getMappingContext()
 	 */
@@ -320,6 +423,18 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	<S> S doReadRow(ConversionContext context, Row row, TypeInformation<? extends S> typeHint) {
+
+		CompiledEntityReaders compiledEntityReaders = this.compiledEntityReaders;
+
+		if (compiledEntityReaders != null) {
+
+			CompiledEntityReader<S> reader = compiledEntityReaders.getReader(typeHint, row);
+
+			if (reader != null) {
+				return reader.read(context, row);
+			}
+		}
+
 		return doReadEntity(context, row, expressionEvaluator -> new RowValueProvider(row, expressionEvaluator), typeHint);
 	}
 
@@ -482,7 +597,10 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		if (sink instanceof Where) {
 			writeWhereFromObject(source, (Where) sink, entity);
 		} else if (sink instanceof Map) {
-			writeInternal(newConvertingPropertyAccessor(source, entity), (Map<CqlIdentifier, Object>) sink, entity);
+
+			if (!writeCompiled(source, (Map<CqlIdentifier, Object>) sink, entity)) {
+				writeInternal(newConvertingPropertyAccessor(source, entity), (Map<CqlIdentifier, Object>) sink, entity);
+			}
 		} else if (sink instanceof TupleValue) {
 			writeTupleValue(newConvertingPropertyAccessor(source, entity), (TupleValue) sink, entity);
 		} else if (sink instanceof UdtValue) {
@@ -492,6 +610,24 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		}
 	}
 
+	private boolean writeCompiled(Object source, Map<CqlIdentifier, Object> sink, CassandraPersistentEntity<?> entity) {
+
+		CompiledEntityWriter writer = compiledEntityWriters != null ? getCompiledEntityWriter(entity) : null;
+		Object[] values = writer != null ? writer.write(source) : null;
+
+		if (values == null) {
+			return false;
+		}
+
+		List<CqlIdentifier> columns = writer.getColumns();
+
+		for (int i = 0; i < values.length; i++) {
+			sink.put(columns.get(i), values[i]);
+		}
+
+		return true;
+	}
+
 	private void writeInternal(ConvertingPropertyAccessor<?> accessor, Map<CqlIdentifier, Object> sink,
 			CassandraPersistentEntity<?> entity) {
 
@@ -783,7 +919,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	 */
 	@Nullable
 	@SuppressWarnings("unchecked")
-	private Object getWriteValue(@Nullable Object value, ColumnType columnType) {
+	Object getWriteValue(@Nullable Object value, ColumnType columnType) {
 
 		if (value == null) {
 			return null;
@@ -26,6 +26,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.cassandra.SessionFactory;
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
 import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -79,6 +80,11 @@ import com.datastax.oss.driver.api.core.cql.Statement;
  */
 public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOperations {
 
+	/**
+	 * If this variable is set to a value, it will be used to cache prepared statements.
+	 */
+	private @Nullable BoundedPreparedStatementCache preparedStatementCache;
+
 	/**
 	 * Create a new, uninitialized {@link AsyncCqlTemplate}. Note: The {@link SessionFactory} has to be set before using
 	 * the instance.
@@ -114,6 +120,29 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		setSessionFactory(sessionFactory);
 	}
 
+	/**
+	 * Set the {@link BoundedPreparedStatementCache} to cache {@link PreparedStatement prepared statements} created for
+	 * static CQL with bind values. Concurrent requests for the same statement share a single in-flight preparation.
+	 * Statements are prepared with the settings of this template, therefore a cache should not be shared across
+	 * templates using different settings. Prepared statements are not cached by default.
+	 *
+	 * @param preparedStatementCache the cache to use, can be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setPreparedStatementCache(@Nullable BoundedPreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * @return the {@link BoundedPreparedStatementCache} used to cache prepared statements or {@literal null} if
+	 *         prepared statements are not cached.
+	 * @since 3.3
+	 */
+	@Nullable
+	public BoundedPreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain com.datastax.oss.driver.api.core.CqlSession
 	// -------------------------------------------------------------------------
@@ -166,9 +195,8 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				logger.debug("Executing CQL statement [{}]", cql);
 			}
 
-			CompletionStage<T> results = getCurrentSession().executeAsync(applyStatementSettings(newStatement(cql)))
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(ListenableFuture::completable);
+			CompletionStage<T> results = query(getCurrentSession(), applyStatementSettings(newStatement(cql)),
+					resultSetExtractor);
 
 			return new CassandraFutureAdapter<>(results, ex -> translateExceptionIfPossible("Query", cql, ex));
 		} catch (DriverException e) {
@@ -288,10 +316,8 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
 			}
 
-			CompletionStage<T> results = getCurrentSession() //
-					.executeAsync(applyStatementSettings(statement)) //
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(ListenableFuture::completable);
+			CompletionStage<T> results = query(getCurrentSession(), applyStatementSettings(statement),
+					resultSetExtractor);
 
 			return new CassandraFutureAdapter<>(results,
 					ex -> translateExceptionIfPossible("Query", statement.toString(), ex));
@@ -532,9 +558,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 					});
 
 			CompletableFuture<T> result = statementFuture.completable() //
-					.thenCompose(session::executeAsync) //
-					.thenApply(resultSetExtractor::extractData) //
-					.thenCompose(ListenableFuture::completable);
+					.thenCompose(statement -> query(session, statement, resultSetExtractor));
 
 			return new CassandraFutureAdapter<>(result, exceptionTranslator);
 		} catch (DriverException e) {
@@ -747,7 +771,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 	 */
 	protected AsyncPreparedStatementCreator newAsyncPreparedStatementCreator(String cql) {
 		return new SimpleAsyncPreparedStatementCreator(
-				(SimpleStatement) applyStatementSettings(SimpleStatement.newInstance(cql)),
+				(SimpleStatement) applyStatementSettings(SimpleStatement.newInstance(cql)), getPreparedStatementCache(),
 				ex -> translateExceptionIfPossible("PrepareStatement", cql, ex));
 	}
 
@@ -778,6 +802,38 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		return new AsyncRowMapperResultSetExtractor<>(rowMapper);
 	}
 
+	private <T> CompletionStage<T> query(CqlSession session, Statement<?> statement,
+			AsyncResultSetExtractor<T> resultSetExtractor) {
+
+		CqlExecution execution = CqlExecution.start(getExecutionListener(), statement);
+
+		if (execution == null) {
+			return session.executeAsync(statement) //
+					.thenApply(resultSetExtractor::extractData) //
+					.thenCompose(ListenableFuture::completable);
+		}
+
+		try {
+			return session.executeAsync(statement) //
+					.thenApply(it -> resultSetExtractor
+							.extractData(new ObservingResultSets.ObservingAsyncResultSet(it, execution))) //
+					.thenCompose(ListenableFuture::completable) //
+					.whenComplete((result, error) -> {
+
+						if (error != null) {
+							execution.onError(error);
+						} else {
+							execution.onFinish();
+						}
+					});
+		} catch (RuntimeException e) {
+
+			execution.onError(e);
+
+			throw e;
+		}
+	}
+
 	private CqlSession getCurrentSession() {
 
 		SessionFactory sessionFactory = getSessionFactory();
@@ -808,16 +864,25 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 
 		private final SimpleStatement statement;
 
+		private final @Nullable BoundedPreparedStatementCache cache;
+
 		private SimpleAsyncPreparedStatementCreator(SimpleStatement statement,
-				PersistenceExceptionTranslator exceptionTranslator) {
+				@Nullable BoundedPreparedStatementCache cache, PersistenceExceptionTranslator exceptionTranslator) {
 
 			this.statement = statement;
+			this.cache = cache;
 			this.exceptionTranslator = exceptionTranslator;
 		}
 
 		@Override
 		public ListenableFuture<PreparedStatement> createPreparedStatement(CqlSession session) throws DriverException {
-			return new CassandraFutureAdapter<>(session.prepareAsync(this.statement), exceptionTranslator);
+
+			if (this.cache == null) {
+				return new CassandraFutureAdapter<>(session.prepareAsync(this.statement), exceptionTranslator);
+			}
+
+			return new CassandraFutureAdapter<>(this.cache.getPreparedStatementAsync(session, this.statement),
+					exceptionTranslator);
 		}
 
 		@Override
@@ -15,23 +15,23 @@
  */
 package org.springframework.data.cassandra.core.cql;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
+import org.springframework.data.cassandra.core.cql.support.PreparedStatementCache;
 import org.springframework.util.Assert;
 
-import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 
 /**
- * This {@link PreparedStatementCreator} maintains a static cache of all prepared statements for the duration of the JVM
+ * This {@link PreparedStatementCreator} maintains a static cache of prepared statements for the duration of the JVM
  * runtime, more specific the lifecycle of the associated {@link ClassLoader}. When preparing statements with Cassandra,
- * each Statement should be prepared once and only once due to the overhead of preparing the statement.
+ * each Statement should be prepared once and only once due to the overhead of preparing the statement. The cache is
+ * bounded and references sessions weakly, see {@link BoundedPreparedStatementCache}.
  * <p>
  * {@link CachedPreparedStatementCreator} is thread-safe and does not require external synchronization when used by
  * concurrent threads.
@@ -44,7 +44,7 @@ import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 @Deprecated
 public class CachedPreparedStatementCreator implements PreparedStatementCreator {
 
-	private static final Map<CqlSession, Map<String, PreparedStatement>> CACHE = new ConcurrentHashMap<>();
+	private static final PreparedStatementCache CACHE = BoundedPreparedStatementCache.create();
 
 	protected final Logger log = LoggerFactory.getLogger(getClass());
 
@@ -77,58 +77,13 @@ public class CachedPreparedStatementCreator implements PreparedStatementCreator
 	@Override
 	public PreparedStatement createPreparedStatement(CqlSession session) throws DriverException {
 
-		CqlIdentifier keyspace = session.getKeyspace().orElse(CqlIdentifier.fromCql("unknown"));
-		String cacheKey = keyspace.asInternal().concat("|").concat(this.cql);
-
-		log.debug("Cacheable PreparedStatement in Keyspace {}", keyspace.asCql(true));
-
-		Map<String, PreparedStatement> sessionCache = getOrCreateSessionLocalCache(session);
-
-		return getOrPrepareStatement(session, cacheKey, sessionCache);
-	}
-
-	@SuppressWarnings("all")
-	private Map<String, PreparedStatement> getOrCreateSessionLocalCache(CqlSession session) {
-
-		Map<String, PreparedStatement> sessionMap = CACHE.get(session);
-
-		if (sessionMap == null) {
-
-			synchronized (session) {
-
-				if (CACHE.containsKey(session)) {
-					sessionMap = CACHE.get(session);
-				} else {
-					sessionMap = new ConcurrentHashMap<String, PreparedStatement>();
-					CACHE.put(session, sessionMap);
-				}
-			}
-		}
-
-		return sessionMap;
-	}
-
-	@SuppressWarnings("all")
-	private PreparedStatement getOrPrepareStatement(CqlSession session, String cacheKey,
-			Map<String, PreparedStatement> sessionCache) {
-
-		PreparedStatement preparedStatement = sessionCache.get(cacheKey);
-
-		if (preparedStatement == null) {
-
-			synchronized (sessionCache) {
+		log.debug("Cacheable PreparedStatement in Keyspace {}",
+				session.getKeyspace().map(it -> it.asCql(true)).orElse("unknown"));
 
-				if (sessionCache.containsKey(cacheKey)) {
-					log.debug("Found cached PreparedStatement");
-					preparedStatement = sessionCache.get(cacheKey);
-				} else {
-					log.debug("No cached PreparedStatement found... creating and caching");
-					preparedStatement = session.prepare(this.cql);
-					sessionCache.put(cacheKey, preparedStatement);
-				}
-			}
-		}
+		return CACHE.getPreparedStatement(session, SimpleStatement.newInstance(this.cql), () -> {
 
-		return preparedStatement;
+			log.debug("No cached PreparedStatement found... creating and caching");
+			return session.prepare(this.cql);
+		});
 	}
 }
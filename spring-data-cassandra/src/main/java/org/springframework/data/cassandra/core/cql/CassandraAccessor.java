@@ -88,6 +88,8 @@ public class CassandraAccessor implements InitializingBean {
 
 	private @Nullable SessionFactory sessionFactory;
 
+	private @Nullable CqlExecutionListener executionListener;
+
 	/**
 	 * Ensures the Cassandra {@link CqlSession} and exception translator has been propertly set.
 	 */
@@ -175,6 +177,28 @@ public class CassandraAccessor implements InitializingBean {
 		return executionProfileResolver;
 	}
 
+	/**
+	 * Set the {@link CqlExecutionListener} to notify about statements executed by this template. Setting a listener
+	 * reports each statement execution along with its result pages and consumed rows.
+	 *
+	 * @param executionListener the listener to notify, can be {@literal null} to disable notifications.
+	 * @since 3.3
+	 * @see CqlExecutionMetrics
+	 */
+	public void setExecutionListener(@Nullable CqlExecutionListener executionListener) {
+		this.executionListener = executionListener;
+	}
+
+	/**
+	 * @return the {@link CqlExecutionListener} notified about statements executed by this template, can be
+	 *         {@literal null}.
+	 * @since 3.3
+	 */
+	@Nullable
+	public CqlExecutionListener getExecutionListener() {
+		return this.executionListener;
+	}
+
 	/**
 	 * Set the fetch size for this template. This is important for processing large result sets: Setting this higher than
 	 * the default value will increase processing speed at the cost of memory consumption; setting this lower can avoid
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Execution of a CQL {@link Statement} reported to a {@link CqlExecutionListener}. Captures the statement settings,
+ * the elapsed time and the number of pages and rows received.
+ * <p>
+ * The {@link #getFingerprint() fingerprint} normalizes the CQL by replacing literals with bind markers and collapsing
+ * whitespace and {@code IN} lists so that executions of the same query shape share a fingerprint regardless of their
+ * values.
+ *
+ * @since 3.3
+ * @see CqlExecutionListener
+ */
+public class CqlExecution {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CqlExecution.class);
+
+	private static final Pattern BIND_MARKER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+	private static final Pattern UUID = Pattern
+			.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+	private static final ConcurrentLruCache<String, String> FINGERPRINTS = new ConcurrentLruCache<>(512,
+			CqlExecution::fingerprint);
+
+	private final CqlExecutionListener listener;
+
+	private final Statement<?> statement;
+
+	private final long startNanos = System.nanoTime();
+
+	private final AtomicInteger pages = new AtomicInteger();
+
+	private final AtomicLong rows = new AtomicLong();
+
+	private final AtomicBoolean completed = new AtomicBoolean();
+
+	private volatile long endNanos;
+
+	private @Nullable String cql;
+
+	private CqlExecution(CqlExecutionListener listener, Statement<?> statement) {
+		this.listener = listener;
+		this.statement = statement;
+	}
+
+	/**
+	 * Start a {@link CqlExecution} of {@code statement} and notify {@code listener}.
+	 *
+	 * @param listener the listener to notify, can be {@literal null}.
+	 * @param statement the statement to execute.
+	 * @return the started {@link CqlExecution} or {@literal null} if {@code listener} is {@literal null}.
+	 */
+	@Nullable
+	static CqlExecution start(@Nullable CqlExecutionListener listener, Statement<?> statement) {
+
+		if (listener == null) {
+			return null;
+		}
+
+		CqlExecution execution = new CqlExecution(listener, statement);
+
+		execution.notifyListener(it -> it.onStart(execution));
+
+		return execution;
+	}
+
+	/**
+	 * @return the executed {@link Statement} including the settings applied by the template.
+	 */
+	public Statement<?> getStatement() {
+		return this.statement;
+	}
+
+	/**
+	 * @return the CQL of the executed statement.
+	 */
+	public String getCql() {
+
+		String cql = this.cql;
+
+		if (cql == null) {
+			cql = QueryExtractorDelegate.getCql(this.statement);
+			this.cql = cql;
+		}
+
+		return cql;
+	}
+
+	/**
+	 * @return the normalized CQL of the executed statement with literals replaced by bind markers.
+	 */
+	public String getFingerprint() {
+		return FINGERPRINTS.get(getCql());
+	}
+
+	/**
+	 * @return the {@link ConsistencyLevel} of the statement or {@literal null} if the driver default applies.
+	 */
+	@Nullable
+	public ConsistencyLevel getConsistencyLevel() {
+		return this.statement.getConsistencyLevel();
+	}
+
+	/**
+	 * @return the name of the execution profile of the statement or {@literal null} if the default profile applies.
+	 */
+	@Nullable
+	public String getExecutionProfileName() {
+
+		if (this.statement.getExecutionProfileName() != null) {
+			return this.statement.getExecutionProfileName();
+		}
+
+		return this.statement.getExecutionProfile() != null ? this.statement.getExecutionProfile().getName() : null;
+	}
+
+	/**
+	 * @return the number of result pages received so far.
+	 */
+	public int getPageCount() {
+		return this.pages.get();
+	}
+
+	/**
+	 * @return the number of rows read from the result so far.
+	 */
+	public long getRowCount() {
+		return this.rows.get();
+	}
+
+	/**
+	 * @return the time elapsed since the execution was started until it finished or failed, or until now if the
+	 *         execution is in progress.
+	 */
+	public Duration getElapsedTime() {
+
+		long end = this.completed.get() ? this.endNanos : System.nanoTime();
+
+		return Duration.ofNanos(end - this.startNanos);
+	}
+
+	/**
+	 * @return {@literal true} if the execution finished or failed.
+	 */
+	public boolean isCompleted() {
+		return this.completed.get();
+	}
+
+	void onPage(ExecutionInfo executionInfo) {
+
+		if (!isCompleted()) {
+
+			this.pages.incrementAndGet();
+			notifyListener(it -> it.onPage(this, executionInfo));
+		}
+	}
+
+	void onRows(long count) {
+		this.rows.addAndGet(count);
+	}
+
+	void onFinish() {
+
+		if (complete()) {
+			notifyListener(it -> it.onFinish(this));
+		}
+	}
+
+	void onError(Throwable error) {
+
+		if (complete()) {
+
+			Throwable errorToUse = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+					: error;
+
+			notifyListener(it -> it.onError(this, errorToUse));
+		}
+	}
+
+	private boolean complete() {
+
+		long end = System.nanoTime();
+
+		if (this.completed.compareAndSet(false, true)) {
+			this.endNanos = end;
+			return true;
+		}
+
+		return false;
+	}
+
+	private void notifyListener(Consumer<CqlExecutionListener> notification) {
+
+		try {
+			notification.accept(this.listener);
+		} catch (RuntimeException e) {
+			LOGGER.warn(String.format("CqlExecutionListener %s failed", this.listener), e);
+		}
+	}
+
+	/**
+	 * Normalize {@code cql} by replacing string, numeric, UUID and blob literals with bind markers, collapsing whitespace
+	 * and collapsing lists of bind markers into a single bind marker.
+	 *
+	 * @param cql the CQL to normalize.
+	 * @return the normalized CQL.
+	 */
+	static String fingerprint(String cql) {
+
+		Assert.notNull(cql, "CQL must not be null");
+
+		StringBuilder result = new StringBuilder(cql.length());
+		int length = cql.length();
+		int i = 0;
+
+		while (i < length) {
+
+			char c = cql.charAt(i);
+
+			if (c == '\'') {
+				i = skipQuoted(cql, i, '\'');
+				result.append('?');
+			} else if (c == '"') {
+				int end = skipQuoted(cql, i, '"');
+				result.append(cql, i, end);
+				i = end;
+			} else if (c == '$' && cql.startsWith("$$", i)) {
+				int end = cql.indexOf("$$", i + 2);
+				i = end == -1 ? length : end + 2;
+				result.append('?');
+			} else if (Character.isWhitespace(c)) {
+
+				while (i < length && Character.isWhitespace(cql.charAt(i))) {
+					i++;
+				}
+
+				if (result.length() > 0 && i < length) {
+					result.append(' ');
+				}
+			} else if (isUuid(cql, i)) {
+				i += 36;
+				result.append('?');
+			} else if (isLiteralStart(cql, i)) {
+
+				while (i < length && isLiteralPart(cql.charAt(i))) {
+					i++;
+				}
+
+				result.append('?');
+			} else if (Character.isLetterOrDigit(c) || c == '_') {
+
+				int start = i;
+
+				while (i < length && (Character.isLetterOrDigit(cql.charAt(i)) || cql.charAt(i) == '_')) {
+					i++;
+				}
+
+				result.append(cql, start, i);
+			} else {
+				result.append(c);
+				i++;
+			}
+		}
+
+		return BIND_MARKER_LIST.matcher(result).replaceAll("(?)");
+	}
+
+	private static int skipQuoted(String cql, int start, char quote) {
+
+		int i = start + 1;
+
+		while (i < cql.length()) {
+
+			if (cql.charAt(i) == quote) {
+
+				if (i + 1 < cql.length() && cql.charAt(i + 1) == quote) {
+					i += 2;
+					continue;
+				}
+
+				return i + 1;
+			}
+
+			i++;
+		}
+
+		return i;
+	}
+
+	private static boolean isUuid(String cql, int index) {
+
+		if (index + 36 > cql.length() || (index + 36 < cql.length() && isLiteralPart(cql.charAt(index + 36)))) {
+			return false;
+		}
+
+		return UUID.matcher(cql).region(index, index + 36).matches();
+	}
+
+	private static boolean isLiteralStart(String cql, int index) {
+
+		char c = cql.charAt(index);
+
+		if (!Character.isDigit(c) && !(c == '-' && index + 1 < cql.length() && Character.isDigit(cql.charAt(index + 1)))) {
+			return false;
+		}
+
+		return index == 0 || !(Character.isLetterOrDigit(cql.charAt(index - 1)) || cql.charAt(index - 1) == '_');
+	}
+
+	private static boolean isLiteralPart(char c) {
+		return Character.isLetterOrDigit(c) || c == '-' || c == '.';
+	}
+}
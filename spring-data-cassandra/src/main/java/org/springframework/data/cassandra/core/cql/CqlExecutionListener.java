@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+
+/**
+ * Listener notified about the execution of CQL statements by {@link CqlTemplate}, {@link AsyncCqlTemplate} and
+ * {@link ReactiveCqlTemplate}. Each statement execution is represented by a {@link CqlExecution} that is started,
+ * receives result pages and either finishes or fails.
+ * <p>
+ * Listeners are called on the thread executing or receiving the results of a statement and should therefore not block.
+ * Exceptions thrown by a listener are logged and do not affect the statement execution.
+ *
+ * @since 3.3
+ * @see CassandraAccessor#setExecutionListener(CqlExecutionListener)
+ * @see ReactiveCassandraAccessor#setExecutionListener(CqlExecutionListener)
+ * @see CqlExecutionMetrics
+ */
+public interface CqlExecutionListener {
+
+	/**
+	 * Called before the statement is sent to the driver.
+	 *
+	 * @param execution the started execution.
+	 */
+	default void onStart(CqlExecution execution) {}
+
+	/**
+	 * Called when a result page was received. Statements returning results in multiple pages cause one call per page
+	 * fetched while consuming the result.
+	 *
+	 * @param execution the execution.
+	 * @param executionInfo execution details of the page such as the coordinator, speculative executions and warnings.
+	 */
+	default void onPage(CqlExecution execution, ExecutionInfo executionInfo) {}
+
+	/**
+	 * Called when the result of the statement was consumed.
+	 *
+	 * @param execution the finished execution.
+	 */
+	default void onFinish(CqlExecution execution) {}
+
+	/**
+	 * Called when the statement execution or consuming its result failed.
+	 *
+	 * @param execution the failed execution.
+	 * @param error the error, not yet translated into a {@link org.springframework.dao.DataAccessException}.
+	 */
+	default void onError(CqlExecution execution, Throwable error) {}
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+
+/**
+ * {@link CqlExecutionListener} aggregating execution metrics per {@link CqlExecution#getFingerprint() CQL
+ * fingerprint}. Metrics include the number of executions and errors, rows, pages, response bytes, driver warnings,
+ * speculative executions and a latency histogram to report tail latencies of each query shape.
+ * <p>
+ * Recording is lock-free and uses a fixed amount of memory per fingerprint. The number of tracked fingerprints is
+ * bounded; executions of further fingerprints are aggregated under {@link #OTHER_FINGERPRINT}.
+ *
+ * @since 3.3
+ * @see CassandraAccessor#setExecutionListener(CqlExecutionListener)
+ * @see ReactiveCassandraAccessor#setExecutionListener(CqlExecutionListener)
+ */
+public class CqlExecutionMetrics implements CqlExecutionListener {
+
+	/**
+	 * Default number of tracked fingerprints.
+	 */
+	public static final int DEFAULT_FINGERPRINT_LIMIT = 256;
+
+	/**
+	 * Fingerprint used to aggregate executions once the fingerprint limit is reached.
+	 */
+	public static final String OTHER_FINGERPRINT = "<other>";
+
+	private final int fingerprintLimit;
+
+	private final Map<String, StatementMetrics> metrics = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link CqlExecutionMetrics} tracking up to {@link #DEFAULT_FINGERPRINT_LIMIT} fingerprints.
+	 */
+	public CqlExecutionMetrics() {
+		this(DEFAULT_FINGERPRINT_LIMIT);
+	}
+
+	/**
+	 * Create a new {@link CqlExecutionMetrics} tracking up to {@code fingerprintLimit} fingerprints.
+	 *
+	 * @param fingerprintLimit the maximum number of tracked fingerprints, must be greater than zero.
+	 */
+	public CqlExecutionMetrics(int fingerprintLimit) {
+
+		Assert.isTrue(fingerprintLimit > 0, "Fingerprint limit must be greater than zero");
+
+		this.fingerprintLimit = fingerprintLimit;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlExecutionListener#onPage(org.springframework.data.cassandra.core.cql.CqlExecution, com.datastax.oss.driver.api.core.cql.ExecutionInfo)
+	 */
+	@Override
+	public void onPage(CqlExecution execution, ExecutionInfo executionInfo) {
+		getOrCreate(execution.getFingerprint()).recordPage(executionInfo);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlExecutionListener#onFinish(org.springframework.data.cassandra.core.cql.CqlExecution)
+	 */
+	@Override
+	public void onFinish(CqlExecution execution) {
+		getOrCreate(execution.getFingerprint()).recordExecution(execution, false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlExecutionListener#onError(org.springframework.data.cassandra.core.cql.CqlExecution, java.lang.Throwable)
+	 */
+	@Override
+	public void onError(CqlExecution execution, Throwable error) {
+		getOrCreate(execution.getFingerprint()).recordExecution(execution, true);
+	}
+
+	/**
+	 * Return the metrics for {@code fingerprint}.
+	 *
+	 * @param fingerprint the CQL fingerprint.
+	 * @return the {@link StatementMetrics} or {@literal null} if no statement with {@code fingerprint} was recorded.
+	 */
+	@Nullable
+	public StatementMetrics getStatementMetrics(String fingerprint) {
+		return metrics.get(fingerprint);
+	}
+
+	/**
+	 * @return the metrics of all recorded fingerprints ordered by descending total latency.
+	 */
+	public List<StatementMetrics> getStatementMetrics() {
+
+		List<StatementMetrics> result = new ArrayList<>(metrics.values());
+		result.sort((left, right) -> Long.compare(right.getTotalLatencyMicros(), left.getTotalLatencyMicros()));
+
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Discard all recorded metrics.
+	 */
+	public void reset() {
+		metrics.clear();
+	}
+
+	private StatementMetrics getOrCreate(String fingerprint) {
+
+		StatementMetrics statementMetrics = metrics.get(fingerprint);
+
+		if (statementMetrics != null) {
+			return statementMetrics;
+		}
+
+		String fingerprintToUse = metrics.size() < fingerprintLimit ? fingerprint : OTHER_FINGERPRINT;
+
+		return metrics.computeIfAbsent(fingerprintToUse, StatementMetrics::new);
+	}
+
+	/**
+	 * Metrics of statements sharing a CQL fingerprint.
+	 */
+	public static class StatementMetrics {
+
+		private final String fingerprint;
+
+		private final LongAdder errors = new LongAdder();
+
+		private final LongAdder rows = new LongAdder();
+
+		private final LongAdder pages = new LongAdder();
+
+		private final LongAdder responseBytes = new LongAdder();
+
+		private final LongAdder warnings = new LongAdder();
+
+		private final LongAdder speculativeExecutions = new LongAdder();
+
+		private final LongAdder totalLatency = new LongAdder();
+
+		private final LatencyHistogram latency = new LatencyHistogram();
+
+		StatementMetrics(String fingerprint) {
+			this.fingerprint = fingerprint;
+		}
+
+		void recordPage(ExecutionInfo executionInfo) {
+
+			pages.increment();
+			responseBytes.add(Math.max(executionInfo.getResponseSizeInBytes(), 0));
+			warnings.add(executionInfo.getWarnings().size());
+			speculativeExecutions.add(executionInfo.getSpeculativeExecutionCount());
+		}
+
+		void recordExecution(CqlExecution execution, boolean error) {
+
+			long micros = TimeUnit.NANOSECONDS.toMicros(execution.getElapsedTime().toNanos());
+
+			latency.record(micros);
+			totalLatency.add(micros);
+			rows.add(execution.getRowCount());
+
+			if (error) {
+				errors.increment();
+			}
+		}
+
+		/**
+		 * @return the CQL fingerprint.
+		 */
+		public String getFingerprint() {
+			return fingerprint;
+		}
+
+		/**
+		 * @return the number of executions including failed ones.
+		 */
+		public long getExecutionCount() {
+			return latency.getCount();
+		}
+
+		/**
+		 * @return the number of failed executions.
+		 */
+		public long getErrorCount() {
+			return errors.sum();
+		}
+
+		/**
+		 * @return the number of rows read.
+		 */
+		public long getRowCount() {
+			return rows.sum();
+		}
+
+		/**
+		 * @return the number of result pages received.
+		 */
+		public long getPageCount() {
+			return pages.sum();
+		}
+
+		/**
+		 * @return the size of received responses in bytes.
+		 */
+		public long getResponseBytes() {
+			return responseBytes.sum();
+		}
+
+		/**
+		 * @return the number of warnings reported by coordinators, such as tombstone warnings.
+		 */
+		public long getWarningCount() {
+			return warnings.sum();
+		}
+
+		/**
+		 * @return the number of speculative executions started by the driver.
+		 */
+		public long getSpeculativeExecutionCount() {
+			return speculativeExecutions.sum();
+		}
+
+		/**
+		 * Return the latency at {@code percentile} with a relative error of about 3%.
+		 *
+		 * @param percentile the percentile between {@literal 0} and {@literal 100}, e.g. {@literal 99.9}.
+		 * @return the latency at {@code percentile}.
+		 */
+		public Duration getLatency(double percentile) {
+			return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latency.getValueAtPercentile(percentile)));
+		}
+
+		/**
+		 * @return the mean latency.
+		 */
+		public Duration getMeanLatency() {
+			return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(Math.round(latency.getMean())));
+		}
+
+		/**
+		 * @return the maximum latency.
+		 */
+		public Duration getMaxLatency() {
+			return Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(latency.getMax()));
+		}
+
+		long getTotalLatencyMicros() {
+			return totalLatency.sum();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("%s: executions=%d, errors=%d, rows=%d, p50=%s, p99=%s, max=%s", fingerprint,
+					getExecutionCount(), getErrorCount(), getRowCount(), getLatency(50), getLatency(99), getMaxLatency());
+		}
+	}
+}
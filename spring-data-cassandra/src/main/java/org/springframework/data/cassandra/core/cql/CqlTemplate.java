@@ -171,9 +171,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
 			Statement<?> statement = applyStatementSettings(newStatement(cql));
 
-			ResultSet results = getCurrentSession().execute(statement);
-
-			return resultSetExtractor.extractData(results);
+			return query(getCurrentSession(), statement, resultSetExtractor);
 		} catch (DriverException e) {
 			throw translateException("Query", cql, e);
 		}
@@ -295,7 +293,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
 			}
 
-			return resultSetExtractor.extractData(getCurrentSession().execute(applyStatementSettings(statement)));
+			return query(getCurrentSession(), applyStatementSettings(statement), resultSetExtractor);
 		} catch (DriverException e) {
 			throw translateException("Query", statement.toString(), e);
 		}
@@ -537,9 +535,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 			Statement<?> boundStatement = applyStatementSettings(
 					psb != null ? psb.bindValues(preparedStatement) : preparedStatement.bind());
 
-			ResultSet results = session.execute(boundStatement);
-
-			return resultSetExtractor.extractData(results);
+			return query(session, boundStatement, resultSetExtractor);
 
 		} catch (DriverException e) {
 			throw translateException("Query", toCql(preparedStatementCreator), e);
@@ -829,6 +825,37 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return resultSet -> new ResultSetSpliterator<>(resultSet, rowMapper).stream();
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T query(CqlSession session, Statement<?> statement, ResultSetExtractor<T> resultSetExtractor) {
+
+		CqlExecution execution = CqlExecution.start(getExecutionListener(), statement);
+
+		if (execution == null) {
+			return resultSetExtractor.extractData(session.execute(statement));
+		}
+
+		try {
+
+			T result = resultSetExtractor
+					.extractData(new ObservingResultSets.ObservingResultSet(session.execute(statement), execution));
+
+			// streams consume rows lazily and finish once exhausted or closed
+			if (result instanceof Stream) {
+				return (T) ((Stream<?>) result).onClose(execution::onFinish);
+			}
+
+			execution.onFinish();
+
+			return result;
+		} catch (RuntimeException e) {
+
+			execution.onError(e);
+
+			throw e;
+		}
+	}
+
 	private CqlSession getCurrentSession() {
 
 		SessionFactory sessionFactory = getSessionFactory();
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Concurrent latency histogram with log-linear buckets in the style of HdrHistogram. Values are recorded in
+ * microseconds into buckets covering powers of two, each divided into {@value #SUB_BUCKETS} linear sub-buckets, which
+ * bounds the relative error of reported percentiles to about 3% at a fixed memory footprint. Values exceeding
+ * {@link #MAX_VALUE} are recorded as {@link #MAX_VALUE}.
+ *
+ * @since 3.3
+ */
+class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	static final long MAX_VALUE = (1L << 32) - 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_VALUE) + 1);
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder total = new LongAdder();
+
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	/**
+	 * Record a value.
+	 *
+	 * @param value the value to record, must not be negative.
+	 */
+	void record(long value) {
+
+		Assert.isTrue(value >= 0, "Value must not be negative");
+
+		long valueToUse = Math.min(value, MAX_VALUE);
+
+		counts.incrementAndGet(indexOf(valueToUse));
+		count.increment();
+		total.add(valueToUse);
+		max.accumulate(valueToUse);
+	}
+
+	/**
+	 * @return the number of recorded values.
+	 */
+	long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the largest recorded value or {@literal 0} if no value was recorded.
+	 */
+	long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * @return the mean of the recorded values or {@literal 0} if no value was recorded.
+	 */
+	double getMean() {
+
+		long count = getCount();
+
+		return count == 0 ? 0 : (double) total.sum() / count;
+	}
+
+	/**
+	 * Return the value at {@code percentile}, the highest value equivalent to the bucket containing the percentile.
+	 *
+	 * @param percentile the percentile between {@literal 0} and {@literal 100}.
+	 * @return the value at {@code percentile} or {@literal 0} if no value was recorded.
+	 */
+	long getValueAtPercentile(double percentile) {
+
+		Assert.isTrue(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+
+		long[] snapshot = new long[counts.length()];
+		long count = 0;
+
+		for (int i = 0; i < snapshot.length; i++) {
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+
+		if (count == 0) {
+			return 0;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+
+		for (int i = 0; i < snapshot.length; i++) {
+
+			seen += snapshot[i];
+
+			if (seen >= rank) {
+				return Math.min(highestEquivalentValue(i), getMax());
+			}
+		}
+
+		return getMax();
+	}
+
+	static int indexOf(long value) {
+
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+
+		return shift * SUB_BUCKETS + (int) (value >>> shift);
+	}
+
+	static long highestEquivalentValue(int index) {
+
+		if (index < 2 * SUB_BUCKETS) {
+			return index;
+		}
+
+		int shift = index / SUB_BUCKETS - 1;
+		long mantissa = index - (long) shift * SUB_BUCKETS;
+
+		return ((mantissa + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import reactor.core.publisher.Flux;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.data.cassandra.ReactiveResultSet;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Result set decorators reporting received pages and consumed rows to a {@link CqlExecution}.
+ *
+ * @since 3.3
+ */
+class ObservingResultSets {
+
+	private ObservingResultSets() {}
+
+	/**
+	 * {@link ResultSet} reporting pages fetched and rows read while iterating. Iterating past the last row finishes the
+	 * execution so that lazily consumed results report their execution once they are exhausted.
+	 */
+	static class ObservingResultSet implements ResultSet {
+
+		private final ResultSet delegate;
+
+		private final CqlExecution execution;
+
+		private int observedPages;
+
+		private boolean fullyObserved;
+
+		ObservingResultSet(ResultSet delegate, CqlExecution execution) {
+
+			this.delegate = delegate;
+			this.execution = execution;
+
+			observePages();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#getColumnDefinitions()
+		 */
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return delegate.getColumnDefinitions();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#getExecutionInfos()
+		 */
+		@Override
+		public List<ExecutionInfo> getExecutionInfos() {
+			return delegate.getExecutionInfos();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#isFullyFetched()
+		 */
+		@Override
+		public boolean isFullyFetched() {
+			return delegate.isFullyFetched();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.PagingIterable#getAvailableWithoutFetching()
+		 */
+		@Override
+		public int getAvailableWithoutFetching() {
+			return delegate.getAvailableWithoutFetching();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.ResultSet#wasApplied()
+		 */
+		@Override
+		public boolean wasApplied() {
+			return delegate.wasApplied();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Iterable#iterator()
+		 */
+		@Override
+		public Iterator<Row> iterator() {
+
+			Iterator<Row> iterator = delegate.iterator();
+
+			return new Iterator<Row>() {
+
+				@Override
+				public boolean hasNext() {
+
+					try {
+
+						boolean hasNext = iterator.hasNext();
+						observePages();
+
+						if (!hasNext) {
+							execution.onFinish();
+						}
+
+						return hasNext;
+					} catch (RuntimeException e) {
+
+						execution.onError(e);
+
+						throw e;
+					}
+				}
+
+				@Override
+				public Row next() {
+
+					try {
+
+						Row row = iterator.next();
+
+						execution.onRows(1);
+						observePages();
+
+						return row;
+					} catch (RuntimeException e) {
+
+						execution.onError(e);
+
+						throw e;
+					}
+				}
+			};
+		}
+
+		private void observePages() {
+
+			if (fullyObserved) {
+				return;
+			}
+
+			List<ExecutionInfo> executionInfos = delegate.getExecutionInfos();
+
+			while (observedPages < executionInfos.size()) {
+				execution.onPage(executionInfos.get(observedPages++));
+			}
+
+			fullyObserved = delegate.isFullyFetched();
+		}
+	}
+
+	/**
+	 * {@link AsyncResultSet} reporting its page, pages fetched subsequently and rows read from each page.
+	 */
+	static class ObservingAsyncResultSet implements AsyncResultSet {
+
+		private final AsyncResultSet delegate;
+
+		private final CqlExecution execution;
+
+		ObservingAsyncResultSet(AsyncResultSet delegate, CqlExecution execution) {
+
+			this.delegate = delegate;
+			this.execution = execution;
+
+			execution.onPage(delegate.getExecutionInfo());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#getColumnDefinitions()
+		 */
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return delegate.getColumnDefinitions();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#getExecutionInfo()
+		 */
+		@Override
+		public ExecutionInfo getExecutionInfo() {
+			return delegate.getExecutionInfo();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#remaining()
+		 */
+		@Override
+		public int remaining() {
+			return delegate.remaining();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#currentPage()
+		 */
+		@Override
+		public Iterable<Row> currentPage() {
+
+			Iterable<Row> page = delegate.currentPage();
+
+			return () -> {
+
+				Iterator<Row> iterator = page.iterator();
+
+				return new Iterator<Row>() {
+
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Row next() {
+
+						Row row = iterator.next();
+
+						execution.onRows(1);
+
+						return row;
+					}
+				};
+			};
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#hasMorePages()
+		 */
+		@Override
+		public boolean hasMorePages() {
+			return delegate.hasMorePages();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.AsyncPagingIterable#fetchNextPage()
+		 */
+		@Override
+		public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
+			return delegate.fetchNextPage().thenApply(it -> new ObservingAsyncResultSet(it, execution));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.datastax.oss.driver.api.core.cql.AsyncResultSet#wasApplied()
+		 */
+		@Override
+		public boolean wasApplied() {
+			return delegate.wasApplied();
+		}
+	}
+
+	/**
+	 * {@link ReactiveResultSet} reporting its pages and counting emitted rows. Pages fetched transparently by
+	 * {@link #rows()} are reported as {@link ReactiveResultSet#getAllExecutionInfo()} reports them.
+	 */
+	static class ObservingReactiveResultSet implements ReactiveResultSet {
+
+		private final ReactiveResultSet delegate;
+
+		private final CqlExecution execution;
+
+		private int observedPages = 1;
+
+		ObservingReactiveResultSet(ReactiveResultSet delegate, CqlExecution execution) {
+
+			this.delegate = delegate;
+			this.execution = execution;
+
+			execution.onPage(delegate.getExecutionInfo());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#rows()
+		 */
+		@Override
+		public Flux<Row> rows() {
+
+			return delegate.rows() //
+					.doOnNext(it -> {
+
+						observePages();
+						execution.onRows(1);
+					}) //
+					.doOnComplete(this::observePages);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#availableRows()
+		 */
+		@Override
+		public Flux<Row> availableRows() {
+			return delegate.availableRows().doOnNext(it -> execution.onRows(1));
+		}
+
+		private synchronized void observePages() {
+
+			List<ExecutionInfo> executionInfos = delegate.getAllExecutionInfo();
+
+			while (observedPages < executionInfos.size()) {
+				execution.onPage(executionInfos.get(observedPages++));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#getColumnDefinitions()
+		 */
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return delegate.getColumnDefinitions();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#wasApplied()
+		 */
+		@Override
+		public boolean wasApplied() {
+			return delegate.wasApplied();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#getExecutionInfo()
+		 */
+		@Override
+		public ExecutionInfo getExecutionInfo() {
+			return delegate.getExecutionInfo();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#getAllExecutionInfo()
+		 */
+		@Override
+		public List<ExecutionInfo> getAllExecutionInfo() {
+			return delegate.getAllExecutionInfo();
+		}
+	}
+}
@@ -43,6 +43,8 @@ public class QueryOptions {
 
 	private final ExecutionProfileResolver executionProfileResolver;
 
+	private final @Nullable Boolean idempotent;
+
 	private final @Nullable CqlIdentifier keyspace;
 
 	private final @Nullable Integer pageSize;
@@ -53,17 +55,42 @@ public class QueryOptions {
 
 	private final @Nullable Boolean tracing;
 
+	private final @Nullable Duration resultCacheTtl;
+
 	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
 			@Nullable CqlIdentifier keyspace, @Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel,
 			Duration timeout, @Nullable Boolean tracing) {
+		this(consistencyLevel, executionProfileResolver, null, keyspace, pageSize, serialConsistencyLevel, timeout,
+				tracing);
+	}
+
+	/**
+	 * @since 3.3
+	 */
+	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
+			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
+			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, @Nullable Boolean tracing) {
+		this(consistencyLevel, executionProfileResolver, idempotent, keyspace, pageSize, serialConsistencyLevel, timeout,
+				tracing, null);
+	}
+
+	/**
+	 * @since 3.3
+	 */
+	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
+			@Nullable Boolean idempotent, @Nullable CqlIdentifier keyspace, @Nullable Integer pageSize,
+			@Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, @Nullable Boolean tracing,
+			@Nullable Duration resultCacheTtl) {
 
 		this.consistencyLevel = consistencyLevel;
 		this.executionProfileResolver = executionProfileResolver;
+		this.idempotent = idempotent;
 		this.keyspace = keyspace;
 		this.pageSize = pageSize;
 		this.serialConsistencyLevel = serialConsistencyLevel;
 		this.timeout = timeout;
 		this.tracing = tracing;
+		this.resultCacheTtl = resultCacheTtl;
 	}
 
 	/**
@@ -113,6 +140,17 @@ public class QueryOptions {
 		return this.executionProfileResolver;
 	}
 
+	/**
+	 * @return whether the query is idempotent. May be {@literal null} if not set, in which case the idempotence inferred
+	 *         from the statement or the driver default applies.
+	 * @since 3.3
+	 * @see com.datastax.oss.driver.api.core.cql.Statement#setIdempotent(Boolean)
+	 */
+	@Nullable
+	protected Boolean getIdempotent() {
+		return this.idempotent;
+	}
+
 	/**
 	 * @return the number of rows to fetch per chunking request. May be {@literal null} if not set.
 	 * @since 1.5
@@ -160,6 +198,16 @@ public class QueryOptions {
 		return this.tracing;
 	}
 
+	/**
+	 * @return the time to live of cached query results. May be {@literal null} if results should not be cached.
+	 * @since 3.3
+	 * @see org.springframework.data.cassandra.core.QueryResultCache
+	 */
+	@Nullable
+	public Duration getResultCacheTtl() {
+		return this.resultCacheTtl;
+	}
+
 	/**
 	 * @return the keyspace associated with the query. If it is {@literal null}, it means that either keyspace configured
 	 *         on the statement or from the {@link CqlSession} will be used.
@@ -195,6 +243,10 @@ public class QueryOptions {
 			return false;
 		}
 
+		if (!ObjectUtils.nullSafeEquals(idempotent, options.idempotent)) {
+			return false;
+		}
+
 		if (!ObjectUtils.nullSafeEquals(pageSize, options.pageSize)) {
 			return false;
 		}
@@ -211,6 +263,10 @@ public class QueryOptions {
 			return false;
 		}
 
+		if (!ObjectUtils.nullSafeEquals(resultCacheTtl, options.resultCacheTtl)) {
+			return false;
+		}
+
 		return ObjectUtils.nullSafeEquals(keyspace, options.keyspace);
 	}
 
@@ -222,10 +278,12 @@ public class QueryOptions {
 	public int hashCode() {
 		int result = ObjectUtils.nullSafeHashCode(consistencyLevel);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(executionProfileResolver);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(idempotent);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(pageSize);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(serialConsistencyLevel);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(timeout);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(tracing);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(resultCacheTtl);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(keyspace);
 		return result;
 	}
@@ -242,6 +300,8 @@ public class QueryOptions {
 
 		protected ExecutionProfileResolver executionProfileResolver = ExecutionProfileResolver.none();
 
+		protected @Nullable Boolean idempotent;
+
 		protected @Nullable CqlIdentifier keyspace;
 
 		protected @Nullable Integer pageSize;
@@ -252,17 +312,40 @@ public class QueryOptions {
 
 		protected @Nullable Boolean tracing;
 
+		protected @Nullable Duration resultCacheTtl;
+
 		QueryOptionsBuilder() {}
 
 		QueryOptionsBuilder(QueryOptions queryOptions) {
 
 			this.consistencyLevel = queryOptions.consistencyLevel;
 			this.executionProfileResolver = queryOptions.executionProfileResolver;
+			this.idempotent = queryOptions.idempotent;
 			this.keyspace = queryOptions.keyspace;
 			this.pageSize = queryOptions.pageSize;
 			this.serialConsistencyLevel = queryOptions.serialConsistencyLevel;
 			this.timeout = queryOptions.timeout;
 			this.tracing = queryOptions.tracing;
+			this.resultCacheTtl = queryOptions.resultCacheTtl;
+		}
+
+		/**
+		 * Enables caching of query results for {@code ttl} if the query is executed by a template configured with a
+		 * {@link org.springframework.data.cassandra.core.QueryResultCache}. Cached results are invalidated when the template
+		 * writes to the queried table. Write options ignore this setting.
+		 *
+		 * @param ttl the time to live of cached results, must be positive.
+		 * @return {@code this} {@link QueryOptionsBuilder}
+		 * @since 3.3
+		 */
+		public QueryOptionsBuilder cacheResults(Duration ttl) {
+
+			Assert.notNull(ttl, "TTL must not be null");
+			Assert.isTrue(!ttl.isZero() && !ttl.isNegative(), "TTL must be positive");
+
+			this.resultCacheTtl = ttl;
+
+			return this;
 		}
 
 		/**
@@ -325,6 +408,22 @@ public class QueryOptions {
 			return pageSize(fetchSize);
 		}
 
+		/**
+		 * Marks the query as idempotent or non-idempotent. Idempotent queries can be retried and speculatively executed by
+		 * the driver. Overrides the idempotence inferred from statements created by the framework.
+		 *
+		 * @param idempotent {@literal true} if the query is idempotent.
+		 * @return {@code this} {@link QueryOptionsBuilder}
+		 * @since 3.3
+		 * @see com.datastax.oss.driver.api.core.cql.Statement#setIdempotent(Boolean)
+		 */
+		public QueryOptionsBuilder idempotent(boolean idempotent) {
+
+			this.idempotent = idempotent;
+
+			return this;
+		}
+
 		/**
 		 * Sets the {@link CqlIdentifier keyspace} to use. If left unconfigured, then the keyspace set on the statement or
 		 * {@link CqlSession} will be used.
@@ -477,8 +576,8 @@ public class QueryOptions {
 		 * @return a new {@link QueryOptions} with the configured values
 		 */
 		public QueryOptions build() {
-			return new QueryOptions(this.consistencyLevel, this.executionProfileResolver, this.keyspace, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.tracing);
+			return new QueryOptions(this.consistencyLevel, this.executionProfileResolver, this.idempotent, this.keyspace,
+					this.pageSize, this.serialConsistencyLevel, this.timeout, this.tracing, this.resultCacheTtl);
 		}
 	}
 }
@@ -59,6 +59,10 @@ public abstract class QueryOptionsUtil {
 
 		statementToUse = queryOptions.getExecutionProfileResolver().apply(statementToUse);
 
+		if (queryOptions.getIdempotent() != null) {
+			statementToUse = statementToUse.setIdempotent(queryOptions.getIdempotent());
+		}
+
 		if (queryOptions.getPageSize() != null) {
 			statementToUse = statementToUse.setPageSize(queryOptions.getPageSize());
 		}
@@ -46,6 +46,8 @@ public abstract class ReactiveCassandraAccessor implements InitializingBean {
 
 	private @Nullable ReactiveSessionFactory sessionFactory;
 
+	private @Nullable CqlExecutionListener executionListener;
+
 	/**
 	 * Sets the {@link ReactiveSessionFactory} to use.
 	 *
@@ -93,6 +95,28 @@ public abstract class ReactiveCassandraAccessor implements InitializingBean {
 		return this.exceptionTranslator;
 	}
 
+	/**
+	 * Set the {@link CqlExecutionListener} to notify about statements executed by this template. Setting a listener
+	 * reports each statement execution along with its result pages and consumed rows.
+	 *
+	 * @param executionListener the listener to notify, can be {@literal null} to disable notifications.
+	 * @since 3.3
+	 * @see CqlExecutionMetrics
+	 */
+	public void setExecutionListener(@Nullable CqlExecutionListener executionListener) {
+		this.executionListener = executionListener;
+	}
+
+	/**
+	 * @return the {@link CqlExecutionListener} notified about statements executed by this template, can be
+	 *         {@literal null}.
+	 * @since 3.3
+	 */
+	@Nullable
+	public CqlExecutionListener getExecutionListener() {
+		return this.executionListener;
+	}
+
 	/**
 	 * Ensures the Cassandra {@link ReactiveSessionFactory} and exception translator has been properly set.
 	 */
@@ -30,6 +30,7 @@ import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.ReactiveSessionFactory;
 import org.springframework.data.cassandra.core.cql.session.DefaultReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -97,6 +98,11 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	private ExecutionProfileResolver executionProfileResolver = ExecutionProfileResolver.none();
 
+	/**
+	 * If this variable is set to a value, it will be used to cache prepared statements.
+	 */
+	private @Nullable BoundedPreparedStatementCache preparedStatementCache;
+
 	/**
 	 * If this variable is set to a value, it will be used for setting the {@code keyspace} property on statements used
 	 * for query processing.
@@ -291,6 +297,29 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return this.serialConsistencyLevel;
 	}
 
+	/**
+	 * Set the {@link BoundedPreparedStatementCache} to cache {@link PreparedStatement prepared statements} created for
+	 * static CQL with bind values. Concurrent requests for the same statement share a single in-flight preparation.
+	 * Statements are prepared with the settings of this template, therefore a cache should not be shared across
+	 * templates using different settings. Prepared statements are not cached by default.
+	 *
+	 * @param preparedStatementCache the cache to use, can be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setPreparedStatementCache(@Nullable BoundedPreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * @return the {@link BoundedPreparedStatementCache} used to cache prepared statements or {@literal null} if
+	 *         prepared statements are not cached.
+	 * @since 3.3
+	 */
+	@Nullable
+	public BoundedPreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain org.springframework.data.cassandra.core.cql.ReactiveSession
 	// -------------------------------------------------------------------------
@@ -443,7 +472,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
 			}
 
-			return session.execute(applyStatementSettings(statement)).flatMapMany(rse::extractData);
+			return query(session, applyStatementSettings(statement), rse);
 		}).onErrorMap(translateException("Query", statement.toString()));
 	}
 
@@ -510,7 +539,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				logger.debug("Executing statement [{}]", QueryExtractorDelegate.getCql(statement));
 			}
 
-			return session.execute(applyStatementSettings(executedStatement));
+			return execute(session, applyStatementSettings(executedStatement));
 		}).onErrorMap(translateException("QueryForResultSet", statement.toString()));
 	}
 
@@ -577,8 +606,8 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 					? preparedStatementBinder.bindValues(preparedStatement)
 					: preparedStatement.bind());
 
-			return session.execute(applyStatementSettings(boundStatement));
-		}).flatMap(rse::extractData)).onErrorMap(translateException("Query", getCql(psc)));
+			return query(session, applyStatementSettings(boundStatement), rse);
+		})).onErrorMap(translateException("Query", getCql(psc)));
 	}
 
 	/* (non-Javadoc)
@@ -743,7 +772,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 
 			BoundStatement boundStatement = newArgPreparedStatementBinder(objects).bindValues(ps);
 
-			return session.execute(applyStatementSettings(boundStatement));
+			return execute(session, applyStatementSettings(boundStatement));
 
 		}).map(ReactiveResultSet::wasApplied));
 	}
@@ -763,7 +792,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	protected ReactivePreparedStatementCreator newReactivePreparedStatementCreator(String cql) {
 		return new SimpleReactivePreparedStatementCreator(
-				(SimpleStatement) applyStatementSettings(SimpleStatement.newInstance(cql)));
+				(SimpleStatement) applyStatementSettings(SimpleStatement.newInstance(cql)), getPreparedStatementCache());
 	}
 
 	/**
@@ -900,6 +929,46 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return new ArgumentPreparedStatementBinder(args);
 	}
 
+	private <T> Flux<T> query(ReactiveSession session, Statement<?> statement, ReactiveResultSetExtractor<T> rse) {
+
+		CqlExecutionListener listener = getExecutionListener();
+
+		if (listener == null) {
+			return session.execute(statement).flatMapMany(rse::extractData);
+		}
+
+		return Flux.defer(() -> {
+
+			CqlExecution execution = CqlExecution.start(listener, statement);
+
+			return session.execute(statement) //
+					.flatMapMany(it -> rse.extractData(new ObservingResultSets.ObservingReactiveResultSet(it, execution))) //
+					.doOnComplete(execution::onFinish) //
+					.doOnCancel(execution::onFinish) //
+					.doOnError(execution::onError);
+		});
+	}
+
+	private Mono<ReactiveResultSet> execute(ReactiveSession session, Statement<?> statement) {
+
+		CqlExecutionListener listener = getExecutionListener();
+
+		if (listener == null) {
+			return session.execute(statement);
+		}
+
+		return Mono.defer(() -> {
+
+			CqlExecution execution = CqlExecution.start(listener, statement);
+
+			return session.execute(statement) //
+					.map(it -> (ReactiveResultSet) new ObservingResultSets.ObservingReactiveResultSet(it, execution)) //
+					.doOnSuccess(it -> execution.onFinish()) //
+					.doOnCancel(execution::onFinish) //
+					.doOnError(execution::onError);
+		});
+	}
+
 	private Mono<ReactiveSession> getSession() {
 
 		ReactiveSessionFactory sessionFactory = getSessionFactory();
@@ -925,13 +994,22 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 
 		private final SimpleStatement statement;
 
-		SimpleReactivePreparedStatementCreator(SimpleStatement statement) {
+		private final @Nullable BoundedPreparedStatementCache cache;
+
+		SimpleReactivePreparedStatementCreator(SimpleStatement statement, @Nullable BoundedPreparedStatementCache cache) {
 			this.statement = statement;
+			this.cache = cache;
 		}
 
 		@Override
 		public Mono<PreparedStatement> createPreparedStatement(ReactiveSession session) throws DriverException {
-			return session.prepare(this.statement);
+
+			if (this.cache == null) {
+				return session.prepare(this.statement);
+			}
+
+			return Mono.fromCompletionStage(() -> this.cache.getPreparedStatementAsync(session,
+					session.getKeyspace().orElse(null), this.statement, () -> session.prepare(this.statement).toFuture()));
 		}
 
 		@Override
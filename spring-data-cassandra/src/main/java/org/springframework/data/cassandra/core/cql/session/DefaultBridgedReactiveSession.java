@@ -16,15 +16,25 @@
 package org.springframework.data.cassandra.core.cql.session;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoProcessor;
 import reactor.core.scheduler.Scheduler;
 
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,8 +66,10 @@ import com.datastax.oss.driver.api.core.metadata.Metadata;
  * are executed by subscribing to {@link CompletionStage} and returning the result as calls complete.
  * <p>
  * Elements are emitted on netty EventLoop threads. {@link AsyncResultSet} allows {@link AsyncResultSet#fetchNextPage()}
- * asynchronous requesting} of subsequent pages. The next page is requested after emitting all elements of the previous
- * page. However, this is an intermediate solution until Datastax can provide a fully reactive driver.
+ * asynchronous requesting} of subsequent pages. By default, the next page is requested after emitting all elements of
+ * the previous page. A {@link PagePrefetchPolicy} allows requesting subsequent pages ahead of time while rows of the
+ * current page are emitted. However, this is an intermediate solution until Datastax can provide a fully reactive
+ * driver.
  * <p>
  * All CQL operations performed by this class are logged at debug level, using
  * {@code org.springframework.data.cassandra.core.cql.DefaultBridgedReactiveSession} as log category.
@@ -77,6 +89,8 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 
 	private final CqlSession session;
 
+	private final PagePrefetchPolicy prefetchPolicy;
+
 	/**
 	 * Create a new {@link DefaultBridgedReactiveSession} for a {@link CqlSession}.
 	 *
@@ -84,10 +98,32 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 	 * @since 2.1
 	 */
 	public DefaultBridgedReactiveSession(CqlSession session) {
+		this(session, PagePrefetchPolicy.none());
+	}
+
+	/**
+	 * Create a new {@link DefaultBridgedReactiveSession} for a {@link CqlSession} using the given
+	 * {@link PagePrefetchPolicy} to fetch subsequent result pages.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param prefetchPolicy must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public DefaultBridgedReactiveSession(CqlSession session, PagePrefetchPolicy prefetchPolicy) {
 
 		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(prefetchPolicy, "PagePrefetchPolicy must not be null");
 
 		this.session = session;
+		this.prefetchPolicy = prefetchPolicy;
+	}
+
+	/**
+	 * @return the {@link PagePrefetchPolicy} used to fetch subsequent result pages.
+	 * @since 3.3
+	 */
+	public PagePrefetchPolicy getPrefetchPolicy() {
+		return this.prefetchPolicy;
 	}
 
 	/* (non-Javadoc)
@@ -170,7 +206,7 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 			}
 
 			return this.session.executeAsync(statement);
-		}).map(DefaultReactiveResultSet::new);
+		}).map(it -> new DefaultReactiveResultSet(it, this.prefetchPolicy));
 	}
 
 	/* (non-Javadoc)
@@ -243,10 +279,18 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 	static class DefaultReactiveResultSet implements ReactiveResultSet {
 
 		private final AsyncResultSet resultSet;
+		private final PagePrefetchPolicy prefetchPolicy;
 		private final boolean wasApplied;
+		private final List<ExecutionInfo> executionInfos = new CopyOnWriteArrayList<>();
 
 		DefaultReactiveResultSet(AsyncResultSet resultSet) {
+			this(resultSet, PagePrefetchPolicy.none());
+		}
+
+		DefaultReactiveResultSet(AsyncResultSet resultSet, PagePrefetchPolicy prefetchPolicy) {
+
 			this.resultSet = resultSet;
+			this.prefetchPolicy = prefetchPolicy;
 
 			boolean wasApplied;
 			try {
@@ -256,6 +300,7 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 			}
 
 			this.wasApplied = wasApplied;
+			this.executionInfos.add(resultSet.getExecutionInfo());
 		}
 
 		/* (non-Javadoc)
@@ -263,6 +308,12 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		 */
 		@Override
 		public Flux<Row> rows() {
+
+			if (this.prefetchPolicy.isEnabled() && this.resultSet.hasMorePages()) {
+				return Flux.create(sink -> new PrefetchingRowEmitter(this.resultSet, this.prefetchPolicy, sink,
+						it -> this.executionInfos.add(it.getExecutionInfo())).start());
+			}
+
 			return getRows(Mono.just(this.resultSet));
 		}
 
@@ -286,7 +337,8 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 
 				MonoProcessor<AsyncResultSet> processor = MonoProcessor.create();
 
-				return rows.doOnComplete(() -> fetchMore(it.fetchNextPage(), processor)).concatWith(getRows(processor));
+				return rows.doOnComplete(() -> fetchMore(it.fetchNextPage(), processor))
+						.concatWith(getRows(processor.doOnNext(next -> this.executionInfos.add(next.getExecutionInfo()))));
 			});
 		}
 
@@ -342,8 +394,186 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		 */
 		@Override
 		public List<ExecutionInfo> getAllExecutionInfo() {
-			return Collections.singletonList(getExecutionInfo());
+			return Collections.unmodifiableList(this.executionInfos);
 		}
 	}
 
+	/**
+	 * Emits rows of an {@link AsyncResultSet} and its subsequent pages while fetching pages ahead according to a
+	 * {@link PagePrefetchPolicy}. Rows are emitted only as requested by the subscriber. Emission is serialized through a
+	 * work-in-progress counter as rows can be requested by the subscriber and pages can arrive on driver threads
+	 * concurrently.
+	 */
+	static class PrefetchingRowEmitter {
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private final Deque<CompletableFuture<AsyncResultSet>> pagesAhead = new ArrayDeque<>();
+
+		private final PagePrefetchPolicy policy;
+
+		private final FluxSink<Row> sink;
+
+		private final Consumer<AsyncResultSet> pageListener;
+
+		private AsyncResultSet current;
+
+		private Iterator<Row> rows;
+
+		private int remaining;
+
+		private boolean done;
+
+		PrefetchingRowEmitter(AsyncResultSet resultSet, PagePrefetchPolicy policy, FluxSink<Row> sink,
+				Consumer<AsyncResultSet> pageListener) {
+
+			this.policy = policy;
+			this.sink = sink;
+			this.pageListener = pageListener;
+
+			setCurrent(resultSet);
+		}
+
+		void start() {
+
+			sink.onRequest(ignore -> drain());
+			sink.onDispose(this::drain);
+		}
+
+		private void setCurrent(AsyncResultSet resultSet) {
+
+			this.current = resultSet;
+			this.rows = resultSet.currentPage().iterator();
+			this.remaining = resultSet.remaining();
+		}
+
+		private void drain() {
+
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			int missed = 1;
+
+			for (;;) {
+
+				if (done || sink.isCancelled()) {
+					pagesAhead.clear();
+					done = true;
+					return;
+				}
+
+				long requested = sink.requestedFromDownstream();
+
+				if (requested > 0) {
+					prefetch();
+				}
+
+				while (requested > 0 && rows.hasNext()) {
+
+					if (sink.isCancelled()) {
+						break;
+					}
+
+					sink.next(rows.next());
+					remaining--;
+					requested--;
+
+					if (remaining <= policy.getLowWatermark()) {
+						prefetch();
+					}
+				}
+
+				if (!sink.isCancelled() && !rows.hasNext()) {
+
+					if (!current.hasMorePages()) {
+						done = true;
+						sink.complete();
+						continue;
+					}
+
+					if (pagesAhead.isEmpty() && requested > 0) {
+						pagesAhead.add(fetchNextPage(current));
+					}
+
+					CompletableFuture<AsyncResultSet> next = pagesAhead.peekFirst();
+
+					if (next != null && next.isDone()) {
+
+						pagesAhead.removeFirst();
+
+						try {
+							setCurrent(next.join());
+							pageListener.accept(current);
+						} catch (CompletionException | CancellationException e) {
+
+							done = true;
+							sink.error(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+						}
+
+						continue;
+					}
+				}
+
+				missed = wip.addAndGet(-missed);
+
+				if (missed == 0) {
+					return;
+				}
+			}
+		}
+
+		private void prefetch() {
+
+			while (pagesAhead.size() < policy.getMaxPagesAhead()) {
+
+				CompletableFuture<AsyncResultSet> last = pagesAhead.peekLast();
+
+				// tail page not yet available, its completion drains again
+				if (last != null && (!last.isDone() || last.isCompletedExceptionally())) {
+					return;
+				}
+
+				AsyncResultSet tail = last != null ? last.join() : current;
+
+				if (!tail.hasMorePages()) {
+					return;
+				}
+
+				if (getBufferedRows() > policy.getLowWatermark()) {
+					return;
+				}
+
+				pagesAhead.add(fetchNextPage(tail));
+			}
+		}
+
+		private long getBufferedRows() {
+
+			long buffered = Math.max(remaining, 0);
+
+			// pages ahead complete in order so all pages are available once the tail page is available
+			for (CompletableFuture<AsyncResultSet> page : pagesAhead) {
+				buffered += page.join().remaining();
+			}
+
+			return buffered;
+		}
+
+		private CompletableFuture<AsyncResultSet> fetchNextPage(AsyncResultSet resultSet) {
+
+			CompletableFuture<AsyncResultSet> future;
+
+			try {
+				future = resultSet.fetchNextPage().toCompletableFuture();
+			} catch (Exception cause) {
+				future = new CompletableFuture<>();
+				future.completeExceptionally(cause);
+			}
+
+			future.whenComplete((rs, err) -> drain());
+
+			return future;
+		}
+	}
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy to prefetch subsequent result pages while emitting rows of a reactive result. Without prefetching, the next
+ * page is requested once all rows of the current page are emitted so that each page boundary awaits a full server
+ * round-trip.
+ * <p>
+ * A prefetching policy requests the next page once the number of buffered rows that were not yet emitted drops to the
+ * {@link #getLowWatermark() low watermark}. The number of pages that are fetched ahead of the currently emitted page is
+ * bounded by {@link #getMaxPagesAhead()}. Pages are prefetched only while the subscriber signals demand.
+ *
+ * @since 3.3
+ * @see DefaultBridgedReactiveSession
+ */
+public final class PagePrefetchPolicy {
+
+	private static final PagePrefetchPolicy NONE = new PagePrefetchPolicy(0, 0);
+
+	private final int lowWatermark;
+
+	private final int maxPagesAhead;
+
+	private PagePrefetchPolicy(int lowWatermark, int maxPagesAhead) {
+		this.lowWatermark = lowWatermark;
+		this.maxPagesAhead = maxPagesAhead;
+	}
+
+	/**
+	 * Create a policy that does not prefetch pages. The next page is requested after emitting all rows of the current
+	 * page.
+	 *
+	 * @return the {@link PagePrefetchPolicy} that does not prefetch pages.
+	 */
+	public static PagePrefetchPolicy none() {
+		return NONE;
+	}
+
+	/**
+	 * Create a policy that requests the next page as soon as the current page is emitted and keeps up to
+	 * {@code maxPagesAhead} pages fetched ahead.
+	 *
+	 * @param maxPagesAhead maximum number of pages to fetch ahead, must be greater than zero.
+	 * @return the {@link PagePrefetchPolicy}.
+	 */
+	public static PagePrefetchPolicy eager(int maxPagesAhead) {
+		return lowWatermark(Integer.MAX_VALUE, maxPagesAhead);
+	}
+
+	/**
+	 * Create a policy that requests the next page once the number of buffered rows drops to {@code lowWatermark} and
+	 * keeps up to {@code maxPagesAhead} pages fetched ahead.
+	 *
+	 * @param lowWatermark number of buffered rows that triggers fetching the next page, must be greater or equal to zero.
+	 * @param maxPagesAhead maximum number of pages to fetch ahead, must be greater than zero.
+	 * @return the {@link PagePrefetchPolicy}.
+	 */
+	public static PagePrefetchPolicy lowWatermark(int lowWatermark, int maxPagesAhead) {
+
+		Assert.isTrue(lowWatermark >= 0, "Low watermark must be greater or equal to zero");
+		Assert.isTrue(maxPagesAhead > 0, "Max pages ahead must be greater than zero");
+
+		return new PagePrefetchPolicy(lowWatermark, maxPagesAhead);
+	}
+
+	/**
+	 * @return {@literal true} if this policy prefetches pages.
+	 */
+	public boolean isEnabled() {
+		return this.maxPagesAhead > 0;
+	}
+
+	/**
+	 * @return the number of buffered rows that triggers fetching the next page.
+	 */
+	public int getLowWatermark() {
+		return this.lowWatermark;
+	}
+
+	/**
+	 * @return the maximum number of pages to fetch ahead of the currently emitted page.
+	 */
+	public int getMaxPagesAhead() {
+		return this.maxPagesAhead;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof PagePrefetchPolicy)) {
+			return false;
+		}
+
+		PagePrefetchPolicy that = (PagePrefetchPolicy) o;
+
+		return this.lowWatermark == that.lowWatermark && this.maxPagesAhead == that.maxPagesAhead;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * this.lowWatermark + this.maxPagesAhead;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return isEnabled()
+				? String.format("PagePrefetchPolicy [lowWatermark=%d, maxPagesAhead=%d]", this.lowWatermark, this.maxPagesAhead)
+				: "PagePrefetchPolicy [none]";
+	}
+}
@@ -0,0 +1,660 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Bounded {@link PreparedStatementCache} with least-recently-used eviction and optional time-to-live expiration.
+ * <p>
+ * Statements are cached per {@link CqlSession} using a key consisting of the statement or session {@code keyspace} and
+ * the {@code cql} text. Sessions are referenced weakly so that closed and discarded sessions do not retain their prepared
+ * statements. Each session cache holds up to {@link Builder#maximumSize(int) maximum size} statements and evicts the
+ * least recently used statement once the limit is exceeded. Caches can be additionally bounded by
+ * {@link Builder#maximumWeight(long) weight} where each statement weighs the length of its {@code cql} text so that a
+ * few very large statements cannot occupy memory meant for many small ones.
+ * <p>
+ * Lookups do not take a lock shared across sessions. Cached statements are held in a concurrent map while the
+ * recency order is kept in a linked access order per session. Cache hits update the recency order only if its lock is
+ * uncontended so that hits never block, which makes eviction approximate under heavy concurrent access.
+ * <p>
+ * Concurrent requests for the same statement are coalesced so that only a single thread prepares the statement while
+ * other threads await its completion. Preparation does not hold a lock on the cache so that preparing a statement does
+ * not block access to other statements. Failed preparations are not cached. Statements can be obtained asynchronously
+ * through {@link #getPreparedStatementAsync(CqlSession, SimpleStatement)} sharing a single in-flight
+ * {@link CompletableFuture} across all callers.
+ * <p>
+ * The cache records hit, miss and eviction counts. Requests that await an in-flight preparation are counted as hits.
+ *
+ * @since 3.3
+ * @see #builder()
+ */
+@SuppressWarnings("deprecation")
+public class BoundedPreparedStatementCache implements PreparedStatementCache {
+
+	/**
+	 * Default maximum number of cached statements per session.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private static final CqlIdentifier SYSTEM_KEYSPACE = CqlIdentifier.fromCql("system");
+
+	// keyed by weak session references compared by identity, released once the session is unreachable
+	private final Map<Object, SessionCache> sessionCaches = new ConcurrentHashMap<>();
+
+	private final ReferenceQueue<Object> releasedSessions = new ReferenceQueue<>();
+
+	private final int maximumSize;
+
+	private final long maximumWeight;
+
+	private final Duration timeToLive;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	private BoundedPreparedStatementCache(int maximumSize, long maximumWeight, Duration timeToLive) {
+		this.maximumSize = maximumSize;
+		this.maximumWeight = maximumWeight;
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Create a {@link BoundedPreparedStatementCache} holding up to {@link #DEFAULT_MAXIMUM_SIZE} statements per session
+	 * without expiration.
+	 *
+	 * @return the new {@link BoundedPreparedStatementCache}.
+	 */
+	public static BoundedPreparedStatementCache create() {
+		return builder().build();
+	}
+
+	/**
+	 * Create a new {@link Builder} to configure a {@link BoundedPreparedStatementCache}.
+	 *
+	 * @return a new {@link Builder}.
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.PreparedStatementCache#getPreparedStatement(com.datastax.oss.driver.api.core.CqlSession, com.datastax.oss.driver.api.core.cql.SimpleStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public PreparedStatement getPreparedStatement(CqlSession session, SimpleStatement statement,
+			Supplier<PreparedStatement> preparer) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(preparer, "Preparer must not be null");
+
+		return await(doGetPreparedStatement(session, getKeyspace(session.getKeyspace(), statement), statement,
+				() -> CompletableFuture.completedFuture(preparer.get())));
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} asynchronously by a {@link SimpleStatement}. Prepares the statement using
+	 * {@link CqlSession#prepareAsync(SimpleStatement)} if the statement is not cached.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link CompletableFuture} completing with the {@link PreparedStatement}.
+	 * @see #getPreparedStatementAsync(Object, CqlIdentifier, SimpleStatement, Supplier)
+	 */
+	public CompletableFuture<PreparedStatement> getPreparedStatementAsync(CqlSession session,
+			SimpleStatement statement) {
+
+		Assert.notNull(session, "Session must not be null");
+
+		return getPreparedStatementAsync(session, session.getKeyspace().orElse(null), statement,
+				() -> session.prepareAsync(statement));
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} asynchronously by a {@link SimpleStatement}. Concurrent requests for the same
+	 * statement share a single in-flight preparation. Each caller receives its own {@link CompletableFuture} so that
+	 * cancelling one future does not cancel the shared preparation.
+	 * <p>
+	 * This method allows caching for session types other than {@link CqlSession} such as
+	 * {@link org.springframework.data.cassandra.ReactiveSession}.
+	 *
+	 * @param session the session scoping the cached statements, must not be {@literal null}.
+	 * @param keyspace the session keyspace, can be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @param preparer callback to prepare the statement if the statement is not cached, must not be {@literal null}.
+	 * @return the {@link CompletableFuture} completing with the {@link PreparedStatement}.
+	 */
+	public CompletableFuture<PreparedStatement> getPreparedStatementAsync(Object session,
+			@Nullable CqlIdentifier keyspace, SimpleStatement statement,
+			Supplier<? extends CompletionStage<PreparedStatement>> preparer) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(preparer, "Preparer must not be null");
+
+		CompletableFuture<PreparedStatement> future;
+		try {
+			future = doGetPreparedStatement(session, getKeyspace(Optional.ofNullable(keyspace), statement), statement,
+					preparer);
+		} catch (RuntimeException e) {
+
+			CompletableFuture<PreparedStatement> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+
+		return future.thenApply(Function.identity());
+	}
+
+	private CompletableFuture<PreparedStatement> doGetPreparedStatement(Object session, CqlIdentifier keyspace,
+			SimpleStatement statement, Supplier<? extends CompletionStage<PreparedStatement>> preparer) {
+
+		SessionCache sessionCache = getSessionCache(session);
+		CacheKey cacheKey = new CacheKey(keyspace, statement.getQuery());
+
+		for (;;) {
+
+			CacheEntry entry = sessionCache.entries.get(cacheKey);
+
+			if (entry != null && isExpired(entry)) {
+
+				if (sessionCache.entries.remove(cacheKey, entry)) {
+					sessionCache.unlink(cacheKey, entry);
+					evictions.increment();
+				}
+
+				continue;
+			}
+
+			if (entry != null) {
+
+				hits.increment();
+				sessionCache.touch(cacheKey);
+
+				return entry.preparedStatement;
+			}
+
+			CacheEntry newEntry = new CacheEntry();
+
+			if (sessionCache.entries.putIfAbsent(cacheKey, newEntry) != null) {
+				continue;
+			}
+
+			misses.increment();
+
+			CompletionStage<PreparedStatement> preparation;
+			try {
+				preparation = preparer.get();
+			} catch (RuntimeException e) {
+
+				sessionCache.entries.remove(cacheKey, newEntry);
+				newEntry.preparedStatement.completeExceptionally(e);
+				throw e;
+			}
+
+			preparation.whenComplete((preparedStatement, throwable) -> {
+
+				if (throwable != null) {
+
+					sessionCache.entries.remove(cacheKey, newEntry);
+					newEntry.preparedStatement.completeExceptionally(unwrap(throwable));
+					return;
+				}
+
+				newEntry.preparedStatement.complete(preparedStatement);
+				sessionCache.link(cacheKey, newEntry);
+			});
+
+			return newEntry.preparedStatement;
+		}
+	}
+
+	/**
+	 * @return the maximum number of cached statements per session.
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * @return the maximum total length of the {@code cql} text of cached statements per session.
+	 */
+	public long getMaximumWeight() {
+		return this.maximumWeight;
+	}
+
+	/**
+	 * @return the time to live of cached statements. A zero or negative {@link Duration} indicates no expiration.
+	 */
+	public Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * @return the number of cached statements across all sessions.
+	 */
+	public int size() {
+
+		int size = 0;
+
+		for (SessionCache sessionCache : sessionCaches.values()) {
+			size += sessionCache.entries.size();
+		}
+
+		return size;
+	}
+
+	/**
+	 * @return the number of cache lookups that returned a cached or in-flight statement.
+	 */
+	public long getHitCount() {
+		return this.hits.sum();
+	}
+
+	/**
+	 * @return the number of cache lookups that required statement preparation.
+	 */
+	public long getMissCount() {
+		return this.misses.sum();
+	}
+
+	/**
+	 * @return the number of statements that were evicted or expired.
+	 */
+	public long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	/**
+	 * Remove all cached statements.
+	 */
+	public void clear() {
+		sessionCaches.clear();
+	}
+
+	private boolean isExpired(CacheEntry entry) {
+		return !timeToLive.isZero() && !timeToLive.isNegative()
+				&& System.nanoTime() - entry.createdAt > timeToLive.toNanos();
+	}
+
+	private SessionCache getSessionCache(Object session) {
+
+		SessionCache sessionCache = sessionCaches.get(new SessionLookup(session));
+
+		if (sessionCache != null) {
+			return sessionCache;
+		}
+
+		Reference<?> released;
+		while ((released = releasedSessions.poll()) != null) {
+			sessionCaches.remove(released);
+		}
+
+		return sessionCaches.computeIfAbsent(new SessionReference(session, releasedSessions),
+				it -> new SessionCache(maximumSize, maximumWeight, evictions));
+	}
+
+	private static CqlIdentifier getKeyspace(Optional<CqlIdentifier> sessionKeyspace, SimpleStatement statement) {
+
+		if (statement.getKeyspace() != null) {
+			return statement.getKeyspace();
+		}
+
+		return sessionKeyspace.orElse(SYSTEM_KEYSPACE);
+	}
+
+	private static Throwable unwrap(Throwable throwable) {
+		return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+	}
+
+	private static PreparedStatement await(CompletableFuture<PreparedStatement> preparedStatement) {
+
+		try {
+			return preparedStatement.join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Builder for {@link BoundedPreparedStatementCache}.
+	 */
+	public static class Builder {
+
+		private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+		private long maximumWeight = Long.MAX_VALUE;
+
+		private Duration timeToLive = Duration.ZERO;
+
+		private Builder() {}
+
+		/**
+		 * Set the maximum number of cached statements per session.
+		 *
+		 * @param maximumSize must be greater than zero.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder maximumSize(int maximumSize) {
+
+			Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		/**
+		 * Set the maximum total weight of cached statements per session. A statement weighs the length of its {@code cql}
+		 * text. Statements exceeding the maximum weight on their own are prepared but not retained.
+		 *
+		 * @param maximumWeight must be greater than zero.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder maximumWeight(long maximumWeight) {
+
+			Assert.isTrue(maximumWeight > 0, "Maximum weight must be greater than zero");
+
+			this.maximumWeight = maximumWeight;
+			return this;
+		}
+
+		/**
+		 * Set the time to live after which cached statements are prepared again. A zero {@link Duration} disables
+		 * expiration.
+		 *
+		 * @param timeToLive must not be {@literal null} or negative.
+		 * @return {@code this} {@link Builder}.
+		 */
+		public Builder timeToLive(Duration timeToLive) {
+
+			Assert.notNull(timeToLive, "Time to live must not be null");
+			Assert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+
+			this.timeToLive = timeToLive;
+			return this;
+		}
+
+		/**
+		 * Build the {@link BoundedPreparedStatementCache}.
+		 *
+		 * @return a new {@link BoundedPreparedStatementCache}.
+		 */
+		public BoundedPreparedStatementCache build() {
+			return new BoundedPreparedStatementCache(maximumSize, maximumWeight, timeToLive);
+		}
+	}
+
+	/**
+	 * Statements of a single session. {@link #entries} serves lookups while {@link #order} tracks the recency of
+	 * prepared statements for eviction.
+	 */
+	private static class SessionCache {
+
+		final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+
+		private final Map<CacheKey, CacheEntry> order = new LinkedHashMap<>(16, 0.75f, true);
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final int maximumSize;
+
+		private final long maximumWeight;
+
+		private final LongAdder evictions;
+
+		private long weight;
+
+		SessionCache(int maximumSize, long maximumWeight, LongAdder evictions) {
+			this.maximumSize = maximumSize;
+			this.maximumWeight = maximumWeight;
+			this.evictions = evictions;
+		}
+
+		/**
+		 * Mark {@code key} as most recently used unless another thread holds the lock.
+		 */
+		void touch(CacheKey key) {
+
+			if (lock.tryLock()) {
+				try {
+					order.get(key);
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+
+		/**
+		 * Add a prepared {@code entry} as most recently used and evict least recently used entries exceeding the maximum
+		 * size or weight.
+		 */
+		void link(CacheKey key, CacheEntry entry) {
+
+			lock.lock();
+			try {
+
+				if (entries.get(key) != entry) {
+					return;
+				}
+
+				if (order.put(key, entry) == null) {
+					weight += key.weight();
+				}
+
+				Iterator<Map.Entry<CacheKey, CacheEntry>> iterator = order.entrySet().iterator();
+
+				while ((order.size() > maximumSize || weight > maximumWeight) && iterator.hasNext()) {
+
+					Map.Entry<CacheKey, CacheEntry> eldest = iterator.next();
+
+					iterator.remove();
+					weight -= eldest.getKey().weight();
+
+					if (entries.remove(eldest.getKey(), eldest.getValue())) {
+						evictions.increment();
+					}
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Remove an expired {@code entry} from the recency order.
+		 */
+		void unlink(CacheKey key, CacheEntry entry) {
+
+			lock.lock();
+			try {
+				if (order.remove(key, entry)) {
+					weight -= key.weight();
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private static class CacheEntry {
+
+		final CompletableFuture<PreparedStatement> preparedStatement = new CompletableFuture<>();
+
+		final long createdAt = System.nanoTime();
+	}
+
+	/**
+	 * Weak reference to a session used as key of the session caches. Compares sessions by identity.
+	 */
+	private static class SessionReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		SessionReference(Object session, ReferenceQueue<Object> queue) {
+
+			super(session, queue);
+
+			this.hashCode = System.identityHashCode(session);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			Object session = get();
+
+			if (session == null) {
+				return false;
+			}
+
+			if (o instanceof SessionReference) {
+				return session == ((SessionReference) o).get();
+			}
+
+			return o instanceof SessionLookup && session == ((SessionLookup) o).session;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/**
+	 * Strong session key to look up session caches without creating a {@link SessionReference}.
+	 */
+	private static class SessionLookup {
+
+		private final Object session;
+
+		SessionLookup(Object session) {
+			this.session = session;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof SessionReference ? o.equals(this)
+					: o instanceof SessionLookup && session == ((SessionLookup) o).session;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(session);
+		}
+	}
+
+	private static class CacheKey {
+
+		final String keyspace;
+		final String cql;
+
+		CacheKey(CqlIdentifier keyspace, String cql) {
+
+			this.keyspace = keyspace.asInternal();
+			this.cql = cql;
+		}
+
+		long weight() {
+			return cql.length();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+
+			CacheKey cacheKey = (CacheKey) o;
+
+			if (!ObjectUtils.nullSafeEquals(keyspace, cacheKey.keyspace)) {
+				return false;
+			}
+
+			return ObjectUtils.nullSafeEquals(cql, cacheKey.cql);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			int result = ObjectUtils.nullSafeHashCode(keyspace);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(cql);
+			return result;
+		}
+	}
+}
@@ -37,6 +37,7 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
  * @author Aldo Bongio
  * @since 2.0
  * @deprecated since 3.2, the Cassandra driver has a built-in prepared statement cache with makes external caching of prepared statements superfluous.
+ *             Use {@link BoundedPreparedStatementCache} if external caching is required as this cache is not bounded.
  */
 @Deprecated
 public class MapPreparedStatementCache implements PreparedStatementCache {
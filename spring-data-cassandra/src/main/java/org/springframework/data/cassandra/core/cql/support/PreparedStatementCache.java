@@ -31,6 +31,7 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
  * @author Mark Paluch
  * @since 2.0
  * @see PreparedStatement
+ * @see BoundedPreparedStatementCache
  * @deprecated since 3.2, the Cassandra driver has a built-in prepared statement cache with makes external caching of
  *             prepared statements superfluous.
  */
@@ -38,12 +39,13 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 public interface PreparedStatementCache {
 
 	/**
-	 * Create a default cache backed by a {@link java.util.concurrent.ConcurrentHashMap}.
+	 * Create a default cache bounded to {@link BoundedPreparedStatementCache#DEFAULT_MAXIMUM_SIZE} statements per
+	 * session.
 	 *
-	 * @return a new {@link MapPreparedStatementCache}.
+	 * @return a new {@link BoundedPreparedStatementCache}.
 	 */
 	static PreparedStatementCache create() {
-		return MapPreparedStatementCache.create();
+		return BoundedPreparedStatementCache.create();
 	}
 
 	/**
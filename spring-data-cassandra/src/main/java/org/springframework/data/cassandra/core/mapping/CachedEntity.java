@@ -0,0 +1,55 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Indicates that rows of an entity read by primary key should be cached by a template configured with an
+ * {@link org.springframework.data.cassandra.core.EntityCache}. Cached rows are invalidated when the entity is written
+ * through the template and expire after {@link #ttl()}. Suitable for frequently read reference data that is rarely
+ * modified.
+ *
+ * @since 3.3
+ * @see org.springframework.data.cassandra.core.EntityCache
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE })
+public @interface CachedEntity {
+
+	/**
+	 * @return the maximum number of cached rows. The least recently used rows are evicted once the limit is reached.
+	 */
+	int maxSize() default 1000;
+
+	/**
+	 * @return the time to live of cached rows in {@link #ttlUnit()}.
+	 */
+	long ttl() default 60;
+
+	/**
+	 * @return the {@link TimeUnit} of {@link #ttl()}.
+	 */
+	TimeUnit ttlUnit() default TimeUnit.SECONDS;
+}
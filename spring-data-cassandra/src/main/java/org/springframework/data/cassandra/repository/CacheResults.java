@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.annotation.QueryAnnotation;
+
+/**
+ * Annotation to cache results of query methods in the
+ * {@link org.springframework.data.cassandra.core.QueryResultCache} of the
+ * {@link org.springframework.data.cassandra.core.CassandraTemplate} backing the repository. Cached results are
+ * invalidated when the template writes to the queried table and expire after {@link #ttl()}. A
+ * {@link org.springframework.data.cassandra.core.cql.QueryOptions} parameter enabling result caching takes precedence.
+ *
+ * @since 3.3
+ * @see org.springframework.data.cassandra.core.QueryResultCache
+ * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#cacheResults(java.time.Duration)
+ */
+@Documented
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@QueryAnnotation
+public @interface CacheResults {
+
+	/**
+	 * @return the time to live of cached results in {@link #ttlUnit()}.
+	 */
+	long ttl() default 60;
+
+	/**
+	 * @return the {@link TimeUnit} of {@link #ttl()}.
+	 */
+	TimeUnit ttlUnit() default TimeUnit.SECONDS;
+}
@@ -52,7 +52,8 @@ public @interface Query {
 	/**
 	 * Specifies whether the {@link #value() CQL query} is
 	 * {@link com.datastax.oss.driver.api.core.cql.Statement#isIdempotent}. {@code SELECT} statements are considered
-	 * {@link Idempotency#IDEMPOTENT idempotent} by default.
+	 * {@link Idempotency#IDEMPOTENT idempotent} by default. Derived queries infer their idempotence from the generated
+	 * statement unless specified otherwise.
 	 *
 	 * @since 2.2
 	 */
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository;
+
+import reactor.util.concurrent.Queues;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for reactive bulk writes of
+ * {@link org.springframework.data.cassandra.repository.support.SimpleReactiveCassandraRepository}.
+ * {@link #getConcurrency() Concurrency} limits the number of writes in progress. It also limits the number of entities
+ * requested from the upstream {@link org.reactivestreams.Publisher} ahead of completed writes so that fast publishers
+ * are slowed down to the pace of the database. {@link #isOrdered() Ordered} writes emit their results in the order of
+ * the upstream entities while still executing writes concurrently.
+ *
+ * @since 3.3
+ * @see org.springframework.data.cassandra.repository.support.SimpleReactiveCassandraRepository#saveAll(org.reactivestreams.Publisher,
+ *      ReactiveWriteOptions)
+ * @see org.springframework.data.cassandra.repository.support.SimpleReactiveCassandraRepository#insert(org.reactivestreams.Publisher,
+ *      ReactiveWriteOptions)
+ * @see org.springframework.data.cassandra.repository.support.SimpleReactiveCassandraRepository#deleteAll(org.reactivestreams.Publisher,
+ *      ReactiveWriteOptions)
+ */
+public class ReactiveWriteOptions {
+
+	private static final ReactiveWriteOptions EMPTY = new ReactiveWriteOptionsBuilder().build();
+
+	private final int concurrency;
+
+	private final boolean ordered;
+
+	private ReactiveWriteOptions(int concurrency, boolean ordered) {
+		this.concurrency = concurrency;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Create a new {@link ReactiveWriteOptionsBuilder}.
+	 *
+	 * @return a new {@link ReactiveWriteOptionsBuilder}.
+	 */
+	public static ReactiveWriteOptionsBuilder builder() {
+		return new ReactiveWriteOptionsBuilder();
+	}
+
+	/**
+	 * Create default {@link ReactiveWriteOptions}.
+	 *
+	 * @return default {@link ReactiveWriteOptions}.
+	 */
+	public static ReactiveWriteOptions empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new {@link ReactiveWriteOptionsBuilder} to mutate properties of this {@link ReactiveWriteOptions}.
+	 *
+	 * @return a new {@link ReactiveWriteOptionsBuilder} initialized with this {@link ReactiveWriteOptions}.
+	 */
+	public ReactiveWriteOptionsBuilder mutate() {
+		return new ReactiveWriteOptionsBuilder(this);
+	}
+
+	/**
+	 * @return the maximum number of writes in progress.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * @return {@literal true} to emit results in the order of the written entities.
+	 */
+	public boolean isOrdered() {
+		return this.ordered;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof ReactiveWriteOptions)) {
+			return false;
+		}
+
+		ReactiveWriteOptions that = (ReactiveWriteOptions) o;
+
+		return concurrency == that.concurrency && ordered == that.ordered;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * concurrency + (ordered ? 1 : 0);
+	}
+
+	/**
+	 * Builder for {@link ReactiveWriteOptions}.
+	 */
+	public static class ReactiveWriteOptionsBuilder {
+
+		private int concurrency = Queues.SMALL_BUFFER_SIZE;
+
+		private boolean ordered = false;
+
+		private ReactiveWriteOptionsBuilder() {}
+
+		private ReactiveWriteOptionsBuilder(ReactiveWriteOptions options) {
+
+			this.concurrency = options.concurrency;
+			this.ordered = options.ordered;
+		}
+
+		/**
+		 * Set the maximum number of writes in progress. A concurrency of {@code 1} writes entities one after another.
+		 * Defaults to {@link Queues#SMALL_BUFFER_SIZE}.
+		 *
+		 * @param concurrency the maximum number of concurrent writes, must be greater than zero.
+		 * @return {@code this} {@link ReactiveWriteOptionsBuilder}
+		 */
+		public ReactiveWriteOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+
+			return this;
+		}
+
+		/**
+		 * Emit results in the order of the written entities. Results of writes completing early are buffered until all
+		 * preceding writes have completed.
+		 *
+		 * @return {@code this} {@link ReactiveWriteOptionsBuilder}
+		 */
+		public ReactiveWriteOptionsBuilder ordered() {
+			return ordered(true);
+		}
+
+		/**
+		 * Configure whether to emit results in the order of the written entities. Defaults to {@literal false} emitting
+		 * results as soon as writes complete.
+		 *
+		 * @param ordered {@literal true} to emit results in the order of the written entities.
+		 * @return {@code this} {@link ReactiveWriteOptionsBuilder}
+		 */
+		public ReactiveWriteOptionsBuilder ordered(boolean ordered) {
+
+			this.ordered = ordered;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link ReactiveWriteOptions} with the configured values.
+		 *
+		 * @return a new {@link ReactiveWriteOptions} with the configured values
+		 */
+		public ReactiveWriteOptions build() {
+			return new ReactiveWriteOptions(this.concurrency, this.ordered);
+		}
+	}
+}
@@ -15,9 +15,12 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import java.time.Duration;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.CollectionExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ExistsExecution;
@@ -95,7 +98,7 @@ public abstract class AbstractCassandraQuery extends CassandraRepositoryQuerySup
 
 		ResultProcessor resultProcessor = getQueryMethod().getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		Statement<?> statement = createQuery(parameterAccessor);
+		Statement<?> statement = createStatement(parameterAccessor);
 
 		CassandraQueryExecution queryExecution = getExecution(parameterAccessor,
 				new ResultProcessingConverter(resultProcessor, toMappingContext(getOperations()), getEntityInstantiators()));
@@ -120,6 +123,19 @@ public abstract class AbstractCassandraQuery extends CassandraRepositoryQuerySup
 	 */
 	protected abstract SimpleStatement createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Creates the {@link Statement} to execute using the given {@link ParameterAccessor}. Defaults to
+	 * {@link #createQuery(CassandraParameterAccessor)}. Subclasses may override this method to return an already bound
+	 * statement.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 3.3
+	 */
+	protected Statement<?> createStatement(CassandraParameterAccessor accessor) {
+		return createQuery(accessor);
+	}
+
 	/**
 	 * Returns the execution instance to use.
 	 *
@@ -139,22 +155,42 @@ public abstract class AbstractCassandraQuery extends CassandraRepositoryQuerySup
 		if (getQueryMethod().isSliceQuery()) {
 			return new SlicedExecution(getOperations(), parameterAccessor.getPageable());
 		} else if (getQueryMethod().isCollectionQuery()) {
-			return new CollectionExecution(getOperations());
+			return new CollectionExecution(getOperations(), getResultCacheOptions(parameterAccessor));
 		} else if (getQueryMethod().isResultSetQuery()) {
 			return new ResultSetQuery(getOperations());
 		} else if (getQueryMethod().isStreamQuery()) {
 			return new StreamExecution(getOperations(), resultProcessing);
 		} else if (isCountQuery()) {
-			return ((statement, type) -> new SingleEntityExecution(getOperations(), false).execute(statement, Long.class));
+			return ((statement, type) -> new SingleEntityExecution(getOperations(), false,
+					getResultCacheOptions(parameterAccessor)).execute(statement, Long.class));
 		} else if (isExistsQuery()) {
-			return new ExistsExecution(getOperations());
+			return new ExistsExecution(getOperations(), getResultCacheOptions(parameterAccessor));
 		} else if (isModifyingQuery()) {
 			return ((statement, type) -> getOperations().execute(statement).wasApplied());
 		} else {
-			return new SingleEntityExecution(getOperations(), isLimiting());
+			return new SingleEntityExecution(getOperations(), isLimiting(), getResultCacheOptions(parameterAccessor));
 		}
 	}
 
+	/**
+	 * Returns the {@link QueryOptions} enabling result caching, either passed as query method argument or derived from a
+	 * {@link org.springframework.data.cassandra.repository.CacheResults} annotation. Other options are already applied to
+	 * the statement.
+	 */
+	@Nullable
+	private QueryOptions getResultCacheOptions(CassandraParameterAccessor parameterAccessor) {
+
+		QueryOptions queryOptions = parameterAccessor.getQueryOptions();
+
+		if (queryOptions != null && queryOptions.getResultCacheTtl() != null) {
+			return queryOptions;
+		}
+
+		Duration ttl = getQueryMethod().getResultCacheTtl();
+
+		return ttl != null ? QueryOptions.builder().cacheResults(ttl).build() : null;
+	}
+
 	/**
 	 * Returns whether the query should get a count projection applied.
 	 *
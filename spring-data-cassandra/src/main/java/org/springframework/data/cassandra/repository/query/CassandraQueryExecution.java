@@ -20,6 +20,7 @@ import java.util.List;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
@@ -48,6 +49,17 @@ interface CassandraQueryExecution {
 	@Nullable
 	Object execute(Statement<?> statement, Class<?> type);
 
+	/**
+	 * Select {@code type} through {@link CassandraOperations#select(Statement, Class, QueryOptions)} if
+	 * {@code resultCacheOptions} are given to consult the query result cache.
+	 */
+	static <T> List<T> select(CassandraOperations operations, Statement<?> statement, Class<T> type,
+			@Nullable QueryOptions resultCacheOptions) {
+
+		return resultCacheOptions != null ? operations.select(statement, type, resultCacheOptions)
+				: operations.select(statement, type);
+	}
+
 	/**
 	 * {@link CassandraQueryExecution} for a Stream.
 	 *
@@ -121,9 +133,15 @@ interface CassandraQueryExecution {
 	final class CollectionExecution implements CassandraQueryExecution {
 
 		private final CassandraOperations operations;
+		private final @Nullable QueryOptions resultCacheOptions;
 
 		CollectionExecution(CassandraOperations operations) {
+			this(operations, null);
+		}
+
+		CollectionExecution(CassandraOperations operations, @Nullable QueryOptions resultCacheOptions) {
 			this.operations = operations;
+			this.resultCacheOptions = resultCacheOptions;
 		}
 
 		/* (non-Javadoc)
@@ -131,7 +149,7 @@ interface CassandraQueryExecution {
 		 */
 		@Override
 		public Object execute(Statement<?> statement, Class<?> type) {
-			return operations.select(statement, type);
+			return select(operations, statement, type, resultCacheOptions);
 		}
 	}
 
@@ -144,10 +162,17 @@ interface CassandraQueryExecution {
 
 		private final CassandraOperations operations;
 		private final boolean limiting;
+		private final @Nullable QueryOptions resultCacheOptions;
 
 		SingleEntityExecution(CassandraOperations operations, boolean limiting) {
+			this(operations, limiting, null);
+		}
+
+		SingleEntityExecution(CassandraOperations operations, boolean limiting,
+				@Nullable QueryOptions resultCacheOptions) {
 			this.operations = operations;
 			this.limiting = limiting;
+			this.resultCacheOptions = resultCacheOptions;
 		}
 
 		/* (non-Javadoc)
@@ -157,7 +182,7 @@ interface CassandraQueryExecution {
 		@SuppressWarnings("unchecked")
 		public Object execute(Statement<?> statement, Class<?> type) {
 
-			List<Object> objects = operations.select(statement, (Class) type);
+			List<Object> objects = select(operations, statement, (Class) type, resultCacheOptions);
 
 			if (objects.isEmpty()) {
 				return null;
@@ -180,9 +205,15 @@ interface CassandraQueryExecution {
 	final class ExistsExecution implements CassandraQueryExecution {
 
 		private final CassandraOperations operations;
+		private final @Nullable QueryOptions resultCacheOptions;
 
 		ExistsExecution(CassandraOperations operations) {
+			this(operations, null);
+		}
+
+		ExistsExecution(CassandraOperations operations, @Nullable QueryOptions resultCacheOptions) {
 			this.operations = operations;
+			this.resultCacheOptions = resultCacheOptions;
 		}
 
 		/* (non-Javadoc)
@@ -191,7 +222,7 @@ interface CassandraQueryExecution {
 		@Override
 		public Object execute(Statement<?> statement, Class<?> type) {
 
-			List<Row> resultSet = this.operations.select(statement, Row.class);
+			List<Row> resultSet = select(this.operations, statement, Row.class, this.resultCacheOptions);
 
 			if (resultSet.isEmpty()) {
 				return false;
@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.query;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -23,6 +24,7 @@ import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.CacheResults;
 import org.springframework.data.cassandra.repository.Consistency;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.repository.Query.Idempotency;
@@ -58,6 +60,8 @@ public class CassandraQueryMethod extends QueryMethod {
 
 	private final Optional<Consistency> consistency;
 
+	private final Optional<CacheResults> cacheResults;
+
 	private @Nullable CassandraEntityMetadata<?> entityMetadata;
 
 	/**
@@ -81,6 +85,7 @@ public class CassandraQueryMethod extends QueryMethod {
 		this.mappingContext = mappingContext;
 		this.query = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Query.class));
 		this.consistency = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Consistency.class));
+		this.cacheResults = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, CacheResults.class));
 	}
 
 	/**
@@ -182,6 +187,17 @@ public class CassandraQueryMethod extends QueryMethod {
 				.orElseThrow(() -> new IllegalStateException("No @Consistency annotation found"));
 	}
 
+	/**
+	 * Returns the time to live of cached results declared in a {@link CacheResults} annotation.
+	 *
+	 * @return the time to live or {@literal null} if the method is not annotated with {@link CacheResults}.
+	 * @since 3.3
+	 */
+	@Nullable
+	public Duration getResultCacheTtl() {
+		return this.cacheResults.map(it -> Duration.ofNanos(it.ttlUnit().toNanos(it.ttl()))).orElse(null);
+	}
+
 	/**
 	 * Returns the required query string declared in a {@link Query} annotation or throws {@link IllegalStateException} if
 	 * neither the annotation found nor the attribute was specified.
@@ -15,8 +15,11 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.function.Function;
+
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 
 /**
@@ -27,12 +30,24 @@ import org.springframework.expression.ExpressionParser;
  */
 class DefaultSpELExpressionEvaluator implements SpELExpressionEvaluator {
 
-	private final ExpressionParser parser;
+	private final Function<String, Expression> expressions;
 
 	private final EvaluationContext context;
 
 	DefaultSpELExpressionEvaluator(ExpressionParser parser, EvaluationContext context) {
-		this.parser = parser;
+		this(parser::parseExpression, context);
+	}
+
+	/**
+	 * Create a new {@link DefaultSpELExpressionEvaluator} obtaining {@link Expression}s from a function, e.g. to evaluate
+	 * expressions that were parsed upfront.
+	 *
+	 * @param expressions function to obtain the {@link Expression} for an expression string.
+	 * @param context the {@link EvaluationContext} to evaluate expressions in.
+	 * @since 3.3
+	 */
+	DefaultSpELExpressionEvaluator(Function<String, Expression> expressions, EvaluationContext context) {
+		this.expressions = expressions;
 		this.context = context;
 	}
 
@@ -52,7 +67,7 @@ class DefaultSpELExpressionEvaluator implements SpELExpressionEvaluator {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T evaluate(String expression) {
-		return (T) parser.parseExpression(expression).getValue(context, Object.class);
+		return (T) expressions.apply(expression).getValue(context, Object.class);
 	}
 
 	/**
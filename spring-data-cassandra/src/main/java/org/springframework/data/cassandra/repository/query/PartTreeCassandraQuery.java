@@ -26,8 +26,10 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 
 /**
  * {@link RepositoryQuery} implementation for Cassandra.
@@ -44,6 +46,8 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 	private final StatementFactory statementFactory;
 
+	private final @Nullable PreparedQueryCache preparedQueries;
+
 	/**
 	 * Create a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod} and {@link CassandraTemplate}.
 	 *
@@ -57,6 +61,11 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
 		this.mappingContext = operations.getConverter().getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(operations.getConverter()));
+		this.preparedQueries = operations instanceof CassandraTemplate
+				&& ((CassandraTemplate) operations).isUsePreparedStatements()
+						? new PreparedQueryCache(operations, queryMethod.getDomainClass(),
+								PreparedQueryCache.DEFAULT_SIZE_LIMIT)
+						: null;
 	}
 
 	/**
@@ -112,6 +121,21 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 				getQueryMethod().getResultProcessor());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createStatement(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Statement<?> createStatement(CassandraParameterAccessor parameterAccessor) {
+
+		if (this.preparedQueries == null || isCountQuery() || isExistsQuery() || getTree().isDelete()) {
+			return createQuery(parameterAccessor);
+		}
+
+		return getQueryStatementCreator().select(this.preparedQueries, getStatementFactory(), getTree(),
+				parameterAccessor, getQueryMethod().getResultProcessor());
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#isCountQuery()
 	 */
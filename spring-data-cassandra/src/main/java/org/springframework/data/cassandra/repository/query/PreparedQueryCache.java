@@ -0,0 +1,161 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.PreparedQuery;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Cache of {@link PreparedQuery prepared queries} of a derived query method keyed by the shape of the derived
+ * {@link Query}. Derived queries of the same shape reference the same properties with the same operators and share
+ * columns, sort, limit and query options, so they render the same CQL and differ only in their criteria values. Each
+ * shape is mapped, rendered and prepared once and bound on subsequent invocations.
+ * <p>
+ * Queries with {@code IN} criteria on multiple values render their values as literals and queries with a paging state
+ * are not cached.
+ *
+ * @since 3.3
+ */
+class PreparedQueryCache {
+
+	static final int DEFAULT_SIZE_LIMIT = 32;
+
+	private final ConcurrentLruCache<QueryShape, PreparedQuery<?>> cache;
+
+	/**
+	 * Create a new {@link PreparedQueryCache}.
+	 *
+	 * @param operations the operations to prepare queries with.
+	 * @param domainType the domain type to query.
+	 * @param sizeLimit the maximum number of cached shapes.
+	 */
+	PreparedQueryCache(CassandraOperations operations, Class<?> domainType, int sizeLimit) {
+		this.cache = new ConcurrentLruCache<>(sizeLimit, shape -> operations.prepare(shape.getQuery(), domainType));
+	}
+
+	/**
+	 * Return the {@link PreparedQuery} for the shape of {@code query}, preparing it if the shape is not cached yet.
+	 *
+	 * @param query the derived query.
+	 * @return the {@link PreparedQuery} or {@literal null} if the shape of {@code query} cannot be cached.
+	 */
+	@Nullable
+	PreparedQuery<?> getPreparedQuery(Query query) {
+		return isCacheable(query) ? this.cache.get(new QueryShape(query)) : null;
+	}
+
+	/**
+	 * @return the number of cached shapes.
+	 */
+	int size() {
+		return this.cache.size();
+	}
+
+	private static boolean isCacheable(Query query) {
+
+		if (query.getPagingState().isPresent()) {
+			return false;
+		}
+
+		for (CriteriaDefinition criteriaDefinition : query) {
+
+			CriteriaDefinition.Predicate predicate = criteriaDefinition.getPredicate();
+			Object value = predicate.getValue();
+
+			if (CriteriaDefinition.Operators.IN.equals(predicate.getOperator())
+					&& (value instanceof Collection || (value != null && value.getClass().isArray()))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Shape of a {@link Query}. Compares everything but the criteria values.
+	 */
+	static class QueryShape {
+
+		private final Query query;
+
+		private final List<Object> criteria;
+
+		QueryShape(Query query) {
+
+			List<Object> criteria = new ArrayList<>();
+
+			for (CriteriaDefinition criteriaDefinition : query) {
+				criteria.add(Arrays.asList(criteriaDefinition.getColumnName(),
+						criteriaDefinition.getPredicate().getOperator()));
+			}
+
+			this.query = query;
+			this.criteria = criteria;
+		}
+
+		Query getQuery() {
+			return this.query;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof QueryShape)) {
+				return false;
+			}
+
+			QueryShape that = (QueryShape) o;
+
+			return this.criteria.equals(that.criteria) && this.query.getColumns().equals(that.query.getColumns())
+					&& this.query.getSort().equals(that.query.getSort()) && this.query.getLimit() == that.query.getLimit()
+					&& this.query.isAllowFiltering() == that.query.isAllowFiltering()
+					&& this.query.getQueryOptions().equals(that.query.getQueryOptions());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = this.criteria.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.query.getColumns());
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.query.getSort());
+			result = 31 * result + Long.hashCode(this.query.getLimit());
+			result = 31 * result + (this.query.isAllowFiltering() ? 1 : 0);
+			return result;
+		}
+	}
+}
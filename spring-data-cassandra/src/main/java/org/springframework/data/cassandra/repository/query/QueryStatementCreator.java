@@ -22,6 +22,8 @@ import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.core.PreparedQuery;
 import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.cql.QueryExtractorDelegate;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
@@ -79,15 +81,8 @@ class QueryStatementCreator {
 
 		Function<Query, SimpleStatement> function = query -> {
 
-			ReturnedType returnedType = processor.withDynamicProjection(parameterAccessor).getReturnedType();
-
-			if (returnedType.needsCustomConstruction()) {
-
-				Columns columns = Columns.from(returnedType.getInputProperties().toArray(new String[0]));
-				query = query.columns(columns);
-			}
-
-			SimpleStatement statement = statementFactory.select(query, getPersistentEntity()).build();
+			SimpleStatement statement = statementFactory
+					.select(applyProjection(query, parameterAccessor, processor), getPersistentEntity()).build();
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug(String.format("Created query [%s].", statement));
@@ -99,6 +94,63 @@ class QueryStatementCreator {
 		return doWithQuery(parameterAccessor, tree, function);
 	}
 
+	/**
+	 * Create a {@literal SELECT} {@link Statement} from a {@link PartTree} and apply query options. Binds the values of
+	 * the derived query to a {@link PreparedQuery} of the same shape if the shape can be cached.
+	 *
+	 * @param preparedQueries must not be {@literal null}.
+	 * @param statementFactory must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the bound {@literal SELECT} {@link Statement} or a {@link SimpleStatement} if the shape of the derived query
+	 *         cannot be cached.
+	 * @since 3.3
+	 */
+	Statement<?> select(PreparedQueryCache preparedQueries, StatementFactory statementFactory, PartTree tree,
+			CassandraParameterAccessor parameterAccessor, ResultProcessor processor) {
+
+		Query query = doWithQuery(parameterAccessor, tree, it -> applyProjection(it, parameterAccessor, processor));
+
+		// preparing may fail with a DataAccessException that must not be reported as query creation failure
+		PreparedQuery<?> preparedQuery;
+
+		try {
+			preparedQuery = preparedQueries.getPreparedQuery(query);
+		} catch (DataAccessException cause) {
+			throw cause;
+		} catch (RuntimeException cause) {
+			throw QueryCreationException.create(this.queryMethod, cause);
+		}
+
+		try {
+
+			Statement<?> statement = preparedQuery != null ? preparedQuery.bind(query)
+					: statementFactory.select(query, getPersistentEntity()).build();
+
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(String.format("Created query [%s].", QueryExtractorDelegate.getCql(statement)));
+			}
+
+			return statement;
+		} catch (RuntimeException cause) {
+			throw QueryCreationException.create(this.queryMethod, cause);
+		}
+	}
+
+	private static Query applyProjection(Query query, CassandraParameterAccessor parameterAccessor,
+			ResultProcessor processor) {
+
+		ReturnedType returnedType = processor.withDynamicProjection(parameterAccessor).getReturnedType();
+
+		if (returnedType.needsCustomConstruction()) {
+
+			Columns columns = Columns.from(returnedType.getInputProperties().toArray(new String[0]));
+			return query.columns(columns);
+		}
+
+		return query;
+	}
+
 	/**
 	 * Create a {@literal COUNT} {@link Statement} from a {@link PartTree} and apply query options.
 	 *
@@ -206,11 +258,23 @@ class QueryStatementCreator {
 
 			Optional<QueryOptions> queryOptions = Optional.ofNullable(parameterAccessor.getQueryOptions());
 
+			Idempotency idempotency = this.queryMethod.getIdempotency();
+
 			if (queryOptions.isPresent()) {
 				query = Optional.ofNullable(parameterAccessor.getQueryOptions()).map(query::queryOptions).orElse(query);
-			} else if (this.queryMethod.hasConsistencyLevel()) {
-				query = query.queryOptions(
-						QueryOptions.builder().consistencyLevel(this.queryMethod.getRequiredAnnotatedConsistencyLevel()).build());
+			} else if (this.queryMethod.hasConsistencyLevel() || idempotency != Idempotency.UNDEFINED) {
+
+				QueryOptions.QueryOptionsBuilder options = QueryOptions.builder();
+
+				if (this.queryMethod.hasConsistencyLevel()) {
+					options.consistencyLevel(this.queryMethod.getRequiredAnnotatedConsistencyLevel());
+				}
+
+				if (idempotency != Idempotency.UNDEFINED) {
+					options.idempotent(idempotency == Idempotency.IDEMPOTENT);
+				}
+
+				query = query.queryOptions(options.build());
 			}
 
 			return function.apply(query);
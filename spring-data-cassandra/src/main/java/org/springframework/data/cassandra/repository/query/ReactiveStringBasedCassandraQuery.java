@@ -22,7 +22,6 @@ import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.ReactiveQueryMethodEvaluationContextProvider;
-import org.springframework.data.spel.ExpressionDependencies;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
@@ -51,7 +50,6 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 	private final boolean isExistsQuery;
 
-	private final ExpressionParser expressionParser;
 	private final ReactiveQueryMethodEvaluationContextProvider evaluationContextProvider;
 
 	/**
@@ -95,7 +93,6 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 		Assert.hasText(query, "Query must not be empty");
 
-		this.expressionParser = expressionParser;
 		this.evaluationContextProvider = evaluationContextProvider;
 
 		this.stringBasedQuery = new StringBasedQuery(query, method.getParameters(), expressionParser);
@@ -128,8 +125,7 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 		StringBasedQuery query = getStringBasedQuery();
 
-		Mono<SpELExpressionEvaluator> spelEvaluator = getSpelEvaluatorFor(query.getExpressionDependencies(),
-				parameterAccessor);
+		Mono<SpELExpressionEvaluator> spelEvaluator = getSpelEvaluatorFor(query, parameterAccessor);
 
 		return spelEvaluator.map(it -> getQueryStatementCreator().select(query, parameterAccessor, it));
 	}
@@ -168,19 +164,19 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 	/**
 	 * Obtain a {@link Mono publisher} emitting the {@link SpELExpressionEvaluator} suitable to evaluate expressions
-	 * backed by the given dependencies.
+	 * of the given query.
 	 *
-	 * @param dependencies must not be {@literal null}.
+	 * @param query must not be {@literal null}.
 	 * @param accessor must not be {@literal null}.
 	 * @return a {@link Mono} emitting the {@link SpELExpressionEvaluator} when ready.
 	 */
-	private Mono<SpELExpressionEvaluator> getSpelEvaluatorFor(ExpressionDependencies dependencies,
+	private Mono<SpELExpressionEvaluator> getSpelEvaluatorFor(StringBasedQuery query,
 			CassandraParameterAccessor accessor) {
 
 		return evaluationContextProvider
-				.getEvaluationContextLater(getQueryMethod().getParameters(), accessor.getValues(), dependencies)
-				.map(evaluationContext -> (SpELExpressionEvaluator) new DefaultSpELExpressionEvaluator(expressionParser,
-						evaluationContext))
+				.getEvaluationContextLater(getQueryMethod().getParameters(), accessor.getValues(),
+						query.getExpressionDependencies())
+				.map(query::createEvaluator)
 				.defaultIfEmpty(DefaultSpELExpressionEvaluator.unsupported());
 	}
 }
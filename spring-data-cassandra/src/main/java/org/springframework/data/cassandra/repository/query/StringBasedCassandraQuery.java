@@ -46,7 +46,6 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 
 	private final boolean isExistsQuery;
 
-	private final ExpressionParser expressionParser;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 
 	/**
@@ -85,7 +84,6 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 
 		super(method, operations);
 
-		this.expressionParser = expressionParser;
 		this.evaluationContextProvider = evaluationContextProvider;
 
 		this.stringBasedQuery = new StringBasedQuery(query,
@@ -122,8 +120,7 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		EvaluationContext evaluationContext = evaluationContextProvider.getEvaluationContext(
 				getQueryMethod().getParameters(), parameterAccessor.getValues(), query.getExpressionDependencies());
 
-		return getQueryStatementCreator().select(query, parameterAccessor,
-				new DefaultSpELExpressionEvaluator(expressionParser, evaluationContext));
+		return getQueryStatementCreator().select(query, parameterAccessor, query.createEvaluator(evaluationContext));
 	}
 
 	/* (non-Javadoc)
@@ -16,7 +16,10 @@
 package org.springframework.data.cassandra.repository.query;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +27,8 @@ import java.util.regex.Pattern;
 import org.springframework.data.cassandra.repository.query.BindingContext.ParameterBinding;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.spel.ExpressionDependencies;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -33,6 +38,9 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 
 /**
  * String-based Query abstracting a CQL query with parameter bindings.
+ * <p>
+ * The query is parsed once into CQL using positional bind markers and its SpEL expressions are parsed upfront so that
+ * binding a query only evaluates the bindings.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -43,10 +51,10 @@ class StringBasedQuery {
 
 	private final CassandraParameters parameters;
 
-	private final ExpressionParser expressionParser;
-
 	private final List<ParameterBinding> queryParameterBindings = new ArrayList<>();
 
+	private final Map<String, Expression> expressions;
+
 	private final ExpressionDependencies expressionDependencies;
 
 	/**
@@ -59,31 +67,51 @@ class StringBasedQuery {
 	 */
 	StringBasedQuery(String query, CassandraParameters parameters, ExpressionParser expressionParser) {
 
-		this.query = ParameterBindingParser.INSTANCE.parseAndCollectParameterBindingsFromQueryIntoBindings(query,
-				this.queryParameterBindings);
+		this.query = ParameterBinder.INSTANCE.render(ParameterBindingParser.INSTANCE
+				.parseAndCollectParameterBindingsFromQueryIntoBindings(query, this.queryParameterBindings));
 		this.parameters = parameters;
-		this.expressionParser = expressionParser;
+		this.expressions = parseExpressions(this.queryParameterBindings, expressionParser);
 		this.expressionDependencies = createExpressionDependencies();
 	}
 
+	private static Map<String, Expression> parseExpressions(List<ParameterBinding> bindings,
+			ExpressionParser expressionParser) {
+
+		Map<String, Expression> expressions = new LinkedHashMap<>();
+
+		for (ParameterBinding binding : bindings) {
+			if (binding.isExpression()) {
+				expressions.computeIfAbsent(binding.getRequiredExpression(), expressionParser::parseExpression);
+			}
+		}
+
+		return Collections.unmodifiableMap(expressions);
+	}
+
 	private ExpressionDependencies createExpressionDependencies() {
 
-		if (queryParameterBindings.isEmpty()) {
+		if (expressions.isEmpty()) {
 			return ExpressionDependencies.none();
 		}
 
 		List<ExpressionDependencies> dependencies = new ArrayList<>();
 
-		for (ParameterBinding binding : queryParameterBindings) {
-			if (binding.isExpression()) {
-				dependencies
-						.add(ExpressionDependencies.discover(expressionParser.parseExpression(binding.getRequiredExpression())));
-			}
+		for (Expression expression : expressions.values()) {
+			dependencies.add(ExpressionDependencies.discover(expression));
 		}
 
 		return ExpressionDependencies.merged(dependencies);
 	}
 
+	/**
+	 * Obtain the CQL of this query using positional bind markers.
+	 *
+	 * @return the CQL of this query.
+	 */
+	String getQuery() {
+		return query;
+	}
+
 	/**
 	 * Obtain {@link ExpressionDependencies} from the parsed query.
 	 *
@@ -93,6 +121,30 @@ class StringBasedQuery {
 		return expressionDependencies;
 	}
 
+	/**
+	 * Create a {@link SpELExpressionEvaluator} evaluating the expressions of this query within the given
+	 * {@link EvaluationContext}. The evaluator uses the expressions parsed when creating this query.
+	 *
+	 * @param evaluationContext must not be {@literal null}.
+	 * @return the {@link SpELExpressionEvaluator}.
+	 */
+	SpELExpressionEvaluator createEvaluator(EvaluationContext evaluationContext) {
+
+		Assert.notNull(evaluationContext, "EvaluationContext must not be null");
+
+		return new DefaultSpELExpressionEvaluator(this::getRequiredExpression, evaluationContext);
+	}
+
+	private Expression getRequiredExpression(String expressionString) {
+
+		Expression expression = expressions.get(expressionString);
+
+		Assert.state(expression != null,
+				() -> String.format("Expression [%s] is not part of this query", expressionString));
+
+		return expression;
+	}
+
 	/**
 	 * Bind the query to actual parameters using {@link CassandraParameterAccessor},
 	 *
@@ -110,11 +162,12 @@ class StringBasedQuery {
 
 		List<Object> arguments = bindingContext.getBindingValues();
 
-		return ParameterBinder.INSTANCE.bind(this.query, arguments);
+		return arguments.isEmpty() ? SimpleStatement.newInstance(this.query)
+				: SimpleStatement.newInstance(this.query, arguments.toArray());
 	}
 
 	/**
-	 * A parser that extracts the parameter bindings from a given query string.
+	 * A renderer that replaces argument placeholders of a parsed query string with positional bind markers.
 	 *
 	 * @author Mark Paluch
 	 */
@@ -125,17 +178,16 @@ class StringBasedQuery {
 		private static final String ARGUMENT_PLACEHOLDER = "?_param_?";
 		private static final Pattern ARGUMENT_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(ARGUMENT_PLACEHOLDER));
 
-		public SimpleStatement bind(String input, List<Object> parameters) {
+		public String render(String input) {
 
-			if (parameters.isEmpty()) {
-				return SimpleStatement.newInstance(input);
+			if (!StringUtils.hasText(input)) {
+				return input;
 			}
 
 			StringBuilder result = new StringBuilder();
 
 			int startIndex = 0;
 			int currentPosition = 0;
-			int parameterIndex = 0;
 
 			Matcher matcher = ARGUMENT_PLACEHOLDER_PATTERN.matcher(input);
 
@@ -149,14 +201,11 @@ class StringBasedQuery {
 
 				result.append(input.subSequence(startIndex, exprStart)).append("?");
 
-				parameterIndex++;
 				currentPosition = matcher.end();
 				startIndex = currentPosition;
 			}
 
-			String bindableStatement = result.append(input.subSequence(currentPosition, input.length())).toString();
-
-			return SimpleStatement.newInstance(bindableStatement, parameters.subList(0, parameterIndex).toArray());
+			return result.append(input.subSequence(currentPosition, input.length())).toString();
 		}
 	}
 
@@ -15,28 +15,32 @@
  */
 package org.springframework.data.cassandra.repository.support;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParseException;
 import org.springframework.expression.ParserContext;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
- * Caching variant of {@link ExpressionParser}. This implementation does not support
- * {@link #parseExpression(String, ParserContext) parsing with ParseContext}.
+ * Caching variant of {@link ExpressionParser}. Parsed expressions are retained in a cache bounded to
+ * {@link #DEFAULT_CACHE_LIMIT} entries that evicts least recently used expressions. This implementation does not
+ * support {@link #parseExpression(String, ParserContext) parsing with ParseContext}.
  *
  * @author Mark Paluch
  * @since 3.1
  */
 class CachingExpressionParser implements ExpressionParser {
 
-	private final ExpressionParser delegate;
-	private final Map<String, Expression> cache = new ConcurrentHashMap<>();
+	static final int DEFAULT_CACHE_LIMIT = 256;
+
+	private final ConcurrentLruCache<String, Expression> cache;
 
 	CachingExpressionParser(ExpressionParser delegate) {
-		this.delegate = delegate;
+		this(delegate, DEFAULT_CACHE_LIMIT);
+	}
+
+	CachingExpressionParser(ExpressionParser delegate, int cacheLimit) {
+		this.cache = new ConcurrentLruCache<>(cacheLimit, delegate::parseExpression);
 	}
 
 	/*
@@ -45,7 +49,7 @@ class CachingExpressionParser implements ExpressionParser {
 	 */
 	@Override
 	public Expression parseExpression(String expressionString) throws ParseException {
-		return cache.computeIfAbsent(expressionString, delegate::parseExpression);
+		return cache.get(expressionString);
 	}
 
 	/*
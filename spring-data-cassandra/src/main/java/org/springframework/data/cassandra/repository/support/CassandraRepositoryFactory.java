@@ -19,6 +19,8 @@ import java.lang.reflect.Method;
 import java.util.Optional;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.MultiGetOptions;
+import org.springframework.data.cassandra.core.PartitionedBatchOptions;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.repository.CassandraRepository;
@@ -37,6 +39,8 @@ import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -52,12 +56,19 @@ import org.springframework.util.Assert;
  */
 public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
-	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
 
 	private final MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext;
 
 	private final CassandraOperations operations;
 
+	private int bulkConcurrency = SimpleCassandraRepository.DEFAULT_BULK_CONCURRENCY;
+
+	private @Nullable PartitionedBatchOptions partitionedBatchOptions;
+
+	private @Nullable MultiGetOptions multiGetOptions;
+
 	/**
 	 * Create a new {@link CassandraRepositoryFactory} with the given {@link CassandraOperations}.
 	 *
@@ -71,6 +82,42 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 		this.mappingContext = operations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Configure the maximum number of concurrently executed operations of repository bulk methods.
+	 *
+	 * @param bulkConcurrency the maximum number of concurrent operations, must be greater than zero.
+	 * @since 3.3
+	 * @see SimpleCassandraRepository#setBulkConcurrency(int)
+	 */
+	public void setBulkConcurrency(int bulkConcurrency) {
+
+		Assert.isTrue(bulkConcurrency > 0, "Bulk concurrency must be greater than zero");
+
+		this.bulkConcurrency = bulkConcurrency;
+	}
+
+	/**
+	 * Configure {@link PartitionedBatchOptions} to write entities in repository bulk methods through partitioned batches.
+	 *
+	 * @param partitionedBatchOptions the {@link PartitionedBatchOptions}, may be {@literal null}.
+	 * @since 3.3
+	 * @see SimpleCassandraRepository#setPartitionedBatchOptions(PartitionedBatchOptions)
+	 */
+	public void setPartitionedBatchOptions(@Nullable PartitionedBatchOptions partitionedBatchOptions) {
+		this.partitionedBatchOptions = partitionedBatchOptions;
+	}
+
+	/**
+	 * Configure {@link MultiGetOptions} to look up entities in {@code findAllById(Iterable)} through a multi-get.
+	 *
+	 * @param multiGetOptions the {@link MultiGetOptions}, may be {@literal null}.
+	 * @since 3.3
+	 * @see SimpleCassandraRepository#setMultiGetOptions(MultiGetOptions)
+	 */
+	public void setMultiGetOptions(@Nullable MultiGetOptions multiGetOptions) {
+		this.multiGetOptions = multiGetOptions;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
 	 */
@@ -87,7 +134,17 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
 		CassandraEntityInformation<?, Object> entityInformation = getEntityInformation(information.getDomainType());
 
-		return getTargetRepositoryViaReflection(information, entityInformation, operations);
+		Object repository = getTargetRepositoryViaReflection(information, entityInformation, operations);
+
+		if (repository instanceof SimpleCassandraRepository) {
+
+			SimpleCassandraRepository<?, ?> simpleRepository = (SimpleCassandraRepository<?, ?>) repository;
+			simpleRepository.setBulkConcurrency(this.bulkConcurrency);
+			simpleRepository.setPartitionedBatchOptions(this.partitionedBatchOptions);
+			simpleRepository.setMultiGetOptions(this.multiGetOptions);
+		}
+
+		return repository;
 	}
 
 	/* (non-Javadoc)
@@ -17,6 +17,8 @@ package org.springframework.data.cassandra.repository.support;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.MultiGetOptions;
+import org.springframework.data.cassandra.core.PartitionedBatchOptions;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
@@ -37,6 +39,12 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 	private @Nullable CassandraOperations cassandraOperations;
 
+	private int bulkConcurrency = SimpleCassandraRepository.DEFAULT_BULK_CONCURRENCY;
+
+	private @Nullable PartitionedBatchOptions partitionedBatchOptions;
+
+	private @Nullable MultiGetOptions multiGetOptions;
+
 	/**
 	 * Create a new {@link CassandraRepositoryFactoryBean} for the given repository interface.
 	 *
@@ -51,7 +59,12 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 		Assert.state(cassandraOperations != null, "CassandraOperations must not be null");
 
-		return new CassandraRepositoryFactory(cassandraOperations);
+		CassandraRepositoryFactory factory = new CassandraRepositoryFactory(cassandraOperations);
+		factory.setBulkConcurrency(this.bulkConcurrency);
+		factory.setPartitionedBatchOptions(this.partitionedBatchOptions);
+		factory.setMultiGetOptions(this.multiGetOptions);
+
+		return factory;
 	}
 
 	/**
@@ -66,6 +79,44 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		setMappingContext(cassandraTemplate.getConverter().getMappingContext());
 	}
 
+	/**
+	 * Configures the maximum number of concurrently executed operations of repository bulk methods. Defaults to
+	 * {@link SimpleCassandraRepository#DEFAULT_BULK_CONCURRENCY}.
+	 *
+	 * @param bulkConcurrency the maximum number of concurrent operations, must be greater than zero.
+	 * @since 3.3
+	 * @see SimpleCassandraRepository#setBulkConcurrency(int)
+	 */
+	public void setBulkConcurrency(int bulkConcurrency) {
+
+		Assert.isTrue(bulkConcurrency > 0, "Bulk concurrency must be greater than zero");
+
+		this.bulkConcurrency = bulkConcurrency;
+	}
+
+	/**
+	 * Configures {@link PartitionedBatchOptions} to write entities in repository bulk methods through partitioned
+	 * batches.
+	 *
+	 * @param partitionedBatchOptions the {@link PartitionedBatchOptions}, may be {@literal null}.
+	 * @since 3.3
+	 * @see SimpleCassandraRepository#setPartitionedBatchOptions(PartitionedBatchOptions)
+	 */
+	public void setPartitionedBatchOptions(@Nullable PartitionedBatchOptions partitionedBatchOptions) {
+		this.partitionedBatchOptions = partitionedBatchOptions;
+	}
+
+	/**
+	 * Configures {@link MultiGetOptions} to look up entities in {@code findAllById(Iterable)} through a multi-get.
+	 *
+	 * @param multiGetOptions the {@link MultiGetOptions}, may be {@literal null}.
+	 * @since 3.3
+	 * @see SimpleCassandraRepository#setMultiGetOptions(MultiGetOptions)
+	 */
+	public void setMultiGetOptions(@Nullable MultiGetOptions multiGetOptions) {
+		this.multiGetOptions = multiGetOptions;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#afterPropertiesSet()
 	 */
@@ -18,9 +18,11 @@ package org.springframework.data.cassandra.repository.support;
 import java.lang.reflect.Method;
 import java.util.Optional;
 
+import org.springframework.data.cassandra.core.MultiGetOptions;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.repository.ReactiveWriteOptions;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
 import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryMethod;
 import org.springframework.data.cassandra.repository.query.ReactivePartTreeCassandraQuery;
@@ -37,6 +39,8 @@ import org.springframework.data.repository.query.QueryMethodEvaluationContextPro
 import org.springframework.data.repository.query.ReactiveQueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -49,12 +53,17 @@ import org.springframework.util.Assert;
  */
 public class ReactiveCassandraRepositoryFactory extends ReactiveRepositoryFactorySupport {
 
-	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
 
 	private final ReactiveCassandraOperations operations;
 
 	private final MappingContext<? extends CassandraPersistentEntity<?>, ? extends CassandraPersistentProperty> mappingContext;
 
+	private ReactiveWriteOptions writeOptions = ReactiveWriteOptions.empty();
+
+	private @Nullable MultiGetOptions multiGetOptions;
+
 	/**
 	 * Create a new {@link ReactiveCassandraRepositoryFactory} with the given {@link ReactiveCassandraOperations}.
 	 *
@@ -70,6 +79,31 @@ public class ReactiveCassandraRepositoryFactory extends ReactiveRepositoryFactor
 		setEvaluationContextProvider(ReactiveQueryMethodEvaluationContextProvider.DEFAULT);
 	}
 
+	/**
+	 * Configure the {@link ReactiveWriteOptions} applied to repository bulk methods.
+	 *
+	 * @param writeOptions must not be {@literal null}.
+	 * @since 3.3
+	 * @see SimpleReactiveCassandraRepository#setWriteOptions(ReactiveWriteOptions)
+	 */
+	public void setWriteOptions(ReactiveWriteOptions writeOptions) {
+
+		Assert.notNull(writeOptions, "ReactiveWriteOptions must not be null");
+
+		this.writeOptions = writeOptions;
+	}
+
+	/**
+	 * Configure {@link MultiGetOptions} to look up entities in {@code findAllById(Iterable)} through a multi-get.
+	 *
+	 * @param multiGetOptions the {@link MultiGetOptions}, may be {@literal null}.
+	 * @since 3.3
+	 * @see SimpleReactiveCassandraRepository#setMultiGetOptions(MultiGetOptions)
+	 */
+	public void setMultiGetOptions(@Nullable MultiGetOptions multiGetOptions) {
+		this.multiGetOptions = multiGetOptions;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
 	 */
@@ -86,7 +120,16 @@ public class ReactiveCassandraRepositoryFactory extends ReactiveRepositoryFactor
 
 		CassandraEntityInformation<?, Object> entityInformation = getEntityInformation(information.getDomainType());
 
-		return getTargetRepositoryViaReflection(information, entityInformation, operations);
+		Object repository = getTargetRepositoryViaReflection(information, entityInformation, operations);
+
+		if (repository instanceof SimpleReactiveCassandraRepository) {
+
+			SimpleReactiveCassandraRepository<?, ?> simpleRepository = (SimpleReactiveCassandraRepository<?, ?>) repository;
+			simpleRepository.setWriteOptions(this.writeOptions);
+			simpleRepository.setMultiGetOptions(this.multiGetOptions);
+		}
+
+		return repository;
 	}
 
 	/* (non-Javadoc)
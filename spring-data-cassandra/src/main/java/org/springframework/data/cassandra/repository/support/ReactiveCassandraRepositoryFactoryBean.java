@@ -18,7 +18,9 @@ package org.springframework.data.cassandra.repository.support;
 import java.util.Optional;
 
 import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.data.cassandra.core.MultiGetOptions;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cassandra.repository.ReactiveWriteOptions;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
@@ -44,6 +46,10 @@ public class ReactiveCassandraRepositoryFactoryBean<T extends Repository<S, ID>,
 
 	private @Nullable ReactiveCassandraOperations operations;
 
+	private ReactiveWriteOptions writeOptions = ReactiveWriteOptions.empty();
+
+	private @Nullable MultiGetOptions multiGetOptions;
+
 	/**
 	 * Create a new {@link ReactiveCassandraRepositoryFactoryBean} for the given repository interface.
 	 *
@@ -63,6 +69,32 @@ public class ReactiveCassandraRepositoryFactoryBean<T extends Repository<S, ID>,
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures the {@link ReactiveWriteOptions} applied to repository bulk methods. Defaults to
+	 * {@link ReactiveWriteOptions#empty()}.
+	 *
+	 * @param writeOptions must not be {@literal null}.
+	 * @since 3.3
+	 * @see SimpleReactiveCassandraRepository#setWriteOptions(ReactiveWriteOptions)
+	 */
+	public void setWriteOptions(ReactiveWriteOptions writeOptions) {
+
+		Assert.notNull(writeOptions, "ReactiveWriteOptions must not be null");
+
+		this.writeOptions = writeOptions;
+	}
+
+	/**
+	 * Configures {@link MultiGetOptions} to look up entities in {@code findAllById(Iterable)} through a multi-get.
+	 *
+	 * @param multiGetOptions the {@link MultiGetOptions}, may be {@literal null}.
+	 * @since 3.3
+	 * @see SimpleReactiveCassandraRepository#setMultiGetOptions(MultiGetOptions)
+	 */
+	public void setMultiGetOptions(@Nullable MultiGetOptions multiGetOptions) {
+		this.multiGetOptions = multiGetOptions;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
 	 */
@@ -82,7 +114,16 @@ public class ReactiveCassandraRepositoryFactoryBean<T extends Repository<S, ID>,
 
 		Assert.state(operations != null, "ReactiveCassandraOperations must not be null");
 
-		return getFactoryInstance(operations);
+		RepositoryFactorySupport factory = getFactoryInstance(operations);
+
+		if (factory instanceof ReactiveCassandraRepositoryFactory) {
+
+			ReactiveCassandraRepositoryFactory cassandraRepositoryFactory = (ReactiveCassandraRepositoryFactory) factory;
+			cassandraRepositoryFactory.setWriteOptions(this.writeOptions);
+			cassandraRepositoryFactory.setMultiGetOptions(this.multiGetOptions);
+		}
+
+		return factory;
 	}
 
 	/*
@@ -21,10 +21,26 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.cassandra.CassandraUncategorizedException;
+import org.springframework.data.cassandra.core.AsyncCassandraOperations;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.EntityWriteResult;
 import org.springframework.data.cassandra.core.InsertOptions;
+import org.springframework.data.cassandra.core.MultiGetOptions;
+import org.springframework.data.cassandra.core.PartitionedBatchOptions;
+import org.springframework.data.cassandra.core.cql.CassandraAccessor;
+import org.springframework.data.cassandra.core.cql.CassandraExceptionTranslator;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Query;
@@ -33,10 +49,19 @@ import org.springframework.data.cassandra.repository.query.CassandraEntityInform
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.mapping.context.AbstractMappingContext;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.ListenableFutureAdapter;
 
 /**
  * Repository base implementation for Cassandra.
+ * <p>
+ * Bulk methods ({@link #saveAll(Iterable)}, {@link #insert(Iterable)} and {@link #deleteAll(Iterable)}) execute their
+ * per-entity operations concurrently through {@link AsyncCassandraOperations}, bounded by
+ * {@link #setBulkConcurrency(int) bulk concurrency}. Each entity is still written through the regular entity
+ * operations so that version checks, entity callbacks and lifecycle events apply per entity. Bulk methods execute
+ * sequentially if no {@link AsyncCassandraOperations} are available or the bulk concurrency is {@code 1}.
  *
  * @author Alex Shvid
  * @author Matthew T. Adams
@@ -47,6 +72,13 @@ import org.springframework.util.Assert;
  */
 public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T, ID> {
 
+	/**
+	 * Default number of concurrent operations of bulk methods.
+	 *
+	 * @since 3.3
+	 */
+	public static final int DEFAULT_BULK_CONCURRENCY = 32;
+
 	private static final InsertOptions INSERT_NULLS = InsertOptions.builder().withInsertNulls().build();
 
 	private final AbstractMappingContext<BasicCassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext;
@@ -55,23 +87,99 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 	private final CassandraOperations operations;
 
+	private final Supplier<AsyncCassandraOperations> asyncOperations;
+
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+
+	private @Nullable PartitionedBatchOptions partitionedBatchOptions;
+
+	private @Nullable MultiGetOptions multiGetOptions;
+
 	/**
 	 * Create a new {@link SimpleCassandraRepository} for the given {@link CassandraEntityInformation} and
-	 * {@link CassandraTemplate}.
+	 * {@link CassandraTemplate}. Bulk methods use the {@link CassandraTemplate#getAsyncTemplate() asynchronous template}
+	 * of {@code operations} if {@code operations} is a {@link CassandraTemplate}.
 	 *
 	 * @param metadata must not be {@literal null}.
 	 * @param operations must not be {@literal null}.
 	 */
 	public SimpleCassandraRepository(CassandraEntityInformation<T, ID> metadata, CassandraOperations operations) {
+		this(metadata, operations,
+				operations instanceof CassandraTemplate ? ((CassandraTemplate) operations)::getAsyncTemplate : () -> null);
+	}
+
+	/**
+	 * Create a new {@link SimpleCassandraRepository} for the given {@link CassandraEntityInformation},
+	 * {@link CassandraOperations} and {@link AsyncCassandraOperations} used by bulk methods.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param asyncOperations the {@link AsyncCassandraOperations} to execute bulk methods concurrently, may be
+	 *          {@literal null} to execute bulk methods sequentially.
+	 * @since 3.3
+	 */
+	public SimpleCassandraRepository(CassandraEntityInformation<T, ID> metadata, CassandraOperations operations,
+			@Nullable AsyncCassandraOperations asyncOperations) {
+		this(metadata, operations, () -> asyncOperations);
+	}
+
+	private SimpleCassandraRepository(CassandraEntityInformation<T, ID> metadata, CassandraOperations operations,
+			Supplier<AsyncCassandraOperations> asyncOperations) {
 
 		Assert.notNull(metadata, "CassandraEntityInformation must not be null");
 		Assert.notNull(operations, "CassandraOperations must not be null");
 
 		this.entityInformation = metadata;
 		this.operations = operations;
+		this.asyncOperations = asyncOperations;
+		this.exceptionTranslator = operations.getCqlOperations() instanceof CassandraAccessor
+				? ((CassandraAccessor) operations.getCqlOperations()).getExceptionTranslator()
+				: new CassandraExceptionTranslator();
 		this.mappingContext = operations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Configure the maximum number of concurrently executed operations of bulk methods. Defaults to
+	 * {@link #DEFAULT_BULK_CONCURRENCY}. A concurrency of {@code 1} executes bulk methods sequentially.
+	 *
+	 * @param bulkConcurrency the maximum number of concurrent operations, must be greater than zero.
+	 * @since 3.3
+	 */
+	public void setBulkConcurrency(int bulkConcurrency) {
+
+		Assert.isTrue(bulkConcurrency > 0, "Bulk concurrency must be greater than zero");
+
+		this.bulkConcurrency = bulkConcurrency;
+	}
+
+	/**
+	 * Configure {@link PartitionedBatchOptions} to write entities without a version property in bulk methods through
+	 * {@link CassandraOperations#batchOps(PartitionedBatchOptions) partitioned batches}. Batched writes do not invoke
+	 * entity callbacks and do not publish lifecycle events. Entities with a version property are not batched. Bulk
+	 * methods do not use batches if {@link PartitionedBatchOptions} are {@literal null} (default).
+	 *
+	 * @param partitionedBatchOptions the {@link PartitionedBatchOptions}, may be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setPartitionedBatchOptions(@Nullable PartitionedBatchOptions partitionedBatchOptions) {
+		this.partitionedBatchOptions = partitionedBatchOptions;
+	}
+
+	/**
+	 * Configure {@link MultiGetOptions} to look up entities in {@code findAllById(Iterable)} through a
+	 * {@link CassandraOperations#multiGet(Query, Class, MultiGetOptions) multi-get} with one query per partition instead of a single
+	 * {@code IN} query. {@code findAllById(Iterable)} uses a single {@code IN} query if {@link MultiGetOptions} are
+	 * {@literal null} (default).
+	 *
+	 * @param multiGetOptions the {@link MultiGetOptions}, may be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setMultiGetOptions(@Nullable MultiGetOptions multiGetOptions) {
+		this.multiGetOptions = multiGetOptions;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods from CrudRepository
 	// -------------------------------------------------------------------------
@@ -104,13 +212,35 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
-		List<S> result = new ArrayList<>();
+		if (this.partitionedBatchOptions != null) {
+
+			List<Object> batched = new ArrayList<>();
+
+			List<S> result = doBulk(entities, it -> !isVersioned(it) && batched.add(it), this::save, this::doSaveAsync);
 
-		for (S entity : entities) {
-			result.add(save(entity));
+			if (!batched.isEmpty()) {
+				this.operations.batchOps(this.partitionedBatchOptions).insert(batched, INSERT_NULLS).execute();
+			}
+
+			return result;
 		}
 
-		return result;
+		return doBulk(entities, it -> false, this::save, this::doSaveAsync);
+	}
+
+	private <S extends T> ListenableFuture<S> doSaveAsync(AsyncCassandraOperations asyncOperations, S entity) {
+
+		if (isVersioned(entity) && !this.entityInformation.isNew(entity)) {
+			return asyncOperations.update(entity);
+		}
+
+		return new ListenableFutureAdapter<S, EntityWriteResult<S>>(asyncOperations.insert(entity, INSERT_NULLS)) {
+
+			@Override
+			protected S adapt(EntityWriteResult<S> result) {
+				return result.getEntity();
+			}
+		};
 	}
 
 	/* (non-Javadoc)
@@ -159,6 +289,11 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 			return Collections.emptyList();
 		}
 
+		if (this.multiGetOptions != null) {
+			return this.operations.multiGet(createIdsInQuery(ids), this.entityInformation.getJavaType(),
+					this.multiGetOptions);
+		}
+
 		return this.operations.select(createIdsInQuery(ids), this.entityInformation.getJavaType());
 	}
 
@@ -215,7 +350,27 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
-		entities.forEach(this.operations::delete);
+		if (this.partitionedBatchOptions != null) {
+
+			List<Object> batched = new ArrayList<>();
+
+			doBulk(entities, it -> !isVersioned(it) && batched.add(it), this::doDelete, AsyncCassandraOperations::<T> delete);
+
+			if (!batched.isEmpty()) {
+				this.operations.batchOps(this.partitionedBatchOptions).delete(batched).execute();
+			}
+
+			return;
+		}
+
+		doBulk(entities, it -> false, this::doDelete, AsyncCassandraOperations::<T> delete);
+	}
+
+	private T doDelete(T entity) {
+
+		this.operations.delete(entity);
+
+		return entity;
 	}
 
 	/* (non-Javadoc)
@@ -260,15 +415,138 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
+		if (this.partitionedBatchOptions != null) {
+
+			List<Object> batched = new ArrayList<>();
+
+			List<S> result = doBulk(entities, it -> !isVersioned(it) && batched.add(it), this.operations::insert,
+					AsyncCassandraOperations::insert);
+
+			if (!batched.isEmpty()) {
+				this.operations.batchOps(this.partitionedBatchOptions).insert(batched).execute();
+			}
+
+			return result;
+		}
+
+		return doBulk(entities, it -> false, this.operations::insert, AsyncCassandraOperations::insert);
+	}
+
+	private boolean isVersioned(Object entity) {
+
+		BasicCassandraPersistentEntity<?> persistentEntity = this.mappingContext.getPersistentEntity(entity.getClass());
+
+		return persistentEntity != null && persistentEntity.hasVersionProperty();
+	}
+
+	/**
+	 * Apply an operation to each entity and return the resulting entities in iteration order. Entities accepted by the
+	 * {@code batched} predicate are returned unchanged and are written by the caller. Other entities are written through
+	 * {@code asyncOperation} with bounded concurrency, or through {@code operation} if bulk methods execute sequentially.
+	 * No further operations are started once an operation fails.
+	 */
+	private <S> List<S> doBulk(Iterable<? extends S> entities, Predicate<? super S> batched, Function<S, S> operation,
+			BulkOperation<S> asyncOperation) {
+
 		List<S> result = new ArrayList<>();
+		AsyncCassandraOperations asyncOperations = this.bulkConcurrency > 1 ? this.asyncOperations.get() : null;
+
+		if (asyncOperations == null) {
 
-		for (S entity : entities) {
-			result.add(this.operations.insert(entity));
+			for (S entity : entities) {
+				result.add(batched.test(entity) ? entity : operation.apply(entity));
+			}
+
+			return result;
+		}
+
+		Semaphore permits = new Semaphore(this.bulkConcurrency);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<ListenableFuture<? extends S>> futures = new ArrayList<>();
+
+		try {
+
+			for (S entity : entities) {
+
+				if (batched.test(entity)) {
+					futures.add(null);
+					result.add(entity);
+					continue;
+				}
+
+				permits.acquire();
+
+				if (failure.get() != null) {
+					permits.release();
+					break;
+				}
+
+				ListenableFuture<? extends S> future = asyncOperation.apply(asyncOperations, entity);
+
+				future.addCallback(it -> permits.release(), error -> {
+
+					failure.compareAndSet(null, error);
+					permits.release();
+				});
+
+				futures.add(future);
+				result.add(null);
+			}
+
+			permits.acquire(this.bulkConcurrency);
+
+			for (int i = 0; failure.get() == null && i < futures.size(); i++) {
+				if (futures.get(i) != null) {
+					result.set(i, futures.get(i).get());
+				}
+			}
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new CassandraUncategorizedException("Interrupted while executing bulk operation", e);
+		} catch (ExecutionException e) {
+			failure.compareAndSet(null, e);
+		}
+
+		Throwable error = failure.get();
+
+		if (error != null) {
+			throw translate(error);
 		}
 
 		return result;
 	}
 
+	/**
+	 * Unwrap {@link ExecutionException} and {@link CompletionException} and translate the failure of a bulk operation
+	 * into a {@link DataAccessException}. Exceptions that cannot be translated are rethrown as-is so that bulk methods
+	 * fail with the same exceptions as their sequential counterparts.
+	 */
+	private RuntimeException translate(Throwable error) {
+
+		Throwable cause = error;
+
+		while ((cause instanceof ExecutionException || cause instanceof CompletionException) && cause.getCause() != null) {
+			cause = cause.getCause();
+		}
+
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+
+		if (!(cause instanceof RuntimeException)) {
+			return new CassandraUncategorizedException("Bulk operation failed", cause);
+		}
+
+		if (cause instanceof DataAccessException) {
+			return (DataAccessException) cause;
+		}
+
+		DataAccessException translated = this.exceptionTranslator.translateExceptionIfPossible((RuntimeException) cause);
+
+		return translated != null ? translated : (RuntimeException) cause;
+	}
+
 	private Query createIdsInQuery(Iterable<? extends ID> ids) {
 
 		FindByIdQuery mapIdQuery = FindByIdQuery.forIds(ids);
@@ -282,4 +560,12 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 		return Query.query(where(idField).in(idCollection));
 	}
 
+	/**
+	 * Asynchronous per-entity operation of a bulk method.
+	 */
+	private interface BulkOperation<S> {
+
+		ListenableFuture<? extends S> apply(AsyncCassandraOperations operations, S entity);
+	}
+
 }
@@ -21,22 +21,32 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
 
 import org.springframework.data.cassandra.core.EntityWriteResult;
 import org.springframework.data.cassandra.core.InsertOptions;
+import org.springframework.data.cassandra.core.MultiGetOptions;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.repository.ReactiveCassandraRepository;
+import org.springframework.data.cassandra.repository.ReactiveWriteOptions;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
 import org.springframework.data.mapping.context.AbstractMappingContext;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * Reactive repository base implementation for Cassandra.
+ * <p>
+ * Bulk methods accepting a {@link Publisher} or {@link Iterable} write entities concurrently. Concurrency and the order
+ * of emitted results are controlled by {@link ReactiveWriteOptions} that can be configured for the repository through
+ * {@link #setWriteOptions(ReactiveWriteOptions)} or passed per call. The number of writes in progress is exposed
+ * through {@link #getInFlightWrites()}.
  *
  * @author Mark Paluch
  * @author Christoph Strobl
@@ -53,6 +63,12 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 	private final ReactiveCassandraOperations operations;
 
+	private final AtomicInteger inFlightWrites = new AtomicInteger();
+
+	private ReactiveWriteOptions writeOptions = ReactiveWriteOptions.empty();
+
+	private @Nullable MultiGetOptions multiGetOptions;
+
 	/**
 	 * Create a new {@link SimpleReactiveCassandraRepository} for the given {@link CassandraEntityInformation} and
 	 * {@link ReactiveCassandraOperations}.
@@ -71,6 +87,43 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 		this.mappingContext = operations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Configure the {@link ReactiveWriteOptions} applied to bulk methods that are called without
+	 * {@link ReactiveWriteOptions}. Defaults to {@link ReactiveWriteOptions#empty()}.
+	 *
+	 * @param writeOptions must not be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setWriteOptions(ReactiveWriteOptions writeOptions) {
+
+		Assert.notNull(writeOptions, "ReactiveWriteOptions must not be null");
+
+		this.writeOptions = writeOptions;
+	}
+
+	/**
+	 * Configure {@link MultiGetOptions} to look up entities in {@code findAllById(Iterable)} through a
+	 * {@link ReactiveCassandraOperations#multiGet(Query, Class, MultiGetOptions) multi-get} with one query per partition instead of a single
+	 * {@code IN} query. {@code findAllById(Iterable)} uses a single {@code IN} query if {@link MultiGetOptions} are
+	 * {@literal null} (default).
+	 *
+	 * @param multiGetOptions the {@link MultiGetOptions}, may be {@literal null}.
+	 * @since 3.3
+	 */
+	public void setMultiGetOptions(@Nullable MultiGetOptions multiGetOptions) {
+		this.multiGetOptions = multiGetOptions;
+	}
+
+	/**
+	 * Return the number of writes of bulk methods that are currently in progress.
+	 *
+	 * @return the number of writes in progress.
+	 * @since 3.3
+	 */
+	public int getInFlightWrites() {
+		return this.inFlightWrites.get();
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods from ReactiveCrudRepository
 	// -------------------------------------------------------------------------
@@ -111,10 +164,25 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 	 */
 	@Override
 	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+		return saveAll(entityStream, this.writeOptions);
+	}
+
+	/**
+	 * Saves the given entities applying {@link ReactiveWriteOptions} to control concurrency and the order of emitted
+	 * results. Declare this method on a repository interface to call it through the repository proxy.
+	 *
+	 * @param entityStream must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the saved entities.
+	 * @since 3.3
+	 * @see #saveAll(Publisher)
+	 */
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream, ReactiveWriteOptions options) {
 
 		Assert.notNull(entityStream, "The given Publisher of entities must not be null");
+		Assert.notNull(options, "ReactiveWriteOptions must not be null");
 
-		return Flux.from(entityStream).flatMap(this::save);
+		return doWrite(entityStream, options, this::save);
 	}
 
 	/*
@@ -191,6 +259,11 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 			return Flux.empty();
 		}
 
+		if (this.multiGetOptions != null) {
+			return this.operations.multiGet(createIdsInCollectionQuery(ids), this.entityInformation.getJavaType(),
+					this.multiGetOptions);
+		}
+
 		return this.operations.select(createIdsInCollectionQuery(ids), this.entityInformation.getJavaType());
 	}
 
@@ -276,7 +349,7 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
-		return Flux.fromIterable(entities).flatMap(this.operations::delete).then();
+		return deleteAll(Flux.fromIterable(entities));
 	}
 
 	/* (non-Javadoc)
@@ -284,10 +357,25 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 	 */
 	@Override
 	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+		return deleteAll(entityStream, this.writeOptions);
+	}
+
+	/**
+	 * Deletes the given entities applying {@link ReactiveWriteOptions} to control concurrency. Declare this method on a
+	 * repository interface to call it through the repository proxy.
+	 *
+	 * @param entityStream must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return {@link Mono} signaling when operation has completed.
+	 * @since 3.3
+	 * @see #deleteAll(Publisher)
+	 */
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream, ReactiveWriteOptions options) {
 
 		Assert.notNull(entityStream, "The given Publisher of entities must not be null");
+		Assert.notNull(options, "ReactiveWriteOptions must not be null");
 
-		return Flux.from(entityStream).flatMap(this.operations::delete).then();
+		return doWrite(entityStream, options, this.operations::delete).then();
 	}
 
 	/* (non-Javadoc)
@@ -321,7 +409,7 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
-		return Flux.fromIterable(entities).flatMap(this.operations::insert);
+		return insert(Flux.fromIterable(entities));
 	}
 
 	/* (non-Javadoc)
@@ -329,10 +417,42 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 	 */
 	@Override
 	public <S extends T> Flux<S> insert(Publisher<S> entityStream) {
+		return insert(entityStream, this.writeOptions);
+	}
+
+	/**
+	 * Inserts the given entities applying {@link ReactiveWriteOptions} to control concurrency and the order of emitted
+	 * results. Assumes the instances to be new to be able to apply insertion optimizations. Declare this method on a
+	 * repository interface to call it through the repository proxy.
+	 *
+	 * @param entityStream must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the saved entities.
+	 * @since 3.3
+	 * @see #insert(Publisher)
+	 */
+	public <S extends T> Flux<S> insert(Publisher<S> entityStream, ReactiveWriteOptions options) {
 
 		Assert.notNull(entityStream, "The given Publisher of entities must not be null");
+		Assert.notNull(options, "ReactiveWriteOptions must not be null");
+
+		return doWrite(entityStream, options, this.operations::insert);
+	}
+
+	private <S, R> Flux<R> doWrite(Publisher<S> entityStream, ReactiveWriteOptions options,
+			Function<S, Mono<R>> operation) {
+
+		Function<S, Mono<R>> tracked = entity -> Mono.defer(() -> {
+
+			this.inFlightWrites.incrementAndGet();
+
+			return operation.apply(entity);
+		}).doFinally(signal -> this.inFlightWrites.decrementAndGet());
+
+		Flux<S> entities = Flux.from(entityStream);
 
-		return Flux.from(entityStream).flatMap(this.operations::insert);
+		return options.isOrdered() ? entities.flatMapSequential(tracked, options.getConcurrency())
+				: entities.flatMap(tracked, options.getConcurrency());
 	}
 
 	private Query createIdsInCollectionQuery(Iterable<? extends ID> ids) {
@@ -237,6 +237,42 @@ class AsyncCassandraTemplateUnitTests {
 		assertThat(render(statementCaptor.getValue())).isEqualTo("SELECT * FROM users WHERE id='myid' LIMIT 1");
 	}
 
+	@Test // user-024
+	void selectOneByIdShouldCoalesceIdenticalReads() {
+
+		when(resultSet.currentPage()).thenReturn(Collections.singleton(row));
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		CompletableFuture<AsyncResultSet> inFlight = new CompletableFuture<>();
+		when(session.executeAsync(any(Statement.class))).thenReturn(inFlight);
+		template.setCoalesceReads(true);
+
+		ListenableFuture<User> first = template.selectOneById("myid", User.class);
+		ListenableFuture<User> second = template.selectOneById("myid", User.class);
+
+		verify(session).executeAsync(any(Statement.class));
+
+		inFlight.complete(resultSet);
+
+		assertThat(getUninterruptibly(first)).isEqualTo(new User("myid", "Walter", "White"))
+				.isNotSameAs(getUninterruptibly(second));
+		assertThat(getUninterruptibly(second)).isEqualTo(getUninterruptibly(first));
+
+		template.selectOneById("myid", User.class);
+
+		verify(session, times(2)).executeAsync(any(Statement.class));
+	}
+
 	@Test // DATACASS-696
 	void selectOneShouldNull() {
 
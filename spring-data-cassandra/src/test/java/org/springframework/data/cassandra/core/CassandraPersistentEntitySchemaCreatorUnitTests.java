@@ -24,6 +24,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -35,16 +38,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.core.convert.SchemaFactory;
 import org.springframework.data.cassandra.core.cql.CqlOperations;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateUserTypeSpecification;
 import org.springframework.data.cassandra.core.cql.keyspace.UserTypeNameSpecification;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.Table;
 import org.springframework.data.cassandra.core.mapping.UserDefinedType;
 import org.springframework.data.convert.CustomConversions;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 
 /**
@@ -183,6 +191,80 @@ class CassandraPersistentEntitySchemaCreatorUnitTests extends CassandraPersisten
 		verify(operations).execute("CREATE INDEX ON indexedentity (firstname);");
 	}
 
+	@Test // user-025
+	void shouldGroupUserTypesIntoCreationLevels() {
+
+		context.getPersistentEntity(MoonType.class);
+		context.getPersistentEntity(SpaceAgencyType.class);
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				adminOperations);
+
+		schemaCreator.createUserTypes(false);
+
+		CassandraPersistentEntitySchemaCreator.UserDefinedTypeSet udts = new CassandraPersistentEntitySchemaCreator.UserDefinedTypeSet();
+		udts.add(CqlIdentifier.fromCql("planettype"));
+		udts.add(CqlIdentifier.fromCql("moontype"));
+		udts.add(CqlIdentifier.fromCql("universetype"));
+		udts.addDependency(CqlIdentifier.fromCql("planettype"), CqlIdentifier.fromCql("moontype"));
+		udts.addDependency(CqlIdentifier.fromCql("planettype"), CqlIdentifier.fromCql("universetype"));
+		udts.addDependency(CqlIdentifier.fromCql("moontype"), CqlIdentifier.fromCql("universetype"));
+
+		assertThat(udts.getLevels()).containsEntry(CqlIdentifier.fromCql("universetype"), 0)
+				.containsEntry(CqlIdentifier.fromCql("moontype"), 1).containsEntry(CqlIdentifier.fromCql("planettype"), 2);
+
+		verify(operations, times(4)).execute(startsWith("CREATE TYPE"));
+		verify(operations, times(2)).execute(any(SessionCallback.class));
+	}
+
+	@Test // user-025
+	void shouldCreateTablesOfTheSameLevelConcurrently() throws InterruptedException {
+
+		context.getPersistentEntity(Person.class);
+		context.getPersistentEntity(Planet.class);
+
+		CountDownLatch latch = new CountDownLatch(2);
+
+		when(operations.execute(anyString())).then(invocation -> {
+			latch.countDown();
+			return latch.await(5, TimeUnit.SECONDS);
+		});
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				adminOperations);
+
+		schemaCreator.createTables(false);
+
+		assertThat(latch.await(0, TimeUnit.SECONDS)).isTrue();
+		verify(operations, times(2)).execute(startsWith("CREATE TABLE"));
+		verify(operations).execute(any(SessionCallback.class));
+	}
+
+	@Test // user-025
+	void shouldSkipExistingObjectsIfNotExists() {
+
+		context.getPersistentEntity(Person.class);
+		context.getPersistentEntity(IndexedEntity.class);
+
+		KeyspaceMetadata keyspace = mock(KeyspaceMetadata.class);
+		when(keyspace.getTable(any(CqlIdentifier.class))).thenReturn(Optional.empty());
+		when(keyspace.getTable(CqlIdentifier.fromCql("person"))).thenReturn(Optional.of(mock(TableMetadata.class)));
+		when(adminOperations.getKeyspaceMetadata()).thenReturn(keyspace);
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				adminOperations);
+		schemaCreator.setParallelism(1);
+
+		schemaCreator.createTables(true);
+
+		verify(operations).execute(startsWith("CREATE TABLE IF NOT EXISTS indexedentity"));
+		verify(operations, never()).execute(contains("person"));
+
+		schemaCreator.createTables(false);
+
+		verify(operations).execute(startsWith("CREATE TABLE person"));
+	}
+
 	private void verifyTypesGetCreatedInOrderFor(String... typenames) {
 
 		ArgumentCaptor<String> cql = ArgumentCaptor.forClass(String.class);
@@ -217,4 +299,10 @@ class CassandraPersistentEntitySchemaCreatorUnitTests extends CassandraPersisten
 
 		private Udt1 u1;
 	}
+
+	@Table
+	private static class Planet {
+
+		@Id String name;
+	}
 }
@@ -20,8 +20,19 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.cassandra.core.query.Criteria.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,21 +45,30 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.cassandra.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.cassandra.core.query.Filter;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cassandra.domain.VersionedUser;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -116,6 +136,19 @@ class CassandraTemplateUnitTests {
 		assertThat(template.getConverter()).extracting("userTypeResolver").isNotNull();
 	}
 
+	@Test // user-009
+	void shouldReuseAsyncTemplateUntilSettingsChange() {
+
+		AsyncCassandraTemplate asyncTemplate = template.getAsyncTemplate();
+
+		assertThat(asyncTemplate).isNotNull().isSameAs(template.getAsyncTemplate());
+
+		template.setUsePreparedStatements(true);
+
+		assertThat(template.getAsyncTemplate()).isNotSameAs(asyncTemplate);
+		assertThat(template.getAsyncTemplate().isUsePreparedStatements()).isTrue();
+	}
+
 	@Test // DATACASS-292
 	void selectUsingCqlShouldReturnMappedResults() {
 
@@ -140,6 +173,35 @@ class CassandraTemplateUnitTests {
 		assertThat(render(statementCaptor.getValue())).isEqualTo("SELECT * FROM users");
 	}
 
+	@Test // user-011
+	void multiGetShouldExecuteSortedQueryWithLimitAsSingleInQuery() {
+
+		when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+
+		Query query = Query.query(where("lastname").in("White", "Pinkman")).sort(Sort.by("firstname")).limit(2);
+
+		template.multiGet(query, Person.class, MultiGetOptions.builder().concurrency(2).build());
+
+		verify(session).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("SELECT * FROM person WHERE lastname IN ('White','Pinkman') ORDER BY firstname ASC LIMIT 2");
+	}
+
+	@Test // user-024
+	void selectWithPagingStateShouldNotCoalesceReads() {
+
+		when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+
+		template.setCoalesceReads(true);
+
+		Query query = Query.query(where("lastname").is("White")).pagingState(ByteBuffer.allocate(1));
+
+		assertThat(template.select(query, User.class)).isEmpty();
+
+		verify(session).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getPagingState()).isNotNull();
+	}
+
 	@Test // DATACASS-292
 	void selectShouldTranslateException() {
 
@@ -210,6 +272,206 @@ class CassandraTemplateUnitTests {
 		assertThat(render(statementCaptor.getValue())).isEqualTo("SELECT * FROM users WHERE id='myid' LIMIT 1");
 	}
 
+	@Test // user-021
+	void selectShouldRecordMappingMetrics() {
+
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		MappingMetrics mappingMetrics = new MappingMetrics();
+		template.setMappingMetrics(mappingMetrics);
+
+		User user = template.selectOneById("myid", User.class);
+
+		assertThat(user).isEqualTo(new User("myid", "Walter", "White"));
+
+		MappingMetrics.EntityMetrics metrics = mappingMetrics.getEntityMetrics(User.class);
+
+		assertThat(metrics).isNotNull();
+		assertThat(metrics.getDecodeCount()).isOne();
+		assertThat(metrics.getDecodeTime()).isPositive();
+		assertThat(metrics.getEncodeCount()).isZero();
+	}
+
+	@Test // user-022
+	void selectOneByIdShouldReadThroughEntityCache() {
+
+		when(resultSet.iterator()).thenAnswer(it -> Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		EntityCache entityCache = new EntityCache().enable(User.class, 10, Duration.ofMinutes(1));
+		template.setEntityCache(entityCache);
+
+		User first = template.selectOneById("myid", User.class);
+		User second = template.selectOneById("myid", User.class);
+
+		assertThat(first).isEqualTo(new User("myid", "Walter", "White")).isNotSameAs(second);
+		assertThat(second).isEqualTo(first);
+		verify(session, times(1)).execute(any(Statement.class));
+		assertThat(entityCache.getStatistics(User.class).getHitCount()).isOne();
+		assertThat(entityCache.getStatistics(User.class).getMissCount()).isOne();
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		template.update(new User("myid", "Walter", "White"));
+		template.selectOneById("myid", User.class);
+
+		verify(session, times(3)).execute(any(Statement.class));
+
+		template.deleteById("myid", User.class);
+		template.selectOneById("myid", User.class);
+		template.selectOneById("myid", User.class);
+
+		verify(session, times(5)).execute(any(Statement.class));
+		assertThat(entityCache.getStatistics(User.class).getHitCount()).isEqualTo(2);
+	}
+
+	@Test // user-023
+	void selectShouldReadThroughQueryResultCache() {
+
+		when(resultSet.iterator()).thenAnswer(it -> Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		QueryResultCache queryResultCache = new QueryResultCache();
+		template.setQueryResultCache(queryResultCache);
+
+		Query query = Query.query(where("lastname").is("White"))
+				.queryOptions(QueryOptions.builder().cacheResults(Duration.ofMinutes(1)).build());
+
+		List<User> first = template.select(query, User.class);
+		List<User> second = template.select(query, User.class);
+		template.select(Query.query(where("lastname").is("White")), User.class);
+
+		assertThat(first).containsExactly(new User("myid", "Walter", "White"));
+		assertThat(second).isEqualTo(first);
+		assertThat(second.get(0)).isNotSameAs(first.get(0));
+		verify(session, times(2)).execute(any(Statement.class));
+		assertThat(queryResultCache.getStatistics().getHitCount()).isOne();
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		template.update(new User("myid", "Walter", "White"));
+		template.select(query, User.class);
+
+		verify(session, times(4)).execute(any(Statement.class));
+		assertThat(queryResultCache.getStatistics().getMissCount()).isEqualTo(2);
+	}
+
+	@Test // user-024
+	void cachedSelectOneByIdShouldNotJoinReadStartedBeforeWrite() throws Exception {
+
+		template.setEntityCache(new EntityCache().enable(User.class, 10, Duration.ofMinutes(1)));
+
+		assertCacheFillDoesNotJoinReadStartedBeforeWrite(() -> template.selectOneById("myid", User.class));
+	}
+
+	@Test // user-024
+	void cachedSelectShouldNotJoinReadStartedBeforeWrite() throws Exception {
+
+		template.setQueryResultCache(new QueryResultCache());
+
+		Query query = Query.query(where("id").is("myid"))
+				.queryOptions(QueryOptions.builder().cacheResults(Duration.ofMinutes(1)).build());
+
+		assertCacheFillDoesNotJoinReadStartedBeforeWrite(() -> template.select(query, User.class).get(0));
+	}
+
+	/**
+	 * Start a read that stays in flight while the user is updated, then read again and verify that the second read
+	 * neither joins the first one nor is superseded in the cache by its stale result.
+	 */
+	private void assertCacheFillDoesNotJoinReadStartedBeforeWrite(Callable<User> read) throws Exception {
+
+		Row staleRow = mock(Row.class);
+		ResultSet staleResultSet = mock(ResultSet.class);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean firstSelect = new AtomicBoolean(true);
+
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(staleRow.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(staleRow.getObject(0)).thenReturn("myid");
+		when(staleRow.getObject(1)).thenReturn("Walter");
+		when(staleRow.getObject(2)).thenReturn("White");
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("Black");
+		when(staleResultSet.iterator()).thenAnswer(it -> Collections.singleton(staleRow).iterator());
+		when(resultSet.iterator()).thenAnswer(it -> Collections.singleton(row).iterator());
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		when(session.execute(any(Statement.class))).thenAnswer(invocation -> {
+
+			Statement<?> statement = invocation.getArgument(0);
+
+			if (((SimpleStatement) statement).getQuery().startsWith("SELECT") && firstSelect.compareAndSet(true, false)) {
+
+				started.countDown();
+				assertThat(release.await(10, TimeUnit.SECONDS)).isTrue();
+				return staleResultSet;
+			}
+
+			return resultSet;
+		});
+
+		template.setCoalesceReads(true);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<User> inFlight = executor.submit(read);
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+			template.update(new User("myid", "Walter", "Black"));
+
+			Future<User> afterWrite = executor.submit(read);
+
+			assertThat(afterWrite.get(10, TimeUnit.SECONDS).getLastname()).isEqualTo("Black");
+
+			release.countDown();
+
+			assertThat(inFlight.get(10, TimeUnit.SECONDS).getLastname()).isEqualTo("White");
+			assertThat(read.call().getLastname()).isEqualTo("Black");
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
 	@Test // DATACASS-313
 	void selectProjectedOneShouldReturnMappedResults() {
 
@@ -382,6 +644,248 @@ class CassandraTemplateUnitTests {
 		assertThat(writeResult.wasApplied()).isFalse();
 	}
 
+	@Test
+	void insertShouldReuseStatementShape() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.insert(new User("heisenberg", "Walter", "White"));
+		template.insert(new User("pinkman", "Jesse", "Pinkman"));
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+
+		List<SimpleStatement> statements = statementCaptor.getAllValues();
+		assertThat(statements.get(0).getQuery()).isEqualTo(statements.get(1).getQuery());
+		assertThat(render(statements.get(1)))
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES ('Jesse','pinkman','Pinkman')");
+	}
+
+	@Test // user-001
+	void insertShouldConvertEntityOnceOnStatementShapeMiss() {
+
+		MappingCassandraConverter converter = spy(new MappingCassandraConverter());
+		converter.afterPropertiesSet();
+		template = new CassandraTemplate(session, converter);
+		template.setUsePreparedStatements(false);
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		User user = new User("heisenberg", "Walter", "White");
+		template.insert(user);
+
+		verify(converter).write(eq(user), any(), any());
+		verify(session).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES ('Walter','heisenberg','White')");
+	}
+
+	@Test // user-001
+	void updateShouldConvertEntityOnceOnStatementShapeMiss() {
+
+		MappingCassandraConverter converter = spy(new MappingCassandraConverter());
+		converter.afterPropertiesSet();
+		template = new CassandraTemplate(session, converter);
+		template.setUsePreparedStatements(false);
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		User user = new User("heisenberg", "Walter", "White");
+		template.update(user);
+
+		verify(converter).write(eq(user), any(), any());
+		verify(session).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("UPDATE users SET firstname='Walter', lastname='White' WHERE id='heisenberg'");
+	}
+
+	@Test // user-001
+	void updateShouldRenderCompositePrimaryKeyFromColumnValues() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		Group group = new Group(new GroupKey("users", "0x1", "heisenberg"));
+		group.setEmail("walter@white.com");
+
+		template.update(group);
+
+		verify(session).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue())).isEqualTo(
+				"UPDATE group SET age=0, email='walter@white.com' WHERE groupname='users' AND hash_prefix='0x1' AND username='heisenberg'");
+	}
+
+	@Test // user-012
+	void insertShouldRouteStatementOfCachedShape() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		InsertOptions options = InsertOptions.builder().keyspace(CqlIdentifier.fromCql("ks")).build();
+
+		template.insert(new User("heisenberg", "Walter", "White"), options);
+		template.insert(new User("pinkman", "Jesse", "Pinkman"), options);
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+
+		SimpleStatement statement = statementCaptor.getAllValues().get(1);
+		assertThat(statement.getRoutingKey()).isEqualTo(ByteBuffer.wrap("pinkman".getBytes(StandardCharsets.UTF_8)));
+		assertThat(statement.getRoutingKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks"));
+	}
+
+	@Test
+	void insertShouldDistinguishStatementShapeByNullColumns() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.insert(new User("heisenberg", "Walter", "White"));
+		template.insert(new User("pinkman", null, "Pinkman"));
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+
+		assertThat(render(statementCaptor.getAllValues().get(1)))
+				.isEqualTo("INSERT INTO users (id,lastname) VALUES ('pinkman','Pinkman')");
+	}
+
+	@Test
+	void insertShouldPrepareStatementShapeOnce() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.boundStatementBuilder(any())).thenReturn(mock(BoundStatementBuilder.class));
+		when(preparedStatement.getVariableDefinitions()).thenReturn(columnDefinitions);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(resultSet);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setUsePreparedStatements(true);
+
+		template.insert(new User("heisenberg", "Walter", "White"));
+		template.insert(new User("pinkman", "Jesse", "Pinkman"));
+
+		verify(session).prepare(any(SimpleStatement.class));
+		verify(session, times(2)).execute(boundStatement);
+	}
+
+	@Test
+	void insertShouldOmitNullColumnsWhenUnsettingNulls() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setUnsetNulls(true);
+		template.insert(new User("pinkman", null, "Pinkman"), InsertOptions.builder().withInsertNulls().build());
+
+		verify(session).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("INSERT INTO users (id,lastname) VALUES ('pinkman','Pinkman')");
+	}
+
+	@Test
+	void insertShouldUnsetNullValuesOfPreparedStatement() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatementBuilder boundStatementBuilder = mock(BoundStatementBuilder.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.boundStatementBuilder(any())).thenReturn(boundStatementBuilder);
+		when(boundStatementBuilder.unset(anyInt())).thenReturn(boundStatementBuilder);
+		when(boundStatementBuilder.build()).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(resultSet);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setUsePreparedStatements(true);
+		template.insert(new User("pinkman", null, "Pinkman"), InsertOptions.builder().withUnsetNulls().build());
+
+		verify(session).prepare(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery())
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES (?,?,?)");
+		verify(boundStatementBuilder).unset(0);
+		verify(boundStatementBuilder, never()).unset(1);
+		verify(session).execute(boundStatement);
+	}
+
+	@Test // user-017
+	void preparedQueryShouldPrepareOnceAndBindValuesByName() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class, RETURNS_SELF);
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		PreparedQuery<User> query = template.prepare(Query.query(where("id").is("placeholder")), User.class);
+
+		assertThat(query.getCql()).isEqualTo("SELECT * FROM users WHERE id=?");
+		assertThat(query.getParameterNames()).containsExactly("id");
+
+		User user = template.selectOne(query, Collections.singletonMap("id", "myid"));
+		template.select(query, "other");
+
+		assertThat(user).isEqualTo(new User("myid", "Walter", "White"));
+		verify(session).prepare(any(SimpleStatement.class));
+		verify(preparedStatement).bind("myid");
+		verify(preparedStatement).bind("other");
+		verify(session, times(2)).execute(boundStatement);
+	}
+
+	@Test // user-017
+	void preparedQueryShouldRetainLiteralCriteria() {
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(mock(PreparedStatement.class));
+
+		PreparedQuery<User> query = template.prepare(
+				Query.query(where("id").in("a", "b"), where("lastname").is("White")).withAllowFiltering(), User.class);
+
+		assertThat(query.getCql()).isEqualTo("SELECT * FROM users WHERE id IN ('a','b') AND lastname=? ALLOW FILTERING");
+		assertThat(query.getParameterNames()).containsExactly("lastname");
+		assertThatIllegalArgumentException().isThrownBy(() -> query.bind(Collections.singletonMap("id", "a")));
+		assertThatIllegalArgumentException().isThrownBy(() -> query.bind("White", "Pinkman"));
+	}
+
+	@Test // user-017
+	void preparedQueryShouldRejectQueryWithDifferentLiteralCriteria() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(mock(BoundStatement.class, RETURNS_SELF));
+
+		PreparedQuery<User> query = template.prepare(
+				Query.query(where("id").in("a", "b"), where("lastname").is("White")).withAllowFiltering(), User.class);
+
+		query.bind(Query.query(where("id").in("a", "b"), where("lastname").is("Pinkman")));
+
+		verify(preparedStatement).bind("Pinkman");
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> query.bind(Query.query(where("id").in("a", "c"), where("lastname").is("Pinkman"))));
+	}
+
+	@Test // user-018
+	void preparedQueryShouldBindCriteriaValuesOfQueryWithSameShape() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(mock(BoundStatement.class, RETURNS_SELF));
+
+		PreparedQuery<User> query = template.prepare(Query.query(where("lastname").is("White")), User.class);
+
+		query.bind(Query.query(where("lastname").is("Pinkman")));
+
+		verify(preparedStatement).bind("Pinkman");
+		assertThatIllegalArgumentException().isThrownBy(() -> query.bind(Query.query(where("firstname").is("Jesse"))));
+		assertThatIllegalArgumentException().isThrownBy(() -> query.bind(Query.empty()));
+	}
+
 	@Test // DATACASS-292, DATACASS-618
 	void updateShouldUpdateEntity() {
 
@@ -398,6 +902,215 @@ class CassandraTemplateUnitTests {
 		assertThat(beforeSave).isSameAs(user);
 	}
 
+	@Test
+	void updateShouldWriteChangedColumnsOfTrackedEntity() {
+
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		template.setChangeTracking(true);
+
+		User user = template.selectOne("SELECT * FROM users WHERE id='myid'", User.class);
+		user.setLastname("Black");
+
+		template.update(user);
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue())).isEqualTo("UPDATE users SET lastname='Black' WHERE id='myid'");
+	}
+
+	@Test
+	void updateShouldSkipUnchangedTrackedEntity() {
+
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		template.setChangeTracking(true);
+
+		User user = template.selectOne("SELECT * FROM users WHERE id='myid'", User.class);
+
+		EntityWriteResult<User> result = template.update(user, UpdateOptions.empty());
+
+		assertThat(result.wasApplied()).isTrue();
+		assertThat(result.getEntity()).isSameAs(user);
+		verify(session).execute(any(Statement.class));
+	}
+
+	@Test // user-015
+	void updateOfUnchangedTrackedEntityShouldOnlyInvokeBeforeConvertCallback() {
+
+		User user = selectTrackedUser();
+
+		List<Object> events = new ArrayList<>();
+		template.setApplicationEventPublisher(events::add);
+		beforeConvert = null;
+		beforeSave = null;
+
+		template.update(user);
+
+		assertThat(beforeConvert).isSameAs(user);
+		assertThat(beforeSave).isNull();
+		assertThat(events).isEmpty();
+		verify(session).execute(any(Statement.class));
+	}
+
+	@Test // user-015
+	void updateShouldApplyIfConditionToUnchangedTrackedEntity() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		User user = selectTrackedUser();
+
+		template.update(user, UpdateOptions.builder().ifCondition(where("firstname").is("Walter")).build());
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("UPDATE users SET firstname='Walter', lastname='White' WHERE id='myid' IF firstname='Walter'");
+	}
+
+	@Test // user-015
+	void updateShouldApplyIfExistsToUnchangedTrackedEntity() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		User user = selectTrackedUser();
+
+		template.update(user, UpdateOptions.builder().withIfExists().build());
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("UPDATE users SET firstname='Walter', lastname='White' WHERE id='myid' IF EXISTS");
+	}
+
+	@Test // user-015
+	void updateShouldApplyTtlToUnchangedTrackedEntity() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		User user = selectTrackedUser();
+
+		template.update(user, UpdateOptions.builder().ttl(Duration.ofMinutes(1)).build());
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("UPDATE users USING TTL 60 SET firstname='Walter', lastname='White' WHERE id='myid'");
+	}
+
+	@Test // user-015
+	void updateShouldApplyTimestampToUnchangedTrackedEntity() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		User user = selectTrackedUser();
+
+		template.update(user, UpdateOptions.builder().timestamp(1234L).build());
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("UPDATE users USING TIMESTAMP 1234 SET firstname='Walter', lastname='White' WHERE id='myid'");
+	}
+
+	private User selectTrackedUser() {
+
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		template.setChangeTracking(true);
+
+		return template.selectOne("SELECT * FROM users WHERE id='myid'", User.class);
+	}
+
+	@Test
+	void updateShouldTrackUpdatedEntity() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setChangeTracking(true);
+
+		User user = new User("heisenberg", "Walter", "White");
+		template.update(user);
+
+		user.setFirstname("Walt");
+		template.update(user);
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+		assertThat(render(statementCaptor.getValue()))
+				.isEqualTo("UPDATE users SET firstname='Walt' WHERE id='heisenberg'");
+	}
+
+	@Test
+	void updateShouldReuseStatementShape() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.update(new User("heisenberg", "Walter", "White"));
+		template.update(new User("pinkman", "Jesse", "Pinkman"));
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+
+		List<SimpleStatement> statements = statementCaptor.getAllValues();
+		assertThat(statements.get(0).getQuery()).isEqualTo(statements.get(1).getQuery());
+		assertThat(render(statements.get(1)))
+				.isEqualTo("UPDATE users SET firstname='Jesse', lastname='Pinkman' WHERE id='pinkman'");
+	}
+
+	@Test // user-012
+	void updateShouldRouteStatementOfCachedShape() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.update(new User("heisenberg", "Walter", "White"));
+		template.update(new User("pinkman", "Jesse", "Pinkman"));
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+
+		SimpleStatement statement = statementCaptor.getAllValues().get(1);
+		assertThat(statement.getRoutingKey()).isEqualTo(ByteBuffer.wrap("pinkman".getBytes(StandardCharsets.UTF_8)));
+		assertThat(statement.getRoutingKeyspace()).isNull();
+	}
+
+	@Test
+	void insertShouldUseCompiledEntityWriter() {
+
+		((MappingCassandraConverter) template.getConverter()).setUseCompiledEntityWriters(true);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.insert(new User("heisenberg", "Walter", "White"));
+		template.insert(new User("pinkman", null, "Pinkman"));
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+
+		List<SimpleStatement> statements = statementCaptor.getAllValues();
+		assertThat(render(statements.get(0)))
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES ('Walter','heisenberg','White')");
+		assertThat(render(statements.get(1))).isEqualTo("INSERT INTO users (id,lastname) VALUES ('pinkman','Pinkman')");
+	}
+
 	@Test // DATACASS-618
 	void updateShouldUpdateVersionedEntity() {
 
@@ -515,6 +1228,24 @@ class CassandraTemplateUnitTests {
 		assertThat(render(statementCaptor.getValue())).isEqualTo("DELETE FROM users WHERE id='heisenberg'");
 	}
 
+	@Test // user-021
+	void insertAndDeleteShouldRecordMappingMetrics() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		MappingMetrics mappingMetrics = new MappingMetrics();
+		template.setMappingMetrics(mappingMetrics);
+
+		User user = new User("heisenberg", "Walter", "White");
+
+		template.insert(user);
+		template.delete(user);
+
+		assertThat(mappingMetrics.getEntityMetrics()).hasSize(1);
+		assertThat(mappingMetrics.getEntityMetrics(User.class).getEncodeCount()).isEqualTo(2);
+		assertThat(mappingMetrics.getEntityMetrics(User.class).getDecodeCount()).isZero();
+	}
+
 	@Test // DATACASS-575
 	void deleteShouldRemoveEntityWithLwt() {
 
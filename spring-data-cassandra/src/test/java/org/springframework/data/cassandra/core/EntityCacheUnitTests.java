@@ -0,0 +1,128 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.mapping.CachedEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.domain.User;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link EntityCache}.
+ */
+class EntityCacheUnitTests {
+
+	CassandraMappingContext mappingContext = new CassandraMappingContext();
+
+	AtomicLong clock = new AtomicLong();
+
+	EntityCache cache = new EntityCache(clock::get);
+
+	@Test // user-022
+	void shouldCacheOnlyAnnotatedOrEnabledEntities() {
+
+		assertThat(cache.getRegion(mappingContext.getRequiredPersistentEntity(User.class))).isNull();
+		assertThat(cache.getRegion(mappingContext.getRequiredPersistentEntity(Country.class))).isNotNull();
+
+		cache.enable(User.class, 10, Duration.ofSeconds(1));
+
+		assertThat(cache.getRegion(mappingContext.getRequiredPersistentEntity(User.class))).isNotNull();
+	}
+
+	@Test // user-022
+	void shouldExpireRows() {
+
+		EntityCache.Region region = getRegion(Country.class);
+		Object key = key("de");
+		Row row = mock(Row.class);
+
+		region.put(key, row, region.getGeneration());
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(59));
+		assertThat(region.get(key)).isSameAs(row);
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(region.get(key)).isNull();
+
+		assertThat(cache.getStatistics(Country.class).getHitRate()).isEqualTo(0.5);
+		assertThat(cache.getStatistics(Country.class).getSize()).isZero();
+	}
+
+	@Test // user-022
+	void shouldEvictLeastRecentlyUsedRows() {
+
+		cache.enable(User.class, 2, Duration.ofMinutes(1));
+		EntityCache.Region region = getRegion(User.class);
+
+		region.put(key("1"), mock(Row.class), region.getGeneration());
+		region.put(key("2"), mock(Row.class), region.getGeneration());
+		region.get(key("1"));
+		region.put(key("3"), mock(Row.class), region.getGeneration());
+
+		assertThat(region.get(key("1"))).isNotNull();
+		assertThat(region.get(key("2"))).isNull();
+		assertThat(region.get(key("3"))).isNotNull();
+		assertThat(cache.getStatistics(User.class).getEvictionCount()).isOne();
+	}
+
+	@Test // user-022
+	void shouldNotCacheRowsReadBeforeInvalidation() {
+
+		EntityCache.Region region = getRegion(Country.class);
+		long generation = region.getGeneration();
+
+		region.invalidate(key("de"));
+		region.put(key("de"), mock(Row.class), generation);
+
+		assertThat(region.get(key("de"))).isNull();
+
+		region.put(key("de"), mock(Row.class), region.getGeneration());
+		cache.evict(Country.class);
+
+		assertThat(region.get(key("de"))).isNull();
+	}
+
+	private EntityCache.Region getRegion(Class<?> entityType) {
+		return cache.getRegion(mappingContext.getRequiredPersistentEntity(entityType));
+	}
+
+	private static Object key(String id) {
+
+		Where where = new Where();
+		where.put(CqlIdentifier.fromCql("id"), id);
+
+		return EntityCache.Region.key(CqlIdentifier.fromCql("country"), where);
+	}
+
+	@CachedEntity(maxSize = 10, ttl = 1, ttlUnit = TimeUnit.MINUTES)
+	static class Country {
+
+		@Id String id;
+	}
+}
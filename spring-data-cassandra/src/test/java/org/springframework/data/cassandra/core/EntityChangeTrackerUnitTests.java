@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cassandra.domain.VersionedUser;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Unit tests for {@link EntityChangeTracker}.
+ */
+class EntityChangeTrackerUnitTests {
+
+	private MappingCassandraConverter converter = new MappingCassandraConverter();
+
+	private EntityChangeTracker tracker = new EntityChangeTracker();
+
+	@Test
+	void shouldReportChangedColumns() {
+
+		User user = new User("heisenberg", "Walter", "White");
+		tracker.track(user, converter, getEntity(User.class));
+
+		user.setLastname(null);
+
+		EntityChangeTracker.Changes changes = tracker.getChanges(user, user, converter, getEntity(User.class));
+
+		assertThat(changes).isNotNull();
+		assertThat(changes.isEmpty()).isFalse();
+		assertThat(changes.isChanged(CqlIdentifier.fromCql("lastname"))).isTrue();
+		assertThat(changes.isChanged(CqlIdentifier.fromCql("firstname"))).isFalse();
+		assertThat(changes.isChanged(CqlIdentifier.fromCql("id"))).isFalse();
+	}
+
+	@Test
+	void shouldReportNoChangesOfUnmodifiedEntity() {
+
+		User user = new User("heisenberg", "Walter", "White");
+		tracker.track(user, converter, getEntity(User.class));
+
+		EntityChangeTracker.Changes changes = tracker.getChanges(user, user, converter, getEntity(User.class));
+
+		assertThat(changes).isNotNull();
+		assertThat(changes.isEmpty()).isTrue();
+	}
+
+	@Test // user-015
+	void shouldNotConsiderUpdatesWithConditionsTtlOrTimestampUnchanged() {
+
+		User user = new User("heisenberg", "Walter", "White");
+		tracker.track(user, converter, getEntity(User.class));
+
+		EntityChangeTracker.Changes changes = tracker.getChanges(user, user, converter, getEntity(User.class));
+
+		assertThat(EntityChangeTracker.isUnchanged(changes, UpdateOptions.empty())).isTrue();
+		assertThat(EntityChangeTracker.isUnchanged(null, UpdateOptions.empty())).isFalse();
+		assertThat(EntityChangeTracker.isUnchanged(changes,
+				UpdateOptions.builder().ifCondition(Criteria.where("firstname").is("Walter")).build())).isFalse();
+		assertThat(EntityChangeTracker.isUnchanged(changes, UpdateOptions.builder().withIfExists().build())).isFalse();
+		assertThat(EntityChangeTracker.isUnchanged(changes, UpdateOptions.builder().ttl(Duration.ofMinutes(1)).build()))
+				.isFalse();
+		assertThat(EntityChangeTracker.isUnchanged(changes, UpdateOptions.builder().timestamp(1234L).build())).isFalse();
+	}
+
+	@Test
+	void shouldTrackEntitiesByIdentity() {
+
+		tracker.track(new User("heisenberg", "Walter", "White"), converter, getEntity(User.class));
+
+		User equalUser = new User("heisenberg", "Walter", "White");
+
+		assertThat(tracker.getChanges(equalUser, equalUser, converter, getEntity(User.class))).isNull();
+	}
+
+	@Test
+	void shouldNotReportChangesIfPrimaryKeyChanged() {
+
+		User user = new User("heisenberg", "Walter", "White");
+		tracker.track(user, converter, getEntity(User.class));
+
+		user.setId("walter");
+
+		assertThat(tracker.getChanges(user, user, converter, getEntity(User.class))).isNull();
+	}
+
+	@Test
+	void shouldReportChangesOfVersionedCopy() {
+
+		VersionedUser user = new VersionedUser("heisenberg", "Walter", "White");
+		user.setVersion(1L);
+		tracker.track(user, converter, getEntity(VersionedUser.class));
+
+		VersionedUser copy = new VersionedUser("heisenberg", "Walter", "White");
+		copy.setVersion(2L);
+
+		EntityChangeTracker.Changes changes = tracker.getChanges(user, copy, converter, getEntity(VersionedUser.class));
+
+		assertThat(changes).isNotNull();
+		assertThat(changes.isChanged(CqlIdentifier.fromCql("version"))).isTrue();
+		assertThat(changes.isChanged(CqlIdentifier.fromCql("firstname"))).isFalse();
+		assertThat(changes.getColumns()).containsEntry(CqlIdentifier.fromCql("version"), 2L);
+	}
+
+	private CassandraPersistentEntity<?> getEntity(Class<?> type) {
+		return converter.getMappingContext().getRequiredPersistentEntity(type);
+	}
+}
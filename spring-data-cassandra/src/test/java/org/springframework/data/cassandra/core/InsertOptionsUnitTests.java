@@ -68,4 +68,19 @@ class InsertOptionsUnitTests {
 		assertThat(mutated.getTimestamp()).isEqualTo(1519200753);
 		assertThat(mutated.isIfNotExists()).isTrue();
 	}
+
+	@Test // user-014
+	void shouldRetainUnsetNullsOnMutate() {
+
+		InsertOptions insertOptions = InsertOptions.builder().withIfNotExists().build();
+
+		InsertOptions unsetNulls = insertOptions.mutate().withUnsetNulls().build();
+		InsertOptions mutated = unsetNulls.mutate().ttl(Duration.ofSeconds(5)).build();
+
+		assertThat(insertOptions.isUnsetNulls()).isFalse();
+		assertThat(unsetNulls.isUnsetNulls()).isTrue();
+		assertThat(mutated.isUnsetNulls()).isTrue();
+		assertThat(mutated.isIfNotExists()).isTrue();
+		assertThat(mutated.getTtl()).isEqualTo(Duration.ofSeconds(5));
+	}
 }
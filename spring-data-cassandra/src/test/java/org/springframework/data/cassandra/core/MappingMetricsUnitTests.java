@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.domain.User;
+
+/**
+ * Unit tests for {@link MappingMetrics}.
+ */
+class MappingMetricsUnitTests {
+
+	@Test // user-021
+	void shouldRecordDecodingAndEncodingPerEntityType() {
+
+		MappingMetrics metrics = new MappingMetrics();
+
+		assertThat(metrics.decode(User.class, () -> "decoded")).isEqualTo("decoded");
+		metrics.decode(User.class, () -> "decoded");
+		assertThat(metrics.encode(User.class, () -> "encoded")).isEqualTo("encoded");
+
+		MappingMetrics.EntityMetrics user = metrics.getEntityMetrics(User.class);
+
+		assertThat(user).isNotNull();
+		assertThat(user.getEntityType()).isEqualTo(User.class);
+		assertThat(user.getDecodeCount()).isEqualTo(2);
+		assertThat(user.getEncodeCount()).isOne();
+		assertThat(metrics.getEntityMetrics(Person.class)).isNull();
+	}
+
+	@Test // user-021
+	void shouldReportThroughput() {
+
+		MappingMetrics metrics = new MappingMetrics(false);
+
+		metrics.decode(User.class, () -> {
+			LockSupport.parkNanos(1_000_000);
+			return null;
+		});
+
+		MappingMetrics.EntityMetrics user = metrics.getEntityMetrics(User.class);
+
+		assertThat(user.getDecodeTime().toNanos()).isGreaterThanOrEqualTo(1_000_000);
+		assertThat(user.getDecodedRowsPerSecond()).isPositive().isLessThanOrEqualTo(1000);
+		assertThat(user.getDecodeAllocatedBytes()).isZero();
+		assertThat(user.getEncodedEntitiesPerSecond()).isZero();
+	}
+
+	@Test // user-021
+	void shouldEstimateAllocations() {
+
+		MappingMetrics metrics = new MappingMetrics();
+
+		metrics.encode(User.class, () -> {
+
+			List<byte[]> buffers = new ArrayList<>();
+
+			for (int i = 0; i < 16; i++) {
+				buffers.add(new byte[1024]);
+			}
+
+			return buffers;
+		});
+
+		if (metrics.isMeasureAllocations()) {
+			assertThat(metrics.getEntityMetrics(User.class).getEncodeAllocatedBytes()).isGreaterThanOrEqualTo(16 * 1024);
+		}
+	}
+
+	@Test // user-021
+	void shouldOrderEntityTypesByMappingTime() {
+
+		MappingMetrics metrics = new MappingMetrics(false);
+
+		metrics.encode(User.class, () -> null);
+		metrics.encode(Person.class, () -> {
+			LockSupport.parkNanos(1_000_000);
+			return null;
+		});
+
+		assertThat(metrics.getEntityMetrics()).extracting(MappingMetrics.EntityMetrics::getEntityType)
+				.containsExactly(Person.class, User.class);
+
+		metrics.reset();
+
+		assertThat(metrics.getEntityMetrics()).isEmpty();
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.cassandra.core.query.Criteria.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.query.ColumnName;
+import org.springframework.data.cassandra.core.query.Columns;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.domain.Sort;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Unit tests for {@link MultiGet}.
+ */
+class MultiGetUnitTests {
+
+	private CassandraMappingContext mappingContext = new CassandraMappingContext();
+
+	@Test
+	void shouldSplitInOnPartitionKey() {
+
+		Query query = Query.query(where("lastname").in("White", "Pinkman", "White"), where("firstname").is("Walter"))
+				.columns(Columns.from("nickname"));
+
+		List<Query> queries = MultiGet.split(query, getEntity(Person.class), mappingContext);
+
+		assertThat(queries).containsExactly(
+				Query.query(where("lastname").is("White"), where("firstname").is("Walter")).columns(Columns.from("nickname")),
+				Query.query(where("lastname").is("Pinkman"), where("firstname").is("Walter"))
+						.columns(Columns.from("nickname")));
+	}
+
+	@Test // user-011
+	void shouldNotSplitSortedQuery() {
+
+		Query query = Query.query(where("lastname").in("White", "Pinkman")).sort(Sort.by("firstname")).limit(2);
+
+		assertThat(MultiGet.split(query, getEntity(Person.class), mappingContext)).containsOnly(query);
+	}
+
+	@Test
+	void shouldRetainLimit() {
+
+		Query query = Query.query(where("lastname").in("White", "Pinkman")).limit(10);
+
+		assertThat(MultiGet.split(query, getEntity(Person.class), mappingContext)).extracting(Query::getLimit)
+				.containsExactly(10L, 10L);
+	}
+
+	@Test
+	void shouldSplitInOnPartitionKeyColumnName() {
+
+		Query query = Query.query(where(ColumnName.from(CqlIdentifier.fromCql("lastname"))).in("White", "Pinkman"));
+
+		assertThat(MultiGet.split(query, getEntity(Person.class), mappingContext)).hasSize(2);
+	}
+
+	@Test
+	void shouldSplitInOnCompositePartitionKey() {
+
+		Query query = Query.query(where("id.groupname").in("admins", "users"), where("id.hashPrefix").is("a"));
+
+		assertThat(MultiGet.split(query, getEntity(Group.class), mappingContext)).containsExactly(
+				Query.query(where("id.groupname").is("admins"), where("id.hashPrefix").is("a")),
+				Query.query(where("id.groupname").is("users"), where("id.hashPrefix").is("a")));
+	}
+
+	@Test
+	void shouldNotSplitInOnClusteringKey() {
+
+		Query query = Query.query(where("lastname").is("White"), where("firstname").in("Walter", "Skyler"));
+
+		assertThat(MultiGet.split(query, getEntity(Person.class), mappingContext)).containsOnly(query);
+	}
+
+	@Test
+	void shouldNotSplitPagedQuery() {
+
+		Query query = Query.query(where("lastname").in("White", "Pinkman")).pagingState(ByteBuffer.allocate(1));
+
+		assertThat(MultiGet.split(query, getEntity(Person.class), mappingContext)).containsOnly(query);
+	}
+
+	@Test
+	void shouldMergeResultsInCompletionOrder() {
+
+		CompletableFuture<List<String>> first = new CompletableFuture<>();
+
+		CompletableFuture<List<String>> result = MultiGet.execute(Arrays.asList("1", "2"),
+				it -> it.equals("1") ? first : CompletableFuture.completedFuture(Collections.singletonList(it)),
+				MultiGetOptions.empty());
+
+		first.complete(Collections.singletonList("1"));
+
+		assertThat(result.join()).containsExactly("2", "1");
+	}
+
+	@Test
+	void shouldMergeResultsInLookupOrder() {
+
+		CompletableFuture<List<String>> first = new CompletableFuture<>();
+
+		CompletableFuture<List<String>> result = MultiGet.execute(Arrays.asList("1", "2"),
+				it -> it.equals("1") ? first : CompletableFuture.completedFuture(Collections.singletonList(it)),
+				MultiGetOptions.builder().ordered().build());
+
+		first.complete(Collections.singletonList("1"));
+
+		assertThat(result.join()).containsExactly("1", "2");
+	}
+
+	@Test
+	void shouldLimitConcurrency() {
+
+		List<CompletableFuture<List<String>>> lookups = new ArrayList<>();
+
+		CompletableFuture<List<String>> result = MultiGet.execute(Arrays.asList("1", "2", "3"), it -> {
+
+			CompletableFuture<List<String>> lookup = new CompletableFuture<>();
+			lookups.add(lookup);
+
+			return lookup;
+		}, MultiGetOptions.builder().concurrency(2).build());
+
+		assertThat(lookups).hasSize(2);
+
+		lookups.get(0).complete(Collections.singletonList("1"));
+
+		assertThat(lookups).hasSize(3);
+
+		lookups.get(1).complete(Collections.emptyList());
+		lookups.get(2).complete(Collections.singletonList("3"));
+
+		assertThat(result.join()).containsExactly("1", "3");
+	}
+
+	@Test // user-011
+	void shouldNotNestSynchronouslyCompletedLookups() {
+
+		List<Integer> lookups = new ArrayList<>();
+
+		for (int i = 0; i < 100_000; i++) {
+			lookups.add(i);
+		}
+
+		CompletableFuture<List<Integer>> result = MultiGet.execute(lookups,
+				it -> CompletableFuture.completedFuture(Collections.singletonList(it)),
+				MultiGetOptions.builder().concurrency(1).build());
+
+		assertThat(result.join()).hasSize(100_000);
+	}
+
+	@Test
+	void shouldStopAfterFailure() {
+
+		List<String> executed = new ArrayList<>();
+		CompletableFuture<List<String>> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new QueryTimeoutException("timeout"));
+
+		CompletableFuture<List<String>> result = MultiGet.execute(Arrays.asList("1", "2"), it -> {
+
+			executed.add(it);
+
+			return failed;
+		}, MultiGetOptions.builder().concurrency(1).build());
+
+		assertThatExceptionOfType(QueryTimeoutException.class).isThrownBy(() -> MultiGet.await(result));
+		assertThat(executed).containsExactly("1");
+	}
+
+	private CassandraPersistentEntity<?> getEntity(Class<?> type) {
+		return mappingContext.getRequiredPersistentEntity(type);
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.domain.Person;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+/**
+ * Unit tests for {@link PartitionedBatches}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PartitionedBatchesUnitTests {
+
+	@Mock DriverContext context;
+
+	private MappingCassandraConverter converter = new MappingCassandraConverter();
+
+	@BeforeEach
+	void before() {
+
+		when(context.getProtocolVersion()).thenReturn(ProtocolVersion.DEFAULT);
+		when(context.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT);
+	}
+
+	@Test
+	void shouldRouteStatementByPartitionKey() {
+
+		PartitionedBatches batches = new PartitionedBatches(PartitionedBatchOptions.empty(), converter);
+
+		SimpleStatement statement = batches.route(SimpleStatement.newInstance("INSERT"), new Person("Walter", "White"),
+				getEntity(Person.class), WriteOptions.builder().keyspace(CqlIdentifier.fromCql("ks")).build());
+
+		assertThat(statement.getRoutingKey()).isEqualTo(ByteBuffer.wrap("White".getBytes(StandardCharsets.UTF_8)));
+		assertThat(statement.getRoutingKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks"));
+	}
+
+	@Test
+	void shouldRouteStatementByCompositePartitionKey() {
+
+		PartitionedBatches batches = new PartitionedBatches(PartitionedBatchOptions.empty(), converter);
+
+		SimpleStatement statement = batches.route(SimpleStatement.newInstance("INSERT"),
+				new Group(new GroupKey("admins", "a", "walter")), getEntity(Group.class), WriteOptions.empty());
+
+		ByteBuffer expected = ByteBuffer.allocate(2 + 6 + 1 + 2 + 1 + 1);
+		expected.putShort((short) 6).put("admins".getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+		expected.putShort((short) 1).put("a".getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+		expected.flip();
+
+		assertThat(statement.getRoutingKey()).isEqualTo(expected);
+		assertThat(statement.getRoutingKeyspace()).isNull();
+	}
+
+	@Test
+	void shouldNotRouteStatementWithoutPartitionKey() {
+
+		PartitionedBatches batches = new PartitionedBatches(PartitionedBatchOptions.empty(), converter);
+
+		SimpleStatement statement = batches.route(SimpleStatement.newInstance("INSERT"), new Person(), getEntity(Person.class),
+				WriteOptions.empty());
+
+		assertThat(statement.getRoutingKey()).isNull();
+	}
+
+	@Test
+	void shouldGroupStatementsPerPartition() {
+
+		PartitionedBatches batches = new PartitionedBatches(PartitionedBatchOptions.empty(), converter);
+
+		SimpleStatement white1 = route(batches, "1", new Person("Walter", "White"));
+		SimpleStatement pinkman = route(batches, "2", new Person("Jesse", "Pinkman"));
+		SimpleStatement white2 = route(batches, "3", new Person("Skyler", "White"));
+		SimpleStatement unrouted = SimpleStatement.newInstance("4");
+
+		List<Statement<?>> statements = batches.group(Arrays.asList(white1, pinkman, white2, unrouted),
+				Statement.NO_DEFAULT_TIMESTAMP, context);
+
+		assertThat(statements).hasSize(3);
+		assertThat(statements.get(0)).isSameAs(unrouted);
+
+		BatchStatement batch = (BatchStatement) statements.get(1);
+
+		assertThat(batch.getBatchType()).isEqualTo(BatchType.UNLOGGED);
+		assertThat(batch).containsExactly(white1, white2);
+		assertThat(batch.getRoutingKey()).isEqualTo(white1.getRoutingKey());
+		assertThat(statements.get(2)).isSameAs(pinkman);
+	}
+
+	@Test
+	void shouldSplitBatchesByStatementCount() {
+
+		PartitionedBatches batches = new PartitionedBatches(PartitionedBatchOptions.builder().maxStatements(2).build(),
+				converter);
+
+		List<SimpleStatement> whites = Arrays.asList(route(batches, "1", new Person("Walter", "White")),
+				route(batches, "2", new Person("Skyler", "White")), route(batches, "3", new Person("Holly", "White")));
+
+		List<Statement<?>> statements = batches.group(whites, 1234L, context);
+
+		assertThat(statements).hasSize(2);
+		assertThat((BatchStatement) statements.get(0)).containsExactly(whites.get(0), whites.get(1));
+		assertThat(statements.get(0).getQueryTimestamp()).isEqualTo(1234L);
+		assertThat(((SimpleStatement) statements.get(1)).getQuery()).isEqualTo("3");
+		assertThat(statements.get(1).getQueryTimestamp()).isEqualTo(1234L);
+	}
+
+	@Test
+	void shouldSplitBatchesBySize() {
+
+		SimpleStatement walter = SimpleStatement.newInstance("1");
+		int size = walter.computeSizeInBytes(context);
+
+		PartitionedBatches batches = new PartitionedBatches(
+				PartitionedBatchOptions.builder().maxSizeInBytes(size * 2).build(), converter);
+
+		List<SimpleStatement> whites = Arrays.asList(route(batches, "1", new Person("Walter", "White")),
+				route(batches, "2", new Person("Skyler", "White")), route(batches, "3", new Person("Holly", "White")));
+
+		List<Statement<?>> statements = batches.group(whites, Statement.NO_DEFAULT_TIMESTAMP, context);
+
+		assertThat(statements).hasSize(2);
+		assertThat(statements.get(0)).isInstanceOf(BatchStatement.class);
+		assertThat(statements.get(1)).isSameAs(whites.get(2));
+	}
+
+	@Test
+	void shouldAggregateWriteResults() {
+
+		AsyncResultSet first = resultSet(true);
+		AsyncResultSet second = resultSet(false);
+
+		WriteResult result = PartitionedBatches.execute(
+				statement -> CompletableFuture
+						.completedFuture(((SimpleStatement) statement).getQuery().equals("1") ? first : second),
+				Arrays.asList(SimpleStatement.newInstance("1"), SimpleStatement.newInstance("2")), 1);
+
+		assertThat(result.wasApplied()).isFalse();
+		assertThat(result.getExecutionInfo()).containsExactly(first.getExecutionInfo(), second.getExecutionInfo());
+	}
+
+	@Test
+	void shouldPropagateFailure() {
+
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(mock(WriteTimeoutException.class));
+
+		assertThatExceptionOfType(WriteTimeoutException.class).isThrownBy(() -> PartitionedBatches
+				.execute(statement -> failed, Collections.singletonList(SimpleStatement.newInstance("1")), 2));
+	}
+
+	private SimpleStatement route(PartitionedBatches batches, String query, Person person) {
+		return batches.route(SimpleStatement.newInstance(query), person, getEntity(Person.class), WriteOptions.empty());
+	}
+
+	private CassandraPersistentEntity<?> getEntity(Class<?> type) {
+		return converter.getMappingContext().getRequiredPersistentEntity(type);
+	}
+
+	private static AsyncResultSet resultSet(boolean applied) {
+
+		AsyncResultSet resultSet = mock(AsyncResultSet.class);
+
+		when(resultSet.wasApplied()).thenReturn(applied);
+		when(resultSet.getExecutionInfo()).thenReturn(mock(ExecutionInfo.class));
+		when(resultSet.currentPage()).thenReturn(Collections.emptyList());
+
+		return resultSet;
+	}
+}
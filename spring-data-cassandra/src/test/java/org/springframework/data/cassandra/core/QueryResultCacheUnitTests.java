@@ -0,0 +1,162 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ */
+class QueryResultCacheUnitTests {
+
+	static final CqlIdentifier USERS = CqlIdentifier.fromCql("users");
+
+	AtomicLong clock = new AtomicLong();
+
+	QueryResultCache cache = new QueryResultCache(1024, clock::get);
+
+	@Test // user-023
+	void shouldExpireResults() {
+
+		List<Row> rows = rows(100);
+
+		cache.put("key", USERS, rows, Duration.ofSeconds(10), cache.getGeneration(USERS));
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+		assertThat(cache.get("key")).isSameAs(rows);
+
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(cache.get("key")).isNull();
+
+		assertThat(cache.getStatistics().getHitRate()).isEqualTo(0.5);
+		assertThat(cache.getStatistics().getWeight()).isZero();
+	}
+
+	@Test // user-023
+	void shouldEvictLeastRecentlyUsedResultsByWeight() {
+
+		cache.put("1", USERS, rows(400), Duration.ofMinutes(1), 0);
+		cache.put("2", USERS, rows(400), Duration.ofMinutes(1), 0);
+		cache.get("1");
+		cache.put("3", USERS, rows(400), Duration.ofMinutes(1), 0);
+		cache.put("4", USERS, rows(2048), Duration.ofMinutes(1), 0);
+
+		assertThat(cache.get("1")).isNotNull();
+		assertThat(cache.get("2")).isNull();
+		assertThat(cache.get("3")).isNotNull();
+		assertThat(cache.get("4")).isNull();
+		assertThat(cache.getStatistics().getEvictionCount()).isOne();
+		assertThat(cache.getStatistics().getWeight()).isLessThanOrEqualTo(1024);
+	}
+
+	@Test // user-023
+	void shouldInvalidateResultsOfTable() {
+
+		CqlIdentifier groups = CqlIdentifier.fromCql("groups");
+		long generation = cache.getGeneration(USERS);
+
+		cache.put("users", USERS, rows(10), Duration.ofMinutes(1), generation);
+		cache.put("groups", groups, rows(10), Duration.ofMinutes(1), cache.getGeneration(groups));
+
+		cache.invalidate(USERS);
+		cache.put("stale", USERS, rows(10), Duration.ofMinutes(1), generation);
+
+		assertThat(cache.get("users")).isNull();
+		assertThat(cache.get("stale")).isNull();
+		assertThat(cache.get("groups")).isNotNull();
+
+		cache.clear();
+
+		assertThat(cache.get("groups")).isNull();
+		assertThat(cache.getStatistics().getSize()).isZero();
+	}
+
+	@Test // user-023
+	void shouldKeepWeightConsistentUnderConcurrentAccess() throws Exception {
+
+		CqlIdentifier groups = CqlIdentifier.fromCql("groups");
+		List<Row> rows = rows(10);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>();
+
+			for (int thread = 0; thread < 4; thread++) {
+
+				CqlIdentifier tableName = thread % 2 == 0 ? USERS : groups;
+
+				futures.add(executor.submit(() -> {
+
+					for (int i = 0; i < 1000; i++) {
+
+						String key = tableName.asInternal() + (i % 16);
+
+						cache.put(key, tableName, rows, Duration.ofMinutes(1), cache.getGeneration(tableName));
+						cache.get(key);
+
+						if (i % 10 == 0) {
+							cache.invalidate(tableName);
+						}
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		QueryResultCache.Statistics statistics = cache.getStatistics();
+
+		assertThat(statistics.getWeight()).isEqualTo(statistics.getSize() * (64 + 16 + 10L));
+
+		cache.invalidate(USERS);
+		cache.invalidate(groups);
+
+		assertThat(cache.getStatistics().getSize()).isZero();
+		assertThat(cache.getStatistics().getWeight()).isZero();
+	}
+
+	private static List<Row> rows(int valueSize) {
+
+		Row row = mock(Row.class);
+
+		when(row.size()).thenReturn(1);
+		when(row.getBytesUnsafe(0)).thenReturn(ByteBuffer.allocate(valueSize));
+
+		return Collections.singletonList(row);
+	}
+}
@@ -22,9 +22,11 @@ import static org.springframework.data.cassandra.core.query.Criteria.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -179,6 +181,37 @@ class ReactiveCassandraTemplateUnitTests {
 		assertThat(render(statementCaptor.getValue())).isEqualTo("SELECT * FROM users WHERE id='myid' LIMIT 1");
 	}
 
+	@Test // user-024
+	void selectOneByIdShouldCoalesceIdenticalReads() {
+
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row));
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.ASCII);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		Sinks.One<ReactiveResultSet> inFlight = Sinks.one();
+		when(session.execute(any(Statement.class))).thenReturn(inFlight.asMono());
+		template.setCoalesceReads(true);
+
+		CompletableFuture<User> first = template.selectOneById("myid", User.class).toFuture();
+		CompletableFuture<User> second = template.selectOneById("myid", User.class).toFuture();
+
+		verify(session).execute(any(Statement.class));
+
+		inFlight.tryEmitValue(reactiveResultSet);
+
+		assertThat(first.join()).isEqualTo(new User("myid", "Walter", "White")).isNotSameAs(second.join());
+		assertThat(second.join()).isEqualTo(first.join());
+	}
+
 	@Test // DATACASS-313
 	void selectProjectedOneShouldReturnMappedResults() {
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.QueryTimeoutException;
+
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link ReadCoalescer}.
+ */
+class ReadCoalescerUnitTests {
+
+	ReadCoalescer coalescer = new ReadCoalescer();
+
+	List<Row> rows = Collections.singletonList(mock(Row.class));
+
+	@Test // user-024
+	void shouldShareRowsOfQueryInFlight() throws Exception {
+
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger queries = new AtomicInteger();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+
+			Future<List<Row>> leader = executor.submit(() -> coalescer.execute("key", () -> {
+
+				queries.incrementAndGet();
+				started.countDown();
+				await(release);
+				return rows;
+			}));
+
+			await(started);
+
+			CompletableFuture<List<Row>> follower = CompletableFuture.supplyAsync(() -> coalescer.execute("key", () -> {
+				queries.incrementAndGet();
+				return Collections.emptyList();
+			}));
+
+			while (coalescer.getCoalescedCount() == 0) {
+				Thread.yield();
+			}
+
+			release.countDown();
+
+			assertThat(leader.get(10, TimeUnit.SECONDS)).isSameAs(rows);
+			assertThat(follower.get(10, TimeUnit.SECONDS)).isSameAs(rows);
+			assertThat(queries).hasValue(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test // user-024
+	void shouldRunNewQueryOnceCompleted() {
+
+		coalescer.execute("key", () -> rows);
+
+		assertThat(coalescer.execute("key", Collections::emptyList)).isEmpty();
+		assertThat(coalescer.getCoalescedCount()).isZero();
+	}
+
+	@Test // user-024
+	void shouldPropagateFailureToWaitingReads() {
+
+		CompletableFuture<List<Row>> query = new CompletableFuture<>();
+
+		CompletableFuture<List<Row>> leader = coalescer.executeAsync("key", () -> query);
+		CompletableFuture<List<Row>> follower = coalescer.executeAsync("key", CompletableFuture::new);
+
+		query.completeExceptionally(new QueryTimeoutException("timeout"));
+
+		assertThat(leader).isCompletedExceptionally();
+		assertThat(follower).isCompletedExceptionally();
+		assertThat(coalescer.getCoalescedCount()).isOne();
+		assertThatExceptionOfType(QueryTimeoutException.class).isThrownBy(() -> coalescer.execute("key", () -> {
+			throw new QueryTimeoutException("timeout");
+		}));
+	}
+
+	@Test // user-024
+	void shouldNotCancelQueryWhenWaitingReadIsCancelled() {
+
+		CompletableFuture<List<Row>> query = new CompletableFuture<>();
+
+		CompletableFuture<List<Row>> leader = coalescer.executeAsync("key", () -> query);
+		CompletableFuture<List<Row>> follower = coalescer.executeAsync("key", CompletableFuture::new);
+
+		follower.cancel(true);
+		query.complete(rows);
+
+		assertThat(leader.join()).isSameAs(rows);
+		assertThat(query).isNotCancelled();
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -18,8 +18,13 @@ package org.springframework.data.cassandra.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.data.domain.Sort.Direction.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +41,7 @@ import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.Column;
+import org.springframework.data.cassandra.core.mapping.UnsetNulls;
 import org.springframework.data.cassandra.core.query.Columns;
 import org.springframework.data.cassandra.core.query.Criteria;
 import org.springframework.data.cassandra.core.query.Query;
@@ -43,6 +49,7 @@ import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.domain.Group;
 import org.springframework.data.domain.Sort;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.querybuilder.delete.Delete;
@@ -637,6 +644,25 @@ class StatementFactoryUnitTests {
 		assertThat(statement.getSerialConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.QUORUM);
 	}
 
+	@Test
+	void shouldCreateTokenRangeSelect() {
+
+		StatementBuilder<Select> select = statementFactory.selectTokenRange(groupEntity, groupEntity.getTableName(), "-100",
+				"200");
+
+		assertThat(select.build().getQuery())
+				.isEqualTo("SELECT * FROM group WHERE token(groupname,hash_prefix)>-100 AND token(groupname,hash_prefix)<=200");
+	}
+
+	@Test
+	void shouldCreateOpenTokenRangeSelect() {
+
+		assertThat(statementFactory.selectTokenRange(personEntity, personEntity.getTableName(), null, "200").build()
+				.getQuery()).isEqualTo("SELECT * FROM person WHERE token(id)<=200");
+		assertThat(statementFactory.selectTokenRange(personEntity, personEntity.getTableName(), "200", null).build()
+				.getQuery()).isEqualTo("SELECT * FROM person WHERE token(id)>200");
+	}
+
 	@Test // DATACASS-512
 	void shouldCreateCountQuery() {
 
@@ -649,6 +675,243 @@ class StatementFactoryUnitTests {
 				.isEqualTo("SELECT count(1) FROM group WHERE foo='bar'");
 	}
 
+	@Test
+	void insertShouldSetRoutingKey() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		WriteOptions options = WriteOptions.builder().keyspace(CqlIdentifier.fromCql("ks")).build();
+
+		SimpleStatement statement = statementFactory.insert(person, options).build();
+
+		assertThat(statement.getRoutingKey()).isEqualTo(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8)));
+		assertThat(statement.getRoutingKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks"));
+	}
+
+	@Test
+	void updateObjectShouldSetRoutingKey() {
+
+		Person person = new Person();
+		person.id = "foo";
+		person.number = 42;
+
+		SimpleStatement statement = statementFactory.update(person, WriteOptions.empty()).build();
+
+		assertThat(statement.getRoutingKey()).isEqualTo(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8)));
+		assertThat(statement.getRoutingKeyspace()).isNull();
+	}
+
+	@Test
+	void selectShouldSetCompositeRoutingKey() {
+
+		Query query = Query.query(Criteria.where("id.groupname").is("a"), Criteria.where("id.hashPrefix").is("b"),
+				Criteria.where("id.username").is("c"));
+
+		SimpleStatement statement = statementFactory.select(query, groupEntity).build(ParameterHandling.INLINE);
+
+		assertThat(statement.getRoutingKey()).isEqualTo(ByteBuffer.wrap(new byte[] { 0, 1, 'a', 0, 0, 1, 'b', 0 }));
+	}
+
+	@Test
+	void selectShouldNotSetRoutingKeyForPartialPartitionKey() {
+
+		Query query = Query.query(Criteria.where("id.groupname").is("a"));
+
+		assertThat(statementFactory.select(query, groupEntity).build().getRoutingKey()).isNull();
+		assertThat(statementFactory
+				.select(Query.query(Criteria.where("id").in("foo", "bar")), personEntity).build().getRoutingKey()).isNull();
+	}
+
+	@Test
+	void deleteShouldSetRoutingKey() {
+
+		Query query = Query.query(Criteria.where("id").is("foo"));
+
+		SimpleStatement statement = statementFactory.delete(query, personEntity).build();
+
+		assertThat(statement.getRoutingKey()).isEqualTo(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	void shouldInferIdempotenceOfSelectInsertAndDelete() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		assertThat(statementFactory.select(Query.empty(), personEntity).build().isIdempotent()).isTrue();
+		assertThat(statementFactory.insert(person, WriteOptions.empty()).build().isIdempotent()).isTrue();
+		assertThat(statementFactory.update(person, WriteOptions.empty()).build().isIdempotent()).isTrue();
+		assertThat(statementFactory.delete(Query.query(Criteria.where("id").is("foo")), personEntity).build()
+				.isIdempotent()).isTrue();
+	}
+
+	@Test
+	void shouldInferNonIdempotentConditionalStatements() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		assertThat(statementFactory.insert(person, InsertOptions.builder().withIfNotExists().build()).build()
+				.isIdempotent()).isFalse();
+		assertThat(statementFactory.update(person, UpdateOptions.builder().withIfExists().build()).build()
+				.isIdempotent()).isFalse();
+		assertThat(statementFactory
+				.delete(Query.empty().queryOptions(DeleteOptions.builder().withIfExists().build()), personEntity).build()
+				.isIdempotent()).isFalse();
+	}
+
+	@Test
+	void shouldInferIdempotenceOfUpdate() {
+
+		assertThat(statementFactory.update(Query.empty(), Update.empty().set("number", 1), personEntity).build()
+				.isIdempotent()).isTrue();
+		assertThat(statementFactory.update(Query.empty(), Update.empty().addTo("set").append("foo"), personEntity)
+				.build().isIdempotent()).isTrue();
+		assertThat(statementFactory.update(Query.empty(), Update.empty().increment("number"), personEntity).build()
+				.isIdempotent()).isFalse();
+		assertThat(statementFactory.update(Query.empty(), Update.empty().addTo("list").append("foo"), personEntity)
+				.build().isIdempotent()).isFalse();
+		assertThat(statementFactory.update(Query.empty(), Update.empty().addTo("list").prepend("foo"), personEntity)
+				.build().isIdempotent()).isFalse();
+	}
+
+	@Test
+	void queryOptionsShouldOverrideInferredIdempotence() {
+
+		Query query = Query.empty().queryOptions(QueryOptions.builder().idempotent(false).build());
+
+		assertThat(statementFactory.select(query, personEntity).build().isIdempotent()).isFalse();
+		assertThat(statementFactory.update(query, Update.empty().increment("number"), personEntity).build()
+				.isIdempotent()).isFalse();
+		assertThat(statementFactory.update(Query.empty().queryOptions(QueryOptions.builder().idempotent(true).build()),
+				Update.empty().increment("number"), personEntity).build().isIdempotent()).isTrue();
+	}
+
+	@Test
+	void unsetNullsShouldOmitNullColumnsFromInsert() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		InsertOptions options = InsertOptions.builder().withInsertNulls().withUnsetNulls().build();
+
+		assertThat(statementFactory.insert(person, options).build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("INSERT INTO person (id) VALUES ('foo')");
+	}
+
+	@Test
+	void unsetNullsShouldOmitNullAssignmentsFromUpdate() {
+
+		Person person = new Person();
+		person.id = "foo";
+		person.firstName = "bar";
+
+		UpdateOptions options = UpdateOptions.builder().withUnsetNulls().build();
+
+		assertThat(statementFactory.update(person, options).build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("UPDATE person SET first_name='bar' WHERE id='foo'");
+	}
+
+	@Test
+	void unsetNullsShouldRetainNullAssignmentsIfNoValueIsPresent() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		UpdateOptions options = UpdateOptions.builder().withUnsetNulls().build();
+
+		assertThat(statementFactory.update(person, options).build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("UPDATE person SET first_name=NULL, list=NULL, map=NULL, number=NULL, set_col=NULL WHERE id='foo'");
+	}
+
+	@Test
+	void shouldConsiderUnsetNullsAnnotation() {
+
+		SparsePerson person = new SparsePerson();
+		person.id = "foo";
+		person.firstName = "bar";
+
+		assertThat(statementFactory.insert(person, InsertOptions.builder().withInsertNulls().build())
+				.build(ParameterHandling.INLINE).getQuery())
+						.isEqualTo("INSERT INTO sparseperson (first_name,id) VALUES ('bar','foo')");
+		assertThat(statementFactory.update(person, WriteOptions.empty()).build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("UPDATE sparseperson SET first_name='bar' WHERE id='foo'");
+	}
+
+	@Test // user-016
+	void shouldRenderSetAndMapChangesAsDelta() {
+
+		Person previous = new Person();
+		previous.id = "foo";
+		previous.set = new LinkedHashSet<>(Arrays.asList("a", "b"));
+		previous.map = new LinkedHashMap<>(Collections.singletonMap("k1", "v1"));
+		previous.map.put("k2", "v2");
+
+		Person person = new Person();
+		person.id = "foo";
+		person.set = new LinkedHashSet<>(Arrays.asList("b", "c"));
+		person.map = new LinkedHashMap<>(Collections.singletonMap("k1", "v1"));
+		person.map.put("k3", "v3");
+
+		StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update = statementFactory.update(person,
+				WriteOptions.empty(), personEntity, CqlIdentifier.fromCql("person"), false, getChanges(previous, person));
+
+		assertThat(update.build(ParameterHandling.INLINE).getQuery()).isEqualTo(
+				"UPDATE person SET map=map+{'k3':'v3'}, set_col=set_col+{'c'}, map=map-{'k2'}, set_col=set_col-{'a'} WHERE id='foo'");
+		assertThat(update.build().isIdempotent()).isTrue();
+	}
+
+	@Test // user-016
+	void shouldRenderListAppendAsNonIdempotentDelta() {
+
+		Person previous = new Person();
+		previous.id = "foo";
+		previous.list = Arrays.asList("a", "b");
+
+		Person person = new Person();
+		person.id = "foo";
+		person.list = Arrays.asList("a", "b", "c");
+
+		StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update = statementFactory.update(person,
+				WriteOptions.empty(), personEntity, CqlIdentifier.fromCql("person"), false, getChanges(previous, person));
+
+		assertThat(update.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("UPDATE person SET list=list+['c'] WHERE id='foo'");
+		assertThat(update.build().isIdempotent()).isFalse();
+	}
+
+	@Test // user-016
+	void shouldRewriteReorderedListAndCollectionsThatWereNull() {
+
+		Person previous = new Person();
+		previous.id = "foo";
+		previous.list = Arrays.asList("a", "b");
+
+		Person person = new Person();
+		person.id = "foo";
+		person.list = Arrays.asList("b", "a");
+		person.set = Collections.singleton("a");
+
+		StatementBuilder<com.datastax.oss.driver.api.querybuilder.update.Update> update = statementFactory.update(person,
+				WriteOptions.empty(), personEntity, CqlIdentifier.fromCql("person"), false, getChanges(previous, person));
+
+		assertThat(update.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("UPDATE person SET list=['b','a'], set_col={'a'} WHERE id='foo'");
+		assertThat(update.build().isIdempotent()).isTrue();
+	}
+
+	private EntityChangeTracker.Changes getChanges(Person previous, Person current) {
+
+		EntityChangeTracker tracker = new EntityChangeTracker();
+
+		Map<CqlIdentifier, Object> snapshot = new LinkedHashMap<>();
+		converter.write(previous, snapshot, personEntity);
+		tracker.track(current, snapshot);
+
+		return tracker.getChanges(current, current, converter, personEntity);
+	}
+
 	@SuppressWarnings("unused")
 	static class Person {
 
@@ -664,4 +927,15 @@ class StatementFactoryUnitTests {
 
 		@Column("first_name") private String firstName;
 	}
+
+	@UnsetNulls
+	@SuppressWarnings("unused")
+	static class SparsePerson {
+
+		@Id private String id;
+
+		Integer number;
+
+		@Column("first_name") private String firstName;
+	}
 }
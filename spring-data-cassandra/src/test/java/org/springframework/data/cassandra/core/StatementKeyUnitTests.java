@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link StatementKey}.
+ */
+class StatementKeyUnitTests {
+
+	@Test // user-024
+	void shouldKeyByCqlValuesAndConsistencyLevel() {
+
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users WHERE id = ?", "1");
+
+		assertThat(StatementKey.of(statement))
+				.isEqualTo(StatementKey.of(SimpleStatement.newInstance("SELECT * FROM users WHERE id = ?", "1")))
+				.isNotEqualTo(StatementKey.of(SimpleStatement.newInstance("SELECT * FROM users WHERE id = ?", "2")))
+				.isNotEqualTo(StatementKey.of(statement.setConsistencyLevel(ConsistencyLevel.ONE)));
+
+		assertThat(StatementKey.of(statement.setPagingState(ByteBuffer.allocate(4)))).isNull();
+		assertThat(StatementKey.of(BatchStatement.newInstance(BatchType.LOGGED, statement))).isNull();
+	}
+}
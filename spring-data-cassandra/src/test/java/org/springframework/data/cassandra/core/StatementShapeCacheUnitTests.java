@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.StatementShapeCache.StatementShape;
+import org.springframework.data.cassandra.core.cql.WriteOptions;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link StatementShapeCache}.
+ */
+class StatementShapeCacheUnitTests {
+
+	static final CqlIdentifier USERS = CqlIdentifier.fromCql("users");
+
+	static final List<CqlIdentifier> COLUMNS = Collections.singletonList(CqlIdentifier.fromCql("id"));
+
+	@Test // user-001
+	void shouldEvictLeastRecentlyUsedShape() {
+
+		StatementShapeCache cache = new StatementShapeCache(2);
+		WriteOptions options = WriteOptions.empty();
+
+		register(cache, "first", options);
+		register(cache, "second", options);
+		assertThat(cache.getShape(String.class, table("first"), COLUMNS, options, false)).isNotNull();
+		register(cache, "third", options);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getShape(String.class, table("first"), COLUMNS, options, false)).isNotNull();
+		assertThat(cache.getShape(String.class, table("second"), COLUMNS, options, false)).isNull();
+		assertThat(cache.getShape(String.class, table("third"), COLUMNS, options, false)).isNotNull();
+	}
+
+	@Test // user-001
+	void shouldShareShapeAcrossOptionsNotRenderedIntoCql() {
+
+		StatementShapeCache cache = new StatementShapeCache(StatementShapeCache.DEFAULT_CACHE_LIMIT);
+
+		StatementShape shape = register(cache, "users", WriteOptions.builder().timeout(Duration.ofSeconds(1)).build());
+
+		WriteOptions other = WriteOptions.builder().timeout(Duration.ofSeconds(2))
+				.consistencyLevel(DefaultConsistencyLevel.QUORUM).build();
+
+		assertThat(cache.getShape(String.class, USERS, COLUMNS, other, false)).isSameAs(shape);
+	}
+
+	@Test // user-001
+	void shouldDistinguishShapesByRenderedOptions() {
+
+		StatementShapeCache cache = new StatementShapeCache(StatementShapeCache.DEFAULT_CACHE_LIMIT);
+
+		register(cache, "users", WriteOptions.builder().ttl(Duration.ofSeconds(10)).build());
+
+		assertThat(cache.getShape(String.class, USERS, COLUMNS, WriteOptions.builder().ttl(Duration.ofSeconds(20)).build(),
+				false)).isNull();
+		assertThat(cache.getShape(String.class, USERS, COLUMNS, InsertOptions.builder().ttl(Duration.ofSeconds(10))
+				.withIfNotExists().build(), false)).isNull();
+	}
+
+	private static StatementShape register(StatementShapeCache cache, String table, WriteOptions options) {
+		return cache.register(String.class, table(table), COLUMNS, options, false,
+				SimpleStatement.newInstance("INSERT INTO " + table + " (id) VALUES (?)"));
+	}
+
+	private static CqlIdentifier table(String table) {
+		return CqlIdentifier.fromCql(table);
+	}
+}
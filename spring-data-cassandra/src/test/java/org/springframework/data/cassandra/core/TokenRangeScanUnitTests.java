@@ -0,0 +1,272 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.cassandra.CassandraUncategorizedException;
+import org.springframework.data.cassandra.core.TokenRangeScan.RowIterator;
+import org.springframework.data.cassandra.core.TokenRangeScan.Slice;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.domain.Person;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+
+/**
+ * Unit tests for {@link TokenRangeScan}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TokenRangeScanUnitTests {
+
+	@Mock TokenMap tokenMap;
+
+	@Mock Metadata metadata;
+
+	private Token min = mock(Token.class, "min");
+	private Token t1 = mock(Token.class, "t1");
+	private Token t2 = mock(Token.class, "t2");
+
+	@BeforeEach
+	void before() {
+		when(tokenMap.format(any())).thenAnswer(invocation -> invocation.getArgument(0).toString());
+	}
+
+	@Test
+	void shouldSplitTokenRanges() {
+
+		TokenRange range = range(t1, t2);
+		TokenRange wrapped = range(t2, t1);
+
+		List<TokenRange> unwrapped = Arrays.asList(range(t2, min), range(min, t1));
+
+		when(wrapped.isWrappedAround()).thenReturn(true);
+		when(wrapped.unwrap()).thenReturn(unwrapped);
+		when(tokenMap.getTokenRanges()).thenReturn(new LinkedHashSet<>(Arrays.asList(range, wrapped)));
+
+		List<Slice> slices = TokenRangeScan.split(tokenMap, 1);
+
+		assertThat(slices).extracting(Slice::toString).containsExactly("(t1, t2]", "(t2, -]", "(-, t1]");
+		assertThat(slices).extracting(Slice::getRoutingToken).containsExactly(t2, t1, t1);
+	}
+
+	@Test
+	void shouldSplitTokenRangesEvenly() {
+
+		TokenRange range = range(t1, t2);
+		List<TokenRange> splits = Arrays.asList(range(t1, min), range(min, t2));
+
+		when(range.splitEvenly(2)).thenReturn(splits);
+		when(tokenMap.getTokenRanges()).thenReturn(Collections.singleton(range));
+
+		assertThat(TokenRangeScan.split(tokenMap, 2)).extracting(Slice::toString).containsExactly("(t1, min]",
+				"(min, t2]");
+	}
+
+	@Test
+	void shouldNotRestrictFullRing() {
+
+		TokenRange range = range(t1, t1);
+
+		when(range.isFullRing()).thenReturn(true);
+		when(tokenMap.getTokenRanges()).thenReturn(Collections.singleton(range));
+
+		assertThat(TokenRangeScan.split(tokenMap, 4)).extracting(Slice::toString).containsExactly("(-, -]");
+	}
+
+	@Test
+	void shouldCreateRoutedStatements() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		UpdateMapper updateMapper = new UpdateMapper(converter);
+		StatementFactory statementFactory = new StatementFactory(updateMapper, updateMapper);
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(Person.class);
+
+		TokenRange range = range(t1, t2);
+
+		when(tokenMap.getTokenRanges()).thenReturn(Collections.singleton(range));
+		when(metadata.getTokenMap()).thenReturn(Optional.of(tokenMap));
+
+		List<Statement<?>> statements = TokenRangeScan.createStatements(statementFactory, metadata, null,
+				Optional.of(CqlIdentifier.fromCql("ks")), entity, entity.getTableName(), ScanOptions.empty());
+
+		assertThat(statements).hasSize(1);
+
+		SimpleStatement statement = (SimpleStatement) statements.get(0);
+
+		assertThat(statement.getQuery()).isEqualTo("SELECT * FROM person WHERE token(lastname)>t1 AND token(lastname)<=t2");
+		assertThat(statement.getRoutingToken()).isSameAs(t2);
+		assertThat(statement.getRoutingKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks"));
+		assertThat(statement.isIdempotent()).isTrue();
+	}
+
+	@Test
+	void shouldRouteStatementsToTemplateKeyspace() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		UpdateMapper updateMapper = new UpdateMapper(converter);
+		StatementFactory statementFactory = new StatementFactory(updateMapper, updateMapper);
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(Person.class);
+
+		when(tokenMap.getTokenRanges()).thenReturn(Collections.singleton(range(t1, t2)));
+		when(metadata.getTokenMap()).thenReturn(Optional.of(tokenMap));
+
+		List<Statement<?>> statements = TokenRangeScan.createStatements(statementFactory, metadata,
+				CqlIdentifier.fromCql("template"), Optional.of(CqlIdentifier.fromCql("ks")), entity, entity.getTableName(),
+				ScanOptions.empty());
+
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0).getRoutingKeyspace()).isEqualTo(CqlIdentifier.fromCql("template"));
+	}
+
+	@Test
+	void shouldScanWholeTableWithoutTokenMetadata() {
+
+		MappingCassandraConverter converter = new MappingCassandraConverter();
+		UpdateMapper updateMapper = new UpdateMapper(converter);
+		StatementFactory statementFactory = new StatementFactory(updateMapper, updateMapper);
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(Person.class);
+
+		when(metadata.getTokenMap()).thenReturn(Optional.empty());
+
+		List<Statement<?>> statements = TokenRangeScan.createStatements(statementFactory, metadata, null,
+				Optional.empty(), entity, entity.getTableName(), ScanOptions.empty());
+
+		assertThat(statements).hasSize(1);
+		assertThat(((SimpleStatement) statements.get(0)).getQuery()).isEqualTo("SELECT * FROM person");
+	}
+
+	@Test
+	void rowIteratorShouldMergeRowsWithBoundedConcurrency() {
+
+		AsyncResultSet lastPage = resultSet(2, null);
+		AsyncResultSet firstPage = resultSet(3, lastPage);
+		AsyncResultSet other = resultSet(4, null);
+
+		List<Statement<?>> statements = Arrays.asList(SimpleStatement.newInstance("first"),
+				SimpleStatement.newInstance("second"), SimpleStatement.newInstance("third"));
+		List<String> executed = new ArrayList<>();
+		AtomicInteger count = new AtomicInteger();
+
+		Function<Statement<?>, CompletionStage<AsyncResultSet>> executor = statement -> {
+
+			String query = ((SimpleStatement) statement).getQuery();
+			executed.add(query);
+			return CompletableFuture.completedFuture(query.equals("first") ? firstPage : other);
+		};
+
+		RowIterator iterator = new RowIterator(executor, Function.identity(), statements, 1);
+
+		assertThat(executed).containsExactly("first");
+
+		while (iterator.hasNext()) {
+			iterator.next();
+			count.incrementAndGet();
+		}
+
+		assertThat(count).hasValue(3 + 2 + 4 + 4);
+		assertThat(executed).containsExactly("first", "second", "third");
+		verify(firstPage).fetchNextPage();
+	}
+
+	@Test
+	void rowIteratorShouldTranslateFailures() {
+
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException("Oops"));
+
+		RowIterator iterator = new RowIterator(statement -> failed, e -> new UnsupportedOperationException(e),
+				Collections.singletonList(SimpleStatement.newInstance("first")), 2);
+
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(iterator::hasNext)
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	void rowIteratorShouldFailWhenInterrupted() {
+
+		RowIterator iterator = new RowIterator(statement -> new CompletableFuture<>(), Function.identity(),
+				Collections.singletonList(SimpleStatement.newInstance("first")), 1);
+
+		Thread.currentThread().interrupt();
+
+		try {
+			assertThatExceptionOfType(CassandraUncategorizedException.class).isThrownBy(iterator::hasNext)
+					.withCauseInstanceOf(InterruptedException.class);
+			assertThat(Thread.currentThread().isInterrupted()).isTrue();
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	private static TokenRange range(Token start, Token end) {
+
+		TokenRange range = mock(TokenRange.class);
+
+		when(range.getStart()).thenReturn(start);
+		when(range.getEnd()).thenReturn(end);
+
+		return range;
+	}
+
+	private static AsyncResultSet resultSet(int rows, AsyncResultSet nextPage) {
+
+		AsyncResultSet resultSet = mock(AsyncResultSet.class);
+
+		when(resultSet.currentPage())
+				.thenReturn(IntStream.range(0, rows).mapToObj(value -> mock(Row.class)).collect(Collectors.toList()));
+		when(resultSet.hasMorePages()).thenReturn(nextPage != null);
+
+		if (nextPage != null) {
+			when(resultSet.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(nextPage));
+		}
+
+		return resultSet;
+	}
+}
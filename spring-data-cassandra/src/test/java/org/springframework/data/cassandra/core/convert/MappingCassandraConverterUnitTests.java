@@ -56,6 +56,7 @@ import org.springframework.data.cassandra.domain.TypeWithMapId;
 import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cassandra.domain.UserToken;
 import org.springframework.data.cassandra.test.util.RowMockUtil;
+import org.springframework.data.util.ClassTypeInformation;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -1445,4 +1446,97 @@ public class MappingCassandraConverterUnitTests {
 		WithNullableEmbeddedType target = mappingCassandraConverter.read(WithNullableEmbeddedType.class, source);
 		assertThat(target.nested).isNull();
 	}
+
+	@Test
+	void compiledEntityReaderShouldReadEntity() {
+
+		mappingCassandraConverter.setUseCompiledEntityReaders(true);
+
+		rowMock = RowMockUtil.newRowMock(column("fn", "Walter", DataTypes.ASCII),
+				column("firstname", "Heisenberg", DataTypes.ASCII), column("lastname", "White", DataTypes.ASCII));
+
+		WithColumnAnnotationInConstructor converted = mappingCassandraConverter
+				.read(WithColumnAnnotationInConstructor.class, rowMock);
+
+		assertThat(converted.firstname).isEqualTo("Walter");
+		assertThat(converted.lastname).isEqualTo("White");
+
+		rowMock = RowMockUtil.newRowMock(column("asOrdinal", 1, DataTypes.INT));
+
+		EnumToOrdinalMapping loaded = mappingCassandraConverter.read(EnumToOrdinalMapping.class, rowMock);
+
+		assertThat(loaded.getAsOrdinal()).isEqualTo(Condition.USED);
+	}
+
+	@Test
+	void compiledEntityReaderShouldReadEmbeddedTypeUsingGenericPath() {
+
+		mappingCassandraConverter.setUseCompiledEntityReaders(true);
+
+		Row source = RowMockUtil.newRowMock(column("id", "id-1", DataTypes.TEXT), column("age", 30, DataTypes.INT),
+				column("firstname", "fn", DataTypes.TEXT));
+
+		WithNullableEmbeddedType target = mappingCassandraConverter.read(WithNullableEmbeddedType.class, source);
+		assertThat(target.nested).isEqualTo(new EmbeddedWithSimpleTypes("fn", 30, null));
+	}
+
+	@Test
+	void compiledEntityReaderShouldBeCachedPerColumnLayout() {
+
+		CompiledEntityReaders readers = new CompiledEntityReaders(mappingCassandraConverter,
+				CompiledEntityReaders.DEFAULT_LAYOUT_LIMIT);
+
+		Row first = RowMockUtil.newRowMock(column("id", "id-1", DataTypes.TEXT),
+				column("instant", Instant.now(), DataTypes.TIMESTAMP));
+		Row second = RowMockUtil.newRowMock(column("id", "id-2", DataTypes.TEXT),
+				column("instant", Instant.now(), DataTypes.TIMESTAMP));
+		Row other = RowMockUtil.newRowMock(column("id", "id-3", DataTypes.TEXT));
+
+		ClassTypeInformation<TypeWithInstant> type = ClassTypeInformation.from(TypeWithInstant.class);
+
+		assertThat(readers.getReader(type, first)).isNotNull().isSameAs(readers.getReader(type, second))
+				.isNotSameAs(readers.getReader(type, other));
+		assertThat(readers.getReader(ClassTypeInformation.from(WithNullableEmbeddedType.class), first)).isNull();
+	}
+
+	@Test
+	void compiledEntityWriterShouldWriteLikeGenericPath() {
+
+		TypeWithLocalDate entity = new TypeWithLocalDate();
+		entity.id = "id-1";
+		entity.localDate = java.time.LocalDate.of(2021, 6, 1);
+		entity.list = Collections.singletonList(java.time.LocalDate.of(2021, 6, 2));
+
+		CompositeKeyThing thing = new CompositeKeyThing(new EnumCompositePrimaryKey(Condition.MINT));
+
+		for (Object source : Arrays.asList(entity, thing)) {
+
+			Map<CqlIdentifier, Object> expected = new LinkedHashMap<>();
+			mappingCassandraConverter.write(source, expected);
+
+			CompiledEntityWriter writer = CompiledEntityWriter.compile(mappingCassandraConverter,
+					mappingContext.getRequiredPersistentEntity(source.getClass()));
+
+			assertThat(writer.getColumns()).containsExactlyElementsOf(expected.keySet());
+			assertThat(writer.write(source)).containsExactlyElementsOf(expected.values());
+		}
+	}
+
+	@Test
+	void compiledEntityWriterShouldUseGenericPathForEmbeddedTypes() {
+
+		mappingCassandraConverter.setUseCompiledEntityWriters(true);
+
+		WithNullableEmbeddedType entity = new WithNullableEmbeddedType();
+		entity.id = "id-1";
+		entity.nested = new EmbeddedWithSimpleTypes("fn", 30, null);
+
+		Map<CqlIdentifier, Object> sink = new LinkedHashMap<>();
+		mappingCassandraConverter.write(entity, sink);
+
+		assertThat(mappingCassandraConverter
+				.getCompiledEntityWriter(mappingContext.getRequiredPersistentEntity(WithNullableEmbeddedType.class))).isNull();
+		assertThat(sink).containsEntry(CqlIdentifier.fromCql("firstname"), "fn").containsEntry(CqlIdentifier.fromCql("age"),
+				30);
+	}
 }
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -41,6 +42,7 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
 import org.springframework.data.cassandra.CassandraInvalidQueryException;
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.util.concurrent.ListenableFuture;
@@ -52,6 +54,7 @@ import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -119,6 +122,57 @@ class AsyncCqlTemplateUnitTests {
 		}
 	}
 
+	@Test // user-020
+	void queryShouldNotifyExecutionListenerAboutPages() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		ExecutionInfo firstPage = mock(ExecutionInfo.class);
+		ExecutionInfo secondPage = mock(ExecutionInfo.class);
+		AsyncResultSet nextResultSet = mock(AsyncResultSet.class);
+
+		template.setExecutionListener(listener);
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(new TestResultSetFuture(resultSet));
+		when(resultSet.getExecutionInfo()).thenReturn(firstPage);
+		when(resultSet.remaining()).thenReturn(2);
+		when(resultSet.currentPage()).thenReturn(Arrays.asList(row, row));
+		when(resultSet.hasMorePages()).thenReturn(true);
+		doReturn(new TestResultSetFuture(nextResultSet)).when(resultSet).fetchNextPage();
+		when(nextResultSet.getExecutionInfo()).thenReturn(secondPage);
+		when(nextResultSet.remaining()).thenReturn(1);
+		when(nextResultSet.currentPage()).thenReturn(Collections.singletonList(row));
+
+		List<String> result = getUninterruptibly(template.query("SELECT * FROM users", (row, index) -> "Walter"));
+
+		assertThat(result).hasSize(3);
+
+		ArgumentCaptor<CqlExecution> captor = ArgumentCaptor.forClass(CqlExecution.class);
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).onStart(captor.capture());
+		inOrder.verify(listener).onPage(captor.getValue(), firstPage);
+		inOrder.verify(listener).onPage(captor.getValue(), secondPage);
+		inOrder.verify(listener).onFinish(captor.getValue());
+
+		assertThat(captor.getValue().getPageCount()).isEqualTo(2);
+		assertThat(captor.getValue().getRowCount()).isEqualTo(3);
+	}
+
+	@Test // user-020
+	void queryShouldNotifyExecutionListenerAboutErrors() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		template.setExecutionListener(listener);
+
+		when(session.executeAsync(any(Statement.class)))
+				.thenReturn(TestResultSetFuture.failed(new NoNodeAvailableException()));
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> template.queryForResultSet("SELECT * FROM users").get());
+
+		verify(listener).onError(any(), any(NoNodeAvailableException.class));
+		verify(listener, never()).onFinish(any());
+	}
+
 	// -------------------------------------------------------------------------
 	// Tests dealing with static CQL
 	// -------------------------------------------------------------------------
@@ -705,6 +759,30 @@ class AsyncCqlTemplateUnitTests {
 		assertThat(getUninterruptibly(future)).isEqualTo("OK");
 	}
 
+	@Test
+	void queryForObjectPreparedStatementShouldUsePreparedStatementCache() {
+
+		CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+
+		when(session.prepareAsync(any(SimpleStatement.class))).thenReturn(preparation);
+		when(preparedStatement.bind("Walter")).thenReturn(boundStatement);
+		when(session.executeAsync(boundStatement)).thenReturn(new TestResultSetFuture(resultSet));
+		when(resultSet.currentPage()).thenReturn(Collections.singleton(row));
+
+		template.setPreparedStatementCache(BoundedPreparedStatementCache.create());
+
+		ListenableFuture<String> first = template.queryForObject("SELECT * FROM user WHERE username = ?",
+				(row, rowNum) -> "OK", "Walter");
+		ListenableFuture<String> second = template.queryForObject("SELECT * FROM user WHERE username = ?",
+				(row, rowNum) -> "OK", "Walter");
+
+		preparation.complete(preparedStatement);
+
+		assertThat(getUninterruptibly(first)).isEqualTo("OK");
+		assertThat(getUninterruptibly(second)).isEqualTo("OK");
+		verify(session).prepareAsync(any(SimpleStatement.class));
+	}
+
 	@Test // DATACASS-292
 	void queryForObjectPreparedStatementShouldFailReturningManyRecords() throws Exception {
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link CqlExecutionMetrics} and {@link LatencyHistogram}.
+ */
+class CqlExecutionMetricsUnitTests {
+
+	@Test // user-020
+	void shouldAggregateExecutionsByFingerprint() {
+
+		CqlExecutionMetrics metrics = new CqlExecutionMetrics();
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+
+		when(executionInfo.getResponseSizeInBytes()).thenReturn(100);
+		when(executionInfo.getWarnings()).thenReturn(Collections.singletonList("Read 1000 live rows and 5000 tombstones"));
+		when(executionInfo.getSpeculativeExecutionCount()).thenReturn(1);
+
+		for (String name : new String[] { "Walter", "Jesse" }) {
+
+			CqlExecution execution = CqlExecution.start(metrics,
+					SimpleStatement.newInstance("SELECT * FROM users WHERE name = '" + name + "'"));
+
+			execution.onPage(executionInfo);
+			execution.onRows(3);
+			execution.onFinish();
+		}
+
+		CqlExecution.start(metrics, SimpleStatement.newInstance("SELECT * FROM users WHERE name = 'Hank'"))
+				.onError(new IllegalStateException());
+
+		assertThat(metrics.getStatementMetrics()).hasSize(1);
+
+		CqlExecutionMetrics.StatementMetrics statementMetrics = metrics
+				.getStatementMetrics("SELECT * FROM users WHERE name = ?");
+
+		assertThat(statementMetrics.getExecutionCount()).isEqualTo(3);
+		assertThat(statementMetrics.getErrorCount()).isOne();
+		assertThat(statementMetrics.getRowCount()).isEqualTo(6);
+		assertThat(statementMetrics.getPageCount()).isEqualTo(2);
+		assertThat(statementMetrics.getResponseBytes()).isEqualTo(200);
+		assertThat(statementMetrics.getWarningCount()).isEqualTo(2);
+		assertThat(statementMetrics.getSpeculativeExecutionCount()).isEqualTo(2);
+		assertThat(statementMetrics.getLatency(99)).isLessThanOrEqualTo(statementMetrics.getMaxLatency());
+	}
+
+	@Test // user-020
+	void shouldAggregateFingerprintsExceedingLimit() {
+
+		CqlExecutionMetrics metrics = new CqlExecutionMetrics(1);
+
+		CqlExecution.start(metrics, SimpleStatement.newInstance("SELECT * FROM users")).onFinish();
+		CqlExecution.start(metrics, SimpleStatement.newInstance("SELECT * FROM orders")).onFinish();
+		CqlExecution.start(metrics, SimpleStatement.newInstance("SELECT * FROM items")).onFinish();
+
+		assertThat(metrics.getStatementMetrics("SELECT * FROM users").getExecutionCount()).isOne();
+		assertThat(metrics.getStatementMetrics(CqlExecutionMetrics.OTHER_FINGERPRINT).getExecutionCount())
+				.isEqualTo(2);
+
+		metrics.reset();
+
+		assertThat(metrics.getStatementMetrics()).isEmpty();
+	}
+
+	@Test // user-020
+	void histogramShouldReportPercentilesWithBoundedError() {
+
+		LatencyHistogram histogram = new LatencyHistogram();
+
+		for (int i = 1; i <= 10_000; i++) {
+			histogram.record(i);
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(10_000);
+		assertThat(histogram.getMax()).isEqualTo(10_000);
+		assertThat(histogram.getMean()).isEqualTo(5000.5);
+		assertThat(histogram.getValueAtPercentile(50)).isBetween(5000L, 5000L + 5000 / 32);
+		assertThat(histogram.getValueAtPercentile(99)).isBetween(9900L, 9900L + 9900 / 32);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000);
+		assertThat(histogram.getValueAtPercentile(0)).isEqualTo(1);
+	}
+
+	@Test // user-020
+	void histogramBucketsShouldCoverValueRange() {
+
+		for (long value : new long[] { 0, 31, 32, 63, 64, 1000, 123_456, LatencyHistogram.MAX_VALUE }) {
+
+			int index = LatencyHistogram.indexOf(value);
+
+			assertThat(LatencyHistogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+			assertThat(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value).isTrue();
+		}
+
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Duration.ofDays(1).toNanos() / 1000);
+
+		assertThat(histogram.getMax()).isEqualTo(LatencyHistogram.MAX_VALUE);
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link CqlExecution}.
+ */
+class CqlExecutionUnitTests {
+
+	@Test // user-020
+	void shouldReplaceLiteralsWithBindMarkers() {
+
+		assertThat(CqlExecution.fingerprint(
+				"SELECT * FROM users WHERE name = 'O''Brien' AND age > -42 AND score = 1.5e3 AND data = 0xcafe LIMIT 10"))
+						.isEqualTo("SELECT * FROM users WHERE name = ? AND age > ? AND score = ? AND data = ? LIMIT ?");
+		assertThat(CqlExecution.fingerprint("SELECT * FROM t WHERE id = f47ac10b-58cc-4372-a567-0e02b2c3d479"))
+				.isEqualTo("SELECT * FROM t WHERE id = ?");
+		assertThat(CqlExecution.fingerprint("SELECT * FROM t WHERE id = 123e4567-e89b-12d3-a456-426614174000"))
+				.isEqualTo("SELECT * FROM t WHERE id = ?");
+	}
+
+	@Test // user-020
+	void shouldRetainIdentifiersAndBindMarkers() {
+
+		assertThat(CqlExecution.fingerprint("SELECT \"Name 1\", col2 FROM ks1.table_2 WHERE id = ? AND x = :x"))
+				.isEqualTo("SELECT \"Name 1\", col2 FROM ks1.table_2 WHERE id = ? AND x = :x");
+	}
+
+	@Test // user-020
+	void shouldCollapseWhitespaceAndValueLists() {
+
+		assertThat(CqlExecution.fingerprint("  SELECT *\n\tFROM users WHERE id IN ( 'a', 'b',  'c' ) ;  "))
+				.isEqualTo("SELECT * FROM users WHERE id IN (?) ;");
+		assertThat(CqlExecution.fingerprint("SELECT * FROM users WHERE id IN (?,?)"))
+				.isEqualTo(CqlExecution.fingerprint("SELECT * FROM users WHERE id IN (?, ?, ?)"));
+	}
+
+	@Test // user-020
+	void shouldNotifyListenerOnce() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+
+		CqlExecution execution = CqlExecution.start(listener, SimpleStatement.newInstance("SELECT * FROM users"));
+
+		execution.onPage(executionInfo);
+		execution.onFinish();
+		execution.onError(new IllegalStateException());
+		execution.onPage(executionInfo);
+
+		verify(listener).onStart(execution);
+		verify(listener).onPage(execution, executionInfo);
+		verify(listener).onFinish(execution);
+		verify(listener, never()).onError(any(), any());
+		assertThat(execution.getPageCount()).isOne();
+	}
+
+	@Test // user-020
+	void shouldIgnoreListenerFailures() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		doThrow(new IllegalStateException()).when(listener).onStart(any());
+
+		CqlExecution execution = CqlExecution.start(listener, SimpleStatement.newInstance("SELECT * FROM users"));
+
+		assertThat(execution).isNotNull();
+		assertThat(CqlExecution.start(null, SimpleStatement.newInstance("SELECT * FROM users"))).isNull();
+	}
+}
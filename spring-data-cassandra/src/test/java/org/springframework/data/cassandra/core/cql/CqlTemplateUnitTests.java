@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -49,6 +51,7 @@ import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
@@ -113,6 +116,144 @@ class CqlTemplateUnitTests {
 		}
 	}
 
+	@Test // user-020
+	void queryShouldNotifyExecutionListener() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+
+		template.setExecutionListener(listener);
+		template.setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row).iterator());
+		when(resultSet.getExecutionInfos()).thenReturn(Collections.singletonList(executionInfo));
+		when(resultSet.isFullyFetched()).thenReturn(true);
+
+		List<String> result = template.query("SELECT * FROM users WHERE id = 'Walter'", (row, index) -> "Walter");
+
+		assertThat(result).hasSize(2);
+
+		ArgumentCaptor<CqlExecution> captor = ArgumentCaptor.forClass(CqlExecution.class);
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).onStart(captor.capture());
+		inOrder.verify(listener).onPage(captor.getValue(), executionInfo);
+		inOrder.verify(listener).onFinish(captor.getValue());
+
+		CqlExecution execution = captor.getValue();
+		assertThat(execution.getFingerprint()).isEqualTo("SELECT * FROM users WHERE id = ?");
+		assertThat(execution.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_QUORUM);
+		assertThat(execution.getPageCount()).isOne();
+		assertThat(execution.getRowCount()).isEqualTo(2);
+		assertThat(execution.isCompleted()).isTrue();
+	}
+
+	@Test // user-020
+	void queryForResultSetShouldFinishExecutionOfPartiallyConsumedResult() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+
+		template.setExecutionListener(listener);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row).iterator());
+		when(resultSet.getExecutionInfos()).thenReturn(Collections.singletonList(mock(ExecutionInfo.class)));
+		when(resultSet.isFullyFetched()).thenReturn(false);
+
+		assertThat(template.queryForResultSet("SELECT * FROM users").one()).isSameAs(row);
+
+		verify(listener).onFinish(any());
+	}
+
+	@Test // user-020
+	void queryForStreamShouldFinishExecutionOnceStreamIsConsumed() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		ExecutionInfo firstPage = mock(ExecutionInfo.class);
+		ExecutionInfo secondPage = mock(ExecutionInfo.class);
+		List<ExecutionInfo> executionInfos = new ArrayList<>(Collections.singletonList(firstPage));
+		Iterator<Row> rows = Arrays.asList(row, row, row).iterator();
+
+		template.setExecutionListener(listener);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getExecutionInfos()).thenReturn(executionInfos);
+		when(resultSet.isFullyFetched()).thenAnswer(invocation -> executionInfos.size() == 2);
+		when(resultSet.iterator()).thenReturn(new Iterator<Row>() {
+
+			int fetched;
+
+			@Override
+			public boolean hasNext() {
+				return rows.hasNext();
+			}
+
+			@Override
+			public Row next() {
+
+				if (++fetched == 3) {
+					executionInfos.add(secondPage);
+				}
+
+				return rows.next();
+			}
+		});
+
+		Stream<Row> stream = template.queryForStream(SimpleStatement.newInstance("SELECT * FROM users"),
+				(row, index) -> row);
+
+		ArgumentCaptor<CqlExecution> captor = ArgumentCaptor.forClass(CqlExecution.class);
+		verify(listener).onStart(captor.capture());
+		verify(listener, never()).onFinish(any());
+
+		assertThat(stream).hasSize(3);
+
+		CqlExecution execution = captor.getValue();
+		verify(listener).onPage(execution, secondPage);
+		verify(listener).onFinish(execution);
+		assertThat(execution.getPageCount()).isEqualTo(2);
+		assertThat(execution.getRowCount()).isEqualTo(3);
+	}
+
+	@Test // user-020
+	void queryForStreamShouldFinishExecutionOnClose() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+
+		template.setExecutionListener(listener);
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row).iterator());
+		when(resultSet.getExecutionInfos()).thenReturn(Collections.singletonList(mock(ExecutionInfo.class)));
+		when(resultSet.isFullyFetched()).thenReturn(false);
+
+		try (Stream<Row> stream = template.queryForStream(SimpleStatement.newInstance("SELECT * FROM users"),
+				(row, index) -> row)) {
+
+			assertThat(stream.findFirst()).contains(row);
+			verify(listener, never()).onFinish(any());
+		}
+
+		ArgumentCaptor<CqlExecution> captor = ArgumentCaptor.forClass(CqlExecution.class);
+		verify(listener).onFinish(captor.capture());
+		assertThat(captor.getValue().getRowCount()).isOne();
+	}
+
+	@Test // user-020
+	void queryShouldNotifyExecutionListenerAboutErrors() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		template.setExecutionListener(listener);
+
+		when(session.execute(any(Statement.class))).thenThrow(new NoNodeAvailableException());
+
+		assertThatExceptionOfType(CassandraConnectionFailureException.class)
+				.isThrownBy(() -> template.queryForResultSet("SELECT * FROM users"));
+
+		verify(listener).onError(any(), any(NoNodeAvailableException.class));
+		verify(listener, never()).onFinish(any());
+	}
+
 	// -------------------------------------------------------------------------
 	// Tests dealing with static CQL
 	// -------------------------------------------------------------------------
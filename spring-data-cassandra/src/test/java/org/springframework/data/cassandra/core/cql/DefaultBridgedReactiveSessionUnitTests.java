@@ -38,6 +38,7 @@ import org.mockito.quality.Strictness;
 
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.core.cql.session.DefaultBridgedReactiveSession;
+import org.springframework.data.cassandra.core.cql.session.PagePrefetchPolicy;
 import org.springframework.scheduling.annotation.AsyncResult;
 
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -212,6 +213,93 @@ class DefaultBridgedReactiveSessionUnitTests {
 		verifyNoMoreInteractions(emptyResultSet);
 	}
 
+	@Test
+	void shouldPrefetchNextPageWhileEmittingCurrentPage() {
+
+		reactiveSession = new DefaultBridgedReactiveSession(sessionMock, PagePrefetchPolicy.eager(1));
+
+		CompletableFuture<AsyncResultSet> nextPage = new CompletableFuture<>();
+		AsyncResultSet resultSet = mockResultSet(10, true);
+		AsyncResultSet lastResultSet = mockResultSet(5, false);
+
+		when(resultSet.fetchNextPage()).thenReturn(nextPage);
+		future.complete(resultSet);
+
+		Flux<Row> flux = reactiveSession.execute(SimpleStatement.newInstance("")).flatMapMany(ReactiveResultSet::rows);
+
+		StepVerifier.create(flux, 0).thenRequest(1).expectNextCount(1).then(() -> {
+			verify(resultSet).fetchNextPage();
+		}).thenRequest(20).expectNextCount(9).then(() -> nextPage.complete(lastResultSet)).expectNextCount(5)
+				.verifyComplete();
+
+		verify(lastResultSet, never()).fetchNextPage();
+	}
+
+	@Test
+	void shouldPrefetchNextPageOnLowWatermark() {
+
+		reactiveSession = new DefaultBridgedReactiveSession(sessionMock, PagePrefetchPolicy.lowWatermark(2, 1));
+
+		AsyncResultSet resultSet = mockResultSet(10, true);
+		AsyncResultSet lastResultSet = mockResultSet(5, false);
+
+		when(resultSet.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(lastResultSet));
+		future.complete(resultSet);
+
+		Flux<Row> flux = reactiveSession.execute(SimpleStatement.newInstance("")).flatMapMany(ReactiveResultSet::rows);
+
+		StepVerifier.create(flux, 0).thenRequest(7).expectNextCount(7).then(() -> {
+			verify(resultSet, never()).fetchNextPage();
+		}).thenRequest(1).expectNextCount(1).then(() -> {
+			verify(resultSet).fetchNextPage();
+		}).thenRequest(20).expectNextCount(7).verifyComplete();
+	}
+
+	@Test
+	void shouldNotPrefetchWithoutDemand() {
+
+		reactiveSession = new DefaultBridgedReactiveSession(sessionMock, PagePrefetchPolicy.eager(2));
+
+		AsyncResultSet resultSet = mockResultSet(10, true);
+		future.complete(resultSet);
+
+		Flux<Row> flux = reactiveSession.execute(SimpleStatement.newInstance("")).flatMapMany(ReactiveResultSet::rows);
+
+		StepVerifier.create(flux, 0).expectSubscription().thenCancel().verify();
+
+		verify(resultSet, never()).fetchNextPage();
+	}
+
+	@Test
+	void shouldPropagatePrefetchFailure() {
+
+		reactiveSession = new DefaultBridgedReactiveSession(sessionMock, PagePrefetchPolicy.eager(1));
+
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException("Oops"));
+
+		AsyncResultSet resultSet = mockResultSet(10, true);
+
+		when(resultSet.fetchNextPage()).thenReturn(failed);
+		future.complete(resultSet);
+
+		Flux<Row> flux = reactiveSession.execute(SimpleStatement.newInstance("")).flatMapMany(ReactiveResultSet::rows);
+
+		flux.as(StepVerifier::create).expectNextCount(10).verifyError(IllegalStateException.class);
+	}
+
+	private static AsyncResultSet mockResultSet(int rows, boolean hasMorePages) {
+
+		AsyncResultSet resultSet = mock(AsyncResultSet.class);
+
+		when(resultSet.remaining()).thenReturn(rows);
+		when(resultSet.currentPage())
+				.thenReturn(IntStream.range(0, rows).mapToObj(value -> mock(Row.class)).collect(Collectors.toList()));
+		when(resultSet.hasMorePages()).thenReturn(hasMorePages);
+
+		return resultSet;
+	}
+
 	@SuppressWarnings("unchecked")
 	private static Iterator<Row> mockIterator() {
 
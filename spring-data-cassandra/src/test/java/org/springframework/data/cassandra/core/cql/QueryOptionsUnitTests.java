@@ -72,4 +72,27 @@ class QueryOptionsUnitTests {
 		assertThat(mutated.getTracing()).isTrue();
 		assertThat(mutated.getKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks1"));
 	}
+
+	@Test
+	void buildQueryOptionsWithIdempotence() {
+
+		QueryOptions queryOptions = QueryOptions.builder().idempotent(false).build();
+
+		assertThat(QueryOptions.empty().getIdempotent()).isNull();
+		assertThat(queryOptions.getIdempotent()).isFalse();
+		assertThat(queryOptions.mutate().pageSize(10).build().getIdempotent()).isFalse();
+		assertThat(queryOptions).isNotEqualTo(QueryOptions.empty());
+	}
+
+	@Test // user-023
+	void buildQueryOptionsWithResultCacheTtl() {
+
+		QueryOptions queryOptions = QueryOptions.builder().cacheResults(Duration.ofSeconds(30)).build();
+
+		assertThat(QueryOptions.empty().getResultCacheTtl()).isNull();
+		assertThat(queryOptions.getResultCacheTtl()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(queryOptions.mutate().pageSize(10).build().getResultCacheTtl()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(queryOptions).isNotEqualTo(QueryOptions.empty());
+		assertThatIllegalArgumentException().isThrownBy(() -> QueryOptions.builder().cacheResults(Duration.ZERO));
+	}
 }
@@ -23,12 +23,15 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -41,6 +44,7 @@ import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.ReactiveSessionFactory;
 import org.springframework.data.cassandra.core.cql.session.DefaultReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.BoundedPreparedStatementCache;
 import org.springframework.lang.Nullable;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
@@ -49,6 +53,7 @@ import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -226,6 +231,78 @@ class ReactiveCqlTemplateUnitTests {
 		flux.as(StepVerifier::create).expectError(CassandraConnectionFailureException.class).verify();
 	}
 
+	@Test // user-020
+	void queryShouldNotifyExecutionListener() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+
+		template.setExecutionListener(listener);
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row, row));
+
+		Flux<String> flux = template.query("SELECT * FROM users WHERE id IN ('Walter', 'Jesse')", (row, index) -> "OK");
+
+		verifyNoInteractions(listener);
+
+		flux.as(StepVerifier::create).expectNextCount(2).verifyComplete();
+
+		ArgumentCaptor<CqlExecution> captor = ArgumentCaptor.forClass(CqlExecution.class);
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).onStart(captor.capture());
+		inOrder.verify(listener).onPage(captor.getValue(), executionInfo);
+		inOrder.verify(listener).onFinish(captor.getValue());
+
+		assertThat(captor.getValue().getFingerprint()).isEqualTo("SELECT * FROM users WHERE id IN (?)");
+		assertThat(captor.getValue().getRowCount()).isEqualTo(2);
+	}
+
+	@Test // user-020
+	void queryShouldNotifyExecutionListenerAboutPagesFetchedWhileConsumingRows() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		ExecutionInfo firstPage = mock(ExecutionInfo.class);
+		ExecutionInfo secondPage = mock(ExecutionInfo.class);
+
+		template.setExecutionListener(listener);
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.getExecutionInfo()).thenReturn(firstPage);
+		when(firstPage.getPagingState()).thenReturn(ByteBuffer.allocate(1));
+		when(reactiveResultSet.getAllExecutionInfo()).thenReturn(Arrays.asList(firstPage, secondPage));
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row, row));
+
+		template.query("SELECT * FROM users", (row, index) -> "OK").as(StepVerifier::create) //
+				.expectNextCount(2) //
+				.verifyComplete();
+
+		ArgumentCaptor<CqlExecution> captor = ArgumentCaptor.forClass(CqlExecution.class);
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).onStart(captor.capture());
+		inOrder.verify(listener).onPage(captor.getValue(), firstPage);
+		inOrder.verify(listener).onPage(captor.getValue(), secondPage);
+		inOrder.verify(listener).onFinish(captor.getValue());
+
+		assertThat(captor.getValue().getRowCount()).isEqualTo(2);
+	}
+
+	@Test // user-020
+	void queryShouldNotifyExecutionListenerAboutErrors() {
+
+		CqlExecutionListener listener = mock(CqlExecutionListener.class);
+		template.setExecutionListener(listener);
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.error(new NoNodeAvailableException()));
+
+		template.queryForResultSet("SELECT * FROM users").as(StepVerifier::create)
+				.verifyError(CassandraConnectionFailureException.class);
+
+		verify(listener).onError(any(), any(NoNodeAvailableException.class));
+		verify(listener, never()).onFinish(any());
+	}
+
 	@Test // DATACASS-335
 	void queryForObjectCqlShouldBeEmpty() {
 
@@ -713,6 +790,25 @@ class ReactiveCqlTemplateUnitTests {
 		mono.as(StepVerifier::create).expectNext("OK").verifyComplete();
 	}
 
+	@Test
+	void queryForObjectPreparedStatementShouldUsePreparedStatementCache() {
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind("Walter")).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row));
+
+		template.setPreparedStatementCache(BoundedPreparedStatementCache.create());
+
+		Mono<String> mono = template.queryForObject("SELECT * FROM user WHERE username = ?", (row, rowNum) -> "OK",
+				"Walter");
+
+		mono.as(StepVerifier::create).expectNext("OK").verifyComplete();
+		mono.as(StepVerifier::create).expectNext("OK").verifyComplete();
+
+		verify(session).prepare(any(SimpleStatement.class));
+	}
+
 	@Test // DATACASS-335
 	void queryForObjectPreparedStatementShouldFailReturningManyRecords() {
 
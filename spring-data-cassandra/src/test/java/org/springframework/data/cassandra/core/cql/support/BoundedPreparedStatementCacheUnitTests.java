@@ -0,0 +1,326 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.servererrors.SyntaxError;
+
+/**
+ * Unit tests for {@link BoundedPreparedStatementCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BoundedPreparedStatementCacheUnitTests {
+
+	@Mock CqlSession session;
+
+	@Mock CqlSession otherSession;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@BeforeEach
+	void before() {
+
+		when(session.getKeyspace()).thenReturn(Optional.of(CqlIdentifier.fromCql("mykeyspace")));
+		when(otherSession.getKeyspace()).thenReturn(Optional.of(CqlIdentifier.fromCql("mykeyspace")));
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(otherSession.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+	}
+
+	@Test
+	void shouldCachePreparedStatement() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+
+		assertThat(cache.getPreparedStatement(session, statement)).isSameAs(preparedStatement);
+		assertThat(cache.getPreparedStatement(session, statement)).isSameAs(preparedStatement);
+
+		verify(session).prepare(statement);
+		assertThat(cache.getHitCount()).isOne();
+		assertThat(cache.getMissCount()).isOne();
+		assertThat(cache.size()).isOne();
+	}
+
+	@Test
+	void shouldScopeCacheToSession() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+
+		cache.getPreparedStatement(session, statement);
+		cache.getPreparedStatement(otherSession, statement);
+
+		verify(session).prepare(statement);
+		verify(otherSession).prepare(statement);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedStatement() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.builder().maximumSize(2).build();
+		SimpleStatement first = SimpleStatement.newInstance("SELECT * FROM first");
+		SimpleStatement second = SimpleStatement.newInstance("SELECT * FROM second");
+		SimpleStatement third = SimpleStatement.newInstance("SELECT * FROM third");
+
+		cache.getPreparedStatement(session, first);
+		cache.getPreparedStatement(session, second);
+		cache.getPreparedStatement(session, first);
+		cache.getPreparedStatement(session, third);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isOne();
+
+		cache.getPreparedStatement(session, first);
+		cache.getPreparedStatement(session, second);
+
+		verify(session).prepare(first);
+		verify(session, times(2)).prepare(second);
+	}
+
+	@Test // user-002
+	void shouldEvictStatementsExceedingMaximumWeight() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.builder().maximumWeight(40).build();
+		SimpleStatement first = SimpleStatement.newInstance("SELECT * FROM first");
+		SimpleStatement second = SimpleStatement.newInstance("SELECT * FROM second");
+		SimpleStatement third = SimpleStatement.newInstance("SELECT * FROM third");
+
+		cache.getPreparedStatement(session, first);
+		cache.getPreparedStatement(session, second);
+		cache.getPreparedStatement(session, first);
+		cache.getPreparedStatement(session, third);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getEvictionCount()).isOne();
+
+		cache.getPreparedStatement(session, first);
+		cache.getPreparedStatement(session, second);
+
+		verify(session).prepare(first);
+		verify(session, times(2)).prepare(second);
+	}
+
+	@Test // user-002
+	void shouldNotRetainStatementsExceedingMaximumWeight() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.builder().maximumWeight(10).build();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+
+		assertThat(cache.getPreparedStatement(session, statement)).isSameAs(preparedStatement);
+		assertThat(cache.getPreparedStatement(session, statement)).isSameAs(preparedStatement);
+
+		verify(session, times(2)).prepare(statement);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test // user-002
+	void shouldRetainStatementsOfReachableSessions() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+
+		cache.getPreparedStatement(session, statement);
+		System.gc();
+		cache.getPreparedStatement(session, statement);
+
+		verify(session).prepare(statement);
+		assertThat(cache.getHitCount()).isOne();
+	}
+
+	@Test // user-002
+	void shouldNotEvictStatementsTouchedBeforeEviction() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.builder().maximumSize(3).build();
+
+		for (int i = 0; i < 3; i++) {
+			cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM t" + i));
+		}
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM t0"));
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM t3"));
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM t4"));
+
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.getEvictionCount()).isEqualTo(2);
+
+		cache.getPreparedStatement(session, SimpleStatement.newInstance("SELECT * FROM t0"));
+
+		verify(session).prepare(SimpleStatement.newInstance("SELECT * FROM t0"));
+	}
+
+	@Test
+	void shouldExpireStatements() throws InterruptedException {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.builder().timeToLive(Duration.ofMillis(1))
+				.build();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+
+		cache.getPreparedStatement(session, statement);
+		Thread.sleep(5);
+		cache.getPreparedStatement(session, statement);
+
+		verify(session, times(2)).prepare(statement);
+		assertThat(cache.getEvictionCount()).isOne();
+	}
+
+	@Test
+	void shouldNotCacheFailedPreparation() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+
+		when(session.prepare(statement)).thenThrow(new SyntaxError(null, "Oops")).thenReturn(preparedStatement);
+
+		assertThatExceptionOfType(SyntaxError.class).isThrownBy(() -> cache.getPreparedStatement(session, statement));
+		assertThat(cache.getPreparedStatement(session, statement)).isSameAs(preparedStatement);
+		assertThat(cache.size()).isOne();
+	}
+
+	@Test
+	void shouldPrepareConcurrentRequestsOnce() throws Exception {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+
+		CountDownLatch preparing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger preparations = new AtomicInteger();
+
+		CompletableFuture<PreparedStatement> first = CompletableFuture
+				.supplyAsync(() -> cache.getPreparedStatement(session, statement, () -> {
+
+					preparations.incrementAndGet();
+					preparing.countDown();
+
+					try {
+						release.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+
+					return preparedStatement;
+				}));
+
+		preparing.await(5, TimeUnit.SECONDS);
+
+		CompletableFuture<PreparedStatement> second = CompletableFuture
+				.supplyAsync(() -> cache.getPreparedStatement(session, statement, () -> {
+					preparations.incrementAndGet();
+					return preparedStatement;
+				}));
+
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(preparedStatement);
+		assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(preparedStatement);
+		assertThat(preparations).hasValue(1);
+	}
+
+	@Test
+	void shouldShareInFlightAsyncPreparation() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+		CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+
+		when(session.prepareAsync(statement)).thenReturn(preparation);
+
+		CompletableFuture<PreparedStatement> first = cache.getPreparedStatementAsync(session, statement);
+		CompletableFuture<PreparedStatement> second = cache.getPreparedStatementAsync(session, statement);
+
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+
+		preparation.complete(preparedStatement);
+
+		assertThat(first).isCompletedWithValue(preparedStatement);
+		assertThat(second).isCompletedWithValue(preparedStatement);
+		assertThat(cache.getPreparedStatement(session, statement)).isSameAs(preparedStatement);
+
+		verify(session).prepareAsync(statement);
+		verify(session, never()).prepare(any(SimpleStatement.class));
+	}
+
+	@Test
+	void cancellationShouldNotCancelSharedPreparation() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+		CompletableFuture<PreparedStatement> preparation = new CompletableFuture<>();
+
+		when(session.prepareAsync(statement)).thenReturn(preparation);
+
+		cache.getPreparedStatementAsync(session, statement).cancel(true);
+		CompletableFuture<PreparedStatement> second = cache.getPreparedStatementAsync(session, statement);
+
+		preparation.complete(preparedStatement);
+
+		assertThat(second).isCompletedWithValue(preparedStatement);
+		verify(session).prepareAsync(statement);
+	}
+
+	@Test
+	void shouldNotCacheFailedAsyncPreparation() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+		CompletableFuture<PreparedStatement> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new SyntaxError(null, "Oops"));
+
+		when(session.prepareAsync(statement)).thenReturn(failed, CompletableFuture.completedFuture(preparedStatement));
+
+		assertThat(cache.getPreparedStatementAsync(session, statement)).isCompletedExceptionally();
+		assertThat(cache.size()).isZero();
+		assertThat(cache.getPreparedStatementAsync(session, statement)).isCompletedWithValue(preparedStatement);
+		assertThat(cache.size()).isOne();
+	}
+
+	@Test
+	void shouldScopeCacheToStatementKeyspace() {
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+		SimpleStatement otherKeyspace = statement.setKeyspace("other");
+
+		cache.getPreparedStatement(session, statement);
+		cache.getPreparedStatement(session, otherKeyspace);
+
+		assertThat(cache.size()).isEqualTo(2);
+	}
+}
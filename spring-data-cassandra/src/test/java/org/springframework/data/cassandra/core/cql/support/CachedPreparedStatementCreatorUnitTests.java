@@ -94,12 +94,17 @@ class CachedPreparedStatementCreatorUnitTests {
 		verify(session, atMost(1)).prepare(any(SimpleStatement.class));
 	}
 
+	@Test // user-002
+	void shouldCreateBoundedCache() {
+		assertThat(PreparedStatementCache.create()).isInstanceOf(BoundedPreparedStatementCache.class);
+	}
+
 	@Test // DATACASS-403
 	void shouldCachePreparedStatementAcrossSessions() {
 
 		String cql = "SELECT foo FROM users;";
 
-		PreparedStatementCache cache = PreparedStatementCache.create();
+		PreparedStatementCache cache = MapPreparedStatementCache.create();
 
 		CachedPreparedStatementCreator creator = CachedPreparedStatementCreator.of(cache, cql);
 
@@ -251,6 +251,24 @@ class PartTreeCassandraQueryUnitTests {
 		assertThat(statement.getQuery()).isEqualTo("SELECT * FROM person LIMIT 1");
 	}
 
+	@Test
+	void shouldInferIdempotence() {
+
+		SimpleStatement statement = deriveQueryFromMethod(Repo.class, "countBy", new Class[0]);
+
+		assertThat(statement.isIdempotent()).isTrue();
+	}
+
+	@Test
+	void shouldApplyAnnotatedIdempotence() {
+
+		SimpleStatement statement = deriveQueryFromMethod(Repo.class, "deleteByNickname", new Class[] { String.class },
+				"Heisenberg");
+
+		assertThat(statement.getQuery()).isEqualTo("DELETE FROM person WHERE nickname=?");
+		assertThat(statement.isIdempotent()).isFalse();
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -338,6 +356,9 @@ class PartTreeCassandraQueryUnitTests {
 
 		boolean deleteAllByLastname(String lastname);
 
+		@Query(idempotent = Query.Idempotency.NON_IDEMPOTENT)
+		boolean deleteByNickname(String nickname);
+
 		boolean existsBy();
 
 		@AllowFiltering
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.core.query.Criteria.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.PreparedQuery;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for {@link PreparedQueryCache}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PreparedQueryCacheUnitTests {
+
+	@Mock CassandraOperations operations;
+
+	private PreparedQueryCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new PreparedQueryCache(operations, User.class, 2);
+	}
+
+	@Test // user-018
+	void shouldPrepareQueriesOfSameShapeOnce() {
+
+		when(operations.prepare(any(), eq(User.class))).thenAnswer(invocation -> mock(PreparedQuery.class));
+
+		PreparedQuery<?> walter = cache.getPreparedQuery(Query.query(where("firstname").is("Walter")));
+		PreparedQuery<?> jesse = cache.getPreparedQuery(Query.query(where("firstname").is("Jesse")));
+
+		assertThat(walter).isNotNull().isSameAs(jesse);
+		verify(operations).prepare(any(), eq(User.class));
+	}
+
+	@Test // user-018
+	void shouldPrepareQueriesOfDifferentShapeSeparately() {
+
+		when(operations.prepare(any(), eq(User.class))).thenAnswer(invocation -> mock(PreparedQuery.class));
+
+		Query query = Query.query(where("firstname").is("Walter"));
+
+		PreparedQuery<?> unsorted = cache.getPreparedQuery(query);
+		PreparedQuery<?> sorted = cache.getPreparedQuery(query.sort(Sort.by("lastname")));
+		PreparedQuery<?> lastname = cache.getPreparedQuery(Query.query(where("lastname").is("Walter")));
+
+		assertThat(unsorted).isNotSameAs(sorted).isNotSameAs(lastname);
+		assertThat(sorted).isNotSameAs(lastname);
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test // user-018
+	void shouldNotCacheQueriesRenderingValuesAsLiterals() {
+
+		assertThat(cache.getPreparedQuery(Query.query(where("id").in("Walter", "Jesse")))).isNull();
+		verifyNoInteractions(operations);
+	}
+}
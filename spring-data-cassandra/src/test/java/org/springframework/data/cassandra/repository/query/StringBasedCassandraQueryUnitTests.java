@@ -16,16 +16,20 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +44,7 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
 import org.springframework.data.cassandra.domain.AddressType;
 import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.repository.CacheResults;
 import org.springframework.data.cassandra.repository.Consistency;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.support.UserDefinedTypeBuilder;
@@ -51,12 +56,15 @@ import org.springframework.data.repository.core.support.AbstractRepositoryMetada
 import org.springframework.data.repository.query.ExtensionAwareQueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.query.QueryCreationException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
@@ -293,6 +301,32 @@ class StringBasedCassandraQueryUnitTests {
 		assertThat(actual.getPositionalValues().get(0)).isEqualTo("Walter");
 	}
 
+	@Test // user-019
+	void shouldEvaluateExpressionsParsedWhenCreatingQuery() {
+
+		SpelExpressionParser parser = spy(
+				new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, null)));
+		Method method = ReflectionUtils.findMethod(SampleRepository.class, "findByConditionalExpressionParameter",
+				String.class);
+		CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata, factory,
+				converter.getMappingContext());
+
+		StringBasedCassandraQuery cassandraQuery = new StringBasedCassandraQuery(queryMethod, operations, parser,
+				ExtensionAwareQueryMethodEvaluationContextProvider.DEFAULT);
+
+		for (String lastname : Arrays.asList("Walter", "Jesse", "Skyler", "Matthews")) {
+
+			SimpleStatement actual = cassandraQuery
+					.createQuery(new CassandraParametersParameterAccessor(queryMethod, lastname));
+
+			assertThat(actual.getQuery()).isEqualTo("SELECT * FROM person WHERE lastname = ?;");
+			assertThat(actual.getPositionalValues())
+					.containsExactly("Matthews".equals(lastname) ? "Woohoo" : lastname);
+		}
+
+		verify(parser).parseExpression(anyString());
+	}
+
 	@Test // DATACASS-117
 	void bindsReusedParametersCorrectly() {
 
@@ -403,6 +437,18 @@ class StringBasedCassandraQueryUnitTests {
 		assertThat(actual.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_ONE);
 	}
 
+	@Test // user-023
+	void shouldSelectThroughQueryResultCache() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findCachedByLastname", String.class);
+
+		cassandraQuery.execute(new Object[] { "Matthews" });
+
+		verify(operations).select(any(Statement.class), eq(Person.class),
+				argThat(options -> Duration.ofMinutes(5).equals(options.getResultCacheTtl())));
+		verify(operations, never()).select(any(Statement.class), any(Class.class));
+	}
+
 	private StringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
@@ -432,6 +478,10 @@ class StringBasedCassandraQueryUnitTests {
 		@Query("SELECT * FROM person WHERE lastname = ?0;")
 		Person findByLastname(QueryOptions queryOptions, String lastname);
 
+		@Query("SELECT * FROM person WHERE lastname = ?0;")
+		@CacheResults(ttl = 5, ttlUnit = TimeUnit.MINUTES)
+		List<Person> findCachedByLastname(String lastname);
+
 		@Query("SELECT * FROM person WHERE lastname = ?0 or firstname = ?0;")
 		Person findByLastnameUsedTwice(String lastname);
 
@@ -18,6 +18,10 @@ package org.springframework.data.cassandra.repository.support;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
 import java.io.Serializable;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -25,12 +29,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
 
 import org.springframework.data.cassandra.core.ReactiveCassandraTemplate;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.repository.ReactiveCassandraRepository;
+import org.springframework.data.cassandra.repository.ReactiveWriteOptions;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
 import org.springframework.data.repository.Repository;
 
@@ -79,6 +86,30 @@ public class ReactiveCassandraRepositoryFactoryUnitTests {
 		assertThat(repository).isNotNull();
 	}
 
+	@Test // user-010
+	void routesDeclaredWriteOptionsMethodsToRepositoryBaseClass() {
+
+		when(mappingContext.getRequiredPersistentEntity(Person.class)).thenReturn(entity);
+
+		Person person = new Person();
+		when(template.insert(person)).thenReturn(Mono.just(person));
+
+		ReactiveCassandraRepositoryFactory repositoryFactory = new ReactiveCassandraRepositoryFactory(template);
+		WriteOptionsPersonRepository repository = repositoryFactory.getRepository(WriteOptionsPersonRepository.class);
+
+		repository.insert(Flux.just(person), ReactiveWriteOptions.builder().concurrency(1).build()) //
+				.as(StepVerifier::create) //
+				.expectNext(person) //
+				.verifyComplete();
+
+		verify(template).insert(person);
+	}
+
 	interface MyPersonRepository extends Repository<Person, Long> {}
 
+	interface WriteOptionsPersonRepository extends ReactiveCassandraRepository<Person, String> {
+
+		<S extends Person> Flux<S> insert(Publisher<S> entities, ReactiveWriteOptions options);
+	}
+
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.EntityCache;
+import org.springframework.data.cassandra.core.QueryResultCache;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.core.query.Update;
+import org.springframework.data.cassandra.domain.User;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.internal.core.type.codec.registry.DefaultCodecRegistry;
+
+/**
+ * Unit tests for {@link SimpleCassandraRepository} backed by a caching {@link CassandraTemplate}.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SimpleCassandraRepositoryCachingUnitTests {
+
+	@Mock CqlSession session;
+	@Mock DriverContext driverContext;
+	@Mock ResultSet resultSet;
+	@Mock AsyncResultSet asyncResultSet;
+	@Mock Row row;
+	@Mock ColumnDefinitions columnDefinitions;
+	@Mock ColumnDefinition columnDefinition;
+
+	private CassandraTemplate template;
+
+	private SimpleCassandraRepository<Object, String> repository;
+
+	@BeforeEach
+	void setUp() {
+
+		when(session.getContext()).thenReturn(driverContext);
+		when(driverContext.getCodecRegistry()).thenReturn(new DefaultCodecRegistry("test"));
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenAnswer(it -> Collections.singleton(row).iterator());
+		when(session.executeAsync(any(Statement.class))).thenAnswer(it -> CompletableFuture.completedFuture(asyncResultSet));
+		when(asyncResultSet.wasApplied()).thenReturn(true);
+		when(asyncResultSet.currentPage()).thenReturn(Collections.emptyList());
+
+		when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+		when(row.getObject(0)).thenReturn("heisenberg");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		template = new CassandraTemplate(session);
+		template.setUsePreparedStatements(false);
+
+		CassandraPersistentEntity<?> entity = template.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(User.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(
+				new MappingCassandraEntityInformation(entity, template.getConverter()), template);
+	}
+
+	@Test // user-022
+	void saveAllShouldInvalidateCachedRows() {
+
+		template.setEntityCache(new EntityCache().enable(User.class, 10, Duration.ofMinutes(1)));
+
+		assertThat(repository.findById("heisenberg")).contains(new User("heisenberg", "Walter", "White"));
+
+		when(row.getObject(2)).thenReturn("Black");
+		repository.saveAll(Collections.singletonList(new User("heisenberg", "Walter", "Black")));
+
+		assertThat(repository.findById("heisenberg")).contains(new User("heisenberg", "Walter", "Black"));
+		verify(session, times(2)).execute(any(Statement.class));
+	}
+
+	@Test // user-022
+	void deleteAllShouldInvalidateCachedRows() {
+
+		template.setEntityCache(new EntityCache().enable(User.class, 10, Duration.ofMinutes(1)));
+
+		repository.findById("heisenberg");
+		repository.deleteAll(Collections.singletonList(new User("heisenberg", "Walter", "White")));
+		repository.findById("heisenberg");
+
+		verify(session, times(2)).execute(any(Statement.class));
+	}
+
+	@Test // user-023
+	void saveAllShouldInvalidateCachedQueryResults() {
+
+		template.setQueryResultCache(new QueryResultCache());
+
+		Query query = Query.query(Criteria.where("lastname").is("White"))
+				.queryOptions(QueryOptions.builder().cacheResults(Duration.ofMinutes(1)).build());
+
+		template.select(query, User.class);
+		template.select(query, User.class);
+		repository.saveAll(Collections.singletonList(new User("heisenberg", "Walter", "Black")));
+		template.select(query, User.class);
+
+		verify(session, times(2)).execute(any(Statement.class));
+	}
+
+	@Test // user-023
+	void asyncUpdateByQueryShouldInvalidateCachedQueryResults() throws Exception {
+
+		template.setQueryResultCache(new QueryResultCache());
+
+		Query query = Query.query(Criteria.where("lastname").is("White"))
+				.queryOptions(QueryOptions.builder().cacheResults(Duration.ofMinutes(1)).build());
+
+		template.select(query, User.class);
+		template.createAsyncTemplate()
+				.update(Query.query(Criteria.where("id").is("heisenberg")), Update.update("lastname", "Black"), User.class)
+				.get();
+		template.select(query, User.class);
+
+		verify(session, times(2)).execute(any(Statement.class));
+	}
+}
@@ -15,11 +15,15 @@
  */
 package org.springframework.data.cassandra.repository.support;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import lombok.Data;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,11 +31,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
+import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.data.cassandra.core.AsyncCassandraOperations;
+import org.springframework.data.cassandra.core.CassandraBatchOperations;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.EntityWriteResult;
 import org.springframework.data.cassandra.core.InsertOptions;
+import org.springframework.data.cassandra.core.MultiGetOptions;
+import org.springframework.data.cassandra.core.PartitionedBatchOptions;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.CqlOperations;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
@@ -39,10 +49,13 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.core.query.Criteria;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.util.concurrent.SettableListenableFuture;
 
+import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
 
 /**
@@ -61,6 +74,8 @@ class SimpleCassandraRepositoryUnitTests {
 	private SimpleCassandraRepository<Object, ? extends Serializable> repository;
 
 	@Mock CassandraOperations cassandraOperations;
+	@Mock AsyncCassandraOperations asyncOperations;
+	@Mock CassandraBatchOperations batchOperations;
 	@Mock CqlOperations cqlOperations;
 	@Mock UserDefinedType userType;
 	@Mock UserTypeResolver userTypeResolver;
@@ -197,6 +212,168 @@ class SimpleCassandraRepositoryUnitTests {
 				SimplePerson.class);
 	}
 
+	@Test
+	void saveAllShouldWriteEntitiesConcurrently() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(VersionedPerson.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations, asyncOperations);
+
+		VersionedPerson newPerson = new VersionedPerson();
+		VersionedPerson existingPerson = new VersionedPerson();
+		existingPerson.setVersion(2);
+
+		when(asyncOperations.insert(newPerson, InsertOptions.builder().withInsertNulls().build()))
+				.thenReturn(completed(writeResult));
+		when(writeResult.getEntity()).thenReturn(newPerson);
+		when(asyncOperations.update(existingPerson)).thenReturn(completed(existingPerson));
+
+		List<Object> result = repository.saveAll(Arrays.asList(newPerson, existingPerson));
+
+		assertThat(result).containsExactly(newPerson, existingPerson);
+		verify(cassandraOperations, never()).update(any());
+	}
+
+	@Test
+	void saveAllShouldStopAfterFailure() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(VersionedPerson.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations, asyncOperations);
+
+		VersionedPerson first = new VersionedPerson();
+		first.setId("first");
+		first.setVersion(1);
+		VersionedPerson second = new VersionedPerson();
+		second.setId("second");
+		second.setVersion(1);
+
+		SettableListenableFuture<VersionedPerson> failed = new SettableListenableFuture<>();
+		failed.setException(new OptimisticLockingFailureException("Version mismatch"));
+
+		when(asyncOperations.update(first)).thenReturn(failed);
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> repository.saveAll(Arrays.asList(first, second)));
+
+		verify(asyncOperations, never()).update(second);
+	}
+
+	@Test // user-009
+	void saveAllShouldTranslateFailures() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(VersionedPerson.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations, asyncOperations);
+
+		VersionedPerson person = new VersionedPerson();
+		person.setId("first");
+		person.setVersion(1);
+
+		SettableListenableFuture<VersionedPerson> failed = new SettableListenableFuture<>();
+		failed.setException(new NoNodeAvailableException());
+
+		when(asyncOperations.update(person)).thenReturn(failed);
+
+		assertThatExceptionOfType(CassandraConnectionFailureException.class)
+				.isThrownBy(() -> repository.saveAll(Collections.singletonList(person)))
+				.withCauseInstanceOf(NoNodeAvailableException.class);
+	}
+
+	@Test
+	void saveAllShouldExecuteSequentiallyWithoutConcurrency() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext()
+				.getRequiredPersistentEntity(VersionedPerson.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations, asyncOperations);
+		repository.setBulkConcurrency(1);
+
+		VersionedPerson person = new VersionedPerson();
+		person.setVersion(2);
+
+		repository.saveAll(Collections.singletonList(person));
+
+		verify(cassandraOperations).update(person);
+		verifyNoInteractions(asyncOperations);
+	}
+
+	@Test
+	void insertShouldBatchUnversionedEntities() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(Person.class);
+		PartitionedBatchOptions options = PartitionedBatchOptions.empty();
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations, asyncOperations);
+		repository.setPartitionedBatchOptions(options);
+
+		Person walter = new Person("Walter", "White");
+		Person jesse = new Person("Jesse", "Pinkman");
+
+		when(cassandraOperations.batchOps(options)).thenReturn(batchOperations);
+		when(batchOperations.insert(anyIterable())).thenReturn(batchOperations);
+
+		List<Object> result = repository.insert(Arrays.asList(walter, jesse));
+
+		assertThat(result).containsExactly(walter, jesse);
+		verify(batchOperations).insert(Arrays.asList(walter, jesse));
+		verify(batchOperations).execute();
+		verifyNoInteractions(asyncOperations);
+	}
+
+	@Test
+	void deleteAllShouldDeleteEntitiesConcurrently() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(Person.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations, asyncOperations);
+
+		Person walter = new Person("Walter", "White");
+		Person jesse = new Person("Jesse", "Pinkman");
+
+		when(asyncOperations.delete(walter)).thenReturn(completed(walter));
+		when(asyncOperations.delete(jesse)).thenReturn(completed(jesse));
+
+		repository.deleteAll(Arrays.asList(walter, jesse));
+
+		verify(asyncOperations).delete(walter);
+		verify(asyncOperations).delete(jesse);
+		verify(cassandraOperations, never()).delete(any());
+	}
+
+	@Test
+	void findAllByIdShouldUseMultiGet() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+		MultiGetOptions options = MultiGetOptions.builder().ordered().build();
+
+		SimpleCassandraRepository<Object, String> repository = new SimpleCassandraRepository<Object, String>(
+				new MappingCassandraEntityInformation(entity, converter), cassandraOperations);
+		repository.setMultiGetOptions(options);
+
+		repository.findAllById(Arrays.asList("walter", "jesse"));
+
+		verify(cassandraOperations).multiGet(Query.query(Criteria.where("id").in(Arrays.asList("walter", "jesse"))),
+				SimplePerson.class, options);
+	}
+
+	private static <T> SettableListenableFuture<T> completed(T value) {
+
+		SettableListenableFuture<T> future = new SettableListenableFuture<>();
+		future.set(value);
+
+		return future;
+	}
+
 	@Data
 	static class SimplePerson {
 
@@ -15,10 +15,16 @@
  */
 package org.springframework.data.cassandra.repository.support;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
 
 import java.io.Serializable;
 
@@ -37,6 +43,7 @@ import org.springframework.data.cassandra.core.convert.MappingCassandraConverter
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
+import org.springframework.data.cassandra.repository.ReactiveWriteOptions;
 
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
 
@@ -101,6 +108,100 @@ class SimpleReactiveCassandraRepositoryUnitTests {
 		verify(cassandraOperations).update(versionedPerson);
 	}
 
+	@Test
+	void insertShouldLimitConcurrency() {
+
+		repository = createRepository(SimplePerson.class);
+		repository.setWriteOptions(ReactiveWriteOptions.builder().concurrency(2).build());
+
+		when(cassandraOperations.insert(any(SimplePerson.class))).thenReturn(Mono.never());
+
+		Disposable subscription = repository
+				.insert(Flux.just(new SimplePerson("1"), new SimplePerson("2"), new SimplePerson("3"))).subscribe();
+
+		verify(cassandraOperations, times(2)).insert(any(SimplePerson.class));
+		assertThat(repository.getInFlightWrites()).isEqualTo(2);
+
+		subscription.dispose();
+
+		assertThat(repository.getInFlightWrites()).isZero();
+	}
+
+	@Test
+	void insertShouldEmitResultsAsWritesComplete() {
+
+		repository = createRepository(SimplePerson.class);
+
+		SimplePerson first = new SimplePerson("1");
+		SimplePerson second = new SimplePerson("2");
+		Sinks.One<SimplePerson> firstWrite = Sinks.one();
+
+		when(cassandraOperations.insert(first)).thenReturn(firstWrite.asMono());
+		when(cassandraOperations.insert(second)).thenReturn(Mono.just(second));
+
+		repository.insert(Flux.just(first, second)).as(StepVerifier::create) //
+				.expectNext(second) //
+				.then(() -> firstWrite.tryEmitValue(first)) //
+				.expectNext(first) //
+				.verifyComplete();
+	}
+
+	@Test
+	void saveAllShouldEmitOrderedResults() {
+
+		repository = createRepository(SimplePerson.class);
+
+		SimplePerson first = new SimplePerson("1");
+		SimplePerson second = new SimplePerson("2");
+		Sinks.One<EntityWriteResult<SimplePerson>> firstWrite = Sinks.one();
+
+		when(cassandraOperations.insert(first, InsertOptions.builder().withInsertNulls().build()))
+				.thenReturn(firstWrite.asMono());
+		when(cassandraOperations.insert(second, InsertOptions.builder().withInsertNulls().build()))
+				.thenReturn(Mono.just(writeResult));
+		when(writeResult.getEntity()).thenReturn(second);
+
+		EntityWriteResult<SimplePerson> firstResult = mock(EntityWriteResult.class);
+		when(firstResult.getEntity()).thenReturn(first);
+
+		repository.saveAll(Flux.just(first, second), ReactiveWriteOptions.builder().ordered().build())
+				.as(StepVerifier::create) //
+				.then(() -> firstWrite.tryEmitValue(firstResult)) //
+				.expectNext(first, second) //
+				.verifyComplete();
+	}
+
+	@Test
+	void deleteAllShouldApplyWriteOptions() {
+
+		repository = createRepository(SimplePerson.class);
+
+		when(cassandraOperations.delete(any(SimplePerson.class))).thenReturn(Mono.never());
+
+		Disposable subscription = repository.deleteAll(Flux.just(new SimplePerson("1"), new SimplePerson("2")),
+				ReactiveWriteOptions.builder().concurrency(1).build()).subscribe();
+
+		verify(cassandraOperations).delete(new SimplePerson("1"));
+		assertThat(repository.getInFlightWrites()).isOne();
+
+		subscription.dispose();
+	}
+
+	private SimpleReactiveCassandraRepository<Object, ? extends Serializable> createRepository(Class<?> type) {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+
+		return new SimpleReactiveCassandraRepository<Object, String>(
+				new MappingCassandraEntityInformation(entity, converter), cassandraOperations);
+	}
+
+	@Data
+	@AllArgsConstructor
+	static class SimplePerson {
+
+		@Id String id;
+	}
+
 	@Data
 	static class VersionedPerson {
 
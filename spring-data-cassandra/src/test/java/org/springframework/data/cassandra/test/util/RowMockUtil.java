@@ -83,6 +83,23 @@ public class RowMockUtil {
 			return false;
 		});
 
+		when(mockColumnDefinitions.firstIndexOf(any(CqlIdentifier.class))).thenAnswer(invocation -> {
+
+			int counter = 0;
+
+			for (Column column : columns) {
+				if (column.name.equalsIgnoreCase(invocation.getArguments()[0].toString())) {
+					return counter;
+				}
+
+				counter++;
+			}
+
+			return -1;
+		});
+
+		when(mockColumnDefinitions.size()).thenReturn(columns.length);
+
 		when(mockColumnDefinitions.get(anyInt())).thenAnswer(invocation ->
 			new ColumnDefinition() {
 